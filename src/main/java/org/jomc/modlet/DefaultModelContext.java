@@ -30,37 +30,64 @@
  */
 package org.jomc.modlet;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StreamCorruptedException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.jar.Attributes;
 import java.util.jar.Manifest;
 import java.util.logging.Level;
@@ -68,15 +95,28 @@ import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.xml.XMLConstants;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Source;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
+import javax.xml.transform.stream.StreamResult;
 import javax.xml.validation.SchemaFactory;
 import javax.xml.validation.Validator;
+import org.w3c.dom.Element;
 import org.w3c.dom.ls.LSInput;
 import org.w3c.dom.ls.LSResourceResolver;
 import org.xml.sax.EntityResolver;
@@ -116,6 +156,64 @@ public class DefaultModelContext extends ModelContext
     public static final String PLATFORM_PROVIDER_LOCATION_ATTRIBUTE_NAME =
         "org.jomc.modlet.DefaultModelContext.platformProviderLocationAttribute";
 
+    /**
+     * Constant for the name of the model context attribute backing property {@code modletsSnapshotDirectory}.
+     *
+     * @see #getModletsSnapshotDirectory()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String MODLETS_SNAPSHOT_DIRECTORY_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModelContext.modletsSnapshotDirectoryAttribute";
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code executor}.
+     *
+     * @see #getExecutor()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String EXECUTOR_ATTRIBUTE_NAME = "org.jomc.modlet.DefaultModelContext.executorAttribute";
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code discoveryExecutor}.
+     *
+     * @see #getDiscoveryExecutor()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String DISCOVERY_EXECUTOR_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModelContext.discoveryExecutorAttribute";
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code failFastLevel}.
+     *
+     * @see #getFailFastLevel()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String FAIL_FAST_LEVEL_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModelContext.failFastLevelAttribute";
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code maxErrors}.
+     *
+     * @see #getMaxErrors()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String MAX_ERRORS_ATTRIBUTE_NAME = "org.jomc.modlet.DefaultModelContext.maxErrorsAttribute";
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code shareModlets}.
+     *
+     * @see #isShareModlets()
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String SHARE_MODLETS_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModelContext.shareModletsAttribute";
+
     /**
      * Supported schema name extensions.
      */
@@ -174,6 +272,90 @@ public class DefaultModelContext extends ModelContext
      */
     private volatile String platformProviderLocation;
 
+    /**
+     * Default modlets snapshot directory.
+     *
+     * @since 2.0
+     */
+    private static volatile String defaultModletsSnapshotDirectory;
+
+    /**
+     * Modlets snapshot directory of the instance.
+     *
+     * @since 2.0
+     */
+    private volatile String modletsSnapshotDirectory;
+
+    /**
+     * File of the snapshot of the {@code Modlets} of the instance currently being searched.
+     *
+     * @since 2.0
+     */
+    private volatile Path modletsSnapshotFile;
+
+    /**
+     * Digest of the snapshot of the {@code Modlets} of the instance currently being searched.
+     *
+     * @since 2.0
+     */
+    private volatile String modletsSnapshotDigest;
+
+    /**
+     * Executor of the instance.
+     *
+     * @since 2.0
+     */
+    private volatile Executor executor;
+
+    /**
+     * Executor of the instance used for finding multiple models.
+     *
+     * @since 2.0
+     */
+    private volatile Executor discoveryExecutor;
+
+    /**
+     * Default fail fast level.
+     *
+     * @since 2.0
+     */
+    private static volatile Level defaultFailFastLevel;
+
+    /**
+     * Fail fast level of the instance.
+     *
+     * @since 2.0
+     */
+    private volatile Level failFastLevel;
+
+    /**
+     * Default maximum number of errors.
+     *
+     * @since 2.0
+     */
+    private static volatile Integer defaultMaxErrors;
+
+    /**
+     * Maximum number of errors of the instance.
+     *
+     * @since 2.0
+     */
+    private volatile Integer maxErrors;
+
+    /**
+     * Default share modlets flag.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultShareModlets;
+
+    /**
+     * Share modlets flag of the instance.
+     *
+     * @since 2.0
+     */
+    private volatile Boolean shareModlets;
+
     /**
      * Creates a new {@code DefaultModelContext} instance.
      *
@@ -375,1893 +557,3923 @@ public class DefaultModelContext extends ModelContext
     }
 
     /**
-     * {@inheritDoc}
+     * Gets the default directory of snapshots of {@code Modlets}.
      * <p>
-     * This method loads {@code ModletProvider} classes setup via the platform provider configuration file and
-     * {@code <provider-location>/org.jomc.modlet.ModletProvider} resources to return a list of {@code Modlets}.
+     * The default modlets snapshot directory is controlled by system property
+     * {@code org.jomc.modlet.DefaultModelContext.defaultModletsSnapshotDirectory} holding the directory of snapshots
+     * of {@code Modlets} to use by default. If that property is not set, no snapshots are used by default.
      * </p>
      *
-     * @see #getProviderLocation()
-     * @see #getPlatformProviderLocation()
-     * @see ModletProvider#findModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
-     * @since 1.6
+     * @return The directory of snapshots of {@code Modlets} to use by default or no value, if no snapshots are used by
+     * default.
+     *
+     * @see #setDefaultModletsSnapshotDirectory(java.lang.String)
+     * @since 2.0
      */
-    @Override
-    public Modlets findModlets( final Modlets modlets ) throws ModelException
+    public static Optional<String> getDefaultModletsSnapshotDirectory()
     {
-        Modlets found = Objects.requireNonNull( modlets, "modlets" ).clone();
-        final Collection<ModletProvider> providers = this.loadModletServices( ModletProvider.class );
-
-        for ( final ModletProvider provider : providers )
+        if ( defaultModletsSnapshotDirectory == null )
         {
-            if ( this.isLoggable( Level.FINER ) )
-            {
-                this.log( Level.FINER, getMessage( "creatingModlets", provider.toString() ), null );
-            }
-
-            final Optional<Modlets> provided =
-                Objects.requireNonNull( provider.findModlets( this, found ), provider.toString() );
+            defaultModletsSnapshotDirectory =
+                System.getProperty( "org.jomc.modlet.DefaultModelContext.defaultModletsSnapshotDirectory" );
 
-            if ( provided.isPresent() )
-            {
-                found = provided.get();
-            }
         }
 
-        if ( this.isLoggable( Level.FINEST ) )
-        {
-            try ( final Stream<Modlet> st0 = found.getModlet().parallelStream().unordered() )
-            {
-                st0.forEach( m  ->
-                {
-                    log( Level.FINEST,
-                         getMessage( "modletInfo", m.getName(), m.getModel(),
-                                     m.getVendor() != null
-                                         ? m.getVendor() : getMessage( "noVendor" ),
-                                     m.getVersion() != null
-                                         ? m.getVersion() : getMessage( "noVersion" ) ), null );
-
-                    if ( m.getSchemas() != null )
-                    {
-                        try ( final Stream<Schema> st1 = m.getSchemas().getSchema().parallelStream().unordered() )
-                        {
-                            st1.forEach( s  ->
-                            {
-                                log( Level.FINEST,
-                                     getMessage( "modletSchemaInfo", m.getName(), s.getPublicId(), s.getSystemId(),
-                                                 s.getContextId() != null
-                                                     ? s.getContextId() : getMessage( "noContext" ),
-                                                 s.getClasspathId() != null
-                                                     ? s.getClasspathId() : getMessage( "noClasspathId" ) ), null );
-                            } );
-                        }
-                    }
-
-                    if ( m.getServices() != null )
-                    {
-                        try ( final Stream<Service> st1 = m.getServices().getService().parallelStream().unordered() )
-                        {
-                            st1.forEach( s  ->
-                            {
-                                log( Level.FINEST, getMessage( "modletServiceInfo", m.getName(), s.getOrdinal(),
-                                                               s.getIdentifier(), s.getClazz() ), null );
-                            } );
-                        }
-                    }
-                } );
-            }
-        }
+        return Optional.ofNullable( defaultModletsSnapshotDirectory );
+    }
 
-        return found;
+    /**
+     * Sets the default directory of snapshots of {@code Modlets}.
+     *
+     * @param value The new default directory of snapshots of {@code Modlets} or {@code null}.
+     *
+     * @see #getDefaultModletsSnapshotDirectory()
+     * @since 2.0
+     */
+    public static void setDefaultModletsSnapshotDirectory( final String value )
+    {
+        defaultModletsSnapshotDirectory = value;
     }
 
     /**
-     * {@inheritDoc}
+     * Gets the directory of snapshots of {@code Modlets}.
      * <p>
-     * This method loads {@code ModletProcessor} classes setup via the platform provider configuration file and
-     * {@code <provider-location>/org.jomc.modlet.ModletProcessor} resources to process a list of {@code Modlets}.
+     * When a directory is set, the {@code Modlets} of the context are stored to a compressed file in that directory
+     * after having successfully been searched, processed and validated. The name of that file is a SHA-256 digest of
+     * the content of the {@code Modlet} resources, the transformer resources, the provider resources, the platform
+     * provider configuration file and the values of the attributes of the context. If such a file already exists,
+     * the {@code Modlets} are unmarshalled from that file without searching, processing and validating them.
      * </p>
      *
-     * @see #getProviderLocation()
-     * @see #getPlatformProviderLocation()
-     * @see ModletProcessor#processModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
-     * @since 1.6
+     * @return The directory of snapshots of {@code Modlets} or no value, if no snapshots are used.
+     *
+     * @see #getDefaultModletsSnapshotDirectory()
+     * @see #setModletsSnapshotDirectory(java.lang.String)
+     * @see #MODLETS_SNAPSHOT_DIRECTORY_ATTRIBUTE_NAME
+     * @since 2.0
      */
-    @Override
-    public Modlets processModlets( final Modlets modlets ) throws ModelException
+    public final Optional<String> getModletsSnapshotDirectory()
     {
-        Modlets result = Objects.requireNonNull( modlets, "modlets" ).clone();
-        final Collection<ModletProcessor> processors = this.loadModletServices( ModletProcessor.class );
-
-        for ( final ModletProcessor processor : processors )
+        if ( this.modletsSnapshotDirectory == null )
         {
-            if ( this.isLoggable( Level.FINER ) )
-            {
-                this.log( Level.FINER, getMessage( "processingModlets", processor.toString() ), null );
-            }
+            this.modletsSnapshotDirectory = getDefaultModletsSnapshotDirectory().orElse( null );
+        }
 
-            final Optional<Modlets> processed =
-                Objects.requireNonNull( processor.processModlets( this, result ), processor.toString() );
+        String directory = this.modletsSnapshotDirectory;
+        final Optional<Object> modletsSnapshotDirectoryAttribute =
+            this.getAttribute( MODLETS_SNAPSHOT_DIRECTORY_ATTRIBUTE_NAME );
 
-            if ( processed.isPresent() )
-            {
-                result = processed.get();
-            }
+        if ( modletsSnapshotDirectoryAttribute.isPresent()
+                 && modletsSnapshotDirectoryAttribute.get() instanceof String )
+        {
+            directory = (String) modletsSnapshotDirectoryAttribute.get();
         }
 
-        return result;
+        return Optional.ofNullable( directory );
     }
 
     /**
-     * {@inheritDoc}
+     * Sets the directory of snapshots of {@code Modlets}.
+     *
+     * @param value The new directory of snapshots of {@code Modlets} or {@code null}.
+     *
+     * @see #getModletsSnapshotDirectory()
+     * @since 2.0
+     */
+    public final void setModletsSnapshotDirectory( final String value )
+    {
+        this.modletsSnapshotDirectory = value;
+    }
+
+    /**
+     * Gets the executor of the instance.
      * <p>
-     * This method loads {@code ModletValidator} classes setup via the platform provider configuration file and
-     * {@code <provider-location>/org.jomc.modlet.ModletValidator} resources to validate a list of {@code Modlets}.
+     * When an executor is set, {@code ModletValidator}s are run concurrently on that executor. Otherwise they are run
+     * using a parallel stream.
      * </p>
      *
-     * @see #getProviderLocation()
-     * @see #getPlatformProviderLocation()
-     * @see ModletValidator#validateModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
-     * @since 1.9
+     * @return The executor of the instance or no value, if no executor is used.
+     *
+     * @see #setExecutor(java.util.concurrent.Executor)
+     * @see #EXECUTOR_ATTRIBUTE_NAME
+     * @see #validateModlets(org.jomc.modlet.Modlets)
+     * @since 2.0
      */
-    @Override
-    public ModelValidationReport validateModlets( final Modlets modlets ) throws ModelException
+    public final Optional<Executor> getExecutor()
     {
-        final Modlets cloned = Objects.requireNonNull( modlets, "modlets" ).clone();
-        final ModelValidationReport report = new ModelValidationReport();
+        Executor e = this.executor;
+        final Optional<Object> executorAttribute = this.getAttribute( EXECUTOR_ATTRIBUTE_NAME );
 
-        for ( final ModletValidator modletValidator
-                  : this.loadModletServices( ModletValidator.class ) )
+        if ( executorAttribute.isPresent() && executorAttribute.get() instanceof Executor )
         {
-            if ( this.isLoggable( Level.FINER ) )
-            {
-                this.log( Level.FINER, getMessage( "validatingModlets", modletValidator.toString() ), null );
-            }
-
-            final Optional<ModelValidationReport> current =
-                Objects.requireNonNull( modletValidator.validateModlets( this, cloned ), modletValidator.toString() );
-
-            current.ifPresent( r  -> report.getDetails().addAll( r.getDetails() ) );
+            e = (Executor) executorAttribute.get();
         }
 
-        return report;
+        return Optional.ofNullable( e );
     }
 
     /**
-     * {@inheritDoc}
-     * <p>
-     * This method creates all {@code ModelProvider} service objects of the model identified by {@code model} to create
-     * a new {@code Model} instance.
-     * </p>
+     * Sets the executor of the instance.
      *
-     * @see #findModel(org.jomc.modlet.Model)
-     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelProvider.class.getName(), ModelProvider.class )
-     * @see ModelProvider#findModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     * @param value The new executor of the instance or {@code null}.
+     *
+     * @see #getExecutor()
+     * @since 2.0
      */
-    @Override
-    public Model findModel( final String model ) throws ModelException
+    public final void setExecutor( final Executor value )
     {
-        final Model m = new Model();
-        m.setIdentifier( Objects.requireNonNull( model, "model" ) );
-
-        return this.findModel( m );
+        this.executor = value;
     }
 
     /**
-     * {@inheritDoc}
+     * Gets the executor of the instance used for finding multiple models.
      * <p>
-     * This method creates all {@code ModelProvider} service objects of the given model to populate the given model
-     * instance.
+     * When a discovery executor is set, the {@code findModels} method hands each model to that executor. Otherwise
+     * the models are handled using a parallel stream. The stages of each model make use of the
+     * {@link #getExecutor() executor} of the instance, so the discovery executor needs to be a different executor.
+     * Waiting on a bounded executor from within that executor would starve it.
      * </p>
      *
-     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelProvider.class.getName(), ModelProvider.class )
-     * @see ModelProvider#findModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     * @return The executor of the instance used for finding multiple models or no value, if no executor is used.
      *
-     * @since 1.2
+     * @see #setDiscoveryExecutor(java.util.concurrent.Executor)
+     * @see #DISCOVERY_EXECUTOR_ATTRIBUTE_NAME
+     * @see #findModels(java.util.Collection, boolean, boolean)
+     * @since 2.0
      */
-    @Override
-    public Model findModel( final Model model ) throws ModelException
+    public final Optional<Executor> getDiscoveryExecutor()
     {
-        Model m = Objects.requireNonNull( model, "model" ).clone();
-        final long t0 = System.nanoTime();
+        Executor e = this.discoveryExecutor;
+        final Optional<Object> discoveryExecutorAttribute = this.getAttribute( DISCOVERY_EXECUTOR_ATTRIBUTE_NAME );
 
-        for ( final ModelProvider provider
-                  : this.createServiceObjects( model.getIdentifier(), ModelProvider.class.getName(),
-                                               ModelProvider.class ) )
+        if ( discoveryExecutorAttribute.isPresent() && discoveryExecutorAttribute.get() instanceof Executor )
         {
-            if ( this.isLoggable( Level.FINER ) )
-            {
-                this.log( Level.FINER, getMessage( "creatingModel", m.getIdentifier(), provider.toString() ), null );
-            }
-
-            final Optional<Model> provided =
-                Objects.requireNonNull( provider.findModel( this, m ), provider.toString() );
-
-            if ( provided.isPresent() )
-            {
-                m = provided.get();
-            }
+            e = (Executor) discoveryExecutorAttribute.get();
         }
 
-        if ( this.isLoggable( Level.FINE ) )
-        {
-            this.log( Level.FINE, getMessage( "findModelReport", m.getIdentifier(), System.nanoTime() - t0 ), null );
-        }
+        return Optional.ofNullable( e );
+    }
 
-        return m;
+    /**
+     * Sets the executor of the instance used for finding multiple models.
+     *
+     * @param value The new executor of the instance used for finding multiple models or {@code null}.
+     *
+     * @see #getDiscoveryExecutor()
+     * @since 2.0
+     */
+    public final void setDiscoveryExecutor( final Executor value )
+    {
+        this.discoveryExecutor = value;
     }
 
     /**
-     * {@inheritDoc}
+     * Gets the default level of report details stopping validation.
      * <p>
-     * This method creates all {@code ModelProcessor} service objects of {@code model} to process the given
-     * {@code Model}.
+     * The default fail fast level is controlled by system property
+     * {@code org.jomc.modlet.DefaultModelContext.defaultFailFastLevel} holding the name of the level of report details
+     * stopping validation by default. If that property is not set, no value is returned.
      * </p>
      *
-     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelProcessor.class.getName(), ModelProcessor.class )
-     * @see ModelProcessor#processModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     * @return The level of report details stopping validation by default or no value, if validation is not stopped
+     * based on the level of report details by default.
+     *
+     * @see #setDefaultFailFastLevel(java.util.logging.Level)
+     * @see Level#parse(java.lang.String)
+     * @since 2.0
      */
-    @Override
-    public Model processModel( final Model model ) throws ModelException
+    public static Optional<Level> getDefaultFailFastLevel()
     {
-        Model processed = Objects.requireNonNull( model, "model" ).clone();
-        final long t0 = System.nanoTime();
-
-        for ( final ModelProcessor processor
-                  : this.createServiceObjects( model.getIdentifier(), ModelProcessor.class.getName(),
-                                               ModelProcessor.class ) )
+        if ( defaultFailFastLevel == null )
         {
-            if ( this.isLoggable( Level.FINER ) )
-            {
-                this.log( Level.FINER, getMessage( "processingModel", model.getIdentifier(),
-                                                   processor.toString() ), null );
-
-            }
-
-            final Optional<Model> current =
-                Objects.requireNonNull( processor.processModel( this, processed ), processor.toString() );
+            final String level = System.getProperty( "org.jomc.modlet.DefaultModelContext.defaultFailFastLevel" );
 
-            if ( current.isPresent() )
+            if ( level != null )
             {
-                processed = current.get();
+                defaultFailFastLevel = Level.parse( level );
             }
         }
 
-        if ( this.isLoggable( Level.FINE ) )
+        return Optional.ofNullable( defaultFailFastLevel );
+    }
+
+    /**
+     * Sets the default level of report details stopping validation.
+     *
+     * @param value The new default level of report details stopping validation or {@code null}.
+     *
+     * @see #getDefaultFailFastLevel()
+     * @since 2.0
+     */
+    public static void setDefaultFailFastLevel( final Level value )
+    {
+        defaultFailFastLevel = value;
+    }
+
+    /**
+     * Gets the level of report details stopping validation.
+     * <p>
+     * When a level is set, validation stops as soon as a report detail at or above that level has been recorded.
+     * Validators not yet started are not run and schema validation of a source is stopped. The report returned
+     * contains the details recorded up to that point.
+     * </p>
+     *
+     * @return The level of report details stopping validation or no value, if validation is not stopped based on the
+     * level of report details.
+     *
+     * @see #getDefaultFailFastLevel()
+     * @see #setFailFastLevel(java.util.logging.Level)
+     * @see #FAIL_FAST_LEVEL_ATTRIBUTE_NAME
+     * @see #validateModel(org.jomc.modlet.Model)
+     * @see #validateModel(java.lang.String, javax.xml.transform.Source)
+     * @since 2.0
+     */
+    public final Optional<Level> getFailFastLevel()
+    {
+        if ( this.failFastLevel == null )
         {
-            this.log( Level.FINE, getMessage( "processModelReport", model.getIdentifier(), System.nanoTime() - t0 ),
-                      null );
+            this.failFastLevel = getDefaultFailFastLevel().orElse( null );
+        }
 
+        Level level = this.failFastLevel;
+        final Optional<Object> failFastLevelAttribute = this.getAttribute( FAIL_FAST_LEVEL_ATTRIBUTE_NAME );
+
+        if ( failFastLevelAttribute.isPresent() && failFastLevelAttribute.get() instanceof Level )
+        {
+            level = (Level) failFastLevelAttribute.get();
         }
 
-        return processed;
+        return Optional.ofNullable( level );
     }
 
     /**
-     * {@inheritDoc}
+     * Sets the level of report details stopping validation.
+     *
+     * @param value The new level of report details stopping validation or {@code null}.
+     *
+     * @see #getFailFastLevel()
+     * @since 2.0
+     */
+    public final void setFailFastLevel( final Level value )
+    {
+        this.failFastLevel = value;
+    }
+
+    /**
+     * Gets the default maximum number of errors to record before stopping validation.
      * <p>
-     * This method creates all {@code ModelValidator} service objects of {@code model} to validate the given
-     * {@code Model}.
+     * The default maximum number of errors is controlled by system property
+     * {@code org.jomc.modlet.DefaultModelContext.defaultMaxErrors} holding the maximum number of errors to record
+     * before stopping validation by default. If that property is not set, the {@code 0} default is returned.
      * </p>
      *
-     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelValidator.class.getName(), ModelValidator.class )
-     * @see ModelValidator#validateModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     * @return The maximum number of errors to record before stopping validation by default or {@code 0}, if validation
+     * is not stopped based on the number of errors by default.
+     *
+     * @see #setDefaultMaxErrors(java.lang.Integer)
+     * @since 2.0
      */
-    @Override
-    public ModelValidationReport validateModel( final Model model ) throws ModelException
+    public static int getDefaultMaxErrors()
     {
-        final Model cloned = Objects.requireNonNull( model, "model" ).clone();
-        final long t0 = System.nanoTime();
-        final ModelValidationReport resultReport = new ModelValidationReport();
-        final Collection<? extends ModelValidator> modelValidators =
-            this.createServiceObjects( cloned.getIdentifier(), ModelValidator.class.getName(), ModelValidator.class );
-
-        try ( final Stream<? extends ModelValidator> st0 = modelValidators.parallelStream().unordered() )
+        if ( defaultMaxErrors == null )
         {
-            final class ValidateModelFailure extends RuntimeException
-            {
+            defaultMaxErrors = Integer.getInteger( "org.jomc.modlet.DefaultModelContext.defaultMaxErrors", 0 );
+        }
 
-                ValidateModelFailure( final Throwable cause )
-                {
-                    super( Objects.requireNonNull( cause, "cause" ) );
-                }
+        return defaultMaxErrors;
+    }
 
-                <T extends Exception> void handleCause( final Class<T> cause ) throws T
-                {
-                    if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
-                    {
-                        throw (T) this.getCause();
-                    }
-                }
+    /**
+     * Sets the default maximum number of errors to record before stopping validation.
+     *
+     * @param value The new default maximum number of errors to record before stopping validation or {@code null}.
+     *
+     * @see #getDefaultMaxErrors()
+     * @since 2.0
+     */
+    public static void setDefaultMaxErrors( final Integer value )
+    {
+        defaultMaxErrors = value;
+    }
 
-                Error unhandledCauseError()
-                {
-                    return new AssertionError( this.getCause() );
-                }
+    /**
+     * Gets the maximum number of errors to record before stopping validation.
+     * <p>
+     * When greater than {@code 0}, validation stops as soon as that number of report details with a level above
+     * {@code WARNING} has been recorded.
+     * </p>
+     *
+     * @return The maximum number of errors to record before stopping validation or {@code 0}, if validation is not
+     * stopped based on the number of errors.
+     *
+     * @see #getDefaultMaxErrors()
+     * @see #setMaxErrors(java.lang.Integer)
+     * @see #MAX_ERRORS_ATTRIBUTE_NAME
+     * @see #getFailFastLevel()
+     * @since 2.0
+     */
+    public final int getMaxErrors()
+    {
+        if ( this.maxErrors == null )
+        {
+            this.maxErrors = getDefaultMaxErrors();
+        }
 
-            }
+        int max = this.maxErrors;
+        final Optional<Object> maxErrorsAttribute = this.getAttribute( MAX_ERRORS_ATTRIBUTE_NAME );
 
-            final Function<ModelValidator, Optional<ModelValidationReport>> toOptionalModelValidationReport =
-                modelValidator  ->
-            {
-                try
-                {
-                    if ( isLoggable( Level.FINER ) )
-                    {
-                        log( Level.FINER, getMessage( "validatingModel", model.getIdentifier(),
-                                                      modelValidator.toString() ), null );
+        if ( maxErrorsAttribute.isPresent() && maxErrorsAttribute.get() instanceof Integer )
+        {
+            max = (Integer) maxErrorsAttribute.get();
+        }
 
-                    }
+        return max;
+    }
 
-                    return Objects.requireNonNull( modelValidator.validateModel( DefaultModelContext.this, cloned ),
-                                                   modelValidator.toString() );
+    /**
+     * Sets the maximum number of errors to record before stopping validation.
+     *
+     * @param value The new maximum number of errors to record before stopping validation or {@code null}.
+     *
+     * @see #getMaxErrors()
+     * @since 2.0
+     */
+    public final void setMaxErrors( final Integer value )
+    {
+        this.maxErrors = value;
+    }
 
-                }
-                catch ( final ModelException e )
-                {
-                    throw new ValidateModelFailure( e );
-                }
-            };
+    /**
+     * Gets a flag indicating modlets are shared with services by default.
+     * <p>
+     * The default share modlets flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModelContext.defaultShareModlets} holding a value indicating modlets are shared
+     * with services by default. If that property is not set, the {@code false} default is returned.
+     * </p>
+     *
+     * @return {@code true}, if modlets are shared with services by default; {@code false}, if modlets are deep copied
+     * by default.
+     *
+     * @see #setDefaultShareModlets(java.lang.Boolean)
+     * @since 2.0
+     */
+    public static boolean isDefaultShareModlets()
+    {
+        if ( defaultShareModlets == null )
+        {
+            defaultShareModlets =
+                Boolean.valueOf( System.getProperty( "org.jomc.modlet.DefaultModelContext.defaultShareModlets",
+                                                     Boolean.toString( false ) ) );
 
-            try
-            {
-                resultReport.getDetails().addAll(
-                    st0.map( toOptionalModelValidationReport ).
-                        filter( r  -> r.isPresent() ).
-                        flatMap( r  -> r.get().getDetails().parallelStream().unordered() ).
-                        collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
-                                           {
-                                               l1.addAll( l2 );
-                                               return l1;
-                                           }, Collector.Characteristics.CONCURRENT,
-                                               Collector.Characteristics.UNORDERED ) )
-                );
-            }
-            catch ( final ValidateModelFailure f )
-            {
-                f.handleCause( ModelException.class );
-                throw f.unhandledCauseError();
-            }
         }
 
-        if ( this.isLoggable( Level.FINE ) )
+        return defaultShareModlets;
+    }
+
+    /**
+     * Sets the flag indicating modlets are shared with services by default.
+     *
+     * @param value The new value of the flag indicating modlets are shared with services by default or {@code null}.
+     *
+     * @see #isDefaultShareModlets()
+     * @since 2.0
+     */
+    public static void setDefaultShareModlets( final Boolean value )
+    {
+        defaultShareModlets = value;
+    }
+
+    /**
+     * Gets a flag indicating modlets are shared with services.
+     * <p>
+     * By default, the {@code findModlets}, {@code processModlets} and {@code validateModlets} methods create a deep
+     * copy of the given modlets before handing them to any service. When sharing modlets, these methods hand services
+     * a {@link Modlets#shallowCopy() shallow copy} of the given modlets instead, sharing the {@code Modlet} instances.
+     * Services adding or removing modlets do not modify the given modlets. Services need to replace a modlet with a
+     * modified copy instead of modifying that modlet in place, and modlet validators must not modify modlets at all.
+     * </p>
+     *
+     * @return {@code true}, if modlets are shared with services; {@code false}, if modlets are deep copied.
+     *
+     * @see #isDefaultShareModlets()
+     * @see #setShareModlets(java.lang.Boolean)
+     * @see #SHARE_MODLETS_ATTRIBUTE_NAME
+     * @since 2.0
+     */
+    public final boolean isShareModlets()
+    {
+        if ( this.shareModlets == null )
         {
-            this.log( Level.FINE, getMessage( "validateModelReport", model.getIdentifier(),
-                                              System.nanoTime() - t0 ), null );
+            this.shareModlets = isDefaultShareModlets();
+        }
+
+        boolean contextShareModlets = this.shareModlets;
+        final Optional<Object> shareModletsAttribute = this.getAttribute( SHARE_MODLETS_ATTRIBUTE_NAME );
 
+        if ( shareModletsAttribute.isPresent() && shareModletsAttribute.get() instanceof Boolean )
+        {
+            contextShareModlets = (Boolean) shareModletsAttribute.get();
         }
 
-        return resultReport;
+        return contextShareModlets;
+    }
+
+    /**
+     * Sets the flag indicating modlets are shared with services.
+     *
+     * @param value The new value of the flag indicating modlets are shared with services or {@code null}.
+     *
+     * @see #isShareModlets()
+     * @since 2.0
+     */
+    public final void setShareModlets( final Boolean value )
+    {
+        this.shareModlets = value;
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * This method reads the {@code Modlets} from the snapshot file of the context, if a snapshot directory is set and
+     * that file exists. Snapshot files hold the {@code Modlets} in a compressed binary form, so that loading a snapshot
+     * neither parses nor validates any modlet documents. Failures reading the file are logged and result in no value
+     * being returned. The digest naming the file covers the resources, service settings and attributes the
+     * {@code Modlets} of the context depend on. Resources are covered by fingerprint, if they are files or jar entries,
+     * and by content, else. A resource changed without changing its fingerprint, like a file rewritten with the same
+     * size within the resolution of its modification time, is not detected.
+     * </p>
      *
-     * @see #createSchema(java.lang.String)
+     * @see #getModletsSnapshotDirectory()
+     * @since 2.0
      */
     @Override
-    public ModelValidationReport validateModel( final String model, final Source source ) throws ModelException
+    public Optional<Modlets> findModletsSnapshot( final Modlets modlets ) throws ModelException
     {
-        Objects.requireNonNull( model, "model" );
-        Objects.requireNonNull( source, "source" );
+        Objects.requireNonNull( modlets, "modlets" );
 
-        final long t0 = System.nanoTime();
-        final javax.xml.validation.Schema schema = this.createSchema( model );
-        final Validator validator = schema.newValidator();
-        final ModelErrorHandler modelErrorHandler = new ModelErrorHandler( this );
-        validator.setErrorHandler( modelErrorHandler );
+        Modlets snapshot = null;
+        final Optional<String> directory = this.getModletsSnapshotDirectory();
+        this.modletsSnapshotFile = null;
+        this.modletsSnapshotDigest = null;
 
-        try
-        {
-            validator.validate( source );
-        }
-        catch ( final SAXException e )
+        if ( directory.isPresent() )
         {
-            String message = getMessage( e );
-            if ( message == null && e.getException() != null )
-            {
-                message = getMessage( e.getException() );
-            }
+            final String digest = this.getModletsSnapshotDigest();
+            final Path file = Paths.get( directory.get(), new StringBuilder( 96 ).append( "jomc-modlets-" ).
+                                         append( digest ).append( ".bin.gz" ).toString() );
 
-            if ( this.isLoggable( Level.FINE ) )
+            if ( Files.isRegularFile( file ) )
             {
-                this.log( Level.FINE, message, e );
-            }
+                try ( final DataInputStream in = new DataInputStream( new GZIPInputStream(
+                    new BufferedInputStream( Files.newInputStream( file ) ) ) ) )
+                {
+                    snapshot = new ModletsSnapshot( this.createContext( ModletObject.MODEL_PUBLIC_ID ) ).
+                        read( in, digest );
 
-            if ( modelErrorHandler.getReport().isModelValid() )
-            {
-                throw new ModelException( message, e );
+                    if ( this.isLoggable( Level.FINER ) )
+                    {
+                        this.log( Level.FINER, getMessage( "modletsSnapshotInfo", file.toString() ), null );
+                    }
+                }
+                catch ( final IOException | JAXBException e )
+                {
+                    if ( this.isLoggable( Level.WARNING ) )
+                    {
+                        this.log( Level.WARNING, getMessage( "modletsSnapshotFailure", file.toString(),
+                                                             getMessage( e ) != null ? " " + getMessage( e ) : "" ),
+                                  e );
+
+                    }
+                }
             }
-        }
-        catch ( final IOException e )
-        {
-            throw new ModelException( getMessage( e ), e );
-        }
 
-        if ( this.isLoggable( Level.FINE ) )
-        {
-            this.log( Level.FINE, getMessage( "validateModelReport", model, System.nanoTime() - t0 ), null );
+            this.modletsSnapshotFile = file;
+            this.modletsSnapshotDigest = digest;
         }
 
-        return modelErrorHandler.getReport();
+        return Optional.ofNullable( snapshot );
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method writes {@code modlets} to the snapshot file of the context, if a snapshot directory is set. A
+     * snapshot file found but failing to be read is replaced. Failures writing the file are logged.
+     * </p>
+     *
+     * @see #getModletsSnapshotDirectory()
+     * @since 2.0
+     */
     @Override
-    public EntityResolver createEntityResolver( final String model ) throws ModelException
+    public void storeModletsSnapshot( final Modlets modlets ) throws ModelException
     {
-        final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
-        return new DefaultHandler()
-        {
+        Objects.requireNonNull( modlets, "modlets" );
 
-            @Override
-            public InputSource resolveEntity( final String publicId, final String systemId )
-                throws SAXException, IOException
+        final Path file = this.modletsSnapshotFile;
+        final String digest = this.modletsSnapshotDigest;
+        this.modletsSnapshotFile = null;
+        this.modletsSnapshotDigest = null;
+
+        if ( file != null && digest != null )
+        {
+            try
             {
-                InputSource schemaSource = null;
+                final Path directory = file.toAbsolutePath().getParent();
+                Files.createDirectories( directory );
+
+                final Path tmp = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
 
                 try
                 {
-                    Optional<Schema> s = Optional.empty();
-
-                    if ( schemas.isPresent() )
+                    try ( final DataOutputStream out = new DataOutputStream( new GZIPOutputStream(
+                        new BufferedOutputStream( Files.newOutputStream( tmp ) ) ) ) )
                     {
-                        if ( systemId != null && !"".equals( systemId ) )
-                        {
-                            s = schemas.get().getSchemaBySystemId( systemId );
-                        }
-                        else if ( publicId != null )
-                        {
-                            s = schemas.get().getSchemaByPublicId( publicId );
-                        }
+                        new ModletsSnapshot( this.createContext( ModletObject.MODEL_PUBLIC_ID ) ).
+                            write( out, digest, modlets );
+
                     }
 
-                    if ( s.isPresent() )
-                    {
-                        schemaSource = new InputSource();
-                        schemaSource.setPublicId( s.get().getPublicId() );
-                        schemaSource.setSystemId( s.get().getSystemId() );
+                    Files.move( tmp, file, StandardCopyOption.REPLACE_EXISTING );
+                }
+                finally
+                {
+                    Files.deleteIfExists( tmp );
+                }
+            }
+            catch ( final IOException | JAXBException e )
+            {
+                if ( this.isLoggable( Level.WARNING ) )
+                {
+                    this.log( Level.WARNING, getMessage( "modletsSnapshotFailure", file.toString(),
+                                                         getMessage( e ) != null ? " " + getMessage( e ) : "" ), e );
 
-                        if ( s.get().getClasspathId() != null )
-                        {
-                            final Optional<URL> resource = findResource( s.get().getClasspathId() );
+                }
+            }
+        }
+    }
 
-                            if ( resource.isPresent() )
-                            {
-                                schemaSource.setSystemId( resource.get().toExternalForm() );
-                            }
-                            else if ( isLoggable( Level.WARNING ) )
-                            {
-                                log( Level.WARNING, getMessage( "resourceNotFound", s.get().getClasspathId() ), null );
-                            }
-                        }
+    /**
+     * Gets a digest of everything the {@code Modlets} of the context depend on.
+     *
+     * @return A hexadecimal SHA-256 digest of everything the {@code Modlets} of the context depend on.
+     *
+     * @throws ModelException if getting the digest fails.
+     *
+     * @since 2.0
+     */
+    private String getModletsSnapshotDigest() throws ModelException
+    {
+        try
+        {
+            final MessageDigest digest = MessageDigest.getInstance( "SHA-256" );
+            final Set<String> locations = new LinkedHashSet<>( 16 );
 
-                        if ( isLoggable( Level.FINEST ) )
-                        {
-                            log( Level.FINEST, getMessage( "resolutionInfo", publicId + ", " + systemId,
-                                                           schemaSource.getPublicId() + ", "
-                                                               + schemaSource.getSystemId() ), null );
+            final Optional<Object> modletLocationAttribute =
+                this.getAttribute( DefaultModletProvider.MODLET_LOCATION_ATTRIBUTE_NAME );
 
-                        }
-                    }
+            locations.add( modletLocationAttribute.isPresent() && modletLocationAttribute.get() instanceof String
+                               ? (String) modletLocationAttribute.get()
+                               : DefaultModletProvider.getDefaultModletLocation() );
 
-                    if ( schemaSource == null && systemId != null && !"".equals( systemId ) )
-                    {
-                        final URI systemUri = new URI( systemId );
-                        String schemaName = systemUri.getPath();
+            final Optional<Object> transformerLocationAttribute =
+                this.getAttribute( DefaultModletProcessor.TRANSFORMER_LOCATION_ATTRIBUTE_NAME );
 
-                        if ( schemaName != null )
-                        {
-                            final int lastIndexOfSlash = schemaName.lastIndexOf( '/' );
-                            if ( lastIndexOfSlash != -1 && lastIndexOfSlash < schemaName.length() )
-                            {
-                                schemaName = schemaName.substring( lastIndexOfSlash + 1 );
-                            }
+            locations.add( transformerLocationAttribute.isPresent()
+                               && transformerLocationAttribute.get() instanceof String
+                               ? (String) transformerLocationAttribute.get()
+                               : DefaultModletProcessor.getDefaultTransformerLocation() );
 
-                            try ( final Stream<URI> st0 = getSchemaResources().parallelStream().unordered() )
-                            {
-                                final String n = schemaName;
-                                final Optional<InputSource> candidate =
-                                    st0.filter( uri  -> uri.getSchemeSpecificPart() != null
-                                                             && uri.getSchemeSpecificPart().endsWith( n ) ).
-                                        map( uri  ->
-                                        {
-                                            final InputSource source = new InputSource();
-                                            source.setPublicId( publicId );
-                                            source.setSystemId( uri.toASCIIString() );
+            final Optional<Object> indexLocationAttribute =
+                this.getAttribute( DefaultModletProvider.INDEX_LOCATION_ATTRIBUTE_NAME );
 
-                                            if ( isLoggable( Level.FINEST ) )
-                                            {
-                                                log( Level.FINEST, getMessage( "resolutionInfo", systemUri.
-                                                                               toASCIIString(),
-                                                                               source.getSystemId() ), null );
+            locations.add( indexLocationAttribute.isPresent() && indexLocationAttribute.get() instanceof String
+                               ? (String) indexLocationAttribute.get()
+                               : DefaultModletProvider.getDefaultIndexLocation() );
 
-                                            }
+            final Optional<Object> rulesLocationAttribute =
+                this.getAttribute( RuleBasedModletProcessor.RULES_LOCATION_ATTRIBUTE_NAME );
 
-                                            return source;
-                                        } ).findFirst();
+            locations.add( rulesLocationAttribute.isPresent() && rulesLocationAttribute.get() instanceof String
+                               ? (String) rulesLocationAttribute.get()
+                               : RuleBasedModletProcessor.getDefaultRulesLocation() );
 
-                                schemaSource = candidate.orElse( null );
-                            }
-                        }
-                        else
-                        {
-                            if ( isLoggable( Level.WARNING ) )
-                            {
-                                log( Level.WARNING, getMessage( "unsupportedIdUri", systemId,
-                                                                systemUri.toASCIIString() ), null );
+            locations.add( this.getProviderLocation() + "/" + ModletProvider.class.getName() );
+            locations.add( this.getProviderLocation() + "/" + ModletProcessor.class.getName() );
+            locations.add( this.getProviderLocation() + "/" + ModletValidator.class.getName() );
 
-                            }
+            digest.update( this.getModletSchemaSystemId().getBytes( StandardCharsets.UTF_8 ) );
 
-                            schemaSource = null;
-                        }
-                    }
-                }
-                catch ( final URISyntaxException e )
-                {
-                    if ( isLoggable( Level.WARNING ) )
-                    {
-                        log( Level.WARNING, getMessage( "unsupportedIdUri", systemId, getMessage( e ) ), null );
-                    }
+            // Settings of the service objects themselves, like properties of the service resources or defaults set
+            // programmatically, are not part of the resources or attributes of the context.
+            for ( final ModletProvider provider : this.loadModletServices( ModletProvider.class ) )
+            {
+                final StringBuilder settings = new StringBuilder( 128 ).append( provider.getClass().getName() );
 
-                    schemaSource = null;
-                }
-                catch ( final ModelException e )
+                if ( provider instanceof DefaultModletProvider )
                 {
-                    String message = getMessage( e );
-                    if ( message == null )
-                    {
-                        message = "";
-                    }
-                    else if ( message.length() > 0 )
-                    {
-                        message = " " + message;
-                    }
-
-                    String resource = "";
-                    if ( publicId != null )
-                    {
-                        resource = publicId + ", ";
-                    }
-                    resource += systemId;
+                    final DefaultModletProvider defaultModletProvider = (DefaultModletProvider) provider;
+                    settings.append( ";enabled=" ).append( defaultModletProvider.isEnabled() ).
+                        append( ";modletLocation=" ).append( defaultModletProvider.getModletLocation() ).
+                        append( ";indexLocation=" ).append( defaultModletProvider.getIndexLocation() );
 
-                    throw new IOException( getMessage( "failedResolving", resource, message ), e );
+                    locations.add( defaultModletProvider.getModletLocation() );
+                    locations.add( defaultModletProvider.getIndexLocation() );
                 }
 
-                return schemaSource;
+                digest.update( settings.toString().getBytes( StandardCharsets.UTF_8 ) );
             }
 
-        };
-    }
+            for ( final ModletProcessor processor : this.loadModletServices( ModletProcessor.class ) )
+            {
+                final StringBuilder settings = new StringBuilder( 128 ).append( processor.getClass().getName() );
 
-    @Override
-    public LSResourceResolver createResourceResolver( final String model ) throws ModelException
-    {
-        final EntityResolver entityResolver = this.createEntityResolver( Objects.requireNonNull( model, "model" ) );
-        return ( type, namespaceURI, publicId, systemId, baseURI )  ->
-        {
-            final String resolvePublicId = namespaceURI == null ? publicId : namespaceURI;
-            final String resolveSystemId = systemId == null ? "" : systemId;
+                if ( processor instanceof DefaultModletProcessor )
+                {
+                    final DefaultModletProcessor defaultModletProcessor = (DefaultModletProcessor) processor;
+                    settings.append( ";enabled=" ).append( defaultModletProcessor.isEnabled() ).
+                        append( ";transformerLocation=" ).append( defaultModletProcessor.getTransformerLocation() );
 
-            try
-            {
-                if ( XMLConstants.W3C_XML_SCHEMA_NS_URI.equals( type ) )
+                    locations.add( defaultModletProcessor.getTransformerLocation() );
+                }
+                else if ( processor instanceof RuleBasedModletProcessor )
                 {
-                    final InputSource schemaSource =
-                        entityResolver.resolveEntity( resolvePublicId, resolveSystemId );
+                    final RuleBasedModletProcessor ruleBasedModletProcessor = (RuleBasedModletProcessor) processor;
+                    settings.append( ";enabled=" ).append( ruleBasedModletProcessor.isEnabled() ).
+                        append( ";rulesLocation=" ).append( ruleBasedModletProcessor.getRulesLocation() );
 
-                    if ( schemaSource != null )
-                    {
-                        return new LSInput()
-                        {
+                    locations.add( ruleBasedModletProcessor.getRulesLocation() );
+                }
 
-                            @Override
-                            public Reader getCharacterStream()
-                            {
-                                return schemaSource.getCharacterStream();
-                            }
+                digest.update( settings.toString().getBytes( StandardCharsets.UTF_8 ) );
+            }
 
-                            @Override
-                            public void setCharacterStream( final Reader characterStream )
-                            {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setCharacterStream",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+            for ( final ModletValidator validator : this.loadModletServices( ModletValidator.class ) )
+            {
+                final StringBuilder settings = new StringBuilder( 128 ).append( validator.getClass().getName() );
 
-                                }
-                            }
+                if ( validator instanceof DefaultModletValidator )
+                {
+                    final DefaultModletValidator defaultModletValidator = (DefaultModletValidator) validator;
+                    settings.append( ";enabled=" ).append( defaultModletValidator.isEnabled() ).
+                        append( ";schemaValidating=" ).append( defaultModletValidator.isSchemaValidating() );
 
-                            @Override
-                            public InputStream getByteStream()
-                            {
-                                return schemaSource.getByteStream();
-                            }
+                }
 
-                            @Override
-                            public void setByteStream( final InputStream byteStream )
-                            {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setByteStream",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+                digest.update( settings.toString().getBytes( StandardCharsets.UTF_8 ) );
+            }
 
-                                }
-                            }
+            for ( final String location : locations )
+            {
+                final List<URL> resources = Collections.list( this.findResources( location ) );
+                resources.sort( ( r1, r2 )  -> r1.toExternalForm().compareTo( r2.toExternalForm() ) );
 
-                            @Override
-                            public String getStringData()
-                            {
-                                return null;
-                            }
+                for ( final URL resource : resources )
+                {
+                    digest.update( resource.toExternalForm().getBytes( StandardCharsets.UTF_8 ) );
+                    updateDigest( digest, resource );
+                }
+            }
 
-                            @Override
-                            public void setStringData( final String stringData )
-                            {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setStringData",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+            final Path platformProviders = Paths.get( this.getPlatformProviderLocation() );
 
-                                }
-                            }
+            if ( Files.isRegularFile( platformProviders ) )
+            {
+                updateDigest( digest, platformProviders.toUri().toURL() );
+            }
 
-                            @Override
-                            public String getSystemId()
-                            {
-                                return schemaSource.getSystemId();
-                            }
+            for ( final String name : new TreeSet<>( this.getAttributeNames() ) )
+            {
+                final Optional<Object> value = this.getAttribute( name );
 
-                            @Override
-                            public void setSystemId( final String systemId )
-                            {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setSystemId",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+                if ( value.isPresent() && ( value.get() instanceof String || value.get() instanceof Boolean
+                                            || value.get() instanceof Number || value.get() instanceof Enum<?> ) )
+                {
+                    digest.update( ( name + '=' + value.get() ).getBytes( StandardCharsets.UTF_8 ) );
+                }
+            }
 
-                                }
-                            }
+            final StringBuilder hex = new StringBuilder( 64 );
 
-                            @Override
-                            public String getPublicId()
-                            {
-                                return schemaSource.getPublicId();
-                            }
+            for ( final byte b : digest.digest() )
+            {
+                hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+            }
 
-                            @Override
-                            public void setPublicId( final String publicId )
-                            {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setPublicId",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+            return hex.toString();
+        }
+        catch ( final NoSuchAlgorithmException e )
+        {
+            // Every implementation of the Java platform is required to support SHA-256.
+            throw new AssertionError( e );
+        }
+        catch ( final IOException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+    }
 
-                                }
-                            }
+    /**
+     * Updates a digest with a resource.
+     * <p>
+     * Resources with a fingerprint, like files or jar entries, are digested by fingerprint without reading their
+     * content. The content of any other resource is digested.
+     * </p>
+     *
+     * @param digest The digest to update.
+     * @param resource The resource to update {@code digest} with.
+     *
+     * @throws IOException if reading the resource fails.
+     *
+     * @see DefaultModletProvider#getFingerprint(java.net.URL)
+     */
+    private static void updateDigest( final MessageDigest digest, final URL resource ) throws IOException
+    {
+        final String fingerprint = DefaultModletProvider.getFingerprint( resource );
 
-                            @Override
-                            public String getBaseURI()
-                            {
-                                return baseURI;
-                            }
+        if ( fingerprint != null )
+        {
+            digest.update( fingerprint.getBytes( StandardCharsets.UTF_8 ) );
+        }
+        else
+        {
+            digest.update( DefaultModletProvider.readResource( resource ) );
+        }
+    }
 
-                            @Override
-                            public void setBaseURI( final String baseURI )
-                            {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setBaseURI",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method loads {@code ModletProvider} classes setup via the platform provider configuration file and
+     * {@code <provider-location>/org.jomc.modlet.ModletProvider} resources to return a list of {@code Modlets}.
+     * </p>
+     *
+     * @see #getProviderLocation()
+     * @see #getPlatformProviderLocation()
+     * @see ModletProvider#findModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @since 1.6
+     */
+    @Override
+    public Modlets findModlets( final Modlets modlets ) throws ModelException
+    {
+        Modlets found = this.copyModlets( Objects.requireNonNull( modlets, "modlets" ) );
+        final Collection<ModletProvider> providers = this.loadModletServices( ModletProvider.class );
 
-                                }
-                            }
+        for ( final ModletProvider provider : providers )
+        {
+            if ( this.isLoggable( Level.FINER ) )
+            {
+                this.log( Level.FINER, getMessage( "creatingModlets", provider.toString() ), null );
+            }
 
-                            @Override
-                            public String getEncoding()
-                            {
-                                return schemaSource.getEncoding();
-                            }
+            final Optional<Modlets> provided =
+                Objects.requireNonNull( provider.findModlets( this, found ), provider.toString() );
 
-                            @Override
-                            public void setEncoding( final String encoding )
-                            {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setEncoding",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+            if ( provided.isPresent() )
+            {
+                found = provided.get();
+            }
+        }
 
-                                }
-                            }
+        if ( this.isLoggable( Level.FINEST ) )
+        {
+            try ( final Stream<Modlet> st0 = found.getModlet().parallelStream().unordered() )
+            {
+                st0.forEach( m  ->
+                {
+                    log( Level.FINEST,
+                         getMessage( "modletInfo", m.getName(), m.getModel(),
+                                     m.getVendor() != null
+                                         ? m.getVendor() : getMessage( "noVendor" ),
+                                     m.getVersion() != null
+                                         ? m.getVersion() : getMessage( "noVersion" ) ), null );
 
-                            @Override
-                            public boolean getCertifiedText()
+                    if ( m.getSchemas() != null )
+                    {
+                        try ( final Stream<Schema> st1 = m.getSchemas().getSchema().parallelStream().unordered() )
+                        {
+                            st1.forEach( s  ->
                             {
-                                return false;
-                            }
+                                log( Level.FINEST,
+                                     getMessage( "modletSchemaInfo", m.getName(), s.getPublicId(), s.getSystemId(),
+                                                 s.getContextId() != null
+                                                     ? s.getContextId() : getMessage( "noContext" ),
+                                                 s.getClasspathId() != null
+                                                     ? s.getClasspathId() : getMessage( "noClasspathId" ) ), null );
+                            } );
+                        }
+                    }
 
-                            @Override
-                            public void setCertifiedText( final boolean certifiedText )
+                    if ( m.getServices() != null )
+                    {
+                        try ( final Stream<Service> st1 = m.getServices().getService().parallelStream().unordered() )
+                        {
+                            st1.forEach( s  ->
                             {
-                                if ( isLoggable( Level.WARNING ) )
-                                {
-                                    log( Level.WARNING, getMessage(
-                                         "unsupportedOperation", "setCertifiedText",
-                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+                                log( Level.FINEST, getMessage( "modletServiceInfo", m.getName(), s.getOrdinal(),
+                                                               s.getIdentifier(), s.getClazz() ), null );
+                            } );
+                        }
+                    }
+                } );
+            }
+        }
 
-                                }
-                            }
+        return found;
+    }
 
-                        };
-                    }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method loads {@code ModletProcessor} classes setup via the platform provider configuration file and
+     * {@code <provider-location>/org.jomc.modlet.ModletProcessor} resources to process a list of {@code Modlets}.
+     * </p>
+     *
+     * @see #getProviderLocation()
+     * @see #getPlatformProviderLocation()
+     * @see ModletProcessor#processModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @since 1.6
+     */
+    @Override
+    public Modlets processModlets( final Modlets modlets ) throws ModelException
+    {
+        Modlets result = this.copyModlets( Objects.requireNonNull( modlets, "modlets" ) );
+        final Collection<ModletProcessor> processors = this.loadModletServices( ModletProcessor.class );
 
-                }
-                else if ( isLoggable( Level.WARNING ) )
-                {
-                    log( Level.WARNING, getMessage( "unsupportedResourceType", type ), null );
-                }
+        for ( final ModletProcessor processor : processors )
+        {
+            if ( this.isLoggable( Level.FINER ) )
+            {
+                this.log( Level.FINER, getMessage( "processingModlets", processor.toString() ), null );
             }
-            catch ( final SAXException e )
+
+            final Optional<Modlets> processed =
+                Objects.requireNonNull( processor.processModlets( this, result ), processor.toString() );
+
+            if ( processed.isPresent() )
             {
-                String message = getMessage( e );
-                if ( message == null && e.getException() != null )
-                {
-                    message = getMessage( e.getException() );
-                }
-                if ( message == null )
-                {
-                    message = "";
-                }
-                else if ( message.length() > 0 )
-                {
-                    message = " " + message;
-                }
+                result = processed.get();
+            }
+        }
 
-                String resource = "";
-                if ( resolvePublicId != null )
-                {
-                    resource = resolvePublicId + ", ";
-                }
-                resource += resolveSystemId;
+        return result;
+    }
 
-                if ( isLoggable( Level.SEVERE ) )
-                {
-                    log( Level.SEVERE, getMessage( "failedResolving", resource, message ), e );
-                }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method loads {@code ModletValidator} classes setup via the platform provider configuration file and
+     * {@code <provider-location>/org.jomc.modlet.ModletValidator} resources to validate a list of {@code Modlets}.
+     * The validators are run concurrently, on the executor of the context if one is set. While the modlets of the
+     * context are searched, validators calling back into the context get the modlets being validated from the
+     * {@code getModlets} method, whatever thread they are run on. The details of the reports of the validators are
+     * merged in the order of the validators.
+     * </p>
+     *
+     * @see #getExecutor()
+     * @see #getProviderLocation()
+     * @see #getPlatformProviderLocation()
+     * @see ModletValidator#validateModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @since 1.9
+     */
+    @Override
+    public ModelValidationReport validateModlets( final Modlets modlets ) throws ModelException
+    {
+        final ModelValidationReport report = new ModelValidationReport();
+        final List<List<ModelValidationReport.Detail>> details = this.runModletValidators( modlets, null );
+        final List<ModelValidationReport.Detail> merged =
+            new ArrayList<>( details.stream().mapToInt( List::size ).sum() );
+
+        details.forEach( merged::addAll );
+        report.getDetails().addAll( merged );
+        return report;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method runs the {@code ModletValidator}s the same way method
+     * {@link #validateModlets(org.jomc.modlet.Modlets)} does, passing the details of the report of each validator to
+     * {@code consumer} as soon as that validator has finished.
+     * </p>
+     *
+     * @see #validateModlets(org.jomc.modlet.Modlets)
+     * @since 2.0
+     */
+    @Override
+    public void validateModletsStreaming( final Modlets modlets,
+                                          final Consumer<? super ModelValidationReport.Detail> consumer )
+        throws ModelException
+    {
+        this.runModletValidators( modlets, Objects.requireNonNull( consumer, "consumer" ) );
+    }
+
+    /**
+     * Validates a list of {@code Modlets}.
+     *
+     * @param modlets The {@code Modlets} to validate.
+     * @param consumer The consumer to pass report details to or {@code null}, to return report details.
+     *
+     * @return The details of the reports of the validators in the order of the validators. Empty, if {@code consumer}
+     * is not {@code null}.
+     *
+     * @throws ModelException if validating {@code modlets} fails.
+     *
+     * @since 2.0
+     */
+    private List<List<ModelValidationReport.Detail>> runModletValidators(
+        final Modlets modlets, final Consumer<? super ModelValidationReport.Detail> consumer ) throws ModelException
+    {
+        final Modlets cloned = this.copyModlets( Objects.requireNonNull( modlets, "modlets" ) );
+        final List<ModletValidator> modletValidators =
+            new ArrayList<>( this.loadModletServices( ModletValidator.class ) );
+
+        final Object consumerLock = new Object();
+
+        final class ValidateModletsFailure extends RuntimeException
+        {
+
+            ValidateModletsFailure( final Throwable cause )
+            {
+                super( Objects.requireNonNull( cause, "cause" ) );
             }
-            catch ( final IOException e )
+
+            <T extends Exception> void handleCause( final Class<T> cause ) throws T
             {
-                String message = getMessage( e );
-                if ( message == null )
-                {
-                    message = "";
-                }
-                else if ( message.length() > 0 )
+                if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
                 {
-                    message = " " + message;
+                    throw (T) this.getCause();
                 }
+            }
 
-                String resource = "";
-                if ( resolvePublicId != null )
+            Error unhandledCauseError()
+            {
+                return new AssertionError( this.getCause() );
+            }
+
+        }
+
+        final Function<ModletValidator, List<ModelValidationReport.Detail>> toReportDetails = modletValidator  ->
+        {
+            try
+            {
+                if ( isLoggable( Level.FINER ) )
                 {
-                    resource = resolvePublicId + ", ";
+                    log( Level.FINER, getMessage( "validatingModlets", modletValidator.toString() ), null );
                 }
-                resource += resolveSystemId;
 
-                if ( isLoggable( Level.SEVERE ) )
+                final Optional<ModelValidationReport> current = Objects.requireNonNull(
+                    modletValidator.validateModlets( DefaultModelContext.this, cloned ), modletValidator.toString() );
+
+                if ( consumer != null && current.isPresent() )
                 {
-                    log( Level.SEVERE, getMessage( "failedResolving", resource, message ), e );
+                    synchronized ( consumerLock )
+                    {
+                        current.get().getDetails().forEach( consumer );
+                    }
+
+                    return Collections.<ModelValidationReport.Detail>emptyList();
                 }
-            }
 
-            return null;
+                return current.isPresent()
+                           ? current.get().getDetails()
+                           : Collections.<ModelValidationReport.Detail>emptyList();
+
+            }
+            catch ( final ModelException e )
+            {
+                throw new ValidateModletsFailure( e );
+            }
         };
-    }
 
-    @Override
-    public javax.xml.validation.Schema createSchema( final String model ) throws ModelException
-    {
+        // Validators calling back into the context get the modlets being validated while searching modlets.
+        final Function<ModletValidator, List<ModelValidationReport.Detail>> toDetails =
+            this.withModletsSearch( toReportDetails );
+
         try
         {
-            final long t0 = System.nanoTime();
-            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
-            final EntityResolver entityResolver = this.createEntityResolver( model );
-            final SchemaFactory schemaFactory = SchemaFactory.newInstance( XMLConstants.W3C_XML_SCHEMA_NS_URI );
-            final List<Source> sources = new ArrayList<>( schemas.isPresent() ? schemas.get().getSchema().size() : 0 );
+            final List<List<ModelValidationReport.Detail>> details;
+            final Optional<Executor> contextExecutor = this.getExecutor();
 
-            if ( schemas.isPresent() )
+            if ( modletValidators.size() < 2 )
             {
-                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
+                details = modletValidators.stream().map( toDetails ).collect( Collectors.toList() );
+            }
+            else if ( contextExecutor.isPresent() )
+            {
+                final List<CompletableFuture<List<ModelValidationReport.Detail>>> futures =
+                    new ArrayList<>( modletValidators.size() );
+
+                for ( final ModletValidator modletValidator : modletValidators )
                 {
-                    final class ResolveEntityFailure extends RuntimeException
-                    {
+                    futures.add( CompletableFuture.supplyAsync( () -> toDetails.apply( modletValidator ),
+                                                                contextExecutor.get() ) );
 
-                        ResolveEntityFailure( final Throwable cause )
-                        {
-                            super( Objects.requireNonNull( cause, "cause" ) );
-                        }
+                }
 
-                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
-                        {
-                            if ( Objects.requireNonNull( cause, "cause" ).
-                                isAssignableFrom( this.getCause().getClass() ) )
-                            {
-                                throw (T) this.getCause();
-                            }
-                        }
+                details = new ArrayList<>( futures.size() );
 
-                        Error unhandledCauseError()
-                        {
-                            return new AssertionError( this.getCause() );
-                        }
+                for ( final CompletableFuture<List<ModelValidationReport.Detail>> future : futures )
+                {
+                    details.add( join( future ) );
+                }
+            }
+            else
+            {
+                try ( final Stream<ModletValidator> st0 = modletValidators.parallelStream() )
+                {
+                    details = st0.map( toDetails ).collect( Collectors.toList() );
+                }
+            }
 
-                    }
+            return details;
+        }
+        catch ( final ValidateModletsFailure f )
+        {
+            f.handleCause( ModelException.class );
+            throw f.unhandledCauseError();
+        }
+    }
 
-                    try
-                    {
-                        sources.addAll( st0.map( s  ->
-                        {
-                            try
-                            {
-                                return new SAXSource( entityResolver.resolveEntity( s.getPublicId(),
-                                                                                    s.getSystemId() ) );
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method creates all {@code ModelProvider} service objects of the model identified by {@code model} to create
+     * a new {@code Model} instance.
+     * </p>
+     *
+     * @see #findModel(org.jomc.modlet.Model)
+     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelProvider.class.getName(), ModelProvider.class )
+     * @see ModelProvider#findModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     */
+    @Override
+    public Model findModel( final String model ) throws ModelException
+    {
+        final Model m = new Model();
+        m.setIdentifier( Objects.requireNonNull( model, "model" ) );
 
-                            }
-                            catch ( final SAXException | IOException e )
-                            {
-                                throw new ResolveEntityFailure( e );
-                            }
-                        } ).collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
-                                               {
-                                                   l1.addAll( l2 );
-                                                   return l1;
-                                               }, Collector.Characteristics.CONCURRENT,
-                                                   Collector.Characteristics.UNORDERED ) ) );
+        return this.findModel( m );
+    }
 
-                    }
-                    catch ( final ResolveEntityFailure f )
-                    {
-                        f.handleCause( IOException.class );
-                        f.handleCause( SAXException.class );
-                        throw f.unhandledCauseError();
-                    }
-                }
-            }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method handles the models concurrently, on the discovery executor of the context if one is set, or using a
+     * parallel stream. Any artifacts the services of a model create, like JAXB contexts or schemas, are therefore
+     * created concurrently as well. The models are never handed to the executor of the context, as the stages of each
+     * model already make use of it and waiting on a bounded executor from within that executor would starve it. If
+     * the discovery executor is the executor of the context, a parallel stream is used instead.
+     * </p>
+     *
+     * @see #getDiscoveryExecutor()
+     * @see #getExecutor()
+     * @see #runModelPipeline(java.lang.String)
+     * @since 2.0
+     */
+    @Override
+    public Map<String, ModelDiscoveryResult> findModels( final Collection<String> models, final boolean processing,
+                                                         final boolean validating )
+    {
+        final Set<String> identifiers = new LinkedHashSet<>( Objects.requireNonNull( models, "models" ).size() * 2 );
 
-            if ( sources.isEmpty() )
+        for ( final String model : models )
+        {
+            identifiers.add( Objects.requireNonNull( model, "models" ) );
+        }
+
+        final List<String> batch = new ArrayList<>( identifiers );
+        final List<ModelDiscoveryResult> results;
+        final long t0 = System.nanoTime();
+
+        if ( batch.size() < 2 )
+        {
+            results = new ArrayList<>( batch.size() );
+
+            for ( final String model : batch )
             {
-                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+                results.add( this.discoverModel( model, processing, validating ) );
             }
+        }
+        else
+        {
+            final Optional<Executor> contextDiscoveryExecutor = this.getDiscoveryExecutor();
 
-            schemaFactory.setResourceResolver( this.createResourceResolver( model ) );
-            schemaFactory.setErrorHandler( new ErrorHandler()
+            if ( contextDiscoveryExecutor.isPresent()
+                     && !contextDiscoveryExecutor.get().equals( this.getExecutor().orElse( null ) ) )
             {
-                // See http://java.net/jira/browse/JAXP-66
+                final List<CompletableFuture<ModelDiscoveryResult>> futures = new ArrayList<>( batch.size() );
 
-                @Override
-                public void warning( final SAXParseException e ) throws SAXException
+                for ( final String model : batch )
                 {
-                    String message = getMessage( e );
-                    if ( message == null && e.getException() != null )
-                    {
-                        message = getMessage( e.getException() );
-                    }
+                    futures.add( CompletableFuture.supplyAsync( ()  -> discoverModel( model, processing, validating ),
+                                                                contextDiscoveryExecutor.get() ) );
 
-                    if ( isLoggable( Level.WARNING ) )
-                    {
-                        log( Level.WARNING, message, e );
-                    }
                 }
 
-                @Override
-                public void error( final SAXParseException e ) throws SAXException
-                {
-                    throw e;
-                }
+                results = new ArrayList<>( futures.size() );
 
-                @Override
-                public void fatalError( final SAXParseException e ) throws SAXException
+                for ( final CompletableFuture<ModelDiscoveryResult> future : futures )
                 {
-                    throw e;
+                    results.add( join( future ) );
                 }
-
-            } );
-
-            final javax.xml.validation.Schema schema =
-                schemaFactory.newSchema( sources.toArray( new Source[ sources.size() ] ) );
-
-            if ( this.isLoggable( Level.FINE ) )
+            }
+            else
             {
-                try ( final Stream<Source> st0 = sources.parallelStream().unordered() )
+                try ( final Stream<String> st0 = batch.parallelStream() )
                 {
-                    this.log( Level.FINE, getMessage( "creatingSchema", st0.map( s  -> s.getSystemId() ).
-                                                      collect( Collectors.joining( ", " ) ),
-                                                      System.nanoTime() - t0 ), null );
+                    results = st0.map( model  -> discoverModel( model, processing, validating ) ).
+                        collect( Collectors.toList() );
 
                 }
             }
-
-            return schema;
         }
-        catch ( final IOException e )
+
+        final Map<String, ModelDiscoveryResult> discovered = new LinkedHashMap<>( batch.size() * 2 );
+
+        for ( int i = 0, s0 = batch.size(); i < s0; i++ )
         {
-            throw new ModelException( getMessage( e ), e );
+            discovered.put( batch.get( i ), results.get( i ) );
         }
-        catch ( final SAXException e )
-        {
-            String message = getMessage( e );
-            if ( message == null && e.getException() != null )
-            {
-                message = getMessage( e.getException() );
-            }
 
-            throw new ModelException( message, e );
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "findModelsReport", batch.size(), System.nanoTime() - t0 ), null );
         }
+
+        return Collections.unmodifiableMap( discovered );
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method creates all {@code ModelProvider} service objects of the given model to populate the given model
+     * instance.
+     * </p>
+     *
+     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelProvider.class.getName(), ModelProvider.class )
+     * @see ModelProvider#findModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     *
+     * @since 1.2
+     */
     @Override
-    public JAXBContext createContext( final String model ) throws ModelException
+    public Model findModel( final Model model ) throws ModelException
     {
-        try
-        {
-            String packageNames = null;
-            final long t0 = System.nanoTime();
-            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
+        final Model m = Objects.requireNonNull( model, "model" ).clone();
+        return this.runModelProviders( m, this.createServiceObjects( m.getIdentifier(), ModelProvider.class.getName(),
+                                                                     ModelProvider.class ) );
 
-            if ( schemas.isPresent() )
-            {
-                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
-                {
-                    packageNames = st0.filter( s  -> s.getContextId() != null ).
-                        map( s  -> s.getContextId() ).
-                        collect( Collectors.joining( ":" ) );
+    }
 
-                }
-            }
+    /**
+     * Populates a given {@code Model} using given providers.
+     *
+     * @param model The {@code Model} to populate, not shared with the caller.
+     * @param providers The providers to populate {@code model} with.
+     *
+     * @return The populated model.
+     *
+     * @throws ModelException if populating {@code model} fails.
+     *
+     * @since 2.0
+     */
+    private Model runModelProviders( final Model model, final Collection<? extends ModelProvider> providers )
+        throws ModelException
+    {
+        Model m = model;
+        final long t0 = System.nanoTime();
 
-            if ( packageNames == null || packageNames.length() == 0 )
+        for ( final ModelProvider provider : providers )
+        {
+            if ( this.isLoggable( Level.FINER ) )
             {
-                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+                this.log( Level.FINER, getMessage( "creatingModel", m.getIdentifier(), provider.toString() ), null );
             }
 
-            final JAXBContext context = JAXBContext.newInstance( packageNames, this.getClassLoader() );
+            final Optional<Model> provided =
+                Objects.requireNonNull( provider.findModel( this, m ), provider.toString() );
 
-            if ( this.isLoggable( Level.FINE ) )
+            if ( provided.isPresent() )
             {
-                this.log( Level.FINE, getMessage( "creatingContext", packageNames, System.nanoTime() - t0 ), null );
+                m = provided.get();
             }
-
-            return context;
         }
-        catch ( final JAXBException e )
-        {
-            String message = getMessage( e );
-            if ( message == null && e.getLinkedException() != null )
-            {
-                message = getMessage( e.getLinkedException() );
-            }
 
-            throw new ModelException( message, e );
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "findModelReport", m.getIdentifier(), System.nanoTime() - t0 ), null );
         }
+
+        return m;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method creates all {@code ModelProcessor} service objects of {@code model} to process the given
+     * {@code Model}.
+     * </p>
+     *
+     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelProcessor.class.getName(), ModelProcessor.class )
+     * @see ModelProcessor#processModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     */
     @Override
-    public Marshaller createMarshaller( final String model ) throws ModelException
+    public Model processModel( final Model model ) throws ModelException
     {
-        try
-        {
-            String packageNames = null;
-            String schemaLocation = null;
-            final long t0 = System.nanoTime();
-            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
-
-            if ( schemas.isPresent() )
-            {
-                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
-                {
-                    packageNames = st0.filter( s  -> s.getContextId() != null ).
-                        map( s  -> s.getContextId() ).collect( Collectors.joining( ":" ) );
-
-                }
+        final Model m = Objects.requireNonNull( model, "model" ).clone();
+        return this.runModelProcessors( m, this.createServiceObjects( m.getIdentifier(),
+                                                                      ModelProcessor.class.getName(),
+                                                                      ModelProcessor.class ) );
 
-                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
-                {
-                    schemaLocation = st0.filter( s  -> s.getPublicId() != null && s.getSystemId() != null ).
-                        map( s  -> new StringBuilder( s.getPublicId() ).append( ' ' ).
-                            append( s.getSystemId() ).toString() ).
-                        collect( Collectors.joining( " " ) );
+    }
 
-                }
-            }
+    /**
+     * Processes a given {@code Model} using given processors.
+     *
+     * @param model The {@code Model} to process, not shared with the caller.
+     * @param processors The processors to process {@code model} with.
+     *
+     * @return The processed model.
+     *
+     * @throws ModelException if processing {@code model} fails.
+     *
+     * @since 2.0
+     */
+    private Model runModelProcessors( final Model model, final Collection<? extends ModelProcessor> processors )
+        throws ModelException
+    {
+        Model processed = model;
+        final long t0 = System.nanoTime();
 
-            if ( packageNames == null || packageNames.length() == 0 )
+        for ( final ModelProcessor processor : processors )
+        {
+            if ( this.isLoggable( Level.FINER ) )
             {
-                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+                this.log( Level.FINER, getMessage( "processingModel", model.getIdentifier(),
+                                                   processor.toString() ), null );
+
             }
 
-            final Marshaller m = JAXBContext.newInstance( packageNames, this.getClassLoader() ).createMarshaller();
+            final Optional<Model> current =
+                Objects.requireNonNull( processor.processModel( this, processed ), processor.toString() );
 
-            if ( schemaLocation != null && schemaLocation.length() != 0 )
+            if ( current.isPresent() )
             {
-                m.setProperty( Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation );
+                processed = current.get();
             }
+        }
 
-            final Collection<? extends Marshaller.Listener> listeners =
-                this.createServiceObjects( model, MARSHALLER_LISTENER_SERVICE, Marshaller.Listener.class );
-
-            MarshallerListenerList listenerList = null;
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "processModelReport", model.getIdentifier(), System.nanoTime() - t0 ),
+                      null );
 
-            if ( !listeners.isEmpty() )
-            {
-                listenerList = new MarshallerListenerList();
-                listenerList.getListeners().addAll( listeners );
-                m.setListener( listenerList );
-            }
+        }
 
-            if ( this.isLoggable( Level.FINE ) )
-            {
-                if ( listenerList == null )
-                {
-                    this.log( Level.FINE, getMessage( "creatingMarshaller", packageNames, schemaLocation,
-                                                      System.nanoTime() - t0 ), null );
+        return processed;
+    }
 
-                }
-                else
-                {
-                    try ( final Stream<Marshaller.Listener> st0 =
-                        listenerList.getListeners().parallelStream().unordered() )
-                    {
-                        final String list = st0.map( l  -> l.toString() ).collect( Collectors.joining( "," ) );
-                        this.log( Level.FINE, getMessage( "creatingMarshallerWithListeners", packageNames,
-                                                          schemaLocation, list, System.nanoTime() - t0 ), null );
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method creates all {@code ModelValidator} service objects of {@code model} to validate the given
+     * {@code Model}.
+     * </p>
+     *
+     * @see #createServiceObjects(java.lang.String, java.lang.String, java.lang.Class) createServiceObjects( model, ModelValidator.class.getName(), ModelValidator.class )
+     * @see ModelValidator#validateModel(org.jomc.modlet.ModelContext, org.jomc.modlet.Model)
+     */
+    @Override
+    public ModelValidationReport validateModel( final Model model ) throws ModelException
+    {
+        final ModelValidationReport resultReport = new ModelValidationReport();
+        final Model cloned = Objects.requireNonNull( model, "model" ).clone();
+        resultReport.getDetails().addAll( this.runModelValidators(
+            cloned, this.createServiceObjects( cloned.getIdentifier(), ModelValidator.class.getName(),
+                                               ModelValidator.class ), null ) );
 
-                    }
-                }
-            }
+        return resultReport;
+    }
 
-            return m;
-        }
-        catch ( final JAXBException e )
-        {
-            String message = getMessage( e );
-            if ( message == null && e.getLinkedException() != null )
-            {
-                message = getMessage( e.getLinkedException() );
-            }
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method runs the {@code ModelValidator}s the same way method {@link #validateModel(org.jomc.modlet.Model)}
+     * does, passing the details of the report of each validator to {@code consumer} as soon as that validator has
+     * finished.
+     * </p>
+     *
+     * @see #validateModel(org.jomc.modlet.Model)
+     * @since 2.0
+     */
+    @Override
+    public void validateModelStreaming( final Model model,
+                                        final Consumer<? super ModelValidationReport.Detail> consumer )
+        throws ModelException
+    {
+        final Model cloned = Objects.requireNonNull( model, "model" ).clone();
+        this.runModelValidators( cloned, this.createServiceObjects( cloned.getIdentifier(),
+                                                                    ModelValidator.class.getName(),
+                                                                    ModelValidator.class ),
+                                 Objects.requireNonNull( consumer, "consumer" ) );
 
-            throw new ModelException( message, e );
-        }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method creates the {@code ModelProcessor} and {@code ModelValidator} service objects of the model
+     * concurrently to finding the model, on the executor of the context if one is set. The model is created once and
+     * handed from stage to stage without copying it again. The validators validate the processed model and are run
+     * the same way method {@link #validateModel(org.jomc.modlet.Model)} runs them.
+     * </p>
+     *
+     * @see #getExecutor()
+     * @since 2.0
+     */
     @Override
-    public Unmarshaller createUnmarshaller( final String model ) throws ModelException
+    public ModelPipelineResult runModelPipeline( final String model ) throws ModelException
     {
-        try
+        Objects.requireNonNull( model, "model" );
+
+        final class RunModelPipelineFailure extends RuntimeException
         {
-            String packageNames = null;
-            final long t0 = System.nanoTime();
-            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
 
-            if ( schemas.isPresent() )
+            RunModelPipelineFailure( final Throwable cause )
             {
-                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
-                {
-                    packageNames = st0.filter( s  -> s.getContextId() != null ).
-                        map( s  -> s.getContextId() ).collect( Collectors.joining( ":" ) );
+                super( Objects.requireNonNull( cause, "cause" ) );
+            }
 
+            <T extends Exception> void handleCause( final Class<T> cause ) throws T
+            {
+                if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
+                {
+                    throw (T) this.getCause();
                 }
             }
 
-            if ( packageNames == null || packageNames.length() == 0 )
+            Error unhandledCauseError()
             {
-                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+                return new AssertionError( this.getCause() );
             }
 
-            final Unmarshaller u = JAXBContext.newInstance( packageNames, this.getClassLoader() ).createUnmarshaller();
-
-            UnmarshallerListenerList listenerList = null;
+        }
 
-            final Collection<? extends Unmarshaller.Listener> listeners =
-                this.createServiceObjects( model, UNMARSHALLER_LISTENER_SERVICE, Unmarshaller.Listener.class );
+        final long t0 = System.nanoTime();
+        final Optional<Executor> contextExecutor = this.getExecutor();
 
-            if ( !listeners.isEmpty() )
+        final Supplier<Collection<? extends ModelProcessor>> toProcessors = () ->
+        {
+            try
             {
-                listenerList = new UnmarshallerListenerList();
-                listenerList.getListeners().addAll( listeners );
-                u.setListener( listenerList );
+                return createServiceObjects( model, ModelProcessor.class.getName(), ModelProcessor.class );
             }
-
-            if ( this.isLoggable( Level.FINE ) )
+            catch ( final ModelException e )
             {
-                if ( listenerList == null )
-                {
-                    this.log( Level.FINE, getMessage( "creatingUnmarshaller", packageNames.substring( 1 ),
-                                                      System.nanoTime() - t0 ), null );
-
-                }
-                else
-                {
-                    try ( final Stream<Unmarshaller.Listener> st0 =
-                        listenerList.getListeners().parallelStream().unordered() )
-                    {
-                        final String list = st0.map( l  -> l.toString() ).collect( Collectors.joining( "," ) );
-                        this.log( Level.FINE, getMessage( "creatingUnmarshallerWithListeners",
-                                                          packageNames, list, System.nanoTime() - t0 ), null );
-
-                    }
-                }
+                throw new RunModelPipelineFailure( e );
             }
+        };
 
-            return u;
-        }
-        catch ( final JAXBException e )
+        final Supplier<Collection<? extends ModelValidator>> toValidators = () ->
         {
-            String message = getMessage( e );
-            if ( message == null && e.getLinkedException() != null )
+            try
             {
-                message = getMessage( e.getLinkedException() );
+                return createServiceObjects( model, ModelValidator.class.getName(), ModelValidator.class );
             }
+            catch ( final ModelException e )
+            {
+                throw new RunModelPipelineFailure( e );
+            }
+        };
 
-            throw new ModelException( message, e );
-        }
-    }
-
-    /**
-     * {@inheritDoc}
-     * <p>
-     * This method loads {@code ServiceFactory} classes setup via the platform provider configuration file and
-     * {@code <provider-location>/org.jomc.modlet.ServiceFactory} resources to create new service objects.
-     * </p>
-     *
-     * @since 1.9
-     */
-    @Override
-    public <T> Collection<? extends T> createServiceObjects( final String model, final String service,
-                                                             final Class<T> type )
-        throws ModelException
-    {
-        Objects.requireNonNull( model, "model" );
-        Objects.requireNonNull( service, "service" );
-        Objects.requireNonNull( type, "type" );
+        final CompletableFuture<Collection<? extends ModelProcessor>> processors =
+            contextExecutor.isPresent()
+                ? CompletableFuture.supplyAsync( toProcessors, contextExecutor.get() )
+                : CompletableFuture.supplyAsync( toProcessors );
 
-        final Optional<Services> modelServices = this.getModlets().getServices( model );
-        final Collection<T> serviceObjects =
-            new ArrayList<>( modelServices.isPresent() ? modelServices.get().getService().size() : 0 );
+        final CompletableFuture<Collection<? extends ModelValidator>> validators =
+            contextExecutor.isPresent()
+                ? CompletableFuture.supplyAsync( toValidators, contextExecutor.get() )
+                : CompletableFuture.supplyAsync( toValidators );
 
-        if ( modelServices.isPresent() )
+        try
         {
-            final Collection<ServiceFactory> factories = this.loadModletServices( ServiceFactory.class );
+            final Model m = new Model();
+            m.setIdentifier( model );
 
-            for ( final Service s : modelServices.get().getServices( service ) )
+            final Model found = this.runModelProviders( m, this.createServiceObjects(
+                                                        model, ModelProvider.class.getName(), ModelProvider.class ) );
+
+            final long t1 = System.nanoTime();
+            final Model processed = this.runModelProcessors( found, join( processors ) );
+            final long t2 = System.nanoTime();
+            final ModelValidationReport report = new ModelValidationReport();
+            report.getDetails().addAll( this.runModelValidators( processed, join( validators ), null ) );
+            final long t3 = System.nanoTime();
+
+            if ( this.isLoggable( Level.FINE ) )
             {
-                serviceObjects.add( this.createServiceObject( s, type, factories ) );
+                this.log( Level.FINE, getMessage( "runModelPipelineReport", model, t3 - t0, t1 - t0, t2 - t1,
+                                                  t3 - t2 ), null );
+
             }
-        }
 
-        return Collections.unmodifiableCollection( serviceObjects );
+            return new ModelPipelineResult( processed, report, t1 - t0, t2 - t1, t3 - t2, t3 - t0 );
+        }
+        catch ( final RunModelPipelineFailure f )
+        {
+            f.handleCause( ModelException.class );
+            throw f.unhandledCauseError();
+        }
     }
 
     /**
-     * This method creates a new service object for a given service using a given collection of service factories.
+     * Validates a given {@code Model}.
      *
-     * @param <T> The type of the service.
-     * @param service The service to create a new object of.
-     * @param type The class of the type of the service.
-     * @param factories The service factories to use for creating the new service object.
+     * @param cloned The {@code Model} to validate, not shared with the caller.
+     * @param modelValidators The validators to validate {@code cloned} with.
+     * @param consumer The consumer to pass report details to or {@code null}, to return report details.
      *
-     * @return An new service object for {@code service}.
+     * @return The details of the reports of the validators. Empty, if {@code consumer} is not {@code null}.
      *
-     * @throws NullPointerException if {@code service}, {@code type} or {@code factories} is {@code null}.
-     * @throws ModelException if creating the service object fails.
-     * @since 1.9
+     * @throws ModelException if validating {@code model} fails.
+     *
+     * @since 2.0
      */
-    private <T> T createServiceObject( final Service service, final Class<T> type,
-                                       final Collection<ServiceFactory> factories ) throws ModelException
+    private List<ModelValidationReport.Detail> runModelValidators(
+        final Model cloned, final Collection<? extends ModelValidator> modelValidators,
+        final Consumer<? super ModelValidationReport.Detail> consumer ) throws ModelException
     {
-        Objects.requireNonNull( factories, "factories" );
-        Objects.requireNonNull( type, "type" );
-        Objects.requireNonNull( service, "service" );
-
-        T serviceObject = null;
+        final long t0 = System.nanoTime();
+        final List<ModelValidationReport.Detail> details;
+        final Object consumerLock = new Object();
 
-        for ( final ServiceFactory factory : factories )
+        try ( final Stream<? extends ModelValidator> st0 = modelValidators.parallelStream().unordered() )
         {
-            final Optional<T> current =
-                Objects.requireNonNull( factory.createServiceObject( this, service, type ), factory.toString() );
-
-            if ( current.isPresent() )
+            final class ValidateModelFailure extends RuntimeException
             {
-                if ( this.isLoggable( Level.FINER ) )
-                {
-                    this.log( Level.FINER, getMessage( "creatingService", service.getOrdinal(), service.getIdentifier(),
-                                                       service.getClazz(), factory.toString() ), null );
 
+                ValidateModelFailure( final Throwable cause )
+                {
+                    super( Objects.requireNonNull( cause, "cause" ) );
                 }
 
-                serviceObject = current.get();
-                break;
-            }
-        }
-
-        if ( serviceObject == null )
-        {
-            throw new ModelException( getMessage( "serviceNotCreated", service.getOrdinal(), service.getIdentifier(),
-                                                  service.getClazz() ), null );
-
-        }
-
-        return serviceObject;
-    }
-
-    private <T> Collection<T> loadModletServices( final Class<T> serviceClass ) throws ModelException
-    {
-        try
-        {
-            final String serviceNamePrefix = serviceClass.getName() + ".";
-            final Map<String, T> sortedPlatformServices = new TreeMap<>( ( k1, k2 )  -> k1.compareTo( k2 ) );
-            final File platformServices = new File( this.getPlatformProviderLocation() );
-
-            if ( platformServices.exists() )
-            {
-                if ( this.isLoggable( Level.FINEST ) )
+                <T extends Exception> void handleCause( final Class<T> cause ) throws T
                 {
-                    this.log( Level.FINEST, getMessage( "processing", platformServices.getAbsolutePath() ), null );
+                    if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
+                    {
+                        throw (T) this.getCause();
+                    }
                 }
 
-                final java.util.Properties p = new java.util.Properties();
-
-                try ( final InputStream in = new FileInputStream( platformServices ) )
+                Error unhandledCauseError()
                 {
-                    p.load( in );
+                    return new AssertionError( this.getCause() );
                 }
 
-                try ( final Stream<Map.Entry<Object, Object>> st0 = p.entrySet().parallelStream().unordered() )
+            }
+
+            final Optional<Level> contextFailFastLevel = this.getFailFastLevel();
+            final int contextMaxErrors = this.getMaxErrors();
+            final FailFastCondition failFast = new FailFastCondition( contextFailFastLevel.orElse( null ),
+                                                                      contextMaxErrors );
+
+            final Function<ModelValidator, Optional<ModelValidationReport>> toOptionalModelValidationReport =
+                modelValidator  ->
+            {
+                try
                 {
-                    final class CreateModletServiceObjectFailure extends RuntimeException
+                    if ( failFast.isFailed() )
                     {
+                        return Optional.empty();
+                    }
 
-                        CreateModletServiceObjectFailure( final Throwable cause )
-                        {
-                            super( Objects.requireNonNull( cause, "cause" ) );
-                        }
+                    if ( isLoggable( Level.FINER ) )
+                    {
+                        log( Level.FINER, getMessage( "validatingModel", cloned.getIdentifier(),
+                                                      modelValidator.toString() ), null );
 
-                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
-                        {
-                            if ( Objects.requireNonNull( cause, "cause" ).
-                                isAssignableFrom( this.getCause().getClass() ) )
-                            {
-                                throw (T) this.getCause();
-                            }
-                        }
+                    }
 
-                        Error unhandledCauseError()
+                    final Optional<ModelValidationReport> current =
+                        Objects.requireNonNull( modelValidator.validateModel( DefaultModelContext.this, cloned ),
+                                                modelValidator.toString() );
+
+                    current.ifPresent( r  -> r.getDetails().forEach( failFast::record ) );
+
+                    if ( consumer != null && current.isPresent() )
+                    {
+                        synchronized ( consumerLock )
                         {
-                            return new AssertionError( this.getCause() );
+                            current.get().getDetails().forEach( consumer );
                         }
 
+                        return Optional.empty();
                     }
 
-                    final class CreateModletServiceObjectResult<ST>
-                    {
+                    return current;
+                }
+                catch ( final ModelException e )
+                {
+                    throw new ValidateModelFailure( e );
+                }
+            };
 
-                        String serviceKey;
+            try
+            {
+                details = st0.map( toOptionalModelValidationReport ).
+                    filter( r  -> r.isPresent() ).
+                    flatMap( r  -> r.get().getDetails().stream() ).
+                    collect( Collectors.toList() );
 
-                        ST serviceObject;
+            }
+            catch ( final ValidateModelFailure f )
+            {
+                f.handleCause( ModelException.class );
+                throw f.unhandledCauseError();
+            }
 
-                    }
+            if ( failFast.isFailed() && this.isLoggable( Level.FINE ) )
+            {
+                this.log( Level.FINE, getMessage( "validationStopped", cloned.getIdentifier(),
+                                                  failFast.getCount() ), null );
 
-                    final Function<Map.Entry<Object, Object>, CreateModletServiceObjectResult<T>> toResult = e  ->
-                    {
-                        try
-                        {
-                            final CreateModletServiceObjectResult<T> r = new CreateModletServiceObjectResult<>();
-                            final String configuration = e.getValue().toString();
+            }
+        }
 
-                            if ( isLoggable( Level.FINEST ) )
-                            {
-                                log( Level.FINEST, getMessage( "serviceInfo", platformServices.getAbsolutePath(),
-                                                               serviceClass.getName(), configuration ), null );
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "validateModelReport", cloned.getIdentifier(),
+                                              System.nanoTime() - t0 ), null );
 
-                            }
+        }
 
-                            r.serviceKey = e.getKey().toString();
-                            r.serviceObject = this.createModletServiceObject( serviceClass, configuration );
-                            return r;
-                        }
-                        catch ( final ModelException ex )
-                        {
-                            throw new CreateModletServiceObjectFailure( ex );
-                        }
-                    };
+        return details;
+    }
 
-                    try
-                    {
-                        sortedPlatformServices.putAll(
-                            st0.filter( e  -> e.getKey().toString().startsWith( serviceNamePrefix ) ).
-                                map( toResult ).
-                                collect( Collectors.toMap( r  -> r.serviceKey, r  -> r.serviceObject ) )
-                        );
-                    }
-                    catch ( final CreateModletServiceObjectFailure f )
-                    {
-                        f.handleCause( ModelException.class );
-                        throw f.unhandledCauseError();
-                    }
-                }
-            }
+    /**
+     * {@inheritDoc}
+     *
+     * @see #createSchema(java.lang.String)
+     */
+    @Override
+    public ModelValidationReport validateModel( final String model, final Source source ) throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+        Objects.requireNonNull( source, "source" );
 
-            final Enumeration<URL> classpathServices =
-                this.findResources( this.getProviderLocation() + '/' + serviceClass.getName() );
+        final FailFastCondition failFastCondition =
+            new FailFastCondition( this.getFailFastLevel().orElse( null ), this.getMaxErrors() );
 
-            int count = 0;
-            final long t0 = System.nanoTime();
-            final List<T> sortedClasspathServices = new LinkedList<>();
+        final ModelErrorHandler modelErrorHandler =
+            new ModelErrorHandler( this, new ModelValidationReport(), failFastCondition );
 
-            while ( classpathServices.hasMoreElements() )
+        this.validateSource( model, this.createSchema( model ).newValidator(), source, modelErrorHandler );
+        return modelErrorHandler.getReport();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method passes validation events to {@code consumer} as they are reported by the schema validator.
+     * </p>
+     *
+     * @see #validateModel(java.lang.String, javax.xml.transform.Source)
+     * @since 2.0
+     */
+    @Override
+    public void validateModelStreaming( final String model, final Source source,
+                                        final Consumer<? super ModelValidationReport.Detail> consumer )
+        throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+        Objects.requireNonNull( source, "source" );
+        Objects.requireNonNull( consumer, "consumer" );
+
+        this.validateSource( model, this.createSchema( model ).newValidator(), source, new ModelErrorHandler(
+                             this, consumer, new FailFastCondition( this.getFailFastLevel().orElse( null ),
+                                                                    this.getMaxErrors() ) ) );
+
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method creates the schema of the model identified by {@code model} once and validates the sources using a
+     * pool of validators of that schema. Validators are created on demand, so that at most one validator is created
+     * per concurrently validated source. If an executor is set, the sources are validated by tasks submitted to that
+     * executor. Otherwise the sources are validated using a parallel stream. Each source is validated using its own
+     * fail fast condition.
+     * </p>
+     *
+     * @see #getExecutor()
+     * @see #getFailFastLevel()
+     * @see #getMaxErrors()
+     * @since 2.0
+     */
+    @Override
+    public List<ModelValidationReport> validateModelBatch(
+        final String model, final Collection<? extends Source> sources,
+        final BiConsumer<? super Source, ? super ModelValidationReport> listener ) throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+        final List<Source> batch = new ArrayList<>( Objects.requireNonNull( sources, "sources" ) );
+
+        for ( final Source source : batch )
+        {
+            Objects.requireNonNull( source, "sources" );
+        }
+
+        final long t0 = System.nanoTime();
+        final javax.xml.validation.Schema schema = this.createSchema( model );
+        final Queue<Validator> validators = new ConcurrentLinkedQueue<>();
+        final Level failFastLevel = this.getFailFastLevel().orElse( null );
+        final int maxErrors = this.getMaxErrors();
+        final Object listenerLock = new Object();
+
+        final class ValidateModelBatchFailure extends RuntimeException
+        {
+
+            ValidateModelBatchFailure( final Throwable cause )
             {
-                count++;
-                final URL url = classpathServices.nextElement();
+                super( Objects.requireNonNull( cause, "cause" ) );
+            }
 
-                if ( this.isLoggable( Level.FINEST ) )
+            <T extends Exception> void handleCause( final Class<T> cause ) throws T
+            {
+                if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
                 {
-                    this.log( Level.FINEST, getMessage( "processing", url.toExternalForm() ), null );
+                    throw (T) this.getCause();
                 }
+            }
 
-                try ( final BufferedReader reader = new BufferedReader( new InputStreamReader( url.openStream(),
-                                                                                               "UTF-8" ) );
-                      final Stream<String> st0 = reader.lines().parallel().unordered() )
-                {
-                    final class CreateModletServiceObjectFailure extends RuntimeException
-                    {
+            Error unhandledCauseError()
+            {
+                return new AssertionError( this.getCause() );
+            }
 
-                        CreateModletServiceObjectFailure( final Throwable cause )
-                        {
-                            super( Objects.requireNonNull( cause, "cause" ) );
-                        }
+        }
 
-                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
-                        {
-                            if ( Objects.requireNonNull( cause, "cause" ).
-                                isAssignableFrom( this.getCause().getClass() ) )
-                            {
-                                throw (T) this.getCause();
-                            }
-                        }
+        final Function<Source, ModelValidationReport> toReport = source  ->
+        {
+            try
+            {
+                final Validator pooled = validators.poll();
+                final Validator validator = pooled != null ? pooled : schema.newValidator();
+                final ModelErrorHandler modelErrorHandler =
+                    new ModelErrorHandler( this, new ModelValidationReport(),
+                                           new FailFastCondition( failFastLevel, maxErrors ) );
 
-                        Error unhandledCauseError()
-                        {
-                            return new AssertionError( this.getCause() );
-                        }
+                this.validateSource( model, validator, source, modelErrorHandler );
+                validator.reset();
+                validators.offer( validator );
 
+                if ( listener != null )
+                {
+                    synchronized ( listenerLock )
+                    {
+                        listener.accept( source, modelErrorHandler.getReport() );
                     }
+                }
 
-                    final Function<String, T> toModletServiceObject = line  ->
-                    {
-                        try
-                        {
-                            if ( isLoggable( Level.FINEST ) )
-                            {
-                                log( Level.FINEST, getMessage( "serviceInfo", url.toExternalForm(),
-                                                               serviceClass.getName(), line ), null );
+                return modelErrorHandler.getReport();
+            }
+            catch ( final ModelException e )
+            {
+                throw new ValidateModelBatchFailure( e );
+            }
+        };
 
-                            }
+        try
+        {
+            final List<ModelValidationReport> reports;
+            final Optional<Executor> contextExecutor = this.getExecutor();
 
-                            return createModletServiceObject( serviceClass, line );
-                        }
-                        catch ( final ModelException e )
-                        {
-                            throw new CreateModletServiceObjectFailure( e );
-                        }
-                    };
+            if ( batch.size() < 2 )
+            {
+                reports = batch.stream().map( toReport ).collect( Collectors.toList() );
+            }
+            else if ( contextExecutor.isPresent() )
+            {
+                final List<CompletableFuture<ModelValidationReport>> futures = new ArrayList<>( batch.size() );
 
-                    try
-                    {
-                        sortedClasspathServices.addAll(
-                            st0.filter( l  -> !l.contains( "#" ) ).
-                                map( toModletServiceObject ).
-                                collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
-                                                   {
-                                                       l1.addAll( l2 );
-                                                       return l1;
-                                                   }, Collector.Characteristics.CONCURRENT,
-                                                       Collector.Characteristics.UNORDERED ) )
-                        );
+                for ( final Source source : batch )
+                {
+                    futures.add( CompletableFuture.supplyAsync( () -> toReport.apply( source ),
+                                                                contextExecutor.get() ) );
 
-                        Collections.sort( sortedClasspathServices, ( o1, o2 )  -> ordinalOf( o1 ) - ordinalOf( o2 ) );
-                    }
-                    catch ( final CreateModletServiceObjectFailure f )
-                    {
-                        f.handleCause( ModelException.class );
-                        throw f.unhandledCauseError();
-                    }
+                }
+
+                reports = new ArrayList<>( futures.size() );
+
+                for ( final CompletableFuture<ModelValidationReport> future : futures )
+                {
+                    reports.add( join( future ) );
+                }
+            }
+            else
+            {
+                try ( final Stream<Source> st0 = batch.parallelStream() )
+                {
+                    reports = st0.map( toReport ).collect( Collectors.toList() );
                 }
             }
 
             if ( this.isLoggable( Level.FINE ) )
             {
-                this.log( Level.FINE, getMessage( "contextReport", count,
-                                                  this.getProviderLocation() + '/' + serviceClass.getName(),
+                this.log( Level.FINE, getMessage( "validateModelBatchReport", model, batch.size(),
                                                   System.nanoTime() - t0 ), null );
 
             }
 
-            final List<T> services =
-                new ArrayList<>( sortedPlatformServices.size() + sortedClasspathServices.size() );
-
-            services.addAll( sortedPlatformServices.values() );
-            services.addAll( sortedClasspathServices );
-
-            return services;
+            return Collections.unmodifiableList( reports );
         }
-        catch ( final IOException e )
+        catch ( final ValidateModelBatchFailure f )
         {
-            throw new ModelException( getMessage( e ), e );
+            f.handleCause( ModelException.class );
+            throw f.unhandledCauseError();
         }
     }
 
-    private <T> T createModletServiceObject( final Class<T> serviceClass, final String configuration )
+    /**
+     * Validates a given model using a given validator and error handler.
+     *
+     * @param model The identifier of the {@code Model} to use for validating {@code source}.
+     * @param validator The validator to use for validating {@code source}.
+     * @param source A source providing the model to validate.
+     * @param modelErrorHandler The error handler to report validation events to.
+     *
+     * @throws ModelException if validating the model fails.
+     *
+     * @since 2.0
+     */
+    private void validateSource( final String model, final Validator validator, final Source source,
+                                 final ModelErrorHandler modelErrorHandler )
         throws ModelException
     {
-        String className = configuration;
-        final int i0 = configuration.indexOf( '[' );
-        final int i1 = configuration.lastIndexOf( ']' );
-        final Service service = new Service();
-        service.setIdentifier( serviceClass.getName() );
+        final long t0 = System.nanoTime();
+        validator.setErrorHandler( modelErrorHandler );
 
-        if ( i0 != -1 && i1 != -1 )
+        try
         {
-            className = configuration.substring( 0, i0 );
-            final StringTokenizer propertyTokens =
-                new StringTokenizer( configuration.substring( i0 + 1, i1 ), "," );
-
-            while ( propertyTokens.hasMoreTokens() )
+            validator.validate( source );
+        }
+        catch ( final SAXException e )
+        {
+            if ( modelErrorHandler.getFailFastCondition().isFailed() )
             {
-                final String property = propertyTokens.nextToken();
-                final int d0 = property.indexOf( '=' );
+                if ( this.isLoggable( Level.FINE ) )
+                {
+                    this.log( Level.FINE, getMessage( "validationStopped", model,
+                                                      modelErrorHandler.getFailFastCondition().getCount() ), null );
 
-                String propertyName = property;
-                String propertyValue = null;
+                }
 
-                if ( d0 != -1 )
+                return;
+            }
+
+            String message = getMessage( e );
+            if ( message == null && e.getException() != null )
+            {
+                message = getMessage( e.getException() );
+            }
+
+            if ( this.isLoggable( Level.FINE ) )
+            {
+                this.log( Level.FINE, message, e );
+            }
+
+            if ( modelErrorHandler.isModelValid() )
+            {
+                throw new ModelException( message, e );
+            }
+        }
+        catch ( final IOException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "validateModelReport", model, System.nanoTime() - t0 ), null );
+        }
+    }
+
+    @Override
+    public EntityResolver createEntityResolver( final String model ) throws ModelException
+    {
+        final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
+        return new DefaultHandler()
+        {
+
+            @Override
+            public InputSource resolveEntity( final String publicId, final String systemId )
+                throws SAXException, IOException
+            {
+                InputSource schemaSource = null;
+
+                try
                 {
-                    propertyName = property.substring( 0, d0 );
-                    propertyValue = property.substring( d0 + 1, property.length() );
+                    Optional<Schema> s = Optional.empty();
+
+                    if ( schemas.isPresent() )
+                    {
+                        if ( systemId != null && !"".equals( systemId ) )
+                        {
+                            s = schemas.get().getSchemaBySystemId( systemId );
+                        }
+                        else if ( publicId != null )
+                        {
+                            s = schemas.get().getSchemaByPublicId( publicId );
+                        }
+                    }
+
+                    if ( s.isPresent() )
+                    {
+                        schemaSource = new InputSource();
+                        schemaSource.setPublicId( s.get().getPublicId() );
+                        schemaSource.setSystemId( s.get().getSystemId() );
+
+                        if ( s.get().getClasspathId() != null )
+                        {
+                            final Optional<URL> resource = findResource( s.get().getClasspathId() );
+
+                            if ( resource.isPresent() )
+                            {
+                                schemaSource.setSystemId( resource.get().toExternalForm() );
+                            }
+                            else if ( isLoggable( Level.WARNING ) )
+                            {
+                                log( Level.WARNING, getMessage( "resourceNotFound", s.get().getClasspathId() ), null );
+                            }
+                        }
+
+                        if ( isLoggable( Level.FINEST ) )
+                        {
+                            log( Level.FINEST, getMessage( "resolutionInfo", publicId + ", " + systemId,
+                                                           schemaSource.getPublicId() + ", "
+                                                               + schemaSource.getSystemId() ), null );
+
+                        }
+                    }
+
+                    if ( schemaSource == null && systemId != null && !"".equals( systemId ) )
+                    {
+                        final URI systemUri = new URI( systemId );
+                        String schemaName = systemUri.getPath();
+
+                        if ( schemaName != null )
+                        {
+                            final int lastIndexOfSlash = schemaName.lastIndexOf( '/' );
+                            if ( lastIndexOfSlash != -1 && lastIndexOfSlash < schemaName.length() )
+                            {
+                                schemaName = schemaName.substring( lastIndexOfSlash + 1 );
+                            }
+
+                            try ( final Stream<URI> st0 = getSchemaResources().parallelStream().unordered() )
+                            {
+                                final String n = schemaName;
+                                final Optional<InputSource> candidate =
+                                    st0.filter( uri  -> uri.getSchemeSpecificPart() != null
+                                                             && uri.getSchemeSpecificPart().endsWith( n ) ).
+                                        map( uri  ->
+                                        {
+                                            final InputSource source = new InputSource();
+                                            source.setPublicId( publicId );
+                                            source.setSystemId( uri.toASCIIString() );
+
+                                            if ( isLoggable( Level.FINEST ) )
+                                            {
+                                                log( Level.FINEST, getMessage( "resolutionInfo", systemUri.
+                                                                               toASCIIString(),
+                                                                               source.getSystemId() ), null );
+
+                                            }
+
+                                            return source;
+                                        } ).findFirst();
+
+                                schemaSource = candidate.orElse( null );
+                            }
+                        }
+                        else
+                        {
+                            if ( isLoggable( Level.WARNING ) )
+                            {
+                                log( Level.WARNING, getMessage( "unsupportedIdUri", systemId,
+                                                                systemUri.toASCIIString() ), null );
+
+                            }
+
+                            schemaSource = null;
+                        }
+                    }
                 }
+                catch ( final URISyntaxException e )
+                {
+                    if ( isLoggable( Level.WARNING ) )
+                    {
+                        log( Level.WARNING, getMessage( "unsupportedIdUri", systemId, getMessage( e ) ), null );
+                    }
 
-                final Property p = new Property();
-                service.getProperty().add( p );
+                    schemaSource = null;
+                }
+                catch ( final ModelException e )
+                {
+                    String message = getMessage( e );
+                    if ( message == null )
+                    {
+                        message = "";
+                    }
+                    else if ( message.length() > 0 )
+                    {
+                        message = " " + message;
+                    }
 
-                p.setName( propertyName );
-                p.setValue( propertyValue );
+                    String resource = "";
+                    if ( publicId != null )
+                    {
+                        resource = publicId + ", ";
+                    }
+                    resource += systemId;
+
+                    throw new IOException( getMessage( "failedResolving", resource, message ), e );
+                }
+
+                return schemaSource;
             }
+
+        };
+    }
+
+    @Override
+    public LSResourceResolver createResourceResolver( final String model ) throws ModelException
+    {
+        final EntityResolver entityResolver = this.createEntityResolver( Objects.requireNonNull( model, "model" ) );
+        return ( type, namespaceURI, publicId, systemId, baseURI )  ->
+        {
+            final String resolvePublicId = namespaceURI == null ? publicId : namespaceURI;
+            final String resolveSystemId = systemId == null ? "" : systemId;
+
+            try
+            {
+                if ( XMLConstants.W3C_XML_SCHEMA_NS_URI.equals( type ) )
+                {
+                    final InputSource schemaSource =
+                        entityResolver.resolveEntity( resolvePublicId, resolveSystemId );
+
+                    if ( schemaSource != null )
+                    {
+                        return new LSInput()
+                        {
+
+                            @Override
+                            public Reader getCharacterStream()
+                            {
+                                return schemaSource.getCharacterStream();
+                            }
+
+                            @Override
+                            public void setCharacterStream( final Reader characterStream )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setCharacterStream",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                            @Override
+                            public InputStream getByteStream()
+                            {
+                                return schemaSource.getByteStream();
+                            }
+
+                            @Override
+                            public void setByteStream( final InputStream byteStream )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setByteStream",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                            @Override
+                            public String getStringData()
+                            {
+                                return null;
+                            }
+
+                            @Override
+                            public void setStringData( final String stringData )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setStringData",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                            @Override
+                            public String getSystemId()
+                            {
+                                return schemaSource.getSystemId();
+                            }
+
+                            @Override
+                            public void setSystemId( final String systemId )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setSystemId",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                            @Override
+                            public String getPublicId()
+                            {
+                                return schemaSource.getPublicId();
+                            }
+
+                            @Override
+                            public void setPublicId( final String publicId )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setPublicId",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                            @Override
+                            public String getBaseURI()
+                            {
+                                return baseURI;
+                            }
+
+                            @Override
+                            public void setBaseURI( final String baseURI )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setBaseURI",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                            @Override
+                            public String getEncoding()
+                            {
+                                return schemaSource.getEncoding();
+                            }
+
+                            @Override
+                            public void setEncoding( final String encoding )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setEncoding",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                            @Override
+                            public boolean getCertifiedText()
+                            {
+                                return false;
+                            }
+
+                            @Override
+                            public void setCertifiedText( final boolean certifiedText )
+                            {
+                                if ( isLoggable( Level.WARNING ) )
+                                {
+                                    log( Level.WARNING, getMessage(
+                                         "unsupportedOperation", "setCertifiedText",
+                                         DefaultModelContext.class.getName() + ".LSResourceResolver" ), null );
+
+                                }
+                            }
+
+                        };
+                    }
+
+                }
+                else if ( isLoggable( Level.WARNING ) )
+                {
+                    log( Level.WARNING, getMessage( "unsupportedResourceType", type ), null );
+                }
+            }
+            catch ( final SAXException e )
+            {
+                String message = getMessage( e );
+                if ( message == null && e.getException() != null )
+                {
+                    message = getMessage( e.getException() );
+                }
+                if ( message == null )
+                {
+                    message = "";
+                }
+                else if ( message.length() > 0 )
+                {
+                    message = " " + message;
+                }
+
+                String resource = "";
+                if ( resolvePublicId != null )
+                {
+                    resource = resolvePublicId + ", ";
+                }
+                resource += resolveSystemId;
+
+                if ( isLoggable( Level.SEVERE ) )
+                {
+                    log( Level.SEVERE, getMessage( "failedResolving", resource, message ), e );
+                }
+            }
+            catch ( final IOException e )
+            {
+                String message = getMessage( e );
+                if ( message == null )
+                {
+                    message = "";
+                }
+                else if ( message.length() > 0 )
+                {
+                    message = " " + message;
+                }
+
+                String resource = "";
+                if ( resolvePublicId != null )
+                {
+                    resource = resolvePublicId + ", ";
+                }
+                resource += resolveSystemId;
+
+                if ( isLoggable( Level.SEVERE ) )
+                {
+                    log( Level.SEVERE, getMessage( "failedResolving", resource, message ), e );
+                }
+            }
+
+            return null;
+        };
+    }
+
+    @Override
+    public javax.xml.validation.Schema createSchema( final String model ) throws ModelException
+    {
+        try
+        {
+            final long t0 = System.nanoTime();
+            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
+            final EntityResolver entityResolver = this.createEntityResolver( model );
+            final SchemaFactory schemaFactory = SchemaFactory.newInstance( XMLConstants.W3C_XML_SCHEMA_NS_URI );
+            final List<Source> sources = new ArrayList<>( schemas.isPresent() ? schemas.get().getSchema().size() : 0 );
+
+            if ( schemas.isPresent() )
+            {
+                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
+                {
+                    final class ResolveEntityFailure extends RuntimeException
+                    {
+
+                        ResolveEntityFailure( final Throwable cause )
+                        {
+                            super( Objects.requireNonNull( cause, "cause" ) );
+                        }
+
+                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
+                        {
+                            if ( Objects.requireNonNull( cause, "cause" ).
+                                isAssignableFrom( this.getCause().getClass() ) )
+                            {
+                                throw (T) this.getCause();
+                            }
+                        }
+
+                        Error unhandledCauseError()
+                        {
+                            return new AssertionError( this.getCause() );
+                        }
+
+                    }
+
+                    try
+                    {
+                        sources.addAll( st0.map( s  ->
+                        {
+                            try
+                            {
+                                return new SAXSource( entityResolver.resolveEntity( s.getPublicId(),
+                                                                                    s.getSystemId() ) );
+
+                            }
+                            catch ( final SAXException | IOException e )
+                            {
+                                throw new ResolveEntityFailure( e );
+                            }
+                        } ).collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
+                                               {
+                                                   l1.addAll( l2 );
+                                                   return l1;
+                                               }, Collector.Characteristics.CONCURRENT,
+                                                   Collector.Characteristics.UNORDERED ) ) );
+
+                    }
+                    catch ( final ResolveEntityFailure f )
+                    {
+                        f.handleCause( IOException.class );
+                        f.handleCause( SAXException.class );
+                        throw f.unhandledCauseError();
+                    }
+                }
+            }
+
+            if ( sources.isEmpty() )
+            {
+                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+            }
+
+            schemaFactory.setResourceResolver( this.createResourceResolver( model ) );
+            schemaFactory.setErrorHandler( new ErrorHandler()
+            {
+                // See http://java.net/jira/browse/JAXP-66
+
+                @Override
+                public void warning( final SAXParseException e ) throws SAXException
+                {
+                    String message = getMessage( e );
+                    if ( message == null && e.getException() != null )
+                    {
+                        message = getMessage( e.getException() );
+                    }
+
+                    if ( isLoggable( Level.WARNING ) )
+                    {
+                        log( Level.WARNING, message, e );
+                    }
+                }
+
+                @Override
+                public void error( final SAXParseException e ) throws SAXException
+                {
+                    throw e;
+                }
+
+                @Override
+                public void fatalError( final SAXParseException e ) throws SAXException
+                {
+                    throw e;
+                }
+
+            } );
+
+            final javax.xml.validation.Schema schema =
+                schemaFactory.newSchema( sources.toArray( new Source[ sources.size() ] ) );
+
+            if ( this.isLoggable( Level.FINE ) )
+            {
+                try ( final Stream<Source> st0 = sources.parallelStream().unordered() )
+                {
+                    this.log( Level.FINE, getMessage( "creatingSchema", st0.map( s  -> s.getSystemId() ).
+                                                      collect( Collectors.joining( ", " ) ),
+                                                      System.nanoTime() - t0 ), null );
+
+                }
+            }
+
+            return schema;
+        }
+        catch ( final IOException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+        catch ( final SAXException e )
+        {
+            String message = getMessage( e );
+            if ( message == null && e.getException() != null )
+            {
+                message = getMessage( e.getException() );
+            }
+
+            throw new ModelException( message, e );
+        }
+    }
+
+    @Override
+    public JAXBContext createContext( final String model ) throws ModelException
+    {
+        try
+        {
+            String packageNames = null;
+            final long t0 = System.nanoTime();
+            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
+
+            if ( schemas.isPresent() )
+            {
+                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
+                {
+                    packageNames = st0.filter( s  -> s.getContextId() != null ).
+                        map( s  -> s.getContextId() ).
+                        collect( Collectors.joining( ":" ) );
+
+                }
+            }
+
+            if ( packageNames == null || packageNames.length() == 0 )
+            {
+                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+            }
+
+            final JAXBContext context = JAXBContext.newInstance( packageNames, this.getClassLoader() );
+
+            if ( this.isLoggable( Level.FINE ) )
+            {
+                this.log( Level.FINE, getMessage( "creatingContext", packageNames, System.nanoTime() - t0 ), null );
+            }
+
+            return context;
+        }
+        catch ( final JAXBException e )
+        {
+            String message = getMessage( e );
+            if ( message == null && e.getLinkedException() != null )
+            {
+                message = getMessage( e.getLinkedException() );
+            }
+
+            throw new ModelException( message, e );
+        }
+    }
+
+    @Override
+    public Marshaller createMarshaller( final String model ) throws ModelException
+    {
+        try
+        {
+            String packageNames = null;
+            String schemaLocation = null;
+            final long t0 = System.nanoTime();
+            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
+
+            if ( schemas.isPresent() )
+            {
+                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
+                {
+                    packageNames = st0.filter( s  -> s.getContextId() != null ).
+                        map( s  -> s.getContextId() ).collect( Collectors.joining( ":" ) );
+
+                }
+
+                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
+                {
+                    schemaLocation = st0.filter( s  -> s.getPublicId() != null && s.getSystemId() != null ).
+                        map( s  -> new StringBuilder( s.getPublicId() ).append( ' ' ).
+                            append( s.getSystemId() ).toString() ).
+                        collect( Collectors.joining( " " ) );
+
+                }
+            }
+
+            if ( packageNames == null || packageNames.length() == 0 )
+            {
+                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+            }
+
+            final Marshaller m = JAXBContext.newInstance( packageNames, this.getClassLoader() ).createMarshaller();
+
+            if ( schemaLocation != null && schemaLocation.length() != 0 )
+            {
+                m.setProperty( Marshaller.JAXB_SCHEMA_LOCATION, schemaLocation );
+            }
+
+            final Collection<? extends Marshaller.Listener> listeners =
+                this.createServiceObjects( model, MARSHALLER_LISTENER_SERVICE, Marshaller.Listener.class );
+
+            MarshallerListenerList listenerList = null;
+
+            if ( !listeners.isEmpty() )
+            {
+                listenerList = new MarshallerListenerList();
+                listenerList.getListeners().addAll( listeners );
+                m.setListener( listenerList );
+            }
+
+            if ( this.isLoggable( Level.FINE ) )
+            {
+                if ( listenerList == null )
+                {
+                    this.log( Level.FINE, getMessage( "creatingMarshaller", packageNames, schemaLocation,
+                                                      System.nanoTime() - t0 ), null );
+
+                }
+                else
+                {
+                    try ( final Stream<Marshaller.Listener> st0 =
+                        listenerList.getListeners().parallelStream().unordered() )
+                    {
+                        final String list = st0.map( l  -> l.toString() ).collect( Collectors.joining( "," ) );
+                        this.log( Level.FINE, getMessage( "creatingMarshallerWithListeners", packageNames,
+                                                          schemaLocation, list, System.nanoTime() - t0 ), null );
+
+                    }
+                }
+            }
+
+            return m;
+        }
+        catch ( final JAXBException e )
+        {
+            String message = getMessage( e );
+            if ( message == null && e.getLinkedException() != null )
+            {
+                message = getMessage( e.getLinkedException() );
+            }
+
+            throw new ModelException( message, e );
+        }
+    }
+
+    @Override
+    public Unmarshaller createUnmarshaller( final String model ) throws ModelException
+    {
+        try
+        {
+            String packageNames = null;
+            final long t0 = System.nanoTime();
+            final Optional<Schemas> schemas = this.getModlets().getSchemas( Objects.requireNonNull( model, "model" ) );
+
+            if ( schemas.isPresent() )
+            {
+                try ( final Stream<Schema> st0 = schemas.get().getSchema().parallelStream().unordered() )
+                {
+                    packageNames = st0.filter( s  -> s.getContextId() != null ).
+                        map( s  -> s.getContextId() ).collect( Collectors.joining( ":" ) );
+
+                }
+            }
+
+            if ( packageNames == null || packageNames.length() == 0 )
+            {
+                throw new ModelException( getMessage( "missingSchemasForModel", model ) );
+            }
+
+            final Unmarshaller u = JAXBContext.newInstance( packageNames, this.getClassLoader() ).createUnmarshaller();
+
+            UnmarshallerListenerList listenerList = null;
+
+            final Collection<? extends Unmarshaller.Listener> listeners =
+                this.createServiceObjects( model, UNMARSHALLER_LISTENER_SERVICE, Unmarshaller.Listener.class );
+
+            if ( !listeners.isEmpty() )
+            {
+                listenerList = new UnmarshallerListenerList();
+                listenerList.getListeners().addAll( listeners );
+                u.setListener( listenerList );
+            }
+
+            if ( this.isLoggable( Level.FINE ) )
+            {
+                if ( listenerList == null )
+                {
+                    this.log( Level.FINE, getMessage( "creatingUnmarshaller", packageNames.substring( 1 ),
+                                                      System.nanoTime() - t0 ), null );
+
+                }
+                else
+                {
+                    try ( final Stream<Unmarshaller.Listener> st0 =
+                        listenerList.getListeners().parallelStream().unordered() )
+                    {
+                        final String list = st0.map( l  -> l.toString() ).collect( Collectors.joining( "," ) );
+                        this.log( Level.FINE, getMessage( "creatingUnmarshallerWithListeners",
+                                                          packageNames, list, System.nanoTime() - t0 ), null );
+
+                    }
+                }
+            }
+
+            return u;
+        }
+        catch ( final JAXBException e )
+        {
+            String message = getMessage( e );
+            if ( message == null && e.getLinkedException() != null )
+            {
+                message = getMessage( e.getLinkedException() );
+            }
+
+            throw new ModelException( message, e );
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * This method loads {@code ServiceFactory} classes setup via the platform provider configuration file and
+     * {@code <provider-location>/org.jomc.modlet.ServiceFactory} resources to create new service objects.
+     * </p>
+     *
+     * @since 1.9
+     */
+    @Override
+    public <T> Collection<? extends T> createServiceObjects( final String model, final String service,
+                                                             final Class<T> type )
+        throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+        Objects.requireNonNull( service, "service" );
+        Objects.requireNonNull( type, "type" );
+
+        final Optional<Services> modelServices = this.getModlets().getServices( model );
+        final Collection<T> serviceObjects =
+            new ArrayList<>( modelServices.isPresent() ? modelServices.get().getService().size() : 0 );
+
+        if ( modelServices.isPresent() )
+        {
+            final Collection<ServiceFactory> factories = this.loadModletServices( ServiceFactory.class );
+
+            for ( final Service s : modelServices.get().getServices( service ) )
+            {
+                serviceObjects.add( this.createServiceObject( s, type, factories ) );
+            }
+        }
+
+        return Collections.unmodifiableCollection( serviceObjects );
+    }
+
+    /**
+     * This method creates a new service object for a given service using a given collection of service factories.
+     *
+     * @param <T> The type of the service.
+     * @param service The service to create a new object of.
+     * @param type The class of the type of the service.
+     * @param factories The service factories to use for creating the new service object.
+     *
+     * @return An new service object for {@code service}.
+     *
+     * @throws NullPointerException if {@code service}, {@code type} or {@code factories} is {@code null}.
+     * @throws ModelException if creating the service object fails.
+     * @since 1.9
+     */
+    private <T> T createServiceObject( final Service service, final Class<T> type,
+                                       final Collection<ServiceFactory> factories ) throws ModelException
+    {
+        Objects.requireNonNull( factories, "factories" );
+        Objects.requireNonNull( type, "type" );
+        Objects.requireNonNull( service, "service" );
+
+        T serviceObject = null;
+
+        for ( final ServiceFactory factory : factories )
+        {
+            final Optional<T> current =
+                Objects.requireNonNull( factory.createServiceObject( this, service, type ), factory.toString() );
+
+            if ( current.isPresent() )
+            {
+                if ( this.isLoggable( Level.FINER ) )
+                {
+                    this.log( Level.FINER, getMessage( "creatingService", service.getOrdinal(), service.getIdentifier(),
+                                                       service.getClazz(), factory.toString() ), null );
+
+                }
+
+                serviceObject = current.get();
+                break;
+            }
+        }
+
+        if ( serviceObject == null )
+        {
+            throw new ModelException( getMessage( "serviceNotCreated", service.getOrdinal(), service.getIdentifier(),
+                                                  service.getClazz() ), null );
+
+        }
+
+        return serviceObject;
+    }
+
+    private <T> Collection<T> loadModletServices( final Class<T> serviceClass ) throws ModelException
+    {
+        try
+        {
+            final String serviceNamePrefix = serviceClass.getName() + ".";
+            final Map<String, T> sortedPlatformServices = new TreeMap<>( ( k1, k2 )  -> k1.compareTo( k2 ) );
+            final File platformServices = new File( this.getPlatformProviderLocation() );
+
+            if ( platformServices.exists() )
+            {
+                if ( this.isLoggable( Level.FINEST ) )
+                {
+                    this.log( Level.FINEST, getMessage( "processing", platformServices.getAbsolutePath() ), null );
+                }
+
+                final java.util.Properties p = new java.util.Properties();
+
+                try ( final InputStream in = new FileInputStream( platformServices ) )
+                {
+                    p.load( in );
+                }
+
+                try ( final Stream<Map.Entry<Object, Object>> st0 = p.entrySet().parallelStream().unordered() )
+                {
+                    final class CreateModletServiceObjectFailure extends RuntimeException
+                    {
+
+                        CreateModletServiceObjectFailure( final Throwable cause )
+                        {
+                            super( Objects.requireNonNull( cause, "cause" ) );
+                        }
+
+                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
+                        {
+                            if ( Objects.requireNonNull( cause, "cause" ).
+                                isAssignableFrom( this.getCause().getClass() ) )
+                            {
+                                throw (T) this.getCause();
+                            }
+                        }
+
+                        Error unhandledCauseError()
+                        {
+                            return new AssertionError( this.getCause() );
+                        }
+
+                    }
+
+                    final class CreateModletServiceObjectResult<ST>
+                    {
+
+                        String serviceKey;
+
+                        ST serviceObject;
+
+                    }
+
+                    final Function<Map.Entry<Object, Object>, CreateModletServiceObjectResult<T>> toResult = e  ->
+                    {
+                        try
+                        {
+                            final CreateModletServiceObjectResult<T> r = new CreateModletServiceObjectResult<>();
+                            final String configuration = e.getValue().toString();
+
+                            if ( isLoggable( Level.FINEST ) )
+                            {
+                                log( Level.FINEST, getMessage( "serviceInfo", platformServices.getAbsolutePath(),
+                                                               serviceClass.getName(), configuration ), null );
+
+                            }
+
+                            r.serviceKey = e.getKey().toString();
+                            r.serviceObject = this.createModletServiceObject( serviceClass, configuration );
+                            return r;
+                        }
+                        catch ( final ModelException ex )
+                        {
+                            throw new CreateModletServiceObjectFailure( ex );
+                        }
+                    };
+
+                    try
+                    {
+                        sortedPlatformServices.putAll(
+                            st0.filter( e  -> e.getKey().toString().startsWith( serviceNamePrefix ) ).
+                                map( toResult ).
+                                collect( Collectors.toMap( r  -> r.serviceKey, r  -> r.serviceObject ) )
+                        );
+                    }
+                    catch ( final CreateModletServiceObjectFailure f )
+                    {
+                        f.handleCause( ModelException.class );
+                        throw f.unhandledCauseError();
+                    }
+                }
+            }
+
+            final Enumeration<URL> classpathServices =
+                this.findResources( this.getProviderLocation() + '/' + serviceClass.getName() );
+
+            int count = 0;
+            final long t0 = System.nanoTime();
+            final List<T> sortedClasspathServices = new LinkedList<>();
+
+            while ( classpathServices.hasMoreElements() )
+            {
+                count++;
+                final URL url = classpathServices.nextElement();
+
+                if ( this.isLoggable( Level.FINEST ) )
+                {
+                    this.log( Level.FINEST, getMessage( "processing", url.toExternalForm() ), null );
+                }
+
+                try ( final BufferedReader reader = new BufferedReader( new InputStreamReader( url.openStream(),
+                                                                                               "UTF-8" ) );
+                      final Stream<String> st0 = reader.lines().parallel().unordered() )
+                {
+                    final class CreateModletServiceObjectFailure extends RuntimeException
+                    {
+
+                        CreateModletServiceObjectFailure( final Throwable cause )
+                        {
+                            super( Objects.requireNonNull( cause, "cause" ) );
+                        }
+
+                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
+                        {
+                            if ( Objects.requireNonNull( cause, "cause" ).
+                                isAssignableFrom( this.getCause().getClass() ) )
+                            {
+                                throw (T) this.getCause();
+                            }
+                        }
+
+                        Error unhandledCauseError()
+                        {
+                            return new AssertionError( this.getCause() );
+                        }
+
+                    }
+
+                    final Function<String, T> toModletServiceObject = line  ->
+                    {
+                        try
+                        {
+                            if ( isLoggable( Level.FINEST ) )
+                            {
+                                log( Level.FINEST, getMessage( "serviceInfo", url.toExternalForm(),
+                                                               serviceClass.getName(), line ), null );
+
+                            }
+
+                            return createModletServiceObject( serviceClass, line );
+                        }
+                        catch ( final ModelException e )
+                        {
+                            throw new CreateModletServiceObjectFailure( e );
+                        }
+                    };
+
+                    try
+                    {
+                        sortedClasspathServices.addAll(
+                            st0.filter( l  -> !l.contains( "#" ) ).
+                                map( toModletServiceObject ).
+                                collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
+                                                   {
+                                                       l1.addAll( l2 );
+                                                       return l1;
+                                                   }, Collector.Characteristics.CONCURRENT,
+                                                       Collector.Characteristics.UNORDERED ) )
+                        );
+
+                        Collections.sort( sortedClasspathServices, ( o1, o2 )  -> ordinalOf( o1 ) - ordinalOf( o2 ) );
+                    }
+                    catch ( final CreateModletServiceObjectFailure f )
+                    {
+                        f.handleCause( ModelException.class );
+                        throw f.unhandledCauseError();
+                    }
+                }
+            }
+
+            if ( this.isLoggable( Level.FINE ) )
+            {
+                this.log( Level.FINE, getMessage( "contextReport", count,
+                                                  this.getProviderLocation() + '/' + serviceClass.getName(),
+                                                  System.nanoTime() - t0 ), null );
+
+            }
+
+            final List<T> services =
+                new ArrayList<>( sortedPlatformServices.size() + sortedClasspathServices.size() );
+
+            services.addAll( sortedPlatformServices.values() );
+            services.addAll( sortedClasspathServices );
+
+            return services;
+        }
+        catch ( final IOException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+    }
+
+    private <T> T createModletServiceObject( final Class<T> serviceClass, final String configuration )
+        throws ModelException
+    {
+        String className = configuration;
+        final int i0 = configuration.indexOf( '[' );
+        final int i1 = configuration.lastIndexOf( ']' );
+        final Service service = new Service();
+        service.setIdentifier( serviceClass.getName() );
+
+        if ( i0 != -1 && i1 != -1 )
+        {
+            className = configuration.substring( 0, i0 );
+            final StringTokenizer propertyTokens =
+                new StringTokenizer( configuration.substring( i0 + 1, i1 ), "," );
+
+            while ( propertyTokens.hasMoreTokens() )
+            {
+                final String property = propertyTokens.nextToken();
+                final int d0 = property.indexOf( '=' );
+
+                String propertyName = property;
+                String propertyValue = null;
+
+                if ( d0 != -1 )
+                {
+                    propertyName = property.substring( 0, d0 );
+                    propertyValue = property.substring( d0 + 1, property.length() );
+                }
+
+                final Property p = new Property();
+                service.getProperty().add( p );
+
+                p.setName( propertyName );
+                p.setValue( propertyValue );
+            }
+        }
+
+        service.setClazz( className );
+
+        // Need a way to exchange the service factory creating modlet service objects?
+        final DefaultServiceFactory defaultServiceFactory = new DefaultServiceFactory();
+        defaultServiceFactory.setEnabled( true );
+
+        return defaultServiceFactory.createServiceObject( this, service, serviceClass ).get();
+    }
+
+    /**
+     * Searches the context for {@code META-INF/MANIFEST.MF} resources and returns a set of URIs of entries whose names
+     * end with a known schema extension.
+     *
+     * @return Set of URIs of any matching entries.
+     *
+     * @throws IOException if reading fails.
+     * @throws URISyntaxException if parsing fails.
+     * @throws ModelException if searching the context fails.
+     */
+    private Set<URI> getSchemaResources() throws IOException, URISyntaxException, ModelException
+    {
+        final Set<URI> resources = new HashSet<>();
+        final long t0 = System.nanoTime();
+        int count = 0;
+
+        for ( final Enumeration<URL> e = this.findResources( "META-INF/MANIFEST.MF" ); e.hasMoreElements(); )
+        {
+            count++;
+            final URL manifestUrl = e.nextElement();
+            final String externalForm = manifestUrl.toExternalForm();
+            final String baseUrl = externalForm.substring( 0, externalForm.indexOf( "META-INF" ) );
+
+            try ( final InputStream manifestStream = manifestUrl.openStream() )
+            {
+                final Manifest mf = new Manifest( manifestStream );
+
+                if ( this.isLoggable( Level.FINEST ) )
+                {
+                    this.log( Level.FINEST, getMessage( "processing", externalForm ), null );
+                }
+
+                try ( final Stream<Map.Entry<String, Attributes>> st0 =
+                    mf.getEntries().entrySet().parallelStream().unordered() )
+                {
+                    final class CreateUriFailure extends RuntimeException
+                    {
+
+                        CreateUriFailure( final Throwable cause )
+                        {
+                            super( Objects.requireNonNull( cause, "cause" ) );
+                        }
+
+                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
+                        {
+                            if ( Objects.requireNonNull( cause, "cause" ).
+                                isAssignableFrom( this.getCause().getClass() ) )
+                            {
+                                throw (T) this.getCause();
+                            }
+                        }
+
+                        Error unhandledCauseError()
+                        {
+                            return new AssertionError( this.getCause() );
+                        }
+
+                    }
+
+                    final Function<String, String> parallelToLowerCase = ( s  ->
+                    {
+                        final char[] chars = s.toCharArray();
+
+                        try ( final IntStream st1 = IntStream.range( 0, chars.length ).parallel().unordered() )
+                        {
+                            st1.forEach( idx  ->
+                            {
+                                chars[idx] = Character.toLowerCase( chars[idx] );
+                            } );
+                        }
+
+                        return String.valueOf( chars );
+                    } );
+
+                    final Predicate<Map.Entry<String, Attributes>> schemaExtension = entry  ->
+                    {
+                        try ( final Stream<String> st1 =
+                            Arrays.asList( SCHEMA_EXTENSIONS ).parallelStream().unordered() )
+                        {
+                            final boolean found = st1.filter( ext  -> parallelToLowerCase.apply( entry.getKey() ).
+                                endsWith( '.' + parallelToLowerCase.apply( ext ) ) ).findAny().isPresent();
+
+                            if ( found && isLoggable( Level.FINEST ) )
+                            {
+                                log( Level.FINEST, getMessage( "foundSchemaCandidate", entry.getKey() ), null );
+                            }
+
+                            return found;
+                        }
+                    };
+
+                    final Function<Map.Entry<String, Attributes>, URI> toUri = entry  ->
+                    {
+                        try
+                        {
+                            return new URL( baseUrl + entry.getKey() ).toURI();
+                        }
+                        catch ( final MalformedURLException | URISyntaxException ex )
+                        {
+                            throw new CreateUriFailure( ex );
+                        }
+                    };
+
+                    try
+                    {
+                        resources.addAll(
+                            st0.filter( schemaExtension ).
+                                map( toUri ).
+                                collect( Collector.of( CopyOnWriteArraySet::new, Set::add, ( s1, s2 )  ->
+                                                   {
+                                                       s1.addAll( s2 );
+                                                       return s2;
+                                                   }, Collector.Characteristics.CONCURRENT,
+                                                       Collector.Characteristics.UNORDERED ) )
+                        );
+                    }
+                    catch ( final CreateUriFailure f )
+                    {
+                        f.handleCause( MalformedURLException.class );
+                        f.handleCause( URISyntaxException.class );
+                        throw f.unhandledCauseError();
+                    }
+                }
+            }
+        }
+
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "contextReport", count, "META-INF/MANIFEST.MF", System.nanoTime() - t0 ),
+                      null );
+
+        }
+
+        return resources;
+    }
+
+    private static int ordinalOf( final Object serviceObject )
+    {
+        int ordinal = 0;
+
+        if ( serviceObject instanceof ModletProvider )
+        {
+            ordinal = ( (ModletProvider) serviceObject ).getOrdinal();
+        }
+        if ( serviceObject instanceof ModletProcessor )
+        {
+            ordinal = ( (ModletProcessor) serviceObject ).getOrdinal();
+        }
+        if ( serviceObject instanceof ModletValidator )
+        {
+            ordinal = ( (ModletValidator) serviceObject ).getOrdinal();
+        }
+        if ( serviceObject instanceof ServiceFactory )
+        {
+            ordinal = ( (ServiceFactory) serviceObject ).getOrdinal();
+        }
+
+        return ordinal;
+    }
+
+    /**
+     * Copies a given list of modlets.
+     *
+     * @param modlets The list of modlets to copy.
+     *
+     * @return A deep copy of {@code modlets} or, if sharing modlets, a copy of {@code modlets} sharing its modlets.
+     *
+     * @see #isShareModlets()
+     * @since 2.0
+     */
+    private Modlets copyModlets( final Modlets modlets )
+    {
+        return this.isShareModlets() ? modlets.shallowCopy() : modlets.clone();
+    }
+
+    private static <T> T join( final CompletableFuture<T> future )
+    {
+        try
+        {
+            return future.join();
+        }
+        catch ( final CompletionException e )
+        {
+            if ( e.getCause() instanceof RuntimeException )
+            {
+                throw (RuntimeException) e.getCause();
+            }
+            if ( e.getCause() instanceof Error )
+            {
+                throw (Error) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    private static String getMessage( final String key, final Object... arguments )
+    {
+        return MessageFormat.format( ResourceBundle.getBundle(
+            DefaultModelContext.class.getName().replace( '.', '/' ) ).getString( key ), arguments );
+
+    }
+
+    private static String getMessage( final Throwable t )
+    {
+        return t != null
+                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
+                         ? t.getMessage()
+                         : getMessage( t.getCause() )
+                   : null;
+
+    }
+
+}
+
+/**
+ * {@code ErrorHandler} collecting {@code ModelValidationReport} details.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ */
+class ModelErrorHandler extends DefaultHandler
+{
+
+    /**
+     * The context of the instance.
+     */
+    private final ModelContext context;
+
+    /**
+     * The report of the instance.
+     */
+    private final ModelValidationReport report;
+
+    /**
+     * The condition stopping validation of the instance.
+     */
+    private final FailFastCondition failFastCondition;
+
+    /**
+     * The consumer of report details of the instance.
+     */
+    private final Consumer<? super ModelValidationReport.Detail> consumer;
+
+    /**
+     * Flag indicating a report detail with a level above {@code WARNING} has been recorded.
+     */
+    private volatile boolean errors;
+
+    /**
+     * Creates a new {@code ModelErrorHandler} instance taking a context.
+     *
+     * @param context The context of the instance.
+     */
+    ModelErrorHandler( final ModelContext context )
+    {
+        this( context, new ModelValidationReport() );
+    }
+
+    /**
+     * Creates a new {@code ModelErrorHandler} instance taking a report to use for collecting validation events.
+     *
+     * @param context The context of the instance.
+     * @param report A report to use for collecting validation events.
+     */
+    ModelErrorHandler( final ModelContext context, final ModelValidationReport report )
+    {
+        this( context, report, new FailFastCondition( null, 0 ) );
+    }
+
+    /**
+     * Creates a new {@code ModelErrorHandler} instance taking a report to use for collecting validation events and a
+     * condition stopping validation.
+     *
+     * @param context The context of the instance.
+     * @param report A report to use for collecting validation events.
+     * @param failFastCondition The condition stopping validation.
+     *
+     * @since 2.0
+     */
+    ModelErrorHandler( final ModelContext context, final ModelValidationReport report,
+                       final FailFastCondition failFastCondition )
+    {
+        super();
+        this.context = context;
+        this.report = report;
+        this.failFastCondition = failFastCondition;
+        this.consumer = report.getDetails()::add;
+    }
+
+    /**
+     * Creates a new {@code ModelErrorHandler} instance taking a consumer to pass validation events to and a condition
+     * stopping validation.
+     *
+     * @param context The context of the instance.
+     * @param consumer The consumer to pass validation events to instead of collecting them in a report.
+     * @param failFastCondition The condition stopping validation.
+     *
+     * @since 2.0
+     */
+    ModelErrorHandler( final ModelContext context, final Consumer<? super ModelValidationReport.Detail> consumer,
+                       final FailFastCondition failFastCondition )
+    {
+        super();
+        this.context = context;
+        this.report = new ModelValidationReport();
+        this.failFastCondition = failFastCondition;
+        this.consumer = consumer;
+    }
+
+    /**
+     * Gets a flag indicating model validity.
+     *
+     * @return {@code true}, if no validation event with a level above {@code WARNING} has been recorded;
+     * {@code false}, if a validation event with a level above {@code WARNING} has been recorded.
+     *
+     * @since 2.0
+     */
+    boolean isModelValid()
+    {
+        return !this.errors;
+    }
+
+    /**
+     * Gets the condition stopping validation of the instance.
+     *
+     * @return The condition stopping validation of the instance.
+     *
+     * @since 2.0
+     */
+    FailFastCondition getFailFastCondition()
+    {
+        return this.failFastCondition;
+    }
+
+    /**
+     * Gets the report of the instance.
+     *
+     * @return The report of the instance.
+     */
+    public ModelValidationReport getReport()
+    {
+        return this.report;
+    }
+
+    @Override
+    public void warning( final SAXParseException exception ) throws SAXException
+    {
+        String message = getMessage( exception );
+        if ( message == null && exception.getException() != null )
+        {
+            message = getMessage( exception.getException() );
+        }
+
+        if ( this.context != null && this.context.isLoggable( Level.FINE ) )
+        {
+            this.context.log( Level.FINE, message, exception );
+        }
+
+        final ModelValidationReport.Detail detail = new ModelValidationReport.Detail(
+            "W3C XML 1.0 Recommendation - Warning condition", Level.WARNING, message, null );
+
+        this.errors |= detail.getLevel().get().intValue() > Level.WARNING.intValue();
+        this.consumer.accept( detail );
+
+        if ( this.getFailFastCondition().record( detail ) )
+        {
+            throw exception;
+        }
+    }
+
+    @Override
+    public void error( final SAXParseException exception ) throws SAXException
+    {
+        String message = getMessage( exception );
+        if ( message == null && exception.getException() != null )
+        {
+            message = getMessage( exception.getException() );
+        }
+
+        if ( this.context != null && this.context.isLoggable( Level.FINE ) )
+        {
+            this.context.log( Level.FINE, message, exception );
+        }
+
+        final ModelValidationReport.Detail detail = new ModelValidationReport.Detail(
+            "W3C XML 1.0 Recommendation - Section 1.2 - Error", Level.SEVERE, message, null );
+
+        this.errors |= detail.getLevel().get().intValue() > Level.WARNING.intValue();
+        this.consumer.accept( detail );
+
+        if ( this.getFailFastCondition().record( detail ) )
+        {
+            throw exception;
+        }
+    }
+
+    @Override
+    public void fatalError( final SAXParseException exception ) throws SAXException
+    {
+        String message = getMessage( exception );
+        if ( message == null && exception.getException() != null )
+        {
+            message = getMessage( exception.getException() );
+        }
+
+        if ( this.context != null && this.context.isLoggable( Level.FINE ) )
+        {
+            this.context.log( Level.FINE, message, exception );
+        }
+
+        final ModelValidationReport.Detail detail = new ModelValidationReport.Detail(
+            "W3C XML 1.0 Recommendation - Section 1.2 - Fatal Error", Level.SEVERE, message, null );
+
+        this.errors |= detail.getLevel().get().intValue() > Level.WARNING.intValue();
+        this.consumer.accept( detail );
+
+        if ( this.getFailFastCondition().record( detail ) )
+        {
+            throw exception;
+        }
+    }
+
+    private static String getMessage( final Throwable t )
+    {
+        return t != null
+                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
+                         ? t.getMessage()
+                         : getMessage( t.getCause() )
+                   : null;
+
+    }
+
+}
+
+/**
+ * List of {@code Marshaller.Listener}s.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 1.2
+ */
+class MarshallerListenerList extends Marshaller.Listener
+{
+
+    /**
+     * The {@code Marshaller.Listener}s of the instance.
+     */
+    private final List<Marshaller.Listener> listeners = new CopyOnWriteArrayList<Marshaller.Listener>();
+
+    /**
+     * Creates a new {@code MarshallerListenerList} instance.
+     */
+    MarshallerListenerList()
+    {
+        super();
+    }
+
+    /**
+     * Gets the listeners of the instance.
+     * <p>
+     * This accessor method returns a reference to the live list, not a snapshot. Therefore any modification you make
+     * to the returned list will be present inside the object. This is why there is no {@code set} method for the
+     * listeners property.
+     * </p>
+     *
+     * @return The list of listeners of the instance.
+     */
+    List<Marshaller.Listener> getListeners()
+    {
+        return this.listeners;
+    }
+
+    @Override
+    public void beforeMarshal( final Object source )
+    {
+        try ( final Stream<Marshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
+        {
+            st0.forEach( ( l )  -> l.beforeMarshal( source ) );
+        }
+    }
+
+    @Override
+    public void afterMarshal( final Object source )
+    {
+        try ( final Stream<Marshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
+        {
+            st0.forEach( ( l )  -> l.afterMarshal( source ) );
         }
+    }
 
-        service.setClazz( className );
+}
 
-        // Need a way to exchange the service factory creating modlet service objects?
-        final DefaultServiceFactory defaultServiceFactory = new DefaultServiceFactory();
-        defaultServiceFactory.setEnabled( true );
+/**
+ * List of {@code Unmarshaller.Listener}s.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 1.2
+ */
+class UnmarshallerListenerList extends Unmarshaller.Listener
+{
 
-        return defaultServiceFactory.createServiceObject( this, service, serviceClass ).get();
+    /**
+     * The {@code Unmarshaller.Listener}s of the instance.
+     */
+    private final List<Unmarshaller.Listener> listeners = new CopyOnWriteArrayList<Unmarshaller.Listener>();
+
+    /**
+     * Creates a new {@code UnmarshallerListenerList} instance.
+     */
+    UnmarshallerListenerList()
+    {
+        super();
     }
 
     /**
-     * Searches the context for {@code META-INF/MANIFEST.MF} resources and returns a set of URIs of entries whose names
-     * end with a known schema extension.
-     *
-     * @return Set of URIs of any matching entries.
+     * Gets the listeners of the instance.
+     * <p>
+     * This accessor method returns a reference to the live list, not a snapshot. Therefore any modification you make
+     * to the returned list will be present inside the object. This is why there is no {@code set} method for the
+     * listeners property.
+     * </p>
      *
-     * @throws IOException if reading fails.
-     * @throws URISyntaxException if parsing fails.
-     * @throws ModelException if searching the context fails.
+     * @return The list of listeners of the instance.
      */
-    private Set<URI> getSchemaResources() throws IOException, URISyntaxException, ModelException
+    List<Unmarshaller.Listener> getListeners()
     {
-        final Set<URI> resources = new HashSet<>();
-        final long t0 = System.nanoTime();
-        int count = 0;
+        return this.listeners;
+    }
 
-        for ( final Enumeration<URL> e = this.findResources( "META-INF/MANIFEST.MF" ); e.hasMoreElements(); )
+    @Override
+    public void beforeUnmarshal( final Object target, final Object parent )
+    {
+        try ( final Stream<Unmarshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
         {
-            count++;
-            final URL manifestUrl = e.nextElement();
-            final String externalForm = manifestUrl.toExternalForm();
-            final String baseUrl = externalForm.substring( 0, externalForm.indexOf( "META-INF" ) );
-
-            try ( final InputStream manifestStream = manifestUrl.openStream() )
-            {
-                final Manifest mf = new Manifest( manifestStream );
+            st0.forEach( ( l )  -> l.beforeUnmarshal( target, parent ) );
+        }
+    }
 
-                if ( this.isLoggable( Level.FINEST ) )
-                {
-                    this.log( Level.FINEST, getMessage( "processing", externalForm ), null );
-                }
+    @Override
+    public void afterUnmarshal( final Object target, final Object parent )
+    {
+        try ( final Stream<Unmarshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
+        {
+            st0.forEach( ( l )  -> l.afterUnmarshal( target, parent ) );
+        }
+    }
 
-                try ( final Stream<Map.Entry<String, Attributes>> st0 =
-                    mf.getEntries().entrySet().parallelStream().unordered() )
-                {
-                    final class CreateUriFailure extends RuntimeException
-                    {
+}
 
-                        CreateUriFailure( final Throwable cause )
-                        {
-                            super( Objects.requireNonNull( cause, "cause" ) );
-                        }
+/**
+ * Condition stopping validation once a report detail at or above a level or a maximum number of errors has been
+ * recorded.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+final class FailFastCondition
+{
 
-                        <T extends Exception> void handleCause( final Class<T> cause ) throws T
-                        {
-                            if ( Objects.requireNonNull( cause, "cause" ).
-                                isAssignableFrom( this.getCause().getClass() ) )
-                            {
-                                throw (T) this.getCause();
-                            }
-                        }
+    /**
+     * The level of report details stopping validation or {@code null}.
+     */
+    private final Level level;
 
-                        Error unhandledCauseError()
-                        {
-                            return new AssertionError( this.getCause() );
-                        }
+    /**
+     * The maximum number of errors to record before stopping validation or {@code 0}.
+     */
+    private final int maxErrors;
 
-                    }
+    /**
+     * The number of errors recorded.
+     */
+    private final AtomicInteger errors = new AtomicInteger();
 
-                    final Function<String, String> parallelToLowerCase = ( s  ->
-                    {
-                        final char[] chars = s.toCharArray();
+    /**
+     * The number of details recorded.
+     */
+    private final AtomicInteger count = new AtomicInteger();
 
-                        try ( final IntStream st1 = IntStream.range( 0, chars.length ).parallel().unordered() )
-                        {
-                            st1.forEach( idx  ->
-                            {
-                                chars[idx] = Character.toLowerCase( chars[idx] );
-                            } );
-                        }
+    /**
+     * Flag indicating validation is to be stopped.
+     */
+    private volatile boolean failed;
 
-                        return String.valueOf( chars );
-                    } );
+    /**
+     * Creates a new {@code FailFastCondition} instance.
+     *
+     * @param level The level of report details stopping validation or {@code null}.
+     * @param maxErrors The maximum number of errors to record before stopping validation or {@code 0}.
+     */
+    FailFastCondition( final Level level, final int maxErrors )
+    {
+        super();
+        this.level = level;
+        this.maxErrors = maxErrors;
+    }
 
-                    final Predicate<Map.Entry<String, Attributes>> schemaExtension = entry  ->
-                    {
-                        try ( final Stream<String> st1 =
-                            Arrays.asList( SCHEMA_EXTENSIONS ).parallelStream().unordered() )
-                        {
-                            final boolean found = st1.filter( ext  -> parallelToLowerCase.apply( entry.getKey() ).
-                                endsWith( '.' + parallelToLowerCase.apply( ext ) ) ).findAny().isPresent();
+    /**
+     * Gets a flag indicating validation is to be stopped.
+     *
+     * @return {@code true}, if validation is to be stopped; {@code false}, if validation is to be continued.
+     */
+    boolean isFailed()
+    {
+        return this.failed;
+    }
 
-                            if ( found && isLoggable( Level.FINEST ) )
-                            {
-                                log( Level.FINEST, getMessage( "foundSchemaCandidate", entry.getKey() ), null );
-                            }
+    /**
+     * Gets the number of report details recorded.
+     *
+     * @return The number of report details recorded.
+     */
+    int getCount()
+    {
+        return this.count.get();
+    }
 
-                            return found;
-                        }
-                    };
+    /**
+     * Records a report detail.
+     *
+     * @param detail The detail to record.
+     *
+     * @return {@code true}, if validation is to be stopped; {@code false}, if validation is to be continued.
+     */
+    boolean record( final ModelValidationReport.Detail detail )
+    {
+        this.count.incrementAndGet();
 
-                    final Function<Map.Entry<String, Attributes>, URI> toUri = entry  ->
-                    {
-                        try
-                        {
-                            return new URL( baseUrl + entry.getKey() ).toURI();
-                        }
-                        catch ( final MalformedURLException | URISyntaxException ex )
-                        {
-                            throw new CreateUriFailure( ex );
-                        }
-                    };
+        if ( detail.getLevel().isPresent() )
+        {
+            final int value = detail.getLevel().get().intValue();
 
-                    try
-                    {
-                        resources.addAll(
-                            st0.filter( schemaExtension ).
-                                map( toUri ).
-                                collect( Collector.of( CopyOnWriteArraySet::new, Set::add, ( s1, s2 )  ->
-                                                   {
-                                                       s1.addAll( s2 );
-                                                       return s2;
-                                                   }, Collector.Characteristics.CONCURRENT,
-                                                       Collector.Characteristics.UNORDERED ) )
-                        );
-                    }
-                    catch ( final CreateUriFailure f )
-                    {
-                        f.handleCause( MalformedURLException.class );
-                        f.handleCause( URISyntaxException.class );
-                        throw f.unhandledCauseError();
-                    }
-                }
+            if ( this.level != null && value >= this.level.intValue() )
+            {
+                this.failed = true;
             }
-        }
-
-        if ( this.isLoggable( Level.FINE ) )
-        {
-            this.log( Level.FINE, getMessage( "contextReport", count, "META-INF/MANIFEST.MF", System.nanoTime() - t0 ),
-                      null );
 
+            if ( this.maxErrors > 0 && value > Level.WARNING.intValue()
+                     && this.errors.incrementAndGet() >= this.maxErrors )
+            {
+                this.failed = true;
+            }
         }
 
-        return resources;
+        return this.failed;
     }
 
-    private static int ordinalOf( final Object serviceObject )
-    {
-        int ordinal = 0;
+}
 
-        if ( serviceObject instanceof ModletProvider )
-        {
-            ordinal = ( (ModletProvider) serviceObject ).getOrdinal();
-        }
-        if ( serviceObject instanceof ModletProcessor )
-        {
-            ordinal = ( (ModletProcessor) serviceObject ).getOrdinal();
-        }
-        if ( serviceObject instanceof ModletValidator )
-        {
-            ordinal = ( (ModletValidator) serviceObject ).getOrdinal();
-        }
-        if ( serviceObject instanceof ServiceFactory )
-        {
-            ordinal = ( (ServiceFactory) serviceObject ).getOrdinal();
-        }
+/**
+ * Binary form of snapshots of {@code Modlets}.
+ * <p>
+ * A snapshot starts with a header holding a magic number, the version of the format and the digest the snapshot has
+ * been stored for. The {@code Modlets} follow as a tree of attribute values with every distinct string written once
+ * and referenced by index afterwards. Foreign elements are the only content written as XML. Reading a snapshot does
+ * not parse, validate or bind the modlet documents again.
+ * </p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+final class ModletsSnapshot
+{
 
-        return ordinal;
-    }
+    /**
+     * Magic number of the format.
+     */
+    private static final int MAGIC = 0x4A4D4C53;
 
-    private static String getMessage( final String key, final Object... arguments )
-    {
-        return MessageFormat.format( ResourceBundle.getBundle(
-            DefaultModelContext.class.getName().replace( '.', '/' ) ).getString( key ), arguments );
+    /**
+     * Version of the format.
+     */
+    private static final int VERSION = 1;
 
-    }
+    /**
+     * Tag of foreign content written from a DOM element.
+     */
+    private static final byte DOM_CONTENT = 0;
 
-    private static String getMessage( final Throwable t )
-    {
-        return t != null
-                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
-                         ? t.getMessage()
-                         : getMessage( t.getCause() )
-                   : null;
+    /**
+     * Tag of foreign content written by JAXB.
+     */
+    private static final byte JAXB_CONTENT = 1;
 
-    }
+    /**
+     * The context to marshal and unmarshal foreign content with.
+     */
+    private final JAXBContext context;
+
+    /**
+     * The strings written by index.
+     */
+    private final Map<String, Integer> writtenStrings = new HashMap<>( 256 );
 
-}
+    /**
+     * The strings read by index.
+     */
+    private final List<String> readStrings = new ArrayList<>( 256 );
 
-/**
- * {@code ErrorHandler} collecting {@code ModelValidationReport} details.
- *
- * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
- * @version $JOMC$
- */
-class ModelErrorHandler extends DefaultHandler
-{
+    /**
+     * The marshaller of the instance, if created.
+     */
+    private Marshaller marshaller;
 
     /**
-     * The context of the instance.
+     * The unmarshaller of the instance, if created.
      */
-    private final ModelContext context;
+    private Unmarshaller unmarshaller;
 
     /**
-     * The report of the instance.
+     * The transformer of the instance, if created.
      */
-    private final ModelValidationReport report;
+    private Transformer transformer;
 
     /**
-     * Creates a new {@code ModelErrorHandler} instance taking a context.
-     *
-     * @param context The context of the instance.
+     * The document builder of the instance, if created.
      */
-    ModelErrorHandler( final ModelContext context )
-    {
-        this( context, new ModelValidationReport() );
-    }
+    private DocumentBuilder documentBuilder;
 
     /**
-     * Creates a new {@code ModelErrorHandler} instance taking a report to use for collecting validation events.
+     * Creates a new {@code ModletsSnapshot} instance.
      *
-     * @param context The context of the instance.
-     * @param report A report to use for collecting validation events.
+     * @param context The context to marshal and unmarshal foreign content with.
      */
-    ModelErrorHandler( final ModelContext context, final ModelValidationReport report )
+    ModletsSnapshot( final JAXBContext context )
     {
         super();
         this.context = context;
-        this.report = report;
     }
 
     /**
-     * Gets the report of the instance.
+     * Writes a snapshot.
      *
-     * @return The report of the instance.
+     * @param out The stream to write the snapshot to.
+     * @param digest The digest the snapshot is stored for.
+     * @param modlets The {@code Modlets} to write.
+     *
+     * @throws IOException if writing fails.
+     * @throws JAXBException if marshalling foreign content fails.
      */
-    public ModelValidationReport getReport()
-    {
-        return this.report;
-    }
-
-    @Override
-    public void warning( final SAXParseException exception ) throws SAXException
+    void write( final DataOutputStream out, final String digest, final Modlets modlets )
+        throws IOException, JAXBException
     {
-        String message = getMessage( exception );
-        if ( message == null && exception.getException() != null )
-        {
-            message = getMessage( exception.getException() );
-        }
+        out.writeInt( MAGIC );
+        out.writeInt( VERSION );
+        out.writeUTF( digest );
+        out.writeInt( modlets.getModlet().size() );
 
-        if ( this.context != null && this.context.isLoggable( Level.FINE ) )
+        for ( final Modlet m : modlets.getModlet() )
         {
-            this.context.log( Level.FINE, message, exception );
-        }
+            this.writeString( out, m.getName() );
+            this.writeString( out, m.getModel() );
+            this.writeString( out, m.getVendor() );
+            this.writeString( out, m.getVersion() );
+            out.writeInt( m.getSchemas() != null ? m.getSchemas().getSchema().size() : -1 );
 
-        this.getReport().getDetails().add( new ModelValidationReport.Detail(
-            "W3C XML 1.0 Recommendation - Warning condition", Level.WARNING, message, null ) );
+            if ( m.getSchemas() != null )
+            {
+                for ( final Schema s : m.getSchemas().getSchema() )
+                {
+                    this.writeString( out, s.getPublicId() );
+                    this.writeString( out, s.getSystemId() );
+                    this.writeString( out, s.getContextId() );
+                    this.writeString( out, s.getClasspathId() );
+                    this.writeAny( out, s.getAny() );
+                }
+            }
 
-    }
+            out.writeInt( m.getServices() != null ? m.getServices().getService().size() : -1 );
 
-    @Override
-    public void error( final SAXParseException exception ) throws SAXException
-    {
-        String message = getMessage( exception );
-        if ( message == null && exception.getException() != null )
-        {
-            message = getMessage( exception.getException() );
-        }
+            if ( m.getServices() != null )
+            {
+                for ( final Service s : m.getServices().getService() )
+                {
+                    out.writeInt( s.getOrdinal() );
+                    this.writeString( out, s.getIdentifier() );
+                    this.writeString( out, s.getClazz() );
+                    out.writeInt( s.getProperty().size() );
 
-        if ( this.context != null && this.context.isLoggable( Level.FINE ) )
-        {
-            this.context.log( Level.FINE, message, exception );
-        }
+                    for ( final Property p : s.getProperty() )
+                    {
+                        this.writeString( out, p.getName() );
+                        this.writeString( out, p.getValue() );
+                        this.writeAny( out, p.getAny() );
+                    }
 
-        this.getReport().getDetails().add( new ModelValidationReport.Detail(
-            "W3C XML 1.0 Recommendation - Section 1.2 - Error", Level.SEVERE, message, null ) );
+                    this.writeAny( out, s.getAny() );
+                }
+            }
 
+            this.writeAny( out, m.getAny() );
+        }
     }
 
-    @Override
-    public void fatalError( final SAXParseException exception ) throws SAXException
+    /**
+     * Reads a snapshot.
+     *
+     * @param in The stream to read the snapshot from.
+     * @param digest The digest the snapshot is expected to have been stored for.
+     *
+     * @return The {@code Modlets} read from {@code in}.
+     *
+     * @throws IOException if reading fails or {@code in} does not hold a snapshot stored for {@code digest}.
+     * @throws JAXBException if unmarshalling foreign content fails.
+     */
+    Modlets read( final DataInputStream in, final String digest ) throws IOException, JAXBException
     {
-        String message = getMessage( exception );
-        if ( message == null && exception.getException() != null )
+        if ( in.readInt() != MAGIC || in.readInt() != VERSION || !digest.equals( in.readUTF() ) )
         {
-            message = getMessage( exception.getException() );
+            throw new StreamCorruptedException();
         }
 
-        if ( this.context != null && this.context.isLoggable( Level.FINE ) )
+        final Modlets modlets = new Modlets();
+
+        for ( int i = in.readInt(); i > 0; i-- )
         {
-            this.context.log( Level.FINE, message, exception );
-        }
+            final Modlet m = new Modlet();
+            m.setName( this.readString( in ) );
+            m.setModel( this.readString( in ) );
+            m.setVendor( this.readString( in ) );
+            m.setVersion( this.readString( in ) );
 
-        this.getReport().getDetails().add( new ModelValidationReport.Detail(
-            "W3C XML 1.0 Recommendation - Section 1.2 - Fatal Error", Level.SEVERE, message, null ) );
+            int count = in.readInt();
 
-    }
+            if ( count >= 0 )
+            {
+                m.setSchemas( new Schemas() );
 
-    private static String getMessage( final Throwable t )
-    {
-        return t != null
-                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
-                         ? t.getMessage()
-                         : getMessage( t.getCause() )
-                   : null;
+                for ( ; count > 0; count-- )
+                {
+                    final Schema s = new Schema();
+                    s.setPublicId( this.readString( in ) );
+                    s.setSystemId( this.readString( in ) );
+                    s.setContextId( this.readString( in ) );
+                    s.setClasspathId( this.readString( in ) );
+                    this.readAny( in, s.getAny() );
+                    m.getSchemas().getSchema().add( s );
+                }
+            }
 
-    }
+            count = in.readInt();
 
-}
+            if ( count >= 0 )
+            {
+                m.setServices( new Services() );
 
-/**
- * List of {@code Marshaller.Listener}s.
- *
- * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
- * @version $JOMC$
- * @since 1.2
- */
-class MarshallerListenerList extends Marshaller.Listener
-{
+                for ( ; count > 0; count-- )
+                {
+                    final Service s = new Service();
+                    s.setOrdinal( in.readInt() );
+                    s.setIdentifier( this.readString( in ) );
+                    s.setClazz( this.readString( in ) );
 
-    /**
-     * The {@code Marshaller.Listener}s of the instance.
-     */
-    private final List<Marshaller.Listener> listeners = new CopyOnWriteArrayList<Marshaller.Listener>();
+                    for ( int j = in.readInt(); j > 0; j-- )
+                    {
+                        final Property p = new Property();
+                        p.setName( this.readString( in ) );
+                        p.setValue( this.readString( in ) );
+                        this.readAny( in, p.getAny() );
+                        s.getProperty().add( p );
+                    }
 
-    /**
-     * Creates a new {@code MarshallerListenerList} instance.
-     */
-    MarshallerListenerList()
-    {
-        super();
+                    this.readAny( in, s.getAny() );
+                    m.getServices().getService().add( s );
+                }
+            }
+
+            this.readAny( in, m.getAny() );
+            modlets.getModlet().add( m );
+        }
+
+        return modlets;
     }
 
     /**
-     * Gets the listeners of the instance.
-     * <p>
-     * This accessor method returns a reference to the live list, not a snapshot. Therefore any modification you make
-     * to the returned list will be present inside the object. This is why there is no {@code set} method for the
-     * listeners property.
-     * </p>
+     * Writes a string.
      *
-     * @return The list of listeners of the instance.
+     * @param out The stream to write to.
+     * @param value The string to write or {@code null}.
+     *
+     * @throws IOException if writing fails.
      */
-    List<Marshaller.Listener> getListeners()
-    {
-        return this.listeners;
-    }
-
-    @Override
-    public void beforeMarshal( final Object source )
+    private void writeString( final DataOutputStream out, final String value ) throws IOException
     {
-        try ( final Stream<Marshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
+        if ( value == null )
         {
-            st0.forEach( ( l )  -> l.beforeMarshal( source ) );
+            out.writeInt( -1 );
         }
-    }
-
-    @Override
-    public void afterMarshal( final Object source )
-    {
-        try ( final Stream<Marshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
+        else
         {
-            st0.forEach( ( l )  -> l.afterMarshal( source ) );
+            final Integer index = this.writtenStrings.get( value );
+
+            if ( index != null )
+            {
+                out.writeInt( index );
+            }
+            else
+            {
+                final byte[] bytes = value.getBytes( StandardCharsets.UTF_8 );
+                out.writeInt( this.writtenStrings.size() );
+                out.writeInt( bytes.length );
+                out.write( bytes );
+                this.writtenStrings.put( value, this.writtenStrings.size() );
+            }
         }
     }
 
-}
-
-/**
- * List of {@code Unmarshaller.Listener}s.
- *
- * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
- * @version $JOMC$
- * @since 1.2
- */
-class UnmarshallerListenerList extends Unmarshaller.Listener
-{
-
-    /**
-     * The {@code Unmarshaller.Listener}s of the instance.
-     */
-    private final List<Unmarshaller.Listener> listeners = new CopyOnWriteArrayList<Unmarshaller.Listener>();
-
     /**
-     * Creates a new {@code UnmarshallerListenerList} instance.
+     * Reads a string.
+     *
+     * @param in The stream to read from.
+     *
+     * @return The string read or {@code null}.
+     *
+     * @throws IOException if reading fails.
      */
-    UnmarshallerListenerList()
+    private String readString( final DataInputStream in ) throws IOException
     {
-        super();
+        final int index = in.readInt();
+        String value = null;
+
+        if ( index >= 0 && index < this.readStrings.size() )
+        {
+            value = this.readStrings.get( index );
+        }
+        else if ( index == this.readStrings.size() )
+        {
+            final byte[] bytes = new byte[ in.readInt() ];
+            in.readFully( bytes );
+            value = new String( bytes, StandardCharsets.UTF_8 );
+            this.readStrings.add( value );
+        }
+        else if ( index != -1 )
+        {
+            throw new StreamCorruptedException();
+        }
+
+        return value;
     }
 
     /**
-     * Gets the listeners of the instance.
-     * <p>
-     * This accessor method returns a reference to the live list, not a snapshot. Therefore any modification you make
-     * to the returned list will be present inside the object. This is why there is no {@code set} method for the
-     * listeners property.
-     * </p>
+     * Writes foreign content.
      *
-     * @return The list of listeners of the instance.
+     * @param out The stream to write to.
+     * @param any The foreign content to write.
+     *
+     * @throws IOException if writing fails.
+     * @throws JAXBException if marshalling fails.
      */
-    List<Unmarshaller.Listener> getListeners()
+    private void writeAny( final DataOutputStream out, final List<Object> any ) throws IOException, JAXBException
     {
-        return this.listeners;
-    }
+        out.writeInt( any.size() );
 
-    @Override
-    public void beforeUnmarshal( final Object target, final Object parent )
-    {
-        try ( final Stream<Unmarshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
+        for ( final Object content : any )
         {
-            st0.forEach( ( l )  -> l.beforeUnmarshal( target, parent ) );
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream( 1024 );
+
+            if ( content instanceof Element )
+            {
+                if ( this.transformer == null )
+                {
+                    try
+                    {
+                        this.transformer = TransformerFactory.newInstance().newTransformer();
+                        this.transformer.setOutputProperty( OutputKeys.OMIT_XML_DECLARATION, "yes" );
+                    }
+                    catch ( final TransformerConfigurationException e )
+                    {
+                        throw new IOException( e.getMessage(), e );
+                    }
+                }
+
+                try
+                {
+                    this.transformer.transform( new DOMSource( (Element) content ), new StreamResult( bytes ) );
+                }
+                catch ( final TransformerException e )
+                {
+                    throw new IOException( e.getMessage(), e );
+                }
+
+                out.writeByte( DOM_CONTENT );
+            }
+            else
+            {
+                if ( this.marshaller == null )
+                {
+                    this.marshaller = this.context.createMarshaller();
+                    this.marshaller.setProperty( Marshaller.JAXB_FRAGMENT, Boolean.TRUE );
+                }
+
+                this.marshaller.marshal( content, bytes );
+                out.writeByte( JAXB_CONTENT );
+            }
+
+            out.writeInt( bytes.size() );
+            bytes.writeTo( out );
         }
     }
 
-    @Override
-    public void afterUnmarshal( final Object target, final Object parent )
+    /**
+     * Reads foreign content.
+     *
+     * @param in The stream to read from.
+     * @param any The list to add the foreign content read to.
+     *
+     * @throws IOException if reading fails.
+     * @throws JAXBException if unmarshalling fails.
+     */
+    private void readAny( final DataInputStream in, final List<Object> any ) throws IOException, JAXBException
     {
-        try ( final Stream<Unmarshaller.Listener> st0 = this.getListeners().parallelStream().unordered() )
+        for ( int i = in.readInt(); i > 0; i-- )
         {
-            st0.forEach( ( l )  -> l.afterUnmarshal( target, parent ) );
+            final byte tag = in.readByte();
+            final byte[] bytes = new byte[ in.readInt() ];
+            in.readFully( bytes );
+
+            if ( tag == DOM_CONTENT )
+            {
+                try
+                {
+                    if ( this.documentBuilder == null )
+                    {
+                        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+                        factory.setNamespaceAware( true );
+                        this.documentBuilder = factory.newDocumentBuilder();
+                    }
+
+                    any.add( this.documentBuilder.parse( new ByteArrayInputStream( bytes ) ).getDocumentElement() );
+                }
+                catch ( final ParserConfigurationException | SAXException e )
+                {
+                    throw new IOException( e.getMessage(), e );
+                }
+            }
+            else if ( tag == JAXB_CONTENT )
+            {
+                if ( this.unmarshaller == null )
+                {
+                    this.unmarshaller = this.context.createUnmarshaller();
+                }
+
+                any.add( this.unmarshaller.unmarshal( new ByteArrayInputStream( bytes ) ) );
+            }
+            else
+            {
+                throw new StreamCorruptedException();
+            }
         }
     }
 
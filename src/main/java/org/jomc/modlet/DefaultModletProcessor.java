@@ -31,35 +31,61 @@
 package org.jomc.modlet;
 
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.text.MessageFormat;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.util.JAXBResult;
 import javax.xml.bind.util.JAXBSource;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.ErrorListener;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.sax.SAXResult;
+import javax.xml.transform.sax.SAXTransformerFactory;
+import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamSource;
 
 /**
@@ -166,6 +192,236 @@ public class DefaultModletProcessor implements ModletProcessor
      */
     private volatile String transformerLocation;
 
+    /**
+     * Constant for the name of the model context attribute backing property {@code chaining}.
+     *
+     * @see #processModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String CHAINING_ATTRIBUTE_NAME = "org.jomc.modlet.DefaultModletProcessor.chainingAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultChaining}.
+     *
+     * @see #isDefaultChaining()
+     * @since 2.0
+     */
+    private static final String DEFAULT_CHAINING_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProcessor.defaultChaining";
+
+    /**
+     * Default value of the flag indicating the processor chains stylesheets by default.
+     *
+     * @see #isDefaultChaining()
+     * @since 2.0
+     */
+    private static final Boolean DEFAULT_CHAINING = Boolean.FALSE;
+
+    /**
+     * Flag indicating the processor chains stylesheets by default.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultChaining;
+
+    /**
+     * Flag indicating the processor chains stylesheets.
+     *
+     * @since 2.0
+     */
+    private volatile Boolean chaining;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code parameterFiltering}.
+     *
+     * @see #findTransformers(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String PARAMETER_FILTERING_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProcessor.parameterFilteringAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultParameterFiltering}.
+     *
+     * @see #isDefaultParameterFiltering()
+     * @since 2.0
+     */
+    private static final String DEFAULT_PARAMETER_FILTERING_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProcessor.defaultParameterFiltering";
+
+    /**
+     * Default value of the flag indicating the processor filters transformer parameters by default.
+     *
+     * @see #isDefaultParameterFiltering()
+     * @since 2.0
+     */
+    private static final Boolean DEFAULT_PARAMETER_FILTERING = Boolean.FALSE;
+
+    /**
+     * Flag indicating the processor filters transformer parameters by default.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultParameterFiltering;
+
+    /**
+     * Flag indicating the processor filters transformer parameters.
+     *
+     * @since 2.0
+     */
+    private volatile Boolean parameterFiltering;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code resultCaching}.
+     *
+     * @see #processModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String RESULT_CACHING_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProcessor.resultCachingAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultResultCaching}.
+     *
+     * @see #isDefaultResultCaching()
+     * @since 2.0
+     */
+    private static final String DEFAULT_RESULT_CACHING_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProcessor.defaultResultCaching";
+
+    /**
+     * Default value of the flag indicating the processor caches results by default.
+     *
+     * @see #isDefaultResultCaching()
+     * @since 2.0
+     */
+    private static final Boolean DEFAULT_RESULT_CACHING = Boolean.FALSE;
+
+    /**
+     * Flag indicating the processor caches results by default.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultResultCaching;
+
+    /**
+     * Flag indicating the processor caches results.
+     *
+     * @since 2.0
+     */
+    private volatile Boolean resultCaching;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code resultCacheDirectory}.
+     *
+     * @see #processModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String RESULT_CACHE_DIRECTORY_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProcessor.resultCacheDirectoryAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultResultCacheDirectory}.
+     *
+     * @see #getDefaultResultCacheDirectory()
+     * @since 2.0
+     */
+    private static final String DEFAULT_RESULT_CACHE_DIRECTORY_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProcessor.defaultResultCacheDirectory";
+
+    /**
+     * Default result cache directory.
+     *
+     * @since 2.0
+     */
+    private static volatile String defaultResultCacheDirectory;
+
+    /**
+     * Result cache directory of the instance.
+     *
+     * @since 2.0
+     */
+    private volatile String resultCacheDirectory;
+
+    /**
+     * Maximum number of results cached in memory.
+     *
+     * @since 2.0
+     */
+    private static final int MAXIMUM_CACHED_RESULTS = 32;
+
+    /**
+     * Results cached in memory keyed by a digest of the inputs of the results.
+     *
+     * @since 2.0
+     */
+    private static final Map<String, Modlets> resultCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, Modlets>( 16, 0.75f, true )
+    {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, Modlets> eldest )
+        {
+            return this.size() > MAXIMUM_CACHED_RESULTS;
+        }
+
+    } );
+
+    /**
+     * Compiled stylesheets keyed by class loader and stylesheet URL.
+     * <p>A cached stylesheet is compiled again as soon as the fingerprint of the stylesheet or of any stylesheet it
+     * includes or imports changes. Stylesheets no fingerprint can be taken of are not cached.</p>
+     *
+     * @since 2.0
+     */
+    private static final Map<ClassLoader, Map<String, Stylesheet>> stylesheetCache =
+        Collections.synchronizedMap( new WeakHashMap<>( 16 ) );
+
+    /**
+     * Flags indicating a class overrides the {@code findTransformers} method.
+     *
+     * @since 2.0
+     */
+    private static final ClassValue<Boolean> transformersOverridden = new ClassValue<Boolean>()
+    {
+
+        @Override
+        protected Boolean computeValue( final Class<?> type )
+        {
+            try
+            {
+                return type.getMethod( "findTransformers", ModelContext.class, String.class ).getDeclaringClass()
+                           != DefaultModletProcessor.class;
+
+            }
+            catch ( final NoSuchMethodException e )
+            {
+                throw new AssertionError( e );
+            }
+        }
+
+    };
+
+    /**
+     * Snapshot of the system properties passed to transformers as parameters.
+     *
+     * @since 2.0
+     */
+    private static volatile TransformerParameters transformerParameters;
+
+    /**
+     * Namespace of XSLT elements.
+     *
+     * @since 2.0
+     */
+    private static final String XSLT_NAMESPACE = "http://www.w3.org/1999/XSL/Transform";
+
     /**
      * Creates a new {@code DefaultModletProcessor} instance.
      */
@@ -375,123 +631,477 @@ public class DefaultModletProcessor implements ModletProcessor
     }
 
     /**
-     * Searches a given context for transformers.
+     * Gets a flag indicating the processor chains stylesheets by default.
+     * <p>
+     * The default chaining flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProcessor.defaultChaining} holding a value indicating the processor chains
+     * stylesheets by default. If that property is not set, the {@code false} default is returned.
+     * </p>
      *
-     * @param context The context to search for transformers.
-     * @param location The location to search at.
+     * @return {@code true}, if the processor chains stylesheets by default; {@code false}, if the processor applies
+     * stylesheets one after another by default.
      *
-     * @return The transformers found at {@code location} in {@code context} or an empty list, if no transformers are
-     * found.
+     * @see #isChaining()
+     * @see #setDefaultChaining(java.lang.Boolean)
+     * @since 2.0
+     */
+    public static boolean isDefaultChaining()
+    {
+        if ( defaultChaining == null )
+        {
+            defaultChaining = Boolean.valueOf( System.getProperty(
+                DEFAULT_CHAINING_PROPERTY_NAME, Boolean.toString( DEFAULT_CHAINING ) ) );
+
+        }
+
+        return defaultChaining;
+    }
+
+    /**
+     * Sets the flag indicating the processor chains stylesheets by default.
      *
-     * @throws NullPointerException if {@code context} or {@code location} is {@code null}.
-     * @throws ModelException if getting the transformers fails.
+     * @param value The new value of the flag indicating the processor chains stylesheets by default or {@code null}.
+     *
+     * @see #isDefaultChaining()
+     * @since 2.0
      */
-    public List<Transformer> findTransformers( final ModelContext context, final String location ) throws ModelException
+    public static void setDefaultChaining( final Boolean value )
     {
-        final long t0 = System.nanoTime();
-        final List<Transformer> transformers = new LinkedList<>();
-        final Enumeration<URL> transformerResourceEnumeration = Objects.requireNonNull( context, "context" ).
-            findResources( Objects.requireNonNull( location, "location" ) );
+        defaultChaining = value;
+    }
 
-        final ErrorListener errorListener = new ErrorListener()
+    /**
+     * Gets a flag indicating the processor chains stylesheets.
+     * <p>
+     * When chaining, the {@code Modlets} to process are marshalled once and passed through all stylesheets as a
+     * stream of SAX events. The result of the last stylesheet is unmarshalled once. No intermediate {@code Modlets}
+     * are created. When not chaining, each stylesheet is applied to the {@code Modlets} unmarshalled from the result of
+     * the previous stylesheet. Subclasses overriding the {@code findTransformers} method are never chaining, so that the
+     * transformers returned by that method are applied.
+     * </p>
+     *
+     * @return {@code true}, if the processor chains stylesheets; {@code false}, if the processor applies stylesheets
+     * one after another.
+     *
+     * @see #isDefaultChaining()
+     * @see #setChaining(java.lang.Boolean)
+     * @since 2.0
+     */
+    public final boolean isChaining()
+    {
+        if ( this.chaining == null )
         {
+            this.chaining = isDefaultChaining();
+        }
 
-            @Override
-            public void warning( final TransformerException exception ) throws TransformerException
-            {
-                if ( context.isLoggable( Level.WARNING ) )
-                {
-                    context.log( Level.WARNING, getMessage( exception ), exception );
-                }
-            }
-
-            @Override
-            public void error( final TransformerException exception ) throws TransformerException
-            {
-                if ( context.isLoggable( Level.SEVERE ) )
-                {
-                    context.log( Level.SEVERE, getMessage( exception ), exception );
-                }
+        return this.chaining;
+    }
 
-                throw exception;
-            }
+    /**
+     * Sets the flag indicating the processor chains stylesheets.
+     *
+     * @param value The new value of the flag indicating the processor chains stylesheets or {@code null}.
+     *
+     * @see #isChaining()
+     * @since 2.0
+     */
+    public final void setChaining( final Boolean value )
+    {
+        this.chaining = value;
+    }
 
-            @Override
-            public void fatalError( final TransformerException exception ) throws TransformerException
-            {
-                if ( context.isLoggable( Level.SEVERE ) )
-                {
-                    context.log( Level.SEVERE, getMessage( exception ), exception );
-                }
+    /**
+     * Gets a flag indicating the processor filters transformer parameters by default.
+     * <p>
+     * The default parameter filtering flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProcessor.defaultParameterFiltering} holding a value indicating the
+     * processor filters transformer parameters by default. If that property is not set, the {@code false} default is
+     * returned.
+     * </p>
+     *
+     * @return {@code true}, if the processor filters transformer parameters by default; {@code false}, if the
+     * processor passes all system properties to transformers by default.
+     *
+     * @see #isParameterFiltering()
+     * @see #setDefaultParameterFiltering(java.lang.Boolean)
+     * @since 2.0
+     */
+    public static boolean isDefaultParameterFiltering()
+    {
+        if ( defaultParameterFiltering == null )
+        {
+            defaultParameterFiltering = Boolean.valueOf( System.getProperty(
+                DEFAULT_PARAMETER_FILTERING_PROPERTY_NAME, Boolean.toString( DEFAULT_PARAMETER_FILTERING ) ) );
 
-                throw exception;
-            }
+        }
 
-        };
+        return defaultParameterFiltering;
+    }
 
-        final Properties parameters = getTransformerParameters();
-        final ThreadLocal<TransformerFactory> threadLocalTransformerFactory = new ThreadLocal<>();
+    /**
+     * Sets the flag indicating the processor filters transformer parameters by default.
+     *
+     * @param value The new value of the flag indicating the processor filters transformer parameters by default or
+     * {@code null}.
+     *
+     * @see #isDefaultParameterFiltering()
+     * @since 2.0
+     */
+    public static void setDefaultParameterFiltering( final Boolean value )
+    {
+        defaultParameterFiltering = value;
+    }
 
-        try ( final Stream<URL> st0 = Collections.list( transformerResourceEnumeration ).parallelStream().unordered() )
+    /**
+     * Gets a flag indicating the processor filters transformer parameters.
+     * <p>
+     * When filtering, a transformer is passed only the system properties its stylesheet declares as top-level
+     * parameters, including the parameters of included and imported stylesheets. When not filtering, every system
+     * property is passed to every transformer.
+     * </p>
+     *
+     * @return {@code true}, if the processor filters transformer parameters; {@code false}, if the processor passes
+     * all system properties to transformers.
+     *
+     * @see #isDefaultParameterFiltering()
+     * @see #setParameterFiltering(java.lang.Boolean)
+     * @since 2.0
+     */
+    public final boolean isParameterFiltering()
+    {
+        if ( this.parameterFiltering == null )
         {
-            final class CreateTransformerFailure extends RuntimeException
-            {
+            this.parameterFiltering = isDefaultParameterFiltering();
+        }
 
-                CreateTransformerFailure( final Throwable cause )
-                {
-                    super( Objects.requireNonNull( cause, "cause" ) );
-                }
+        return this.parameterFiltering;
+    }
 
-                <T extends Exception, R extends Exception> void handleCause(
-                    final Class<T> cause, final Function<T, R> createExceptionFunction )
-                    throws R
-                {
-                    if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
-                    {
-                        throw Objects.requireNonNull( Objects.requireNonNull( createExceptionFunction,
-                                                                              "createExceptionFunction" ).
-                            apply( (T) this.getCause() ), createExceptionFunction.toString() );
+    /**
+     * Sets the flag indicating the processor filters transformer parameters.
+     *
+     * @param value The new value of the flag indicating the processor filters transformer parameters or {@code null}.
+     *
+     * @see #isParameterFiltering()
+     * @since 2.0
+     */
+    public final void setParameterFiltering( final Boolean value )
+    {
+        this.parameterFiltering = value;
+    }
 
-                    }
-                }
+    /**
+     * Gets a flag indicating the processor caches results by default.
+     * <p>
+     * The default result caching flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProcessor.defaultResultCaching} holding a value indicating the processor
+     * caches results by default. If that property is not set, the {@code false} default is returned.
+     * </p>
+     *
+     * @return {@code true}, if the processor caches results by default; {@code false}, if the processor does not cache
+     * results by default.
+     *
+     * @see #isResultCaching()
+     * @see #setDefaultResultCaching(java.lang.Boolean)
+     * @since 2.0
+     */
+    public static boolean isDefaultResultCaching()
+    {
+        if ( defaultResultCaching == null )
+        {
+            defaultResultCaching = Boolean.valueOf( System.getProperty(
+                DEFAULT_RESULT_CACHING_PROPERTY_NAME, Boolean.toString( DEFAULT_RESULT_CACHING ) ) );
 
-                Error unhandledCauseError()
-                {
-                    return new AssertionError( this.getCause() );
-                }
+        }
 
-            }
+        return defaultResultCaching;
+    }
 
-            final Function<URL, Transformer> toTransformer = url  ->
-            {
-                try
+    /**
+     * Sets the flag indicating the processor caches results by default.
+     *
+     * @param value The new value of the flag indicating the processor caches results by default or {@code null}.
+     *
+     * @see #isDefaultResultCaching()
+     * @since 2.0
+     */
+    public static void setDefaultResultCaching( final Boolean value )
+    {
+        defaultResultCaching = value;
+    }
+
+    /**
+     * Gets a flag indicating the processor caches results.
+     * <p>
+     * When caching, the result of processing is cached in memory keyed by a digest of the {@code Modlets} to process,
+     * the stylesheets found at the transformer location and the transformer parameters. Processing the same
+     * {@code Modlets} with unchanged stylesheets and parameters again returns a copy of the cached result without
+     * applying any stylesheet. Subclasses overriding the {@code findTransformers} method are never caching results, as
+     * the transformers returned by that method cannot be digested.
+     * </p>
+     *
+     * @return {@code true}, if the processor caches results; {@code false}, if the processor does not cache results.
+     *
+     * @see #isDefaultResultCaching()
+     * @see #setResultCaching(java.lang.Boolean)
+     * @see #getResultCacheDirectory()
+     * @since 2.0
+     */
+    public final boolean isResultCaching()
+    {
+        if ( this.resultCaching == null )
+        {
+            this.resultCaching = isDefaultResultCaching();
+        }
+
+        return this.resultCaching;
+    }
+
+    /**
+     * Sets the flag indicating the processor caches results.
+     *
+     * @param value The new value of the flag indicating the processor caches results or {@code null}.
+     *
+     * @see #isResultCaching()
+     * @since 2.0
+     */
+    public final void setResultCaching( final Boolean value )
+    {
+        this.resultCaching = value;
+    }
+
+    /**
+     * Gets the default directory results are cached in.
+     * <p>
+     * The default result cache directory is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProcessor.defaultResultCacheDirectory} holding the directory to cache
+     * results in by default. If that property is not set, no value is returned.
+     * </p>
+     *
+     * @return The directory results are cached in by default.
+     *
+     * @see #getResultCacheDirectory()
+     * @see #setDefaultResultCacheDirectory(java.lang.String)
+     * @since 2.0
+     */
+    public static Optional<String> getDefaultResultCacheDirectory()
+    {
+        if ( defaultResultCacheDirectory == null )
+        {
+            defaultResultCacheDirectory = System.getProperty( DEFAULT_RESULT_CACHE_DIRECTORY_PROPERTY_NAME );
+        }
+
+        return Optional.ofNullable( defaultResultCacheDirectory );
+    }
+
+    /**
+     * Sets the default directory results are cached in.
+     *
+     * @param value The new default directory to cache results in or {@code null}.
+     *
+     * @see #getDefaultResultCacheDirectory()
+     * @since 2.0
+     */
+    public static void setDefaultResultCacheDirectory( final String value )
+    {
+        defaultResultCacheDirectory = value;
+    }
+
+    /**
+     * Gets the directory results are cached in.
+     * <p>
+     * Setting a result cache directory enables result caching. Results are additionally written to files in that
+     * directory so that they survive the virtual machine. Failures reading or writing these files are logged and
+     * result in the stylesheets being applied.
+     * </p>
+     *
+     * @return The directory results are cached in.
+     *
+     * @see #getDefaultResultCacheDirectory()
+     * @see #setResultCacheDirectory(java.lang.String)
+     * @see #isResultCaching()
+     * @since 2.0
+     */
+    public final Optional<String> getResultCacheDirectory()
+    {
+        if ( this.resultCacheDirectory == null )
+        {
+            this.resultCacheDirectory = getDefaultResultCacheDirectory().orElse( null );
+        }
+
+        return Optional.ofNullable( this.resultCacheDirectory );
+    }
+
+    /**
+     * Sets the directory results are cached in.
+     *
+     * @param value The new directory to cache results in or {@code null}.
+     *
+     * @see #getResultCacheDirectory()
+     * @since 2.0
+     */
+    public final void setResultCacheDirectory( final String value )
+    {
+        this.resultCacheDirectory = value;
+    }
+
+    /**
+     * Searches a given context for transformers.
+     * <p>
+     * Each stylesheet is compiled once per class loader of the context and URL of the stylesheet. The transformers
+     * returned are created from the compiled stylesheets.
+     * </p>
+     *
+     * @param context The context to search for transformers.
+     * @param location The location to search at.
+     *
+     * @return The transformers found at {@code location} in {@code context} or an empty list, if no transformers are
+     * found.
+     *
+     * @throws NullPointerException if {@code context} or {@code location} is {@code null}.
+     * @throws ModelException if getting the transformers fails.
+     *
+     * @see #isParameterFiltering()
+     * @see #PARAMETER_FILTERING_ATTRIBUTE_NAME
+     */
+    public List<Transformer> findTransformers( final ModelContext context, final String location ) throws ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( location, "location" );
+
+        boolean contextParameterFiltering = this.isParameterFiltering();
+        if ( DEFAULT_PARAMETER_FILTERING == contextParameterFiltering )
+        {
+            final Optional<Object> parameterFilteringAttribute =
+                context.getAttribute( PARAMETER_FILTERING_ATTRIBUTE_NAME );
+
+            if ( parameterFilteringAttribute.isPresent() && parameterFilteringAttribute.get() instanceof Boolean )
+            {
+                contextParameterFiltering = (Boolean) parameterFilteringAttribute.get();
+            }
+        }
+
+        final ErrorListener errorListener = newErrorListener( context );
+        final Map<String, String> parameters = getTransformerParameters();
+        final List<Transformer> transformers = new LinkedList<>();
+
+        try
+        {
+            for ( final Stylesheet stylesheet : findStylesheets( context, location, errorListener ) )
+            {
+                final Transformer transformer = stylesheet.templates.newTransformer();
+                transformer.setErrorListener( errorListener );
+                setParameters( transformer, stylesheet, parameters, contextParameterFiltering );
+                transformers.add( transformer );
+            }
+        }
+        catch ( final TransformerConfigurationException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+
+        return transformers;
+    }
+
+    /**
+     * Searches a given context for stylesheets.
+     *
+     * @param context The context to search for stylesheets.
+     * @param location The location to search at.
+     * @param errorListener The listener to use for compiling stylesheets.
+     *
+     * @return The compiled stylesheets found at {@code location} in {@code context} or an empty list, if no
+     * stylesheets are found.
+     *
+     * @throws ModelException if compiling a stylesheet fails.
+     *
+     * @since 2.0
+     */
+    private static List<Stylesheet> findStylesheets( final ModelContext context, final String location,
+                                                     final ErrorListener errorListener )
+        throws ModelException
+    {
+        final long t0 = System.nanoTime();
+        final List<Stylesheet> stylesheets = new LinkedList<>();
+        final Enumeration<URL> transformerResourceEnumeration = context.findResources( location );
+        final Map<String, Stylesheet> stylesheetsByUrl =
+            stylesheetCache.computeIfAbsent( context.getClassLoader(), k  -> new ConcurrentHashMap<>( 16 ) );
+
+        try ( final Stream<URL> st0 = Collections.list( transformerResourceEnumeration ).parallelStream().unordered() )
+        {
+            final class CreateTransformerFailure extends RuntimeException
+            {
+
+                CreateTransformerFailure( final Throwable cause )
                 {
-                    TransformerFactory transformerFactory = threadLocalTransformerFactory.get();
-                    if ( transformerFactory == null )
+                    super( Objects.requireNonNull( cause, "cause" ) );
+                }
+
+                <T extends Exception, R extends Exception> void handleCause(
+                    final Class<T> cause, final Function<T, R> createExceptionFunction )
+                    throws R
+                {
+                    if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
                     {
-                        transformerFactory = TransformerFactory.newInstance();
-                        transformerFactory.setErrorListener( errorListener );
-                        threadLocalTransformerFactory.set( transformerFactory );
+                        throw Objects.requireNonNull( Objects.requireNonNull( createExceptionFunction,
+                                                                              "createExceptionFunction" ).
+                            apply( (T) this.getCause() ), createExceptionFunction.toString() );
+
                     }
+                }
+
+                Error unhandledCauseError()
+                {
+                    return new AssertionError( this.getCause() );
+                }
 
+            }
+
+            final Function<URL, Stylesheet> toStylesheet = url  ->
+            {
+                try
+                {
                     if ( context.isLoggable( Level.FINEST ) )
                     {
                         context.log( Level.FINEST, getMessage( "processing", url.toExternalForm() ), null );
                     }
 
-                    final Transformer transformer =
-                        transformerFactory.newTransformer( new StreamSource( url.toURI().toASCIIString() ) );
+                    final String key = url.toExternalForm();
+                    Stylesheet stylesheet = stylesheetsByUrl.get( key );
 
-                    transformer.setErrorListener( errorListener );
+                    if ( stylesheet != null && !stylesheet.isCurrent() )
+                    {
+                        stylesheetsByUrl.remove( key, stylesheet );
+                        stylesheet = null;
+                    }
 
-                    parameters.entrySet().forEach( e  ->
+                    if ( stylesheet == null )
                     {
-                        transformer.setParameter( e.getKey().toString(), e.getValue() );
-                    } );
+                        if ( context.isLoggable( Level.FINEST ) )
+                        {
+                            context.log( Level.FINEST, getMessage( "compilingStylesheet", key ), null );
+                        }
+
+                        stylesheet = new Stylesheet( url, errorListener );
 
-                    return transformer;
+                        if ( stylesheet.isCacheable() )
+                        {
+                            final Stylesheet cached = stylesheetsByUrl.putIfAbsent( key, stylesheet );
+
+                            if ( cached != null && cached.isCurrent() )
+                            {
+                                stylesheet = cached;
+                            }
+                            else if ( cached != null )
+                            {
+                                stylesheetsByUrl.replace( key, cached, stylesheet );
+                            }
+                        }
+                    }
+
+                    return stylesheet;
                 }
-                catch ( final TransformerConfigurationException | URISyntaxException e )
+                catch ( final ModelException | IOException | TransformerConfigurationException | URISyntaxException e )
                 {
                     throw new CreateTransformerFailure( e );
                 }
@@ -499,8 +1109,8 @@ public class DefaultModletProcessor implements ModletProcessor
 
             try
             {
-                transformers.addAll(
-                    st0.map( toTransformer ).
+                stylesheets.addAll(
+                    st0.map( toStylesheet ).
                         collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
                                            {
                                                l1.addAll( l2 );
@@ -511,6 +1121,11 @@ public class DefaultModletProcessor implements ModletProcessor
             }
             catch ( final CreateTransformerFailure f )
             {
+                f.handleCause( ModelException.class, cause  -> cause );
+
+                f.handleCause( IOException.class,
+                               cause  -> new ModelException( getMessage( cause ), cause ) );
+
                 f.handleCause( TransformerConfigurationException.class,
                                cause  -> new ModelException( getMessage( cause ), cause ) );
 
@@ -523,21 +1138,29 @@ public class DefaultModletProcessor implements ModletProcessor
 
         if ( context.isLoggable( Level.FINE ) )
         {
-            context.log( Level.FINE, getMessage( "contextReport", transformers.size(), location,
+            context.log( Level.FINE, getMessage( "contextReport", stylesheets.size(), location,
                                                  System.nanoTime() - t0 ), null );
 
         }
 
-        return transformers;
+        return stylesheets;
     }
 
     /**
      * {@inheritDoc}
      *
      * @see #isEnabled()
+     * @see #isChaining()
+     * @see #isParameterFiltering()
+     * @see #isResultCaching()
+     * @see #getResultCacheDirectory()
      * @see #getTransformerLocation()
      * @see #findTransformers(org.jomc.modlet.ModelContext, java.lang.String)
      * @see #ENABLED_ATTRIBUTE_NAME
+     * @see #CHAINING_ATTRIBUTE_NAME
+     * @see #PARAMETER_FILTERING_ATTRIBUTE_NAME
+     * @see #RESULT_CACHING_ATTRIBUTE_NAME
+     * @see #RESULT_CACHE_DIRECTORY_ATTRIBUTE_NAME
      * @see #TRANSFORMER_LOCATION_ATTRIBUTE_NAME
      */
     @Override
@@ -560,6 +1183,51 @@ public class DefaultModletProcessor implements ModletProcessor
                 }
             }
 
+            boolean contextChaining = this.isChaining();
+            if ( DEFAULT_CHAINING == contextChaining )
+            {
+                final Optional<Object> chainingAttribute = context.getAttribute( CHAINING_ATTRIBUTE_NAME );
+                if ( chainingAttribute.isPresent() && chainingAttribute.get() instanceof Boolean )
+                {
+                    contextChaining = (Boolean) chainingAttribute.get();
+                }
+            }
+
+            boolean contextParameterFiltering = this.isParameterFiltering();
+            if ( DEFAULT_PARAMETER_FILTERING == contextParameterFiltering )
+            {
+                final Optional<Object> parameterFilteringAttribute =
+                    context.getAttribute( PARAMETER_FILTERING_ATTRIBUTE_NAME );
+
+                if ( parameterFilteringAttribute.isPresent() && parameterFilteringAttribute.get() instanceof Boolean )
+                {
+                    contextParameterFiltering = (Boolean) parameterFilteringAttribute.get();
+                }
+            }
+
+            boolean contextResultCaching = this.isResultCaching();
+            if ( DEFAULT_RESULT_CACHING == contextResultCaching )
+            {
+                final Optional<Object> resultCachingAttribute = context.getAttribute( RESULT_CACHING_ATTRIBUTE_NAME );
+                if ( resultCachingAttribute.isPresent() && resultCachingAttribute.get() instanceof Boolean )
+                {
+                    contextResultCaching = (Boolean) resultCachingAttribute.get();
+                }
+            }
+
+            String contextResultCacheDirectory = this.getResultCacheDirectory().orElse( null );
+            if ( contextResultCacheDirectory == null )
+            {
+                final Optional<Object> resultCacheDirectoryAttribute =
+                    context.getAttribute( RESULT_CACHE_DIRECTORY_ATTRIBUTE_NAME );
+
+                if ( resultCacheDirectoryAttribute.isPresent()
+                         && resultCacheDirectoryAttribute.get() instanceof String )
+                {
+                    contextResultCacheDirectory = (String) resultCacheDirectoryAttribute.get();
+                }
+            }
+
             String contextTransformerLocation = this.getTransformerLocation();
             if ( DEFAULT_TRANSFORMER_LOCATION.equals( contextTransformerLocation ) )
             {
@@ -572,33 +1240,105 @@ public class DefaultModletProcessor implements ModletProcessor
                 }
             }
 
+            if ( transformersOverridden.get( this.getClass() ) )
+            {
+                contextChaining = false;
+                contextResultCaching = false;
+                contextResultCacheDirectory = null;
+            }
+
             if ( contextEnabled )
             {
                 final org.jomc.modlet.ObjectFactory objectFactory = new org.jomc.modlet.ObjectFactory();
                 final JAXBContext jaxbContext = context.createContext( ModletObject.MODEL_PUBLIC_ID );
-                final List<Transformer> transformers = this.findTransformers( context, contextTransformerLocation );
+                final String resultKey = contextResultCaching || contextResultCacheDirectory != null
+                                             ? getResultKey( context, jaxbContext, modlets, contextTransformerLocation,
+                                                             contextParameterFiltering )
+                                             : null;
+
+                final Path resultFile = resultKey != null && contextResultCacheDirectory != null
+                                            ? Paths.get( contextResultCacheDirectory, new StringBuilder( 96 ).
+                                                         append( "jomc-modlet-processor-" ).append( resultKey ).
+                                                         append( ".xml.gz" ).toString() )
+                                            : null;
 
-                if ( !transformers.isEmpty() )
+                processed = resultKey != null ? findResult( context, jaxbContext, resultKey, resultFile ) : null;
+
+                if ( processed == null )
                 {
-                    processed = modlets.clone();
+                    final TransformerFactory transformerFactory =
+                        contextChaining ? TransformerFactory.newInstance() : null;
+
 
-                    for ( int i = 0, s0 = transformers.size(); i < s0; i++ )
+                    if ( transformerFactory != null && transformerFactory.getFeature( SAXTransformerFactory.FEATURE )
+                             && transformerFactory.getFeature( SAXResult.FEATURE ) )
                     {
-                        final JAXBElement<Modlets> e = objectFactory.createModlets( processed );
-                        final JAXBSource source = new JAXBSource( jaxbContext, e );
-                        final JAXBResult result = new JAXBResult( jaxbContext );
-                        transformers.get( i ).transform( source, result );
+                        final ErrorListener errorListener = newErrorListener( context );
+                        final Map<String, String> parameters = getTransformerParameters();
+                        final List<Stylesheet> stylesheets =
+                            findStylesheets( context, contextTransformerLocation, errorListener );
 
-                        if ( result.getResult() instanceof JAXBElement<?>
-                                 && ( (JAXBElement<?>) result.getResult() ).getValue() instanceof Modlets )
+                        if ( !stylesheets.isEmpty() )
                         {
-                            processed = (Modlets) ( (JAXBElement<?>) result.getResult() ).getValue();
+                            final SAXTransformerFactory saxTransformerFactory =
+                                (SAXTransformerFactory) transformerFactory;
+
+                            saxTransformerFactory.setErrorListener( errorListener );
+
+                            final JAXBResult result = new JAXBResult( jaxbContext );
+                            TransformerHandler first = null;
+                            TransformerHandler last = null;
+
+                            for ( int i = 0, s0 = stylesheets.size(); i < s0; i++ )
+                            {
+                                final TransformerHandler handler =
+                                    saxTransformerFactory.newTransformerHandler( stylesheets.get( i ).templates );
+
+                                handler.getTransformer().setErrorListener( errorListener );
+                                setParameters( handler.getTransformer(), stylesheets.get( i ), parameters,
+                                               contextParameterFiltering );
+
+                                if ( last != null )
+                                {
+                                    last.setResult( new SAXResult( handler ) );
+                                }
+                                else
+                                {
+                                    first = handler;
+                                }
+
+                                last = handler;
+                            }
+
+                            last.setResult( result );
+                            jaxbContext.createMarshaller().marshal( objectFactory.createModlets( modlets ), first );
+                            processed = toModlets( result );
                         }
-                        else
+                    }
+                    else
+                    {
+                        final List<Transformer> transformers =
+                            this.findTransformers( context, contextTransformerLocation );
+
+                        if ( !transformers.isEmpty() )
                         {
-                            throw new ModelException( getMessage( "illegalTransformationResult" ) );
+                            processed = modlets;
+
+                            for ( int i = 0, s0 = transformers.size(); i < s0; i++ )
+                            {
+                                final JAXBElement<Modlets> e = objectFactory.createModlets( processed );
+                                final JAXBSource source = new JAXBSource( jaxbContext, e );
+                                final JAXBResult result = new JAXBResult( jaxbContext );
+                                transformers.get( i ).transform( source, result );
+                                processed = toModlets( result );
+                            }
                         }
                     }
+
+                    if ( resultKey != null && processed != null )
+                    {
+                        storeResult( context, jaxbContext, resultKey, resultFile, processed );
+                    }
                 }
             }
             else if ( context.isLoggable( Level.FINER ) )
@@ -630,26 +1370,317 @@ public class DefaultModletProcessor implements ModletProcessor
         }
     }
 
-    private static Properties getTransformerParameters() throws ModelException
+    /**
+     * Gets a digest of the inputs of processing some {@code Modlets}.
+     *
+     * @param context The context processing {@code modlets}.
+     * @param jaxbContext The JAXB context to marshal {@code modlets} with.
+     * @param modlets The {@code Modlets} to process.
+     * @param location The location of the stylesheets to apply.
+     * @param filtering {@code true}, to digest the parameters declared by the stylesheets; {@code false}, to digest all
+     * parameters.
+     *
+     * @return A hexadecimal SHA-256 digest of {@code modlets}, the stylesheets found at {@code location} and the
+     * transformer parameters or {@code null}, if no stylesheets are found.
+     *
+     * @throws JAXBException if marshalling {@code modlets} fails.
+     * @throws ModelException if getting the digest fails.
+     *
+     * @since 2.0
+     */
+    private static String getResultKey( final ModelContext context, final JAXBContext jaxbContext,
+                                        final Modlets modlets, final String location, final boolean filtering )
+        throws JAXBException, ModelException
     {
-        final Properties properties = new Properties();
+        final List<Stylesheet> stylesheets = findStylesheets( context, location, newErrorListener( context ) );
+
+        if ( stylesheets.isEmpty() )
+        {
+            return null;
+        }
+
+        final MessageDigest digest = DefaultModletProvider.newDigest();
+        final Map<String, String> parameters = getTransformerParameters();
 
-        try ( final ByteArrayOutputStream out = new ByteArrayOutputStream() )
+        final OutputStream digestStream = new OutputStream()
         {
-            System.getProperties().store( out, DefaultModletProcessor.class.getName() );
-            final byte[] bytes = out.toByteArray();
 
-            try ( final ByteArrayInputStream in = new ByteArrayInputStream( bytes ) )
+            @Override
+            public void write( final int b )
+            {
+                digest.update( (byte) b );
+            }
+
+            @Override
+            public void write( final byte[] b, final int off, final int len )
             {
-                properties.load( in );
+                digest.update( b, off, len );
+            }
+
+        };
+
+        jaxbContext.createMarshaller().marshal( new org.jomc.modlet.ObjectFactory().createModlets( modlets ),
+                                                digestStream );
+
+        stylesheets.sort( ( s1, s2 )  -> s1.url.toExternalForm().compareTo( s2.url.toExternalForm() ) );
+
+        for ( final Stylesheet stylesheet : stylesheets )
+        {
+            digest.update( stylesheet.url.toExternalForm().getBytes( StandardCharsets.UTF_8 ) );
+            digest.update( stylesheet.getDigest() );
+
+            if ( filtering )
+            {
+                for ( final String name : new TreeSet<>( stylesheet.getParameterNames() ) )
+                {
+                    digest.update( ( name + '=' + parameters.get( name ) ).getBytes( StandardCharsets.UTF_8 ) );
+                }
             }
         }
-        catch ( final IOException e )
+
+        if ( !filtering )
         {
-            throw new ModelException( getMessage( e ), e );
+            for ( final Map.Entry<String, String> e : new TreeMap<>( parameters ).entrySet() )
+            {
+                digest.update( ( e.getKey() + '=' + e.getValue() ).getBytes( StandardCharsets.UTF_8 ) );
+            }
+        }
+
+        return DefaultModletProvider.toHexString( digest.digest() );
+    }
+
+    /**
+     * Gets a cached result.
+     *
+     * @param context The context processing {@code Modlets}.
+     * @param jaxbContext The JAXB context to unmarshal a cached result with.
+     * @param key The key of the result.
+     * @param file The file the result is cached in or {@code null}, to not read the result from a file.
+     *
+     * @return A copy of the result cached for {@code key} or {@code null}, if no result is cached.
+     *
+     * @since 2.0
+     */
+    private static Modlets findResult( final ModelContext context, final JAXBContext jaxbContext, final String key,
+                                       final Path file )
+    {
+        Modlets result = resultCache.get( key );
+
+        if ( result == null && file != null && Files.isRegularFile( file ) )
+        {
+            try ( final InputStream in = new GZIPInputStream( Files.newInputStream( file ) ) )
+            {
+                Object content = jaxbContext.createUnmarshaller().unmarshal( in );
+
+                if ( content instanceof JAXBElement<?> )
+                {
+                    content = ( (JAXBElement<?>) content ).getValue();
+                }
+
+                if ( content instanceof Modlets )
+                {
+                    result = (Modlets) content;
+                    resultCache.put( key, result.clone() );
+                }
+            }
+            catch ( final IOException | JAXBException e )
+            {
+                if ( context.isLoggable( Level.WARNING ) )
+                {
+                    context.log( Level.WARNING, getMessage( "resultCacheFailure", file.toString(),
+                                                            getMessage( e ) != null ? " " + getMessage( e ) : "" ),
+                                 e );
+
+                }
+            }
+        }
+        else if ( result != null )
+        {
+            result = result.clone();
         }
 
-        return properties;
+        if ( result != null && context.isLoggable( Level.FINER ) )
+        {
+            context.log( Level.FINER, getMessage( "cachedResult", key ), null );
+        }
+
+        return result;
+    }
+
+    /**
+     * Caches a result.
+     *
+     * @param context The context processing {@code Modlets}.
+     * @param jaxbContext The JAXB context to marshal {@code result} with.
+     * @param key The key of the result.
+     * @param file The file to cache the result in or {@code null}, to cache the result in memory only.
+     * @param result The result to cache.
+     *
+     * @since 2.0
+     */
+    private static void storeResult( final ModelContext context, final JAXBContext jaxbContext, final String key,
+                                     final Path file, final Modlets result )
+    {
+        resultCache.put( key, result.clone() );
+
+        if ( file != null )
+        {
+            try
+            {
+                final Path directory = file.toAbsolutePath().getParent();
+                Files.createDirectories( directory );
+
+                final Path tmp = Files.createTempFile( directory, file.getFileName().toString(), ".tmp" );
+
+                try
+                {
+                    try ( final OutputStream out = new GZIPOutputStream( Files.newOutputStream( tmp ) ) )
+                    {
+                        jaxbContext.createMarshaller().marshal(
+                            new org.jomc.modlet.ObjectFactory().createModlets( result ), out );
+
+                    }
+
+                    Files.move( tmp, file, StandardCopyOption.REPLACE_EXISTING );
+                }
+                finally
+                {
+                    Files.deleteIfExists( tmp );
+                }
+            }
+            catch ( final IOException | JAXBException e )
+            {
+                if ( context.isLoggable( Level.WARNING ) )
+                {
+                    context.log( Level.WARNING, getMessage( "resultCacheFailure", file.toString(),
+                                                            getMessage( e ) != null ? " " + getMessage( e ) : "" ),
+                                 e );
+
+                }
+            }
+        }
+    }
+
+    private static Modlets toModlets( final JAXBResult result ) throws JAXBException, ModelException
+    {
+        if ( result.getResult() instanceof JAXBElement<?>
+                 && ( (JAXBElement<?>) result.getResult() ).getValue() instanceof Modlets )
+        {
+            return (Modlets) ( (JAXBElement<?>) result.getResult() ).getValue();
+        }
+
+        throw new ModelException( getMessage( "illegalTransformationResult" ) );
+    }
+
+    private static ErrorListener newErrorListener( final ModelContext context )
+    {
+        return new ErrorListener()
+        {
+
+            @Override
+            public void warning( final TransformerException exception ) throws TransformerException
+            {
+                if ( context.isLoggable( Level.WARNING ) )
+                {
+                    context.log( Level.WARNING, getMessage( exception ), exception );
+                }
+            }
+
+            @Override
+            public void error( final TransformerException exception ) throws TransformerException
+            {
+                if ( context.isLoggable( Level.SEVERE ) )
+                {
+                    context.log( Level.SEVERE, getMessage( exception ), exception );
+                }
+
+                throw exception;
+            }
+
+            @Override
+            public void fatalError( final TransformerException exception ) throws TransformerException
+            {
+                if ( context.isLoggable( Level.SEVERE ) )
+                {
+                    context.log( Level.SEVERE, getMessage( exception ), exception );
+                }
+
+                throw exception;
+            }
+
+        };
+    }
+
+    /**
+     * Gets the system properties to pass to transformers as parameters.
+     * <p>
+     * The system properties are copied only when they have changed since the last call.
+     * </p>
+     *
+     * @return The system properties to pass to transformers as parameters.
+     *
+     * @since 2.0
+     */
+    private static Map<String, String> getTransformerParameters()
+    {
+        final Properties systemProperties = System.getProperties();
+        final int hash = systemProperties.hashCode();
+        TransformerParameters snapshot = transformerParameters;
+
+        if ( snapshot == null || snapshot.properties != systemProperties || snapshot.hash != hash )
+        {
+            final Map<String, String> parameters = new HashMap<>( systemProperties.size() * 2 );
+
+            for ( final String name : systemProperties.stringPropertyNames() )
+            {
+                final String value = systemProperties.getProperty( name );
+
+                if ( value != null )
+                {
+                    parameters.put( name, value );
+                }
+            }
+
+            snapshot = new TransformerParameters( systemProperties, hash, Collections.unmodifiableMap( parameters ) );
+            transformerParameters = snapshot;
+        }
+
+        return snapshot.parameters;
+    }
+
+    /**
+     * Sets the parameters of a transformer.
+     *
+     * @param transformer The transformer to set parameters of.
+     * @param stylesheet The stylesheet of {@code transformer}.
+     * @param parameters The parameters to set.
+     * @param filtering {@code true}, to set only the parameters declared by {@code stylesheet}; {@code false}, to set
+     * all {@code parameters}.
+     *
+     * @throws ModelException if getting the parameters declared by {@code stylesheet} fails.
+     *
+     * @since 2.0
+     */
+    private static void setParameters( final Transformer transformer, final Stylesheet stylesheet,
+                                       final Map<String, String> parameters, final boolean filtering )
+        throws ModelException
+    {
+        if ( filtering )
+        {
+            for ( final String name : stylesheet.getParameterNames() )
+            {
+                final String value = parameters.get( name );
+
+                if ( value != null )
+                {
+                    transformer.setParameter( name, value );
+                }
+            }
+        }
+        else
+        {
+            parameters.forEach( transformer::setParameter );
+        }
     }
 
     private static String getMessage( final String key, final Object... args )
@@ -669,4 +1700,239 @@ public class DefaultModletProcessor implements ModletProcessor
 
     }
 
+    /**
+     * Snapshot of the system properties passed to transformers as parameters.
+     *
+     * @since 2.0
+     */
+    private static final class TransformerParameters
+    {
+
+        /**
+         * The system properties the snapshot has been taken of.
+         */
+        private final Properties properties;
+
+        /**
+         * The hash code of the system properties when the snapshot has been taken.
+         */
+        private final int hash;
+
+        /**
+         * The parameters of the snapshot.
+         */
+        private final Map<String, String> parameters;
+
+        TransformerParameters( final Properties properties, final int hash, final Map<String, String> parameters )
+        {
+            super();
+            this.properties = properties;
+            this.hash = hash;
+            this.parameters = parameters;
+        }
+
+    }
+
+    /**
+     * A compiled stylesheet.
+     *
+     * @since 2.0
+     */
+    private static final class Stylesheet
+    {
+
+        /**
+         * The URL of the stylesheet.
+         */
+        private final URL url;
+
+        /**
+         * The compiled stylesheet.
+         */
+        private final Templates templates;
+
+        /**
+         * The names of the top-level parameters of the stylesheet.
+         */
+        private final Set<String> parameterNames;
+
+        /**
+         * Digest of the content of the stylesheet.
+         */
+        private final byte[] digest;
+
+        /**
+         * Fingerprints of the stylesheet and of any stylesheet it includes or imports keyed by URL.
+         */
+        private final Map<String, String> fingerprints;
+
+        /**
+         * Reads and compiles a stylesheet.
+         *
+         * <p>The fingerprint of each stylesheet is taken before its content is read and before the stylesheet is
+         * compiled, so that a stylesheet changing concurrently is detected by {@link #isCurrent()} the next time.</p>
+         *
+         * @param url The URL of the stylesheet.
+         * @param errorListener The listener to use for compiling the stylesheet.
+         *
+         * @throws ModelException if reading the stylesheet fails.
+         * @throws IOException if getting the fingerprint of the stylesheet fails.
+         * @throws TransformerConfigurationException if compiling the stylesheet fails.
+         * @throws URISyntaxException if {@code url} cannot be converted to an URI.
+         */
+        Stylesheet( final URL url, final ErrorListener errorListener )
+            throws ModelException, IOException, TransformerConfigurationException, URISyntaxException
+        {
+            super();
+            this.url = url;
+
+            try
+            {
+                final Set<String> names = new HashSet<>( 16 );
+                final Map<String, String> urlFingerprints = new LinkedHashMap<>( 4 );
+                final MessageDigest contentDigest = DefaultModletProvider.newDigest();
+                final XMLInputFactory factory = XMLInputFactory.newFactory();
+                factory.setProperty( XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE );
+                factory.setProperty( XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE );
+                factory.setProperty( XMLInputFactory.SUPPORT_DTD, Boolean.FALSE );
+                read( factory, url, names, contentDigest, urlFingerprints );
+                this.parameterNames = Collections.unmodifiableSet( names );
+                this.digest = contentDigest.digest();
+                this.fingerprints = Collections.unmodifiableMap( urlFingerprints );
+            }
+            catch ( final XMLStreamException e )
+            {
+                throw new ModelException( getMessage( e ), e );
+            }
+
+            final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+            transformerFactory.setErrorListener( errorListener );
+            this.templates = transformerFactory.newTemplates( new StreamSource( url.toURI().toASCIIString() ) );
+        }
+
+        /**
+         * Gets the names of the top-level parameters of the stylesheet and of any stylesheet it includes or imports.
+         *
+         * @return The names of the top-level parameters of the stylesheet.
+         */
+        Set<String> getParameterNames()
+        {
+            return this.parameterNames;
+        }
+
+        /**
+         * Gets a digest of the content of the stylesheet and of any stylesheet it includes or imports.
+         *
+         * @return A SHA-256 digest of the content of the stylesheet.
+         */
+        byte[] getDigest()
+        {
+            return this.digest.clone();
+        }
+
+        /**
+         * Gets a flag indicating the stylesheet can be cached.
+         *
+         * @return {@code true}, if a fingerprint could be taken of the stylesheet and of any stylesheet it includes or
+         * imports; {@code false}, if changes to the stylesheet cannot be detected.
+         */
+        boolean isCacheable()
+        {
+            return !this.fingerprints.containsValue( null );
+        }
+
+        /**
+         * Gets a flag indicating neither the stylesheet nor any stylesheet it includes or imports changed since the
+         * stylesheet has been compiled.
+         *
+         * @return {@code true}, if the stylesheet is current; {@code false}, if the stylesheet needs to be compiled
+         * again.
+         *
+         * @throws IOException if getting a fingerprint fails.
+         */
+        boolean isCurrent() throws IOException
+        {
+            for ( final Map.Entry<String, String> e : this.fingerprints.entrySet() )
+            {
+                if ( e.getValue() == null
+                         || !e.getValue().equals( DefaultModletProvider.getFingerprint( new URL( e.getKey() ) ) ) )
+                {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static void read( final XMLInputFactory factory, final URL url, final Set<String> names,
+                                  final MessageDigest digest, final Map<String, String> fingerprints )
+            throws IOException, XMLStreamException
+        {
+            if ( !fingerprints.containsKey( url.toExternalForm() ) )
+            {
+                fingerprints.put( url.toExternalForm(), DefaultModletProvider.getFingerprint( url ) );
+                final List<URL> references = new LinkedList<>();
+                final byte[] content = DefaultModletProvider.readResource( url );
+                digest.update( content );
+
+                try ( final InputStream in = new ByteArrayInputStream( content ) )
+                {
+                    final XMLStreamReader reader = factory.createXMLStreamReader( url.toExternalForm(), in );
+
+                    try
+                    {
+                        int depth = 0;
+
+                        while ( reader.hasNext() )
+                        {
+                            final int event = reader.next();
+
+                            if ( event == XMLStreamConstants.START_ELEMENT )
+                            {
+                                depth++;
+
+                                if ( depth == 2 && XSLT_NAMESPACE.equals( reader.getNamespaceURI() ) )
+                                {
+                                    if ( "param".equals( reader.getLocalName() ) )
+                                    {
+                                        final String name = reader.getAttributeValue( null, "name" );
+
+                                        if ( name != null )
+                                        {
+                                            names.add( name.trim() );
+                                        }
+                                    }
+                                    else if ( "include".equals( reader.getLocalName() )
+                                                  || "import".equals( reader.getLocalName() ) )
+                                    {
+                                        final String href = reader.getAttributeValue( null, "href" );
+
+                                        if ( href != null )
+                                        {
+                                            references.add( new URL( url, href ) );
+                                        }
+                                    }
+                                }
+                            }
+                            else if ( event == XMLStreamConstants.END_ELEMENT )
+                            {
+                                depth--;
+                            }
+                        }
+                    }
+                    finally
+                    {
+                        reader.close();
+                    }
+                }
+
+                for ( final URL reference : references )
+                {
+                    read( factory, reference, names, digest, fingerprints );
+                }
+            }
+        }
+
+    }
+
 }
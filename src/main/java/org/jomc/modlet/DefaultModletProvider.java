@@ -30,24 +30,68 @@
  */
 package org.jomc.modlet;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.Queue;
 import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.jar.JarEntry;
 import java.util.logging.Level;
 import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.UnmarshalException;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLEventReader;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.Attribute;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartElement;
+import javax.xml.stream.events.XMLEvent;
+import javax.xml.transform.stream.StreamSource;
 
 /**
  * Default {@code ModletProvider} implementation.
@@ -203,6 +247,356 @@ public class DefaultModletProvider implements ModletProvider
      */
     private volatile Integer ordinal;
 
+    /**
+     * Constant for the name of the model context attribute backing property {@code incremental}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String INCREMENTAL_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProvider.incrementalAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultIncremental}.
+     *
+     * @see #isDefaultIncremental()
+     * @since 2.0
+     */
+    private static final String DEFAULT_INCREMENTAL_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProvider.defaultIncremental";
+
+    /**
+     * Default value of the flag indicating the provider is searching resources incrementally by default.
+     *
+     * @see #isDefaultIncremental()
+     * @since 2.0
+     */
+    private static final Boolean DEFAULT_INCREMENTAL = Boolean.FALSE;
+
+    /**
+     * Flag indicating the provider is searching resources incrementally by default.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultIncremental;
+
+    /**
+     * Flag indicating the provider is searching resources incrementally.
+     *
+     * @since 2.0
+     */
+    private volatile Boolean incremental;
+
+    /**
+     * {@code Modlets} of resources searched incrementally by class loader, location and resource URL.
+     * <p>
+     * Class loaders are weakly referenced so that the resources of a class loader no longer in use can be garbage
+     * collected. The resources of a location are replaced on every search of that location.
+     * </p>
+     *
+     * @since 2.0
+     */
+    private static final Map<ClassLoader, Map<String, Map<String, ModletResource>>> incrementalResources =
+        Collections.synchronizedMap( new WeakHashMap<>( 16 ) );
+
+    /**
+     * Parsed indexes of {@code Modlet} resources by class loader and external form of the URL of the index resource.
+     *
+     * @since 2.0
+     */
+    private static final Map<ClassLoader, Map<String, ModletIndex>> indexes =
+        Collections.synchronizedMap( new WeakHashMap<>( 16 ) );
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code streaming}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String STREAMING_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProvider.streamingAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultStreaming}.
+     *
+     * @see #isDefaultStreaming()
+     * @since 2.0
+     */
+    private static final String DEFAULT_STREAMING_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProvider.defaultStreaming";
+
+    /**
+     * Default value of the flag indicating the provider is streaming resources by default.
+     *
+     * @see #isDefaultStreaming()
+     * @since 2.0
+     */
+    private static final Boolean DEFAULT_STREAMING = Boolean.FALSE;
+
+    /**
+     * Flag indicating the provider is streaming resources by default.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultStreaming;
+
+    /**
+     * Flag indicating the provider is streaming resources.
+     *
+     * @since 2.0
+     */
+    private volatile Boolean streaming;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code fragmenting}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String FRAGMENTING_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProvider.fragmentingAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultFragmenting}.
+     *
+     * @see #isDefaultFragmenting()
+     * @since 2.0
+     */
+    private static final String DEFAULT_FRAGMENTING_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProvider.defaultFragmenting";
+
+    /**
+     * Default value of the flag indicating the provider is unmarshalling fragments of resources by default.
+     *
+     * @see #isDefaultFragmenting()
+     * @since 2.0
+     */
+    private static final Boolean DEFAULT_FRAGMENTING = Boolean.FALSE;
+
+    /**
+     * Flag indicating the provider is unmarshalling fragments of resources by default.
+     *
+     * @since 2.0
+     */
+    private static volatile Boolean defaultFragmenting;
+
+    /**
+     * Flag indicating the provider is unmarshalling fragments of resources.
+     *
+     * @since 2.0
+     */
+    private volatile Boolean fragmenting;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code fragmentingThreshold}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String FRAGMENTING_THRESHOLD_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProvider.fragmentingThresholdAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultFragmentingThreshold}.
+     *
+     * @see #getDefaultFragmentingThreshold()
+     * @since 2.0
+     */
+    private static final String DEFAULT_FRAGMENTING_THRESHOLD_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProvider.defaultFragmentingThreshold";
+
+    /**
+     * Default value of the minimum size in bytes of resources unmarshalled in fragments.
+     *
+     * @see #getDefaultFragmentingThreshold()
+     * @since 2.0
+     */
+    private static final Integer DEFAULT_FRAGMENTING_THRESHOLD = 1048576;
+
+    /**
+     * Default minimum size in bytes of resources unmarshalled in fragments.
+     *
+     * @since 2.0
+     */
+    private static volatile Integer defaultFragmentingThreshold;
+
+    /**
+     * Minimum size in bytes of resources unmarshalled in fragments.
+     *
+     * @since 2.0
+     */
+    private volatile Integer fragmentingThreshold;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code executor}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String EXECUTOR_ATTRIBUTE_NAME = "org.jomc.modlet.DefaultModletProvider.executorAttribute";
+
+    /**
+     * Executor of the provider.
+     *
+     * @since 2.0
+     */
+    private volatile Executor executor;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code maxConcurrency}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String MAX_CONCURRENCY_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProvider.maxConcurrencyAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultMaxConcurrency}.
+     *
+     * @see #getDefaultMaxConcurrency()
+     * @since 2.0
+     */
+    private static final String DEFAULT_MAX_CONCURRENCY_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProvider.defaultMaxConcurrency";
+
+    /**
+     * Default value of the maximum number of resources unmarshalled concurrently.
+     *
+     * @see #getDefaultMaxConcurrency()
+     * @since 2.0
+     */
+    private static final Integer DEFAULT_MAX_CONCURRENCY = 0;
+
+    /**
+     * Default maximum number of resources unmarshalled concurrently.
+     *
+     * @since 2.0
+     */
+    private static volatile Integer defaultMaxConcurrency;
+
+    /**
+     * Maximum number of resources unmarshalled concurrently.
+     *
+     * @since 2.0
+     */
+    private volatile Integer maxConcurrency;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code validationLedgerDirectory}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String VALIDATION_LEDGER_DIRECTORY_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProvider.validationLedgerDirectoryAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultValidationLedgerDirectory}.
+     *
+     * @see #getDefaultValidationLedgerDirectory()
+     * @since 2.0
+     */
+    private static final String DEFAULT_VALIDATION_LEDGER_DIRECTORY_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProvider.defaultValidationLedgerDirectory";
+
+    /**
+     * Name of the file of a validation ledger.
+     *
+     * @since 2.0
+     */
+    private static final String VALIDATION_LEDGER_FILE_NAME = "jomc-modlet-validation-ledger.properties";
+
+    /**
+     * Default directory of the validation ledger.
+     *
+     * @since 2.0
+     */
+    private static volatile String defaultValidationLedgerDirectory;
+
+    /**
+     * Directory of the validation ledger.
+     *
+     * @since 2.0
+     */
+    private volatile String validationLedgerDirectory;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code indexLocation}.
+     *
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String INDEX_LOCATION_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletProvider.indexLocationAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultIndexLocation}.
+     *
+     * @see #getDefaultIndexLocation()
+     * @since 2.0
+     */
+    private static final String DEFAULT_INDEX_LOCATION_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletProvider.defaultIndexLocation";
+
+    /**
+     * Class path location searched for indexes of {@code Modlet} resources by default.
+     *
+     * @see #getDefaultIndexLocation()
+     * @since 2.0
+     */
+    private static final String DEFAULT_INDEX_LOCATION = "META-INF/jomc-modlet-index.xml";
+
+    /**
+     * Default index location.
+     *
+     * @since 2.0
+     */
+    private static volatile String defaultIndexLocation;
+
+    /**
+     * Index location of the instance.
+     *
+     * @since 2.0
+     */
+    private volatile String indexLocation;
+
+    /**
+     * Name of the element of resources split into fragments.
+     *
+     * @since 2.0
+     */
+    private static final QName MODLETS_ELEMENT_NAME = new QName( ModletObject.MODEL_PUBLIC_ID, "modlets" );
+
+    /**
+     * Name of the elements resources are split at.
+     *
+     * @since 2.0
+     */
+    private static final QName MODLET_ELEMENT_NAME = new QName( ModletObject.MODEL_PUBLIC_ID, "modlet" );
+
+    /**
+     * Factory shared for streaming resources.
+     *
+     * @since 2.0
+     */
+    private static volatile XMLInputFactory xmlInputFactory;
+
+    /**
+     * Factory shared for creating fragments of resources.
+     *
+     * @since 2.0
+     */
+    private static volatile XMLEventFactory xmlEventFactory;
+
     /**
      * Creates a new {@code DefaultModletProvider} instance.
      */
@@ -498,206 +892,2307 @@ public class DefaultModletProvider implements ModletProvider
     }
 
     /**
-     * Searches a given context for {@code Modlets}.
+     * Gets a flag indicating the provider is searching resources incrementally by default.
+     * <p>
+     * The default incremental flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProvider.defaultIncremental} holding a value indicating the provider is
+     * searching resources incrementally by default. If that property is not set, the {@code false} default is returned.
+     * </p>
      *
-     * @param context The context to search for {@code Modlets}.
-     * @param location The location to search at.
+     * @return {@code true}, if the provider is searching resources incrementally by default; {@code false}, if the
+     * provider is not searching resources incrementally by default.
      *
-     * @return The {@code Modlets} found at {@code location} in {@code context} or empty {@code Modlets}, if no
-     * {@code Modlets} are found.
+     * @see #isIncremental()
+     * @see #setDefaultIncremental(java.lang.Boolean)
      *
-     * @throws NullPointerException if {@code context} or {@code location} is {@code null}.
-     * @throws ModelException if searching the context fails.
+     * @since 2.0
+     */
+    public static boolean isDefaultIncremental()
+    {
+        if ( defaultIncremental == null )
+        {
+            defaultIncremental = Boolean.valueOf( System.getProperty(
+                DEFAULT_INCREMENTAL_PROPERTY_NAME, Boolean.toString( DEFAULT_INCREMENTAL ) ) );
+
+        }
+
+        return defaultIncremental;
+    }
+
+    /**
+     * Sets the flag indicating the provider is searching resources incrementally by default.
      *
-     * @see #isValidating()
-     * @see #VALIDATING_ATTRIBUTE_NAME
+     * @param value The new value of the flag indicating the provider is searching resources incrementally by default
+     * or {@code null}.
+     *
+     * @see #isDefaultIncremental()
+     *
+     * @since 2.0
      */
-    public Modlets findModlets( final ModelContext context, final String location ) throws ModelException
+    public static void setDefaultIncremental( final Boolean value )
     {
-        Objects.requireNonNull( context, "context" );
-        Objects.requireNonNull( location, "location" );
+        defaultIncremental = value;
+    }
 
-        boolean contextValidating = this.isValidating();
-        if ( DEFAULT_VALIDATING == contextValidating )
+    /**
+     * Gets a flag indicating the provider is searching resources incrementally.
+     * <p>
+     * When searching resources incrementally, the {@code Modlets} of any resource are kept together with a fingerprint
+     * of that resource. The last modification time and size are used for file resources and the CRC and size of the
+     * entry are used for jar resources. Subsequent searches only unmarshal resources which have been added or whose
+     * fingerprint changed. Resources no longer found are dropped. The {@code Modlets} are kept separately for each
+     * class loader and location searched and are released together with the class loader they were found with.
+     * </p>
+     *
+     * @return {@code true}, if the provider is searching resources incrementally; {@code false}, if the provider is
+     * not searching resources incrementally.
+     *
+     * @see #isDefaultIncremental()
+     * @see #setIncremental(java.lang.Boolean)
+     *
+     * @since 2.0
+     */
+    public final boolean isIncremental()
+    {
+        if ( this.incremental == null )
         {
-            final Optional<Object> validatingAttribute = context.getAttribute( VALIDATING_ATTRIBUTE_NAME );
-            if ( validatingAttribute.isPresent() && validatingAttribute.get() instanceof Boolean )
-            {
-                contextValidating = (Boolean) validatingAttribute.get();
-            }
+            this.incremental = isDefaultIncremental();
         }
 
-        final Modlets modlets = new Modlets();
-        final long t0 = System.nanoTime();
-        final Enumeration<URL> modletResourceEnumeration = context.findResources( location );
-        final JAXBContext ctx = context.createContext( ModletObject.MODEL_PUBLIC_ID );
-        final javax.xml.validation.Schema schema = contextValidating
-                                                       ? context.createSchema( ModletObject.MODEL_PUBLIC_ID )
-                                                       : null;
+        return this.incremental;
+    }
 
-        final ThreadLocal<Unmarshaller> threadLocalUnmarshaller = new ThreadLocal<>();
+    /**
+     * Sets the flag indicating the provider is searching resources incrementally.
+     *
+     * @param value The new value of the flag indicating the provider is searching resources incrementally or
+     * {@code null}.
+     *
+     * @see #isIncremental()
+     *
+     * @since 2.0
+     */
+    public final void setIncremental( final Boolean value )
+    {
+        this.incremental = value;
+    }
 
-        try ( final Stream<URL> st0 = Collections.list( modletResourceEnumeration ).parallelStream().unordered() )
+    /**
+     * Gets a flag indicating the provider is streaming resources by default.
+     * <p>
+     * The default streaming flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProvider.defaultStreaming} holding a value indicating the provider is
+     * streaming resources by default. If that property is not set, the {@code false} default is returned.
+     * </p>
+     *
+     * @return {@code true}, if the provider is streaming resources by default; {@code false}, if the provider is not
+     * streaming resources by default.
+     *
+     * @see #isStreaming()
+     * @see #setDefaultStreaming(java.lang.Boolean)
+     *
+     * @since 2.0
+     */
+    public static boolean isDefaultStreaming()
+    {
+        if ( defaultStreaming == null )
         {
-            final class UnmarshalFailure extends RuntimeException
-            {
+            defaultStreaming = Boolean.valueOf( System.getProperty(
+                DEFAULT_STREAMING_PROPERTY_NAME, Boolean.toString( DEFAULT_STREAMING ) ) );
 
-                final URL resource;
+        }
 
-                UnmarshalFailure( final URL resource, final Throwable cause )
+        return defaultStreaming;
+    }
+
+    /**
+     * Sets the flag indicating the provider is streaming resources by default.
+     *
+     * @param value The new value of the flag indicating the provider is streaming resources by default or
+     * {@code null}.
+     *
+     * @see #isDefaultStreaming()
+     *
+     * @since 2.0
+     */
+    public static void setDefaultStreaming( final Boolean value )
+    {
+        defaultStreaming = value;
+    }
+
+    /**
+     * Gets a flag indicating the provider is streaming resources.
+     * <p>
+     * When streaming resources, any resource is read from its stream by a {@code XMLStreamReader} created using a
+     * {@code XMLInputFactory} shared by all providers. Unmarshalling then does not need a SAX parser per resource. The
+     * stream of each resource is still opened using a connection to that resource, unless the content of the resource
+     * has already been read. Validation, if enabled, is performed against the schema of the context the same way as
+     * when not streaming.
+     * </p>
+     *
+     * @return {@code true}, if the provider is streaming resources; {@code false}, if the provider is not streaming
+     * resources.
+     *
+     * @see #isDefaultStreaming()
+     * @see #setStreaming(java.lang.Boolean)
+     *
+     * @since 2.0
+     */
+    public final boolean isStreaming()
+    {
+        if ( this.streaming == null )
+        {
+            this.streaming = isDefaultStreaming();
+        }
+
+        return this.streaming;
+    }
+
+    /**
+     * Sets the flag indicating the provider is streaming resources.
+     *
+     * @param value The new value of the flag indicating the provider is streaming resources or {@code null}.
+     *
+     * @see #isStreaming()
+     *
+     * @since 2.0
+     */
+    public final void setStreaming( final Boolean value )
+    {
+        this.streaming = value;
+    }
+
+    /**
+     * Gets a flag indicating the provider is unmarshalling fragments of resources by default.
+     * <p>
+     * The default fragmenting flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProvider.defaultFragmenting} holding a value indicating the provider is
+     * unmarshalling fragments of resources by default. If that property is not set, the {@code false} default is
+     * returned.
+     * </p>
+     *
+     * @return {@code true}, if the provider is unmarshalling fragments of resources by default; {@code false}, if the
+     * provider is not unmarshalling fragments of resources by default.
+     *
+     * @see #isFragmenting()
+     * @see #setDefaultFragmenting(java.lang.Boolean)
+     *
+     * @since 2.0
+     */
+    public static boolean isDefaultFragmenting()
+    {
+        if ( defaultFragmenting == null )
+        {
+            defaultFragmenting = Boolean.valueOf( System.getProperty(
+                DEFAULT_FRAGMENTING_PROPERTY_NAME, Boolean.toString( DEFAULT_FRAGMENTING ) ) );
+
+        }
+
+        return defaultFragmenting;
+    }
+
+    /**
+     * Sets the flag indicating the provider is unmarshalling fragments of resources by default.
+     *
+     * @param value The new value of the flag indicating the provider is unmarshalling fragments of resources by
+     * default or {@code null}.
+     *
+     * @see #isDefaultFragmenting()
+     *
+     * @since 2.0
+     */
+    public static void setDefaultFragmenting( final Boolean value )
+    {
+        defaultFragmenting = value;
+    }
+
+    /**
+     * Gets a flag indicating the provider is unmarshalling fragments of resources.
+     * <p>
+     * When unmarshalling fragments of resources, any resource not smaller than the fragmenting threshold holding a
+     * {@code modlets} element is scanned and split at the {@code modlet} elements of that element. Any fragment is
+     * unmarshalled as soon as it has been scanned, concurrently to scanning the remaining fragments. This is intended
+     * for resources declaring a large number of {@code Modlet}s. If validating, any fragment is validated separately
+     * and the uniqueness of the names of the {@code Modlet}s of a resource is checked by the provider. Resources
+     * which cannot be split without losing content, like resources holding attributes on the {@code modlets} element
+     * or elements other than {@code modlet} elements below it, are unmarshalled as a whole.
+     * </p>
+     *
+     * @return {@code true}, if the provider is unmarshalling fragments of resources; {@code false}, if the provider is
+     * not unmarshalling fragments of resources.
+     *
+     * @see #isDefaultFragmenting()
+     * @see #getFragmentingThreshold()
+     * @see #setFragmenting(java.lang.Boolean)
+     *
+     * @since 2.0
+     */
+    public final boolean isFragmenting()
+    {
+        if ( this.fragmenting == null )
+        {
+            this.fragmenting = isDefaultFragmenting();
+        }
+
+        return this.fragmenting;
+    }
+
+    /**
+     * Sets the flag indicating the provider is unmarshalling fragments of resources.
+     *
+     * @param value The new value of the flag indicating the provider is unmarshalling fragments of resources or
+     * {@code null}.
+     *
+     * @see #isFragmenting()
+     *
+     * @since 2.0
+     */
+    public final void setFragmenting( final Boolean value )
+    {
+        this.fragmenting = value;
+    }
+
+    /**
+     * Gets the default minimum size in bytes of resources unmarshalled in fragments.
+     * <p>
+     * The default fragmenting threshold is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProvider.defaultFragmentingThreshold} holding the default minimum size in
+     * bytes of resources unmarshalled in fragments. If that property is not set, the {@code 1048576} default is
+     * returned.
+     * </p>
+     *
+     * @return The default minimum size in bytes of resources unmarshalled in fragments.
+     *
+     * @see #getFragmentingThreshold()
+     * @see #setDefaultFragmentingThreshold(java.lang.Integer)
+     *
+     * @since 2.0
+     */
+    public static int getDefaultFragmentingThreshold()
+    {
+        if ( defaultFragmentingThreshold == null )
+        {
+            defaultFragmentingThreshold = Integer.getInteger( DEFAULT_FRAGMENTING_THRESHOLD_PROPERTY_NAME,
+                                                              DEFAULT_FRAGMENTING_THRESHOLD );
+
+        }
+
+        return defaultFragmentingThreshold;
+    }
+
+    /**
+     * Sets the default minimum size in bytes of resources unmarshalled in fragments.
+     *
+     * @param value The new default minimum size in bytes of resources unmarshalled in fragments or {@code null}.
+     *
+     * @see #getDefaultFragmentingThreshold()
+     *
+     * @since 2.0
+     */
+    public static void setDefaultFragmentingThreshold( final Integer value )
+    {
+        defaultFragmentingThreshold = value;
+    }
+
+    /**
+     * Gets the minimum size in bytes of resources unmarshalled in fragments.
+     * <p>
+     * When unmarshalling fragments of resources, resources smaller than this threshold are unmarshalled as a whole, the
+     * same way as when not unmarshalling fragments.
+     * </p>
+     *
+     * @return The minimum size in bytes of resources unmarshalled in fragments.
+     *
+     * @see #getDefaultFragmentingThreshold()
+     * @see #isFragmenting()
+     * @see #setFragmentingThreshold(java.lang.Integer)
+     *
+     * @since 2.0
+     */
+    public final int getFragmentingThreshold()
+    {
+        if ( this.fragmentingThreshold == null )
+        {
+            this.fragmentingThreshold = getDefaultFragmentingThreshold();
+        }
+
+        return this.fragmentingThreshold;
+    }
+
+    /**
+     * Sets the minimum size in bytes of resources unmarshalled in fragments.
+     *
+     * @param value The new minimum size in bytes of resources unmarshalled in fragments or {@code null}.
+     *
+     * @see #getFragmentingThreshold()
+     *
+     * @since 2.0
+     */
+    public final void setFragmentingThreshold( final Integer value )
+    {
+        this.fragmentingThreshold = value;
+    }
+
+    /**
+     * Gets the executor of the provider.
+     *
+     * @return The executor of the provider or no value, if resources are not unmarshalled using an executor of the
+     * provider.
+     *
+     * @see #getMaxConcurrency()
+     * @see #setExecutor(java.util.concurrent.Executor)
+     *
+     * @since 2.0
+     */
+    public final Optional<Executor> getExecutor()
+    {
+        return Optional.ofNullable( this.executor );
+    }
+
+    /**
+     * Sets the executor of the provider.
+     *
+     * @param value The new executor of the provider or {@code null}.
+     *
+     * @see #getExecutor()
+     *
+     * @since 2.0
+     */
+    public final void setExecutor( final Executor value )
+    {
+        this.executor = value;
+    }
+
+    /**
+     * Gets the default maximum number of resources unmarshalled concurrently.
+     * <p>
+     * The default maximum concurrency is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProvider.defaultMaxConcurrency} holding the default maximum number of
+     * resources unmarshalled concurrently. If that property is not set, the {@code 0} default is returned.
+     * </p>
+     *
+     * @return The default maximum number of resources unmarshalled concurrently.
+     *
+     * @see #getMaxConcurrency()
+     * @see #setDefaultMaxConcurrency(java.lang.Integer)
+     *
+     * @since 2.0
+     */
+    public static int getDefaultMaxConcurrency()
+    {
+        if ( defaultMaxConcurrency == null )
+        {
+            defaultMaxConcurrency = Integer.getInteger( DEFAULT_MAX_CONCURRENCY_PROPERTY_NAME,
+                                                        DEFAULT_MAX_CONCURRENCY );
+
+        }
+
+        return defaultMaxConcurrency;
+    }
+
+    /**
+     * Sets the default maximum number of resources unmarshalled concurrently.
+     *
+     * @param value The new default maximum number of resources unmarshalled concurrently or {@code null}.
+     *
+     * @see #getDefaultMaxConcurrency()
+     *
+     * @since 2.0
+     */
+    public static void setDefaultMaxConcurrency( final Integer value )
+    {
+        defaultMaxConcurrency = value;
+    }
+
+    /**
+     * Gets the maximum number of resources unmarshalled concurrently.
+     * <p>
+     * Resources are unmarshalled using parallel streams unless an executor is set or the maximum concurrency is
+     * greater than {@code 0}. Otherwise a number of tasks not exceeding the maximum concurrency is run on the executor,
+     * each unmarshalling one resource at a time. Without an executor, these tasks are run on the common fork join pool.
+     * With a maximum concurrency of {@code 0}, the number of available processors is used. When unmarshalling
+     * fragments of resources this way, the fragments of any resource are unmarshalled sequentially by the task
+     * unmarshalling that resource.
+     * </p>
+     *
+     * @return The maximum number of resources unmarshalled concurrently.
+     *
+     * @see #getDefaultMaxConcurrency()
+     * @see #getExecutor()
+     * @see #setMaxConcurrency(java.lang.Integer)
+     *
+     * @since 2.0
+     */
+    public final int getMaxConcurrency()
+    {
+        if ( this.maxConcurrency == null )
+        {
+            this.maxConcurrency = getDefaultMaxConcurrency();
+        }
+
+        return this.maxConcurrency;
+    }
+
+    /**
+     * Sets the maximum number of resources unmarshalled concurrently.
+     *
+     * @param value The new maximum number of resources unmarshalled concurrently or {@code null}.
+     *
+     * @see #getMaxConcurrency()
+     *
+     * @since 2.0
+     */
+    public final void setMaxConcurrency( final Integer value )
+    {
+        this.maxConcurrency = value;
+    }
+
+    /**
+     * Gets the default directory of the validation ledger.
+     * <p>
+     * The default validation ledger directory is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProvider.defaultValidationLedgerDirectory} holding the directory of the
+     * validation ledger to use by default. If that property is not set, no validation ledger is used by default.
+     * </p>
+     *
+     * @return The directory of the validation ledger to use by default or no value, if no validation ledger is used by
+     * default.
+     *
+     * @see #getValidationLedgerDirectory()
+     * @see #setDefaultValidationLedgerDirectory(java.lang.String)
+     *
+     * @since 2.0
+     */
+    public static Optional<String> getDefaultValidationLedgerDirectory()
+    {
+        if ( defaultValidationLedgerDirectory == null )
+        {
+            defaultValidationLedgerDirectory = System.getProperty( DEFAULT_VALIDATION_LEDGER_DIRECTORY_PROPERTY_NAME );
+        }
+
+        return Optional.ofNullable( defaultValidationLedgerDirectory );
+    }
+
+    /**
+     * Sets the default directory of the validation ledger.
+     *
+     * @param value The new default directory of the validation ledger or {@code null}.
+     *
+     * @see #getDefaultValidationLedgerDirectory()
+     *
+     * @since 2.0
+     */
+    public static void setDefaultValidationLedgerDirectory( final String value )
+    {
+        defaultValidationLedgerDirectory = value;
+    }
+
+    /**
+     * Gets the directory of the validation ledger.
+     * <p>
+     * The validation ledger is a file in that directory mapping a SHA-256 digest of the content of any resource
+     * successfully validated to a SHA-256 digest of the schemas that resource has been validated against. When
+     * validating, resources whose content already got validated against the same schemas are unmarshalled without
+     * validation. The ledger is updated after searching a context, if any resource got validated.
+     * </p>
+     *
+     * @return The directory of the validation ledger or no value, if no validation ledger is used.
+     *
+     * @see #getDefaultValidationLedgerDirectory()
+     * @see #setValidationLedgerDirectory(java.lang.String)
+     *
+     * @since 2.0
+     */
+    public final Optional<String> getValidationLedgerDirectory()
+    {
+        if ( this.validationLedgerDirectory == null )
+        {
+            this.validationLedgerDirectory = getDefaultValidationLedgerDirectory().orElse( null );
+        }
+
+        return Optional.ofNullable( this.validationLedgerDirectory );
+    }
+
+    /**
+     * Sets the directory of the validation ledger.
+     *
+     * @param value The new directory of the validation ledger or {@code null}.
+     *
+     * @see #getValidationLedgerDirectory()
+     *
+     * @since 2.0
+     */
+    public final void setValidationLedgerDirectory( final String value )
+    {
+        this.validationLedgerDirectory = value;
+    }
+
+    /**
+     * Gets the default location searched for indexes of {@code Modlet} resources.
+     * <p>
+     * The default index location is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletProvider.defaultIndexLocation} holding the location to search for indexes of
+     * {@code Modlet} resources by default. If that property is not set, the {@code META-INF/jomc-modlet-index.xml}
+     * default is returned.
+     * </p>
+     *
+     * @return The location searched for indexes of {@code Modlet} resources by default.
+     *
+     * @see #setDefaultIndexLocation(java.lang.String)
+     * @see ModletIndexGenerator
+     * @since 2.0
+     */
+    public static String getDefaultIndexLocation()
+    {
+        if ( defaultIndexLocation == null )
+        {
+            defaultIndexLocation = System.getProperty(
+                DEFAULT_INDEX_LOCATION_PROPERTY_NAME, DEFAULT_INDEX_LOCATION );
+
+        }
+
+        return defaultIndexLocation;
+    }
+
+    /**
+     * Sets the default location searched for indexes of {@code Modlet} resources.
+     *
+     * @param value The new default location to search for indexes of {@code Modlet} resources or {@code null}.
+     *
+     * @see #getDefaultIndexLocation()
+     * @since 2.0
+     */
+    public static void setDefaultIndexLocation( final String value )
+    {
+        defaultIndexLocation = value;
+    }
+
+    /**
+     * Gets the location searched for indexes of {@code Modlet} resources.
+     * <p>
+     * Any resource found at that location is expected to hold an index written by the {@code ModletIndexGenerator}.
+     * Resources found in an index are neither read nor unmarshalled but taken from that index, unless the size or
+     * checksum of a jar entry or the size or modification time of a file tells the resource has changed since the
+     * index has been written. Indexes are parsed once per class loader and parsed again only when changed.
+     * </p>
+     *
+     * @return The location searched for indexes of {@code Modlet} resources.
+     *
+     * @see #getDefaultIndexLocation()
+     * @see #setIndexLocation(java.lang.String)
+     * @since 2.0
+     */
+    public final String getIndexLocation()
+    {
+        if ( this.indexLocation == null )
+        {
+            this.indexLocation = getDefaultIndexLocation();
+        }
+
+        return this.indexLocation;
+    }
+
+    /**
+     * Sets the location searched for indexes of {@code Modlet} resources.
+     *
+     * @param value The new location to search for indexes of {@code Modlet} resources or {@code null}.
+     *
+     * @see #getIndexLocation()
+     * @since 2.0
+     */
+    public final void setIndexLocation( final String value )
+    {
+        this.indexLocation = value;
+    }
+
+    /**
+     * Searches a given context for {@code Modlets}.
+     *
+     * @param context The context to search for {@code Modlets}.
+     * @param location The location to search at.
+     *
+     * @return The {@code Modlets} found at {@code location} in {@code context} or empty {@code Modlets}, if no
+     * {@code Modlets} are found.
+     *
+     * @throws NullPointerException if {@code context} or {@code location} is {@code null}.
+     * @throws ModelException if searching the context fails.
+     *
+     * @see #isValidating()
+     * @see #isIncremental()
+     * @see #isStreaming()
+     * @see #isFragmenting()
+     * @see #getFragmentingThreshold()
+     * @see #getExecutor()
+     * @see #getMaxConcurrency()
+     * @see #getValidationLedgerDirectory()
+     * @see #getIndexLocation()
+     * @see #VALIDATING_ATTRIBUTE_NAME
+     * @see #INCREMENTAL_ATTRIBUTE_NAME
+     * @see #STREAMING_ATTRIBUTE_NAME
+     * @see #FRAGMENTING_ATTRIBUTE_NAME
+     * @see #FRAGMENTING_THRESHOLD_ATTRIBUTE_NAME
+     * @see #EXECUTOR_ATTRIBUTE_NAME
+     * @see #MAX_CONCURRENCY_ATTRIBUTE_NAME
+     * @see #VALIDATION_LEDGER_DIRECTORY_ATTRIBUTE_NAME
+     * @see #INDEX_LOCATION_ATTRIBUTE_NAME
+     */
+    public Modlets findModlets( final ModelContext context, final String location ) throws ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( location, "location" );
+
+        boolean contextValidating = this.isValidating();
+        if ( DEFAULT_VALIDATING == contextValidating )
+        {
+            final Optional<Object> validatingAttribute = context.getAttribute( VALIDATING_ATTRIBUTE_NAME );
+            if ( validatingAttribute.isPresent() && validatingAttribute.get() instanceof Boolean )
+            {
+                contextValidating = (Boolean) validatingAttribute.get();
+            }
+        }
+
+        boolean contextIncremental = this.isIncremental();
+        if ( DEFAULT_INCREMENTAL == contextIncremental )
+        {
+            final Optional<Object> incrementalAttribute = context.getAttribute( INCREMENTAL_ATTRIBUTE_NAME );
+            if ( incrementalAttribute.isPresent() && incrementalAttribute.get() instanceof Boolean )
+            {
+                contextIncremental = (Boolean) incrementalAttribute.get();
+            }
+        }
+
+        boolean contextStreaming = this.isStreaming();
+        if ( DEFAULT_STREAMING == contextStreaming )
+        {
+            final Optional<Object> streamingAttribute = context.getAttribute( STREAMING_ATTRIBUTE_NAME );
+            if ( streamingAttribute.isPresent() && streamingAttribute.get() instanceof Boolean )
+            {
+                contextStreaming = (Boolean) streamingAttribute.get();
+            }
+        }
+
+        boolean contextFragmenting = this.isFragmenting();
+        if ( DEFAULT_FRAGMENTING == contextFragmenting )
+        {
+            final Optional<Object> fragmentingAttribute = context.getAttribute( FRAGMENTING_ATTRIBUTE_NAME );
+            if ( fragmentingAttribute.isPresent() && fragmentingAttribute.get() instanceof Boolean )
+            {
+                contextFragmenting = (Boolean) fragmentingAttribute.get();
+            }
+        }
+
+        int contextFragmentingThreshold = this.getFragmentingThreshold();
+        if ( DEFAULT_FRAGMENTING_THRESHOLD == contextFragmentingThreshold )
+        {
+            final Optional<Object> fragmentingThresholdAttribute =
+                context.getAttribute( FRAGMENTING_THRESHOLD_ATTRIBUTE_NAME );
+
+            if ( fragmentingThresholdAttribute.isPresent() && fragmentingThresholdAttribute.get() instanceof Integer )
+            {
+                contextFragmentingThreshold = (Integer) fragmentingThresholdAttribute.get();
+            }
+        }
+
+        Executor contextExecutor = this.getExecutor().orElse( null );
+        if ( contextExecutor == null )
+        {
+            final Optional<Object> executorAttribute = context.getAttribute( EXECUTOR_ATTRIBUTE_NAME );
+            if ( executorAttribute.isPresent() && executorAttribute.get() instanceof Executor )
+            {
+                contextExecutor = (Executor) executorAttribute.get();
+            }
+        }
+
+        int contextMaxConcurrency = this.getMaxConcurrency();
+        if ( DEFAULT_MAX_CONCURRENCY == contextMaxConcurrency )
+        {
+            final Optional<Object> maxConcurrencyAttribute = context.getAttribute( MAX_CONCURRENCY_ATTRIBUTE_NAME );
+            if ( maxConcurrencyAttribute.isPresent() && maxConcurrencyAttribute.get() instanceof Integer )
+            {
+                contextMaxConcurrency = (Integer) maxConcurrencyAttribute.get();
+            }
+        }
+
+        String contextValidationLedgerDirectory = this.getValidationLedgerDirectory().orElse( null );
+        if ( contextValidationLedgerDirectory == null )
+        {
+            final Optional<Object> validationLedgerDirectoryAttribute =
+                context.getAttribute( VALIDATION_LEDGER_DIRECTORY_ATTRIBUTE_NAME );
+
+            if ( validationLedgerDirectoryAttribute.isPresent()
+                     && validationLedgerDirectoryAttribute.get() instanceof String )
+            {
+                contextValidationLedgerDirectory = (String) validationLedgerDirectoryAttribute.get();
+            }
+        }
+
+        String contextIndexLocation = this.getIndexLocation();
+        if ( DEFAULT_INDEX_LOCATION.equals( contextIndexLocation ) )
+        {
+            final Optional<Object> indexLocationAttribute = context.getAttribute( INDEX_LOCATION_ATTRIBUTE_NAME );
+            if ( indexLocationAttribute.isPresent() && indexLocationAttribute.get() instanceof String )
+            {
+                contextIndexLocation = (String) indexLocationAttribute.get();
+            }
+        }
+
+        final Modlets modlets = new Modlets();
+        final long t0 = System.nanoTime();
+        final List<URL> modletResources = Collections.list( context.findResources( location ) );
+        final JAXBContext ctx = context.createContext( ModletObject.MODEL_PUBLIC_ID );
+        final javax.xml.validation.Schema schema = contextValidating
+                                                       ? context.createSchema( ModletObject.MODEL_PUBLIC_ID )
+                                                       : null;
+
+        final UnmarshallerPool unmarshallers = new UnmarshallerPool( ctx, schema );
+        final UnmarshallerPool validatedUnmarshallers = new UnmarshallerPool( ctx, null );
+        final ValidationLedger ledger = contextValidating && contextValidationLedgerDirectory != null
+                                            ? ValidationLedger.load( context, Paths.get(
+                                                contextValidationLedgerDirectory, VALIDATION_LEDGER_FILE_NAME ) )
+                                            : null;
+
+        final Map<String, IndexedResource> index =
+            loadIndex( context, contextIndexLocation, validatedUnmarshallers );
+
+        final boolean validating = contextValidating;
+        final Map<String, ModletResource> resources = contextIncremental
+                                                          ? getIncrementalResources( context, location )
+                                                          : null;
+
+        final boolean streamingly = contextStreaming;
+        final boolean fragmentingly = contextFragmenting;
+        final int fragmentingThreshold = contextFragmentingThreshold;
+        final boolean executing = contextExecutor != null || contextMaxConcurrency > 0;
+
+        final class UnmarshalFailure extends RuntimeException
+        {
+
+            final URL resource;
+
+            UnmarshalFailure( final URL resource, final Throwable cause )
+            {
+                super( Objects.requireNonNull( cause, "cause" ) );
+                this.resource = Objects.requireNonNull( resource, "resource" );
+            }
+
+            <T extends Exception, R extends Exception> void handleCause(
+                final Class<T> cause, final Function<T, R> createExceptionFunction )
+                throws R
+            {
+                if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
+                {
+                    throw Objects.requireNonNull( Objects.requireNonNull( createExceptionFunction,
+                                                                          "createExceptionFunction" ).
+                        apply( (T) this.getCause() ), createExceptionFunction.toString() );
+
+                }
+            }
+
+            Error unhandledCauseError()
+            {
+                return new AssertionError( this.getCause() );
+            }
+
+        }
+
+        final Function<URL, Modlets> toModlets = url  ->
+        {
+            try
+            {
+                final String fingerprint = resources != null ? getFingerprint( url ) : null;
+
+                if ( fingerprint != null )
+                {
+                    final ModletResource resource = resources.get( url.toExternalForm() );
+
+                    if ( resource != null && resource.fingerprint.equals( fingerprint )
+                             && ( resource.validated || !validating ) )
+                    {
+                        if ( context.isLoggable( Level.FINEST ) )
+                        {
+                            context.log( Level.FINEST, getMessage( "unchangedResource", url.toExternalForm() ),
+                                         null );
+
+                        }
+
+                        return resource.modlets.clone();
+                    }
+                }
+
+                final IndexedResource indexed = index.get( url.toExternalForm() );
+
+                if ( indexed != null && indexed.isCurrent( url ) )
+                {
+                    if ( context.isLoggable( Level.FINEST ) )
+                    {
+                        context.log( Level.FINEST, getMessage( "indexedResource", url.toExternalForm() ), null );
+                    }
+
+                    return indexed.modlets.clone();
+                }
+
+                final Modlets result = new Modlets();
+                final byte[] content = ledger != null ? readResource( url ) : null;
+                final String digest = content != null ? toHexString( newDigest().digest( content ) ) : null;
+
+                final boolean validated = ledger != null && ledger.isValidated( digest );
+                final UnmarshallerPool pool = validated ? validatedUnmarshallers : unmarshallers;
+
+                if ( validated && context.isLoggable( Level.FINEST ) )
+                {
+                    context.log( Level.FINEST, getMessage( "validatedResource", url.toExternalForm() ), null );
+                }
+
+                final byte[] bytes = fragmentingly && content == null ? readResource( url ) : content;
+                final List<Modlet> fragments = fragmentingly && bytes.length >= fragmentingThreshold
+                                                   ? unmarshalFragments( url, bytes, validating && !validated, pool,
+                                                                         !executing )
+                                                   : null;
+
+                if ( fragments != null )
+                {
+                    result.getModlet().addAll( fragments );
+                }
+                else
+                {
+                    final Unmarshaller unmarshaller = pool.take();
+
+                    try
+                    {
+                        addContent( result.getModlet(), streamingly
+                                                            ? unmarshal( unmarshaller, url, bytes )
+                                                            : bytes != null
+                                                                  ? unmarshaller.unmarshal( new StreamSource(
+                                                                      new ByteArrayInputStream( bytes ),
+                                                                      url.toExternalForm() ) )
+                                                                  : unmarshaller.unmarshal( url ) );
+
+                    }
+                    finally
+                    {
+                        pool.release( unmarshaller );
+                    }
+                }
+
+                if ( ledger != null && !validated )
+                {
+                    ledger.setValidated( digest );
+                }
+
+                if ( fingerprint != null )
+                {
+                    resources.put( url.toExternalForm(),
+                                   new ModletResource( fingerprint, validating, result.clone() ) );
+
+                }
+
+                return result;
+            }
+            catch ( final JAXBException | XMLStreamException | IOException e )
+            {
+                throw new UnmarshalFailure( url, e );
+            }
+        };
+
+        try
+        {
+            if ( executing )
+            {
+                modlets.getModlet().addAll( unmarshalResources( modletResources, toModlets, contextExecutor,
+                                                                contextMaxConcurrency ) );
+
+            }
+            else
+            {
+                try ( final Stream<URL> st0 = modletResources.parallelStream().unordered() )
+                {
+                    modlets.getModlet().addAll(
+                        st0.map( toModlets ).
+                            flatMap( m  -> m.getModlet().parallelStream().unordered() ).
+                            collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
+                                               {
+                                                   l1.addAll( l2 );
+                                                   return l1;
+                                               }, Collector.Characteristics.CONCURRENT,
+                                                   Collector.Characteristics.UNORDERED ) )
+                    );
+                }
+            }
+        }
+        catch ( final UnmarshalFailure f )
+        {
+            f.handleCause( UnmarshalException.class, e  -> new ModelException( getMessage( e, f.resource ), e ) );
+            f.handleCause( JAXBException.class, e  -> new ModelException( getMessage( e ), e ) );
+            f.handleCause( XMLStreamException.class, e  -> new ModelException( getMessage( e, f.resource ), e ) );
+            f.handleCause( IOException.class, e  -> new ModelException( getMessage( e ), e ) );
+            throw f.unhandledCauseError();
+        }
+
+        if ( ledger != null )
+        {
+            ledger.store( context );
+        }
+
+        if ( resources != null )
+        {
+            final Set<String> found = new HashSet<>( modletResources.size() * 2 );
+            modletResources.forEach( url  -> found.add( url.toExternalForm() ) );
+            resources.keySet().retainAll( found );
+        }
+
+        if ( context.isLoggable( Level.FINE ) )
+        {
+            context.log( Level.FINE, getMessage( "contextReport",
+                                                 modlets.getModlet().size(),
+                                                 location, System.nanoTime() - t0 ), null );
+
+        }
+
+        return modlets;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return The {@code Modlets} found in the context or {@code null}, if no {@code Modlets} are found or the provider
+     * is disabled.
+     *
+     * @see #isEnabled()
+     * @see #getModletLocation()
+     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
+     * @see #ENABLED_ATTRIBUTE_NAME
+     * @see #MODLET_LOCATION_ATTRIBUTE_NAME
+     * @since 1.6
+     */
+    @Override
+    public Optional<Modlets> findModlets( final ModelContext context, final Modlets modlets ) throws ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( modlets, "modlets" );
+
+        Modlets provided = null;
+
+        boolean contextEnabled = this.isEnabled();
+        if ( DEFAULT_ENABLED == contextEnabled )
+        {
+            final Optional<Object> enabledAttribute = context.getAttribute( ENABLED_ATTRIBUTE_NAME );
+            if ( enabledAttribute.isPresent() && enabledAttribute.get() instanceof Boolean )
+            {
+                contextEnabled = (Boolean) enabledAttribute.get();
+            }
+        }
+
+        String contextModletLocation = this.getModletLocation();
+        if ( DEFAULT_MODLET_LOCATION.equals( contextModletLocation ) )
+        {
+            final Optional<Object> modletLocationAttribute = context.getAttribute( MODLET_LOCATION_ATTRIBUTE_NAME );
+            if ( modletLocationAttribute.isPresent() && modletLocationAttribute.get() instanceof String )
+            {
+                contextModletLocation = (String) modletLocationAttribute.get();
+            }
+        }
+
+        if ( contextEnabled )
+        {
+            final Modlets found = this.findModlets( context, contextModletLocation );
+
+            if ( !found.getModlet().isEmpty() )
+            {
+                provided = modlets.shallowCopy();
+                provided.getModlet().addAll( found.getModlet() );
+            }
+        }
+        else if ( context.isLoggable( Level.FINER ) )
+        {
+            context.log( Level.FINER, getMessage( "disabled", this.getClass().getSimpleName() ), null );
+        }
+
+        return Optional.ofNullable( provided );
+    }
+
+    /**
+     * Gets the resources searched incrementally for a location of a context.
+     *
+     * @param context The context to get the resources of.
+     * @param location The location to get the resources of.
+     *
+     * @return The resources searched incrementally for {@code location} using the class loader of {@code context}.
+     *
+     * @since 2.0
+     */
+    private static Map<String, ModletResource> getIncrementalResources( final ModelContext context,
+                                                                        final String location )
+    {
+        return incrementalResources.computeIfAbsent( context.getClassLoader(), k  -> new ConcurrentHashMap<>( 4 ) ).
+            computeIfAbsent( location, k  -> new ConcurrentHashMap<>( 64 ) );
+
+    }
+
+    /**
+     * Gets a fingerprint of a resource.
+     *
+     * @param resource The resource to get a fingerprint of.
+     *
+     * @return A fingerprint of {@code resource} or {@code null}, if no fingerprint can be computed for
+     * {@code resource}.
+     *
+     * @throws IOException if getting the fingerprint fails.
+     *
+     * @since 2.0
+     */
+    static String getFingerprint( final URL resource ) throws IOException
+    {
+        String fingerprint = null;
+
+        if ( "file".equalsIgnoreCase( resource.getProtocol() ) )
+        {
+            try
+            {
+                final Path path = Paths.get( resource.toURI() );
+                fingerprint = new StringBuilder( 32 ).append( Files.getLastModifiedTime( path ).toMillis() ).
+                    append( ':' ).append( Files.size( path ) ).toString();
+
+            }
+            catch ( final URISyntaxException | IllegalArgumentException e )
+            {
+                fingerprint = null;
+            }
+        }
+        else if ( "jar".equalsIgnoreCase( resource.getProtocol() ) )
+        {
+            final URLConnection connection = resource.openConnection();
+
+            if ( connection instanceof JarURLConnection )
+            {
+                final JarURLConnection jarConnection = (JarURLConnection) connection;
+                final JarEntry entry = jarConnection.getJarEntry();
+
+                if ( entry != null && entry.getCrc() != -1L )
+                {
+                    fingerprint = new StringBuilder( 32 ).append( Long.toHexString( entry.getCrc() ) ).
+                        append( ':' ).append( entry.getSize() ).toString();
+
+                }
+
+                if ( !jarConnection.getUseCaches() )
+                {
+                    jarConnection.getJarFile().close();
+                }
+            }
+        }
+
+        return fingerprint;
+    }
+
+    /**
+     * Unmarshals a resource by streaming.
+     *
+     * @param unmarshaller The unmarshaller to use.
+     * @param resource The resource to unmarshal.
+     * @param content The content of {@code resource} or {@code null}, to read {@code resource}.
+     *
+     * @return The content unmarshalled from {@code resource}.
+     *
+     * @throws IOException if reading {@code resource} fails.
+     * @throws XMLStreamException if creating a reader for {@code resource} fails.
+     * @throws JAXBException if unmarshalling {@code resource} fails.
+     *
+     * @since 2.0
+     */
+    private static Object unmarshal( final Unmarshaller unmarshaller, final URL resource, final byte[] content )
+        throws IOException, XMLStreamException, JAXBException
+    {
+        try ( final InputStream in = content != null ? new ByteArrayInputStream( content ) : resource.openStream() )
+        {
+            final XMLStreamReader reader = createXMLStreamReader( resource.toExternalForm(), in );
+
+            try
+            {
+                return unmarshaller.unmarshal( reader );
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Loads the indexes of {@code Modlet} resources found in a context.
+     * <p>
+     * Indexes are cached per class loader and index resource. A cached index is parsed again only if the fingerprint
+     * of its resource changed or no fingerprint can be computed for it.
+     * </p>
+     *
+     * @param context The context to search for indexes.
+     * @param location The location to search at.
+     * @param unmarshallers The unmarshallers to use.
+     *
+     * @return The resources of the indexes found at {@code location} keyed by the external form of their URL.
+     *
+     * @throws ModelException if loading an index fails.
+     *
+     * @see ModletIndexGenerator
+     * @since 2.0
+     */
+    private static Map<String, IndexedResource> loadIndex( final ModelContext context, final String location,
+                                                           final UnmarshallerPool unmarshallers )
+        throws ModelException
+    {
+        final List<URL> indexResources = Collections.list( context.findResources( location ) );
+
+        if ( indexResources.isEmpty() )
+        {
+            return Collections.emptyMap();
+        }
+
+        final Map<String, ModletIndex> cache =
+            indexes.computeIfAbsent( context.getClassLoader(), k  -> new ConcurrentHashMap<>( 16 ) );
+
+        final Map<String, IndexedResource> index = new HashMap<>( 64 );
+        URL current = null;
+
+        try
+        {
+            for ( final URL indexResource : indexResources )
+            {
+                current = indexResource;
+                final String fingerprint = getFingerprint( indexResource );
+                ModletIndex cached = cache.get( indexResource.toExternalForm() );
+
+                if ( cached == null || fingerprint == null || !fingerprint.equals( cached.fingerprint ) )
+                {
+                    cached = new ModletIndex( fingerprint, parseIndex( indexResource, location, unmarshallers ) );
+
+                    if ( fingerprint != null )
+                    {
+                        cache.put( indexResource.toExternalForm(), cached );
+                    }
+                }
+
+                cached.resources.forEach( index::putIfAbsent );
+            }
+
+            return index;
+        }
+        catch ( final UnmarshalException e )
+        {
+            throw new ModelException( getMessage( e, current ), e );
+        }
+        catch ( final JAXBException | IOException | URISyntaxException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+        catch ( final XMLStreamException e )
+        {
+            throw new ModelException( getMessage( e, current ), e );
+        }
+    }
+
+    /**
+     * Parses an index of {@code Modlet} resources.
+     *
+     * @param indexResource The resource holding the index to parse.
+     * @param location The location {@code indexResource} has been found at.
+     * @param unmarshallers The unmarshallers to use.
+     *
+     * @return The resources of the index keyed by the external form of their URL.
+     *
+     * @throws IOException if reading {@code indexResource} fails.
+     * @throws URISyntaxException if {@code indexResource} cannot be converted to an URI.
+     * @throws XMLStreamException if parsing {@code indexResource} fails.
+     * @throws JAXBException if unmarshalling the {@code Modlets} of {@code indexResource} fails.
+     *
+     * @since 2.0
+     */
+    private static Map<String, IndexedResource> parseIndex( final URL indexResource, final String location,
+                                                            final UnmarshallerPool unmarshallers )
+        throws IOException, URISyntaxException, XMLStreamException, JAXBException
+    {
+        final String indexUrl = indexResource.toExternalForm();
+
+        // An index describes the resources of the class path element it is part of.
+        if ( !indexUrl.endsWith( location ) )
+        {
+            return Collections.emptyMap();
+        }
+
+        final String base = indexUrl.substring( 0, indexUrl.length() - location.length() );
+        final long indexModified = "file".equalsIgnoreCase( indexResource.getProtocol() )
+                                       ? Files.getLastModifiedTime( Paths.get( indexResource.toURI() ) ).toMillis()
+                                       : -1L;
+
+        final Map<String, IndexedResource> resources = new HashMap<>( 8 );
+        final Unmarshaller unmarshaller = unmarshallers.take();
+
+        try ( final InputStream in = indexResource.openStream() )
+        {
+            final XMLStreamReader reader = createXMLStreamReader( indexUrl, in );
+
+            try
+            {
+                while ( reader.hasNext() )
+                {
+                    if ( reader.isStartElement()
+                             && ModletIndexGenerator.RESOURCE_ELEMENT.equals( reader.getLocalName() )
+                             && ModletIndexGenerator.INDEX_NAMESPACE.equals( reader.getNamespaceURI() ) )
+                    {
+                        final String resource =
+                            reader.getAttributeValue( null, ModletIndexGenerator.LOCATION_ATTRIBUTE );
+
+                        final String size = reader.getAttributeValue( null, ModletIndexGenerator.SIZE_ATTRIBUTE );
+                        final String crc = reader.getAttributeValue( null, ModletIndexGenerator.CRC_ATTRIBUTE );
+
+                        reader.nextTag();
+
+                        // The unmarshaller leaves the reader positioned after the unmarshalled element.
+                        final Modlets modlets = unmarshaller.unmarshal( reader, Modlets.class ).getValue();
+
+                        if ( resource != null && size != null && crc != null )
+                        {
+                            try
+                            {
+                                resources.putIfAbsent( base + resource, new IndexedResource(
+                                                       Long.parseLong( size ), Long.parseLong( crc, 16 ),
+                                                       indexModified, modlets ) );
+
+                            }
+                            catch ( final NumberFormatException e )
+                            {
+                                // Entries of unknown format are ignored, so that their resources get unmarshalled.
+                            }
+                        }
+                    }
+                    else
+                    {
+                        reader.next();
+                    }
+                }
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+        finally
+        {
+            unmarshallers.release( unmarshaller );
+        }
+
+        return Collections.unmodifiableMap( resources );
+    }
+
+    /**
+     * Unmarshals the fragments of a resource concurrently.
+     * <p>
+     * Any fragment is unmarshalled as soon as it has been scanned, so that no more than the fragments not yet
+     * unmarshalled are held in memory. Resources without a {@code modlets} root element, resources holding attributes
+     * on that element other than {@code xsi} attributes, and resources holding any content below that element other
+     * than {@code modlet} elements, comments, processing instructions and whitespace are not split.
+     * </p>
+     *
+     * @param resource The resource to unmarshal.
+     * @param content The content of {@code resource}.
+     * @param validating {@code true}, to check the uniqueness of the names of the {@code Modlet}s of
+     * {@code resource}; {@code false}, to not perform that check.
+     * @param unmarshallers The unmarshallers to use.
+     * @param parallel {@code true}, to unmarshal the fragments of {@code resource} concurrently; {@code false}, to
+     * unmarshal the fragments of {@code resource} sequentially.
+     *
+     * @return The {@code Modlet}s unmarshalled from {@code resource} in document order or {@code null}, if
+     * {@code resource} cannot be split without losing content.
+     *
+     * @throws IOException if reading {@code resource} fails.
+     * @throws XMLStreamException if reading {@code resource} fails.
+     * @throws JAXBException if unmarshalling a fragment of {@code resource} fails.
+     *
+     * @since 2.0
+     */
+    private static List<Modlet> unmarshalFragments( final URL resource, final byte[] content,
+                                                    final boolean validating, final UnmarshallerPool unmarshallers,
+                                                    final boolean parallel )
+        throws IOException, XMLStreamException, JAXBException
+    {
+        final List<CompletableFuture<List<Modlet>>> fragments = new ArrayList<>( 64 );
+
+        try ( final InputStream in = new ByteArrayInputStream( content ) )
+        {
+            final XMLEventReader reader = createXMLEventReader( resource.toExternalForm(), in );
+
+            try
+            {
+                StartElement root = null;
+                List<XMLEvent> fragment = null;
+                int depth = 0;
+
+                while ( reader.hasNext() )
+                {
+                    XMLEvent event = reader.nextEvent();
+
+                    if ( event.isStartElement() )
+                    {
+                        depth++;
+
+                        if ( depth == 1 )
+                        {
+                            root = event.asStartElement();
+
+                            if ( !MODLETS_ELEMENT_NAME.equals( root.getName() ) || hasContentAttributes( root ) )
+                            {
+                                return null;
+                            }
+                        }
+                        else if ( depth == 2 )
+                        {
+                            if ( !MODLET_ELEMENT_NAME.equals( event.asStartElement().getName() ) )
+                            {
+                                return null;
+                            }
+
+                            fragment = new ArrayList<>( 256 );
+                            event = createFragmentElement( root, event.asStartElement() );
+                        }
+                    }
+                    else if ( depth == 1 && event.isCharacters() && !event.asCharacters().isWhiteSpace() )
+                    {
+                        return null;
+                    }
+
+                    if ( fragment != null )
+                    {
+                        fragment.add( event );
+                    }
+
+                    if ( event.isEndElement() )
+                    {
+                        depth--;
+
+                        if ( fragment != null && depth == 1 )
+                        {
+                            final List<XMLEvent> events = fragment;
+                            fragments.add( parallel
+                                               ? CompletableFuture.supplyAsync(
+                                                   () -> unmarshalFragment( events, unmarshallers ) )
+                                               : CompletableFuture.completedFuture(
+                                                   unmarshalFragment( events, unmarshallers ) ) );
+
+                            fragment = null;
+                        }
+                    }
+                }
+            }
+            catch ( final UnmarshalFragmentFailure f )
+            {
+                throw (JAXBException) f.getCause();
+            }
+            finally
+            {
+                reader.close();
+            }
+        }
+
+        final List<Modlet> modlets = new ArrayList<>( fragments.size() );
+
+        try
+        {
+            for ( final CompletableFuture<List<Modlet>> future : fragments )
+            {
+                modlets.addAll( future.join() );
+            }
+        }
+        catch ( final CompletionException e )
+        {
+            if ( e.getCause() instanceof UnmarshalFragmentFailure )
+            {
+                throw (JAXBException) e.getCause().getCause();
+            }
+
+            throw e;
+        }
+
+        if ( validating )
+        {
+            final Set<String> names = new HashSet<>( modlets.size() );
+
+            for ( final Modlet modlet : modlets )
+            {
+                if ( !names.add( modlet.getName() ) )
+                {
+                    throw new UnmarshalException( getMessage( "modletNameConstraint", modlet.getName() ) );
+                }
+            }
+        }
+
+        return modlets;
+    }
+
+    /**
+     * Unmarshals a fragment of a resource.
+     *
+     * @param fragment The events of the fragment to unmarshal.
+     * @param unmarshallers The unmarshallers to use.
+     *
+     * @return The {@code Modlet}s unmarshalled from {@code fragment}.
+     *
+     * @throws UnmarshalFragmentFailure if unmarshalling {@code fragment} fails.
+     *
+     * @since 2.0
+     */
+    private static List<Modlet> unmarshalFragment( final List<XMLEvent> fragment,
+                                                   final UnmarshallerPool unmarshallers )
+    {
+        try
+        {
+            final List<Modlet> modlets = new ArrayList<>( 1 );
+            final Unmarshaller unmarshaller = unmarshallers.take();
+
+            try
+            {
+                addContent( modlets, unmarshaller.unmarshal( new FragmentReader( fragment ) ) );
+            }
+            finally
+            {
+                unmarshallers.release( unmarshaller );
+            }
+
+            return modlets;
+        }
+        catch ( final JAXBException e )
+        {
+            throw new UnmarshalFragmentFailure( e );
+        }
+    }
+
+    /**
+     * Tests a start element for attributes not in the XML schema instance namespace.
+     *
+     * @param element The element to test.
+     *
+     * @return {@code true}, if {@code element} holds attributes not in the XML schema instance namespace;
+     * {@code false}, if {@code element} holds no such attributes.
+     *
+     * @since 2.0
+     */
+    private static boolean hasContentAttributes( final StartElement element )
+    {
+        for ( final Iterator<?> it = element.getAttributes(); it.hasNext(); )
+        {
+            final Attribute attribute = (Attribute) it.next();
+
+            if ( !XMLConstants.W3C_XML_SCHEMA_INSTANCE_NS_URI.equals( attribute.getName().getNamespaceURI() ) )
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds unmarshalled content to a list of {@code Modlet}s.
+     *
+     * @param modlets The list to add {@code content} to.
+     * @param content The unmarshalled content to add.
+     *
+     * @since 2.0
+     */
+    static void addContent( final List<Modlet> modlets, final Object content )
+    {
+        Object value = content;
+
+        if ( value instanceof JAXBElement<?> )
+        {
+            value = ( (JAXBElement<?>) value ).getValue();
+        }
+
+        if ( value instanceof Modlet )
+        {
+            modlets.add( (Modlet) value );
+        }
+        else if ( value instanceof Modlets )
+        {
+            modlets.addAll( ( (Modlets) value ).getModlet() );
+        }
+    }
+
+    /**
+     * Unmarshals resources running a bounded number of tasks on an executor.
+     *
+     * @param resources The resources to unmarshal.
+     * @param toModlets The function unmarshalling a resource.
+     * @param executor The executor to run the tasks on or {@code null}, to run the tasks on the common fork join pool.
+     * @param maxConcurrency The maximum number of tasks to run or {@code 0}, to run as many tasks as there are
+     * available processors.
+     *
+     * @return The {@code Modlet}s unmarshalled from {@code resources}.
+     *
+     * @since 2.0
+     */
+    private static List<Modlet> unmarshalResources( final List<URL> resources,
+                                                    final Function<URL, Modlets> toModlets,
+                                                    final Executor executor, final int maxConcurrency )
+    {
+        final int tasks = Math.min( resources.size(), maxConcurrency > 0
+                                                          ? maxConcurrency
+                                                          : Runtime.getRuntime().availableProcessors() );
+
+        final List<Modlet> modlets = new ArrayList<>( resources.size() );
+
+        if ( tasks > 0 )
+        {
+            final Queue<URL> pending = new ConcurrentLinkedQueue<>( resources );
+            final List<CompletableFuture<List<Modlet>>> futures = new ArrayList<>( tasks );
+
+            for ( int i = tasks; i > 0; i-- )
+            {
+                futures.add( CompletableFuture.supplyAsync( () ->
+                {
+                    final List<Modlet> l = new ArrayList<>( 64 );
+
+                    try
+                    {
+                        for ( URL url = pending.poll(); url != null; url = pending.poll() )
+                        {
+                            l.addAll( toModlets.apply( url ).getModlet() );
+                        }
+                    }
+                    catch ( final RuntimeException | Error e )
+                    {
+                        pending.clear();
+                        throw e;
+                    }
+
+                    return l;
+                }, executor != null ? executor : ForkJoinPool.commonPool() ) );
+            }
+
+            for ( final CompletableFuture<List<Modlet>> future : futures )
+            {
+                try
+                {
+                    modlets.addAll( future.join() );
+                }
+                catch ( final CompletionException e )
                 {
-                    super( Objects.requireNonNull( cause, "cause" ) );
-                    this.resource = Objects.requireNonNull( resource, "resource" );
+                    if ( e.getCause() instanceof RuntimeException )
+                    {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    if ( e.getCause() instanceof Error )
+                    {
+                        throw (Error) e.getCause();
+                    }
+
+                    throw e;
                 }
+            }
+        }
+
+        return modlets;
+    }
+
+    /**
+     * Creates the start element of a fragment declaring the namespaces in scope of its parent element.
+     *
+     * @param parent The parent element of the fragment.
+     * @param element The start element of the fragment.
+     *
+     * @return The start element of the fragment.
+     *
+     * @since 2.0
+     */
+    private static StartElement createFragmentElement( final StartElement parent, final StartElement element )
+    {
+        final Map<String, Namespace> namespaces = new HashMap<>( 8 );
+
+        for ( final Iterator<?> it = parent.getNamespaces(); it.hasNext(); )
+        {
+            final Namespace namespace = (Namespace) it.next();
+            namespaces.put( namespace.getPrefix(), namespace );
+        }
+
+        for ( final Iterator<?> it = element.getNamespaces(); it.hasNext(); )
+        {
+            final Namespace namespace = (Namespace) it.next();
+            namespaces.put( namespace.getPrefix(), namespace );
+        }
+
+        XMLEventFactory factory = xmlEventFactory;
+
+        if ( factory == null )
+        {
+            factory = XMLEventFactory.newFactory();
+            xmlEventFactory = factory;
+        }
+
+        synchronized ( factory )
+        {
+            factory.setLocation( element.getLocation() );
+            return factory.createStartElement( element.getName().getPrefix(), element.getName().getNamespaceURI(),
+                                               element.getName().getLocalPart(), element.getAttributes(),
+                                               namespaces.values().iterator(), element.getNamespaceContext() );
+
+        }
+    }
+
+    /**
+     * Creates a new {@code XMLEventReader} using the shared {@code XMLInputFactory}.
+     *
+     * @param systemId The system identifier of the stream to read.
+     * @param in The stream to read.
+     *
+     * @return A new {@code XMLEventReader} reading {@code in}.
+     *
+     * @throws XMLStreamException if creating the reader fails.
+     *
+     * @since 2.0
+     */
+    private static XMLEventReader createXMLEventReader( final String systemId, final InputStream in )
+        throws XMLStreamException
+    {
+        final XMLInputFactory factory = getXMLInputFactory();
+
+        synchronized ( factory )
+        {
+            return factory.createXMLEventReader( systemId, in );
+        }
+    }
+
+    /**
+     * Gets the {@code XMLInputFactory} shared for streaming resources.
+     *
+     * @return The {@code XMLInputFactory} shared for streaming resources.
+     *
+     * @since 2.0
+     */
+    private static XMLInputFactory getXMLInputFactory()
+    {
+        XMLInputFactory factory = xmlInputFactory;
+
+        if ( factory == null )
+        {
+            factory = XMLInputFactory.newFactory();
+            factory.setProperty( XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE );
+            factory.setProperty( XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE );
+            factory.setProperty( XMLInputFactory.SUPPORT_DTD, Boolean.FALSE );
+            xmlInputFactory = factory;
+        }
+
+        return factory;
+    }
+
+    /**
+     * Creates a new {@code XMLStreamReader} using the shared {@code XMLInputFactory}.
+     *
+     * @param systemId The system identifier of the stream to read.
+     * @param in The stream to read.
+     *
+     * @return A new {@code XMLStreamReader} reading {@code in}.
+     *
+     * @throws XMLStreamException if creating the reader fails.
+     *
+     * @since 2.0
+     */
+    private static XMLStreamReader createXMLStreamReader( final String systemId, final InputStream in )
+        throws XMLStreamException
+    {
+        final XMLInputFactory factory = getXMLInputFactory();
+
+        // Factories are not required to be thread-safe. Creating readers is cheap compared to reading.
+        synchronized ( factory )
+        {
+            return factory.createXMLStreamReader( systemId, in );
+        }
+    }
+
+    /**
+     * Failure unmarshalling a fragment of a resource.
+     *
+     * @since 2.0
+     */
+    private static final class UnmarshalFragmentFailure extends RuntimeException
+    {
 
-                <T extends Exception, R extends Exception> void handleCause(
-                    final Class<T> cause, final Function<T, R> createExceptionFunction )
-                    throws R
-                {
-                    if ( Objects.requireNonNull( cause, "cause" ).isAssignableFrom( this.getCause().getClass() ) )
-                    {
-                        throw Objects.requireNonNull( Objects.requireNonNull( createExceptionFunction,
-                                                                              "createExceptionFunction" ).
-                            apply( (T) this.getCause() ), createExceptionFunction.toString() );
+        /**
+         * Creates a new {@code UnmarshalFragmentFailure} instance taking the failure cause.
+         *
+         * @param cause The cause of the failure.
+         */
+        private UnmarshalFragmentFailure( final JAXBException cause )
+        {
+            super( Objects.requireNonNull( cause, "cause" ) );
+        }
 
-                    }
-                }
+    }
 
-                Error unhandledCauseError()
-                {
-                    return new AssertionError( this.getCause() );
-                }
+    /**
+     * Pool of unmarshallers scoped to a search.
+     *
+     * @since 2.0
+     */
+    private static final class UnmarshallerPool
+    {
+
+        /**
+         * The context to create unmarshallers with.
+         */
+        private final JAXBContext context;
+
+        /**
+         * The schema of the unmarshallers or {@code null}.
+         */
+        private final javax.xml.validation.Schema schema;
+
+        /**
+         * The unmarshallers not in use.
+         */
+        private final Queue<Unmarshaller> unmarshallers = new ConcurrentLinkedQueue<>();
 
+        private UnmarshallerPool( final JAXBContext context, final javax.xml.validation.Schema schema )
+        {
+            super();
+            this.context = context;
+            this.schema = schema;
+        }
+
+        /**
+         * Takes an unmarshaller from the pool.
+         *
+         * @return An unmarshaller not used by any other thread.
+         *
+         * @throws JAXBException if creating a new unmarshaller fails.
+         */
+        private Unmarshaller take() throws JAXBException
+        {
+            Unmarshaller unmarshaller = this.unmarshallers.poll();
+
+            if ( unmarshaller == null )
+            {
+                unmarshaller = this.context.createUnmarshaller();
+                unmarshaller.setSchema( this.schema );
             }
 
-            final Function<URL, Modlets> toModlets = url  ->
+            return unmarshaller;
+        }
+
+        /**
+         * Releases an unmarshaller to the pool.
+         *
+         * @param unmarshaller The unmarshaller to release.
+         */
+        private void release( final Unmarshaller unmarshaller )
+        {
+            this.unmarshallers.offer( unmarshaller );
+        }
+
+    }
+
+    /**
+     * Reads the events of a fragment of a resource.
+     *
+     * @since 2.0
+     */
+    private static final class FragmentReader implements XMLEventReader
+    {
+
+        /**
+         * The events of the fragment.
+         */
+        private final List<XMLEvent> events;
+
+        /**
+         * The index of the next event.
+         */
+        private int index;
+
+        private FragmentReader( final List<XMLEvent> events )
+        {
+            super();
+            this.events = events;
+        }
+
+        @Override
+        public XMLEvent nextEvent() throws XMLStreamException
+        {
+            if ( this.index >= this.events.size() )
             {
-                try
-                {
-                    final Modlets result = new Modlets();
+                throw new NoSuchElementException();
+            }
 
-                    Unmarshaller unmarshaller = threadLocalUnmarshaller.get();
-                    if ( unmarshaller == null )
-                    {
-                        unmarshaller = ctx.createUnmarshaller();
-                        unmarshaller.setSchema( schema );
+            return this.events.get( this.index++ );
+        }
 
-                        threadLocalUnmarshaller.set( unmarshaller );
-                    }
+        @Override
+        public boolean hasNext()
+        {
+            return this.index < this.events.size();
+        }
 
-                    Object content = unmarshaller.unmarshal( url );
+        @Override
+        public XMLEvent peek() throws XMLStreamException
+        {
+            return this.hasNext() ? this.events.get( this.index ) : null;
+        }
 
-                    if ( content instanceof JAXBElement<?> )
-                    {
-                        content = ( (JAXBElement<?>) content ).getValue();
-                    }
+        @Override
+        public String getElementText() throws XMLStreamException
+        {
+            final StringBuilder text = new StringBuilder( 64 );
 
-                    if ( content instanceof Modlet )
-                    {
-                        result.getModlet().add( (Modlet) content );
-                    }
-                    else if ( content instanceof Modlets )
-                    {
-                        result.getModlet().addAll( ( (Modlets) content ).getModlet() );
-                    }
+            for ( XMLEvent event = this.nextEvent(); !event.isEndElement(); event = this.nextEvent() )
+            {
+                if ( event.isCharacters() )
+                {
+                    text.append( event.asCharacters().getData() );
+                }
+                else if ( event.isStartElement() )
+                {
+                    throw new XMLStreamException( event.toString(), event.getLocation() );
+                }
+            }
+
+            return text.toString();
+        }
 
-                    return result;
+        @Override
+        public XMLEvent nextTag() throws XMLStreamException
+        {
+            for ( XMLEvent event = this.nextEvent();; event = this.nextEvent() )
+            {
+                if ( event.isStartElement() || event.isEndElement() )
+                {
+                    return event;
                 }
-                catch ( final JAXBException e )
+                if ( event.isCharacters() && !event.asCharacters().isWhiteSpace() )
                 {
-                    throw new UnmarshalFailure( url, e );
+                    throw new XMLStreamException( event.toString(), event.getLocation() );
                 }
-            };
+            }
+        }
+
+        @Override
+        public Object getProperty( final String name )
+        {
+            throw new IllegalArgumentException( name );
+        }
+
+        @Override
+        public void close()
+        {
+            this.index = this.events.size();
+        }
 
+        @Override
+        public Object next()
+        {
             try
             {
-                modlets.getModlet().addAll(
-                    st0.map( toModlets ).
-                        flatMap( m  -> m.getModlet().parallelStream().unordered() ).
-                        collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
-                                           {
-                                               l1.addAll( l2 );
-                                               return l1;
-                                           }, Collector.Characteristics.CONCURRENT,
-                                               Collector.Characteristics.UNORDERED ) )
-                );
+                return this.nextEvent();
             }
-            catch ( final UnmarshalFailure f )
+            catch ( final XMLStreamException e )
             {
-                f.handleCause( UnmarshalException.class, e  -> new ModelException( getMessage( e, f.resource ), e ) );
-                f.handleCause( JAXBException.class, e  -> new ModelException( getMessage( e ), e ) );
-                throw f.unhandledCauseError();
+                throw new IllegalStateException( e );
             }
         }
 
-        if ( context.isLoggable( Level.FINE ) )
+        @Override
+        public void remove()
         {
-            context.log( Level.FINE, getMessage( "contextReport",
-                                                 modlets.getModlet().size(),
-                                                 location, System.nanoTime() - t0 ), null );
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    /**
+     * Reads the content of a resource.
+     *
+     * @param resource The resource to read.
+     *
+     * @return The content of {@code resource}.
+     *
+     * @throws IOException if reading {@code resource} fails.
+     *
+     * @since 2.0
+     */
+    static byte[] readResource( final URL resource ) throws IOException
+    {
+        try ( final InputStream in = resource.openStream() )
+        {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream( 8192 );
+            final byte[] buffer = new byte[ 8192 ];
+
+            for ( int read = in.read( buffer ); read >= 0; read = in.read( buffer ) )
+            {
+                out.write( buffer, 0, read );
+            }
 
+            return out.toByteArray();
         }
+    }
 
-        return modlets;
+    /**
+     * Creates a new SHA-256 message digest.
+     *
+     * @return A new SHA-256 message digest.
+     *
+     * @since 2.0
+     */
+    static MessageDigest newDigest()
+    {
+        try
+        {
+            return MessageDigest.getInstance( "SHA-256" );
+        }
+        catch ( final NoSuchAlgorithmException e )
+        {
+            // Every implementation of the Java platform is required to support SHA-256.
+            throw new AssertionError( e );
+        }
     }
 
     /**
-     * {@inheritDoc}
+     * Gets the hexadecimal representation of some bytes.
      *
-     * @return The {@code Modlets} found in the context or {@code null}, if no {@code Modlets} are found or the provider
-     * is disabled.
+     * @param bytes The bytes to get the hexadecimal representation of.
      *
-     * @see #isEnabled()
-     * @see #getModletLocation()
-     * @see #findModlets(org.jomc.modlet.ModelContext, java.lang.String)
-     * @see #ENABLED_ATTRIBUTE_NAME
-     * @see #MODLET_LOCATION_ATTRIBUTE_NAME
-     * @since 1.6
+     * @return The hexadecimal representation of {@code bytes}.
+     *
+     * @since 2.0
      */
-    @Override
-    public Optional<Modlets> findModlets( final ModelContext context, final Modlets modlets ) throws ModelException
+    static String toHexString( final byte[] bytes )
     {
-        Objects.requireNonNull( context, "context" );
-        Objects.requireNonNull( modlets, "modlets" );
+        final StringBuilder hex = new StringBuilder( bytes.length * 2 );
 
-        Modlets provided = null;
+        for ( final byte b : bytes )
+        {
+            hex.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) ).append( Character.forDigit( b & 0xF, 16 ) );
+        }
 
-        boolean contextEnabled = this.isEnabled();
-        if ( DEFAULT_ENABLED == contextEnabled )
+        return hex.toString();
+    }
+
+    /**
+     * Ledger of resources validated against the schemas of a context.
+     *
+     * @since 2.0
+     */
+    private static final class ValidationLedger
+    {
+
+        /**
+         * The file of the ledger.
+         */
+        private final Path file;
+
+        /**
+         * The digest of the schemas resources are validated against.
+         */
+        private final String schemas;
+
+        /**
+         * The digests of the schemas by digest of resource content.
+         */
+        private final Map<String, String> entries;
+
+        /**
+         * Flag indicating the ledger got modified.
+         */
+        private volatile boolean modified;
+
+        private ValidationLedger( final Path file, final String schemas, final Map<String, String> entries )
         {
-            final Optional<Object> enabledAttribute = context.getAttribute( ENABLED_ATTRIBUTE_NAME );
-            if ( enabledAttribute.isPresent() && enabledAttribute.get() instanceof Boolean )
+            super();
+            this.file = file;
+            this.schemas = schemas;
+            this.entries = entries;
+        }
+
+        /**
+         * Loads a ledger.
+         *
+         * @param context The context to load a ledger for.
+         * @param file The file of the ledger.
+         *
+         * @return The ledger of {@code context} backed by {@code file}.
+         *
+         * @throws ModelException if getting the schemas of the context fails.
+         */
+        private static ValidationLedger load( final ModelContext context, final Path file ) throws ModelException
+        {
+            final MessageDigest digest = newDigest();
+            final Optional<Schemas> schemas = context.getModlets().getSchemas( ModletObject.MODEL_PUBLIC_ID );
+            final Map<String, String> entries = new ConcurrentHashMap<>( 128 );
+
+            try
             {
-                contextEnabled = (Boolean) enabledAttribute.get();
+                if ( schemas.isPresent() )
+                {
+                    final List<Schema> sorted = new ArrayList<>( schemas.get().getSchema() );
+                    sorted.sort( ( s1, s2 )  -> String.valueOf( s1.getSystemId() ).
+                        compareTo( String.valueOf( s2.getSystemId() ) ) );
+
+                    for ( final Schema s : sorted )
+                    {
+                        digest.update( String.valueOf( s.getPublicId() ).getBytes( StandardCharsets.UTF_8 ) );
+                        digest.update( String.valueOf( s.getSystemId() ).getBytes( StandardCharsets.UTF_8 ) );
+
+                        if ( s.getClasspathId() != null )
+                        {
+                            final Optional<URL> resource = context.findResource( s.getClasspathId() );
+
+                            if ( resource.isPresent() )
+                            {
+                                digest.update( readResource( resource.get() ) );
+                            }
+                        }
+                    }
+                }
+
+                if ( Files.isRegularFile( file ) )
+                {
+                    final Properties properties = new Properties();
+
+                    try ( final InputStream in = Files.newInputStream( file ) )
+                    {
+                        properties.load( in );
+                    }
+
+                    properties.stringPropertyNames().forEach( k  -> entries.put( k, properties.getProperty( k ) ) );
+                }
+            }
+            catch ( final IOException e )
+            {
+                if ( context.isLoggable( Level.WARNING ) )
+                {
+                    context.log( Level.WARNING, getMessage( "validationLedgerFailure", file.toString(),
+                                                            getMessage( e ) != null ? " " + getMessage( e ) : "" ),
+                                 e );
+
+                }
             }
+
+            return new ValidationLedger( file, toHexString( digest.digest() ), entries );
         }
 
-        String contextModletLocation = this.getModletLocation();
-        if ( DEFAULT_MODLET_LOCATION.equals( contextModletLocation ) )
+        /**
+         * Gets a flag indicating resource content has been validated against the schemas of the ledger.
+         *
+         * @param content The digest of the resource content.
+         *
+         * @return {@code true}, if resource content with digest {@code content} has been validated against the schemas
+         * of the ledger; {@code false}, else.
+         */
+        private boolean isValidated( final String content )
         {
-            final Optional<Object> modletLocationAttribute = context.getAttribute( MODLET_LOCATION_ATTRIBUTE_NAME );
-            if ( modletLocationAttribute.isPresent() && modletLocationAttribute.get() instanceof String )
+            return this.schemas.equals( this.entries.get( content ) );
+        }
+
+        /**
+         * Records resource content to have been validated against the schemas of the ledger.
+         *
+         * @param content The digest of the resource content.
+         */
+        private void setValidated( final String content )
+        {
+            this.entries.put( content, this.schemas );
+            this.modified = true;
+        }
+
+        /**
+         * Stores the ledger, if modified.
+         *
+         * @param context The context storing the ledger.
+         */
+        private void store( final ModelContext context )
+        {
+            if ( this.modified )
             {
-                contextModletLocation = (String) modletLocationAttribute.get();
+                try
+                {
+                    final Path directory = this.file.toAbsolutePath().getParent();
+                    Files.createDirectories( directory );
+
+                    final Properties properties = new Properties();
+                    properties.putAll( this.entries );
+
+                    final Path tmp = Files.createTempFile( directory, VALIDATION_LEDGER_FILE_NAME, ".tmp" );
+
+                    try
+                    {
+                        try ( final OutputStream out = Files.newOutputStream( tmp ) )
+                        {
+                            properties.store( out, DefaultModletProvider.class.getName() );
+                        }
+
+                        Files.move( tmp, this.file, StandardCopyOption.REPLACE_EXISTING );
+                    }
+                    finally
+                    {
+                        Files.deleteIfExists( tmp );
+                    }
+
+                    this.modified = false;
+                }
+                catch ( final IOException e )
+                {
+                    if ( context.isLoggable( Level.WARNING ) )
+                    {
+                        context.log( Level.WARNING, getMessage( "validationLedgerFailure", this.file.toString(),
+                                                                getMessage( e ) != null ? " " + getMessage( e ) : "" ),
+                                     e );
+
+                    }
+                }
             }
         }
 
-        if ( contextEnabled )
+    }
+
+    /**
+     * Parsed index of {@code Modlet} resources.
+     *
+     * @since 2.0
+     */
+    private static final class ModletIndex
+    {
+
+        /**
+         * The fingerprint of the resource holding the index or {@code null}.
+         */
+        private final String fingerprint;
+
+        /**
+         * The resources of the index keyed by the external form of their URL.
+         */
+        private final Map<String, IndexedResource> resources;
+
+        private ModletIndex( final String fingerprint, final Map<String, IndexedResource> resources )
         {
-            final Modlets found = this.findModlets( context, contextModletLocation );
+            super();
+            this.fingerprint = fingerprint;
+            this.resources = resources;
+        }
 
-            if ( !found.getModlet().isEmpty() )
+    }
+
+    /**
+     * {@code Modlets} of a resource taken from an index.
+     *
+     * @since 2.0
+     */
+    private static final class IndexedResource
+    {
+
+        /**
+         * The size of the content of the resource when indexed.
+         */
+        private final long size;
+
+        /**
+         * The CRC-32 checksum of the content of the resource when indexed.
+         */
+        private final long crc;
+
+        /**
+         * The last modification time of the file holding the index or {@code -1}.
+         */
+        private final long indexModified;
+
+        /**
+         * The {@code Modlets} of the resource.
+         */
+        private final Modlets modlets;
+
+        private IndexedResource( final long size, final long crc, final long indexModified, final Modlets modlets )
+        {
+            super();
+            this.size = size;
+            this.crc = crc;
+            this.indexModified = indexModified;
+            this.modlets = modlets;
+        }
+
+        /**
+         * Tests a resource to be unchanged since it has been indexed without reading it.
+         *
+         * @param resource The resource to test.
+         *
+         * @return {@code true}, if {@code resource} is unchanged since it has been indexed; {@code false}, if
+         * {@code resource} has changed or cannot be tested without reading it.
+         *
+         * @throws IOException if testing {@code resource} fails.
+         */
+        private boolean isCurrent( final URL resource ) throws IOException
+        {
+            boolean current = false;
+
+            if ( "file".equalsIgnoreCase( resource.getProtocol() ) )
             {
-                provided = modlets.clone();
-                provided.getModlet().addAll( found.getModlet() );
+                try
+                {
+                    final Path path = Paths.get( resource.toURI() );
+                    current = this.indexModified >= 0L && Files.size( path ) == this.size
+                                  && Files.getLastModifiedTime( path ).toMillis() <= this.indexModified;
+
+                }
+                catch ( final URISyntaxException | IllegalArgumentException e )
+                {
+                    current = false;
+                }
+            }
+            else if ( "jar".equalsIgnoreCase( resource.getProtocol() ) )
+            {
+                final URLConnection connection = resource.openConnection();
+
+                if ( connection instanceof JarURLConnection )
+                {
+                    final JarURLConnection jarConnection = (JarURLConnection) connection;
+                    final JarEntry entry = jarConnection.getJarEntry();
+                    current = entry != null && entry.getSize() == this.size && entry.getCrc() == this.crc;
+
+                    if ( !jarConnection.getUseCaches() )
+                    {
+                        jarConnection.getJarFile().close();
+                    }
+                }
             }
+
+            return current;
         }
-        else if ( context.isLoggable( Level.FINER ) )
+
+    }
+
+    /**
+     * {@code Modlets} of a resource searched incrementally.
+     *
+     * @since 2.0
+     */
+    private static final class ModletResource
+    {
+
+        /**
+         * The fingerprint of the resource.
+         */
+        private final String fingerprint;
+
+        /**
+         * Flag indicating the resource has been validated.
+         */
+        private final boolean validated;
+
+        /**
+         * The {@code Modlets} of the resource.
+         */
+        private final Modlets modlets;
+
+        private ModletResource( final String fingerprint, final boolean validated, final Modlets modlets )
         {
-            context.log( Level.FINER, getMessage( "disabled", this.getClass().getSimpleName() ), null );
+            super();
+            this.fingerprint = fingerprint;
+            this.validated = validated;
+            this.modlets = modlets;
         }
 
-        return Optional.ofNullable( provided );
     }
 
     private static String getMessage( final String key, final Object... arguments )
@@ -727,6 +3222,13 @@ public class DefaultModletProvider implements ModletProvider
         return message;
     }
 
+    private static String getMessage( final XMLStreamException e, final URL resource )
+    {
+        String message = getMessage( (Throwable) e );
+        message = getMessage( "unmarshalException", resource.toExternalForm(), message != null ? " " + message : "" );
+        return message;
+    }
+
     private static String getMessage( final UnmarshalException e, final URL resource )
     {
         String message = getMessage( e );
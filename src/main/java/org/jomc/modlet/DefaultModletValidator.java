@@ -32,10 +32,14 @@ package org.jomc.modlet;
 
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.stream.Stream;
@@ -113,6 +117,46 @@ public class DefaultModletValidator implements ModletValidator
      */
     private volatile Integer ordinal;
 
+    /**
+     * Constant for the name of the model context attribute backing property {@code schemaValidating}.
+     *
+     * @see #validateModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @see ModelContext#getAttribute(java.lang.String)
+     * @since 2.0
+     */
+    public static final String SCHEMA_VALIDATING_ATTRIBUTE_NAME =
+        "org.jomc.modlet.DefaultModletValidator.schemaValidatingAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultSchemaValidating}.
+     *
+     * @see #isDefaultSchemaValidating()
+     */
+    private static final String DEFAULT_SCHEMA_VALIDATING_PROPERTY_NAME =
+        "org.jomc.modlet.DefaultModletValidator.defaultSchemaValidating";
+
+    /**
+     * Default value of the flag indicating the validator is validating against the modlet schema by default.
+     *
+     * @see #isDefaultSchemaValidating()
+     */
+    private static final Boolean DEFAULT_SCHEMA_VALIDATING = Boolean.FALSE;
+
+    /**
+     * Flag indicating the validator is validating against the modlet schema by default.
+     */
+    private static volatile Boolean defaultSchemaValidating;
+
+    /**
+     * Flag indicating the validator is validating against the modlet schema.
+     */
+    private volatile Boolean schemaValidating;
+
+    /**
+     * Base name of the resource bundle holding the messages of the validator.
+     */
+    private static final String BUNDLE_BASE_NAME = DefaultModletValidator.class.getName().replace( '.', '/' );
+
     /**
      * Creates a new {@code DefaultModletValidator} instance.
      */
@@ -254,6 +298,97 @@ public class DefaultModletValidator implements ModletValidator
         this.ordinal = value;
     }
 
+    /**
+     * Gets a flag indicating the validator is validating against the modlet schema by default.
+     * <p>
+     * The default schema validating flag is controlled by system property
+     * {@code org.jomc.modlet.DefaultModletValidator.defaultSchemaValidating} holding a value indicating the validator
+     * is validating against the modlet schema by default. If that property is not set, the {@code false} default is
+     * returned.
+     * </p>
+     *
+     * @return {@code true}, if the validator is validating against the modlet schema by default; {@code false}, if the
+     * validator is checking the identity constraints of the modlet schema on the object graph by default.
+     *
+     * @see #isSchemaValidating()
+     * @see #setDefaultSchemaValidating(java.lang.Boolean)
+     * @since 2.0
+     */
+    public static boolean isDefaultSchemaValidating()
+    {
+        if ( defaultSchemaValidating == null )
+        {
+            defaultSchemaValidating = Boolean.valueOf( System.getProperty(
+                DEFAULT_SCHEMA_VALIDATING_PROPERTY_NAME, Boolean.toString( DEFAULT_SCHEMA_VALIDATING ) ) );
+
+        }
+
+        return defaultSchemaValidating;
+    }
+
+    /**
+     * Sets the flag indicating the validator is validating against the modlet schema by default.
+     *
+     * @param value The new value of the flag indicating the validator is validating against the modlet schema by
+     * default or {@code null}.
+     *
+     * @see #isDefaultSchemaValidating()
+     * @since 2.0
+     */
+    public static void setDefaultSchemaValidating( final Boolean value )
+    {
+        defaultSchemaValidating = value;
+    }
+
+    /**
+     * Gets a flag indicating the validator is validating against the modlet schema.
+     * <p>
+     * When disabled, the {@code modlet-name-key}, {@code schema-system-id-key}, {@code schema-public-id-key} and
+     * {@code property-name-key} identity constraints and the required attributes of the modlet schema are checked
+     * directly on the object graph without marshalling the {@code Modlets} for validation. Violations are reported
+     * with the identifier, level and message text of the schema validator of the platform, in document order, and
+     * additionally carry a locator of the offending element. When enabled, the {@code Modlets} are marshalled and
+     * validated against the modlet schema.
+     * </p>
+     * <p>
+     * Checking the object graph differs from validating against the modlet schema in the following ways. The lexical
+     * form of attribute values, like tokens and URIs, is not checked. Foreign content is not validated against any
+     * schema. A missing required attribute is reported once, whereas validating against the schema reports it twice.
+     * Validating against the modlet schema is disabled by default, since the modlet documents are validated when
+     * unmarshalled by the {@code DefaultModletProvider} already.
+     * </p>
+     *
+     * @return {@code true}, if the validator is validating against the modlet schema; {@code false}, if the validator
+     * is checking the identity constraints of the modlet schema on the object graph.
+     *
+     * @see #isDefaultSchemaValidating()
+     * @see #setSchemaValidating(java.lang.Boolean)
+     * @since 2.0
+     */
+    public final boolean isSchemaValidating()
+    {
+        if ( this.schemaValidating == null )
+        {
+            this.schemaValidating = isDefaultSchemaValidating();
+        }
+
+        return this.schemaValidating;
+    }
+
+    /**
+     * Sets the flag indicating the validator is validating against the modlet schema.
+     *
+     * @param value The new value of the flag indicating the validator is validating against the modlet schema or
+     * {@code null}.
+     *
+     * @see #isSchemaValidating()
+     * @since 2.0
+     */
+    public final void setSchemaValidating( final Boolean value )
+    {
+        this.schemaValidating = value;
+    }
+
     @Override
     public Optional<ModelValidationReport> validateModlets( final ModelContext context, final Modlets modlets )
         throws ModelException
@@ -273,77 +408,95 @@ public class DefaultModletValidator implements ModletValidator
                 }
             }
 
+            boolean contextSchemaValidating = this.isSchemaValidating();
+            if ( DEFAULT_SCHEMA_VALIDATING == contextSchemaValidating )
+            {
+                final Optional<Object> schemaValidatingAttribute =
+                    context.getAttribute( SCHEMA_VALIDATING_ATTRIBUTE_NAME );
+
+                if ( schemaValidatingAttribute.isPresent() && schemaValidatingAttribute.get() instanceof Boolean )
+                {
+                    contextSchemaValidating = (Boolean) schemaValidatingAttribute.get();
+                }
+            }
+
             final ModelValidationReport report = new ModelValidationReport();
 
             if ( contextEnabled )
             {
-                final javax.xml.validation.Schema modletSchema = context.createSchema( ModletObject.MODEL_PUBLIC_ID );
-                final Validator validator = modletSchema.newValidator();
-                validator.setErrorHandler( new ModelErrorHandler( context, report ) );
-                validator.validate( new JAXBSource( context.createContext( ModletObject.MODEL_PUBLIC_ID ),
-                                                    new ObjectFactory().createModlets( modlets ) ) );
+                if ( contextSchemaValidating )
+                {
+                    final javax.xml.validation.Schema modletSchema =
+                        context.createSchema( ModletObject.MODEL_PUBLIC_ID );
+
+                    final Validator validator = modletSchema.newValidator();
+                    validator.setErrorHandler( new ModelErrorHandler( context, report ) );
+                    validator.validate( new JAXBSource( context.createContext( ModletObject.MODEL_PUBLIC_ID ),
+                                                        new ObjectFactory().createModlets( modlets ) ) );
+
+                }
+                else
+                {
+                    validateSchemaConstraints( context, modlets, report );
+                }
 
-                final Map<String, Schemas> schemasByModel = new ConcurrentHashMap<>( 128 );
-                final Map<Schema, Modlet> modletBySchema = new ConcurrentHashMap<>( 128 );
+                final Map<List<String>, Modlet> modletByPublicId = new ConcurrentHashMap<>( 128 );
+                final Map<List<String>, Modlet> modletBySystemId = new ConcurrentHashMap<>( 128 );
 
                 try ( final Stream<Modlet> st0 = modlets.getModlet().parallelStream().unordered() )
                 {
                     st0.filter( modlet  -> modlet.getSchemas() != null ).
                         forEach( modlet  ->
                         {
-                            final Schemas modelSchemas =
-                                schemasByModel.computeIfAbsent( modlet.getModel(), k  -> new Schemas() );
-
                             try ( final Stream<Schema> st1 =
                                 modlet.getSchemas().getSchema().parallelStream().unordered() )
                             {
                                 st1.forEach( schema  ->
                                 {
-                                    modletBySchema.put( schema, modlet );
-
-                                    final Optional<Schema> existingPublicIdSchema;
-                                    final Optional<Schema> existingSystemIdSchema;
-                                    synchronized ( modelSchemas )
-                                    {
-                                        existingPublicIdSchema =
-                                            modelSchemas.getSchemaByPublicId( schema.getPublicId() );
-
-                                        existingSystemIdSchema =
-                                            modelSchemas.getSchemaBySystemId( schema.getSystemId() );
-
-                                        modelSchemas.getSchema().add( schema );
-                                    }
-
-                                    if ( existingPublicIdSchema.isPresent() )
+                                    final Modlet publicIdModlet = schema.getPublicId() != null
+                                                                      ? modletByPublicId.putIfAbsent(
+                                                                          Arrays.asList( modlet.getModel(),
+                                                                                         schema.getPublicId() ),
+                                                                          modlet )
+                                                                      : null;
+
+                                    final Modlet systemIdModlet = schema.getSystemId() != null
+                                                                      ? modletBySystemId.putIfAbsent(
+                                                                          Arrays.asList( modlet.getModel(),
+                                                                                         schema.getSystemId() ),
+                                                                          modlet )
+                                                                      : null;
+
+                                    if ( publicIdModlet != null )
                                     {
-                                        final Modlet modletOfSchema =
-                                            modletBySchema.get( existingPublicIdSchema.get() );
-
                                         final ModelValidationReport.Detail detail =
-                                            new ModelValidationReport.Detail(
+                                            new ModelValidationReport.LazyDetail(
                                                 "MODEL_SCHEMA_PUBLIC_ID_CONSTRAINT",
-                                                Level.SEVERE,
-                                                getMessage( "modelSchemaPublicIdConstraint", modlet.getModel(),
-                                                            modlet.getName(), modletOfSchema.getName(),
-                                                            schema.getPublicId() ),
-                                                new ObjectFactory().createModlet( modlet ) );
+                                                Level.SEVERE, BUNDLE_BASE_NAME, "modelSchemaPublicIdConstraint",
+                                                new Object[]
+                                                {
+                                                    modlet.getModel(), modlet.getName(), publicIdModlet.getName(),
+                                                    schema.getPublicId()
+                                                }, getModletLocator( modlet ),
+                                                new ObjectFactory().createModlet( modlet ),
+                                                DefaultModletValidator.class.getClassLoader() );
 
                                         report.getDetails().add( detail );
                                     }
 
-                                    if ( existingSystemIdSchema.isPresent() )
+                                    if ( systemIdModlet != null )
                                     {
-                                        final Modlet modletOfSchema =
-                                            modletBySchema.get( existingSystemIdSchema.get() );
-
                                         final ModelValidationReport.Detail detail =
-                                            new ModelValidationReport.Detail(
+                                            new ModelValidationReport.LazyDetail(
                                                 "MODEL_SCHEMA_SYSTEM_ID_CONSTRAINT",
-                                                Level.SEVERE,
-                                                getMessage( "modelSchemaSystemIdConstraint", modlet.getModel(),
-                                                            modlet.getName(), modletOfSchema.getName(),
-                                                            schema.getSystemId() ),
-                                                new ObjectFactory().createModlet( modlet ) );
+                                                Level.SEVERE, BUNDLE_BASE_NAME, "modelSchemaSystemIdConstraint",
+                                                new Object[]
+                                                {
+                                                    modlet.getModel(), modlet.getName(), systemIdModlet.getName(),
+                                                    schema.getSystemId()
+                                                }, getModletLocator( modlet ),
+                                                new ObjectFactory().createModlet( modlet ),
+                                                DefaultModletValidator.class.getClassLoader() );
 
                                         report.getDetails().add( detail );
                                     }
@@ -387,10 +540,227 @@ public class DefaultModletValidator implements ModletValidator
         }
     }
 
+    /**
+     * Checks the identity constraints and required attributes of the modlet schema on the object graph.
+     * <p>
+     * Details are reported in the order and with the identifier, level and message text of the schema validator of
+     * the platform, so that reports do not depend on validating against the schema or not.
+     * </p>
+     *
+     * @param context The context to log details with.
+     * @param modlets The {@code Modlets} to check.
+     * @param report The report to add details to.
+     */
+    private static void validateSchemaConstraints( final ModelContext context, final Modlets modlets,
+                                                   final ModelValidationReport report )
+    {
+        final Set<String> modletNames = new HashSet<>( modlets.getModlet().size() * 2 );
+
+        for ( int i = 0, s0 = modlets.getModlet().size(); i < s0; i++ )
+        {
+            final Modlet modlet = modlets.getModlet().get( i );
+            final String modletLocator = "/modlets/modlet[" + ( i + 1 ) + "]";
+
+            validateRequiredAttribute( context, "modlet", "name", modlet.getName(), modletLocator, report );
+            validateRequiredAttribute( context, "modlet", "model", modlet.getModel(), modletLocator, report );
+            validateDuplicateKey( context, "modlet-name-key", "modlets", modlet.getName(), modletNames,
+                                  modletLocator, report );
+
+            if ( modlet.getSchemas() != null )
+            {
+                final List<Schema> schemas = modlet.getSchemas().getSchema();
+                final Set<String> systemIds = new HashSet<>( schemas.size() * 2 );
+                final Set<String> publicIds = new HashSet<>( schemas.size() * 2 );
+
+                for ( int j = 0, s1 = schemas.size(); j < s1; j++ )
+                {
+                    final Schema schema = schemas.get( j );
+                    final String schemaLocator = modletLocator + "/schemas/schema[" + ( j + 1 ) + "]";
+
+                    validateRequiredAttribute( context, "schema", "public-id", schema.getPublicId(), schemaLocator,
+                                               report );
+
+                    validateRequiredAttribute( context, "schema", "system-id", schema.getSystemId(), schemaLocator,
+                                               report );
+
+                    validateDuplicateKey( context, "schema-system-id-key", "schemas", schema.getSystemId(),
+                                          systemIds, schemaLocator, report );
+
+                    validateDuplicateKey( context, "schema-public-id-key", "schemas", schema.getPublicId(),
+                                          publicIds, schemaLocator, report );
+
+                    validateMissingKey( context, "schema-system-id-key", "schemas", schema.getSystemId(),
+                                        schemaLocator, report );
+
+                    validateMissingKey( context, "schema-public-id-key", "schemas", schema.getPublicId(),
+                                        schemaLocator, report );
+
+                }
+            }
+
+            if ( modlet.getServices() != null )
+            {
+                final List<Service> services = modlet.getServices().getService();
+
+                for ( int j = 0, s1 = services.size(); j < s1; j++ )
+                {
+                    final Service service = services.get( j );
+                    final String serviceLocator = modletLocator + "/services/service[" + ( j + 1 ) + "]";
+                    final List<Property> properties = service.getProperty();
+                    final Set<String> propertyNames = new HashSet<>( properties.size() * 2 );
+
+                    validateRequiredAttribute( context, "service", "identifier", service.getIdentifier(),
+                                               serviceLocator, report );
+
+                    validateRequiredAttribute( context, "service", "class", service.getClazz(), serviceLocator,
+                                               report );
+
+                    for ( int k = 0, s2 = properties.size(); k < s2; k++ )
+                    {
+                        final String name = properties.get( k ).getName();
+                        final String propertyLocator = serviceLocator + "/property[" + ( k + 1 ) + "]";
+
+                        validateRequiredAttribute( context, "property", "name", name, propertyLocator, report );
+                        validateDuplicateKey( context, "property-name-key", "service", name, propertyNames,
+                                              propertyLocator, report );
+
+                        validateMissingKey( context, "property-name-key", "service", name, propertyLocator, report );
+                    }
+                }
+            }
+
+            validateMissingKey( context, "modlet-name-key", "modlets", modlet.getName(), modletLocator, report );
+        }
+    }
+
+    /**
+     * Gets a locator of a given modlet.
+     *
+     * @param modlet The modlet to get a locator of.
+     *
+     * @return A locator selecting {@code modlet} by name.
+     *
+     * @since 2.0
+     */
+    private static String getModletLocator( final Modlet modlet )
+    {
+        final String name = modlet.getName();
+
+        if ( name == null )
+        {
+            return "/modlets/modlet[not(@name)]";
+        }
+
+        // XPath string literals cannot escape the delimiting quote.
+        final String literal = name.indexOf( '\'' ) < 0
+                                   ? "'" + name + "'"
+                                   : name.indexOf( '"' ) < 0
+                                         ? '"' + name + '"'
+                                         : "concat('" + name.replace( "'", "', \"'\", '" ) + "')";
+
+        return "/modlets/modlet[@name=" + literal + "]";
+    }
+
+    /**
+     * Checks a required attribute of the modlet schema.
+     *
+     * @param context The context to log details with.
+     * @param element The name of the element declaring the attribute.
+     * @param attribute The name of the attribute.
+     * @param value The value of the attribute or {@code null}.
+     * @param locator The locator of the element.
+     * @param report The report to add details to.
+     */
+    private static void validateRequiredAttribute( final ModelContext context, final String element,
+                                                   final String attribute, final String value, final String locator,
+                                                   final ModelValidationReport report )
+    {
+        if ( value == null )
+        {
+            addDetail( context, new ModelValidationReport.LazyDetail(
+                       "W3C XML 1.0 Recommendation - Section 1.2 - Error", Level.SEVERE, BUNDLE_BASE_NAME,
+                       "missingRequiredAttribute", new Object[]
+                       {
+                           attribute, "modlet:" + element
+                       }, locator, null, DefaultModletValidator.class.getClassLoader() ), report );
+
+        }
+    }
+
+    /**
+     * Checks a value of an identity constraint of the modlet schema to be unique.
+     *
+     * @param context The context to log details with.
+     * @param constraint The name of the identity constraint.
+     * @param element The name of the element declaring the identity constraint.
+     * @param value The value to check or {@code null}.
+     * @param values The values checked so far.
+     * @param locator The locator of the element holding {@code value}.
+     * @param report The report to add details to.
+     */
+    private static void validateDuplicateKey( final ModelContext context, final String constraint,
+                                              final String element, final String value, final Set<String> values,
+                                              final String locator, final ModelValidationReport report )
+    {
+        if ( value != null && !values.add( value ) )
+        {
+            addDetail( context, new ModelValidationReport.LazyDetail(
+                       "W3C XML 1.0 Recommendation - Section 1.2 - Error", Level.SEVERE, BUNDLE_BASE_NAME,
+                       "duplicateKeyConstraint", new Object[]
+                       {
+                           constraint, element, value
+                       }, locator, null, DefaultModletValidator.class.getClassLoader() ), report );
+
+        }
+    }
+
+    /**
+     * Checks a value of an identity constraint of the modlet schema to be present.
+     *
+     * @param context The context to log details with.
+     * @param constraint The name of the identity constraint.
+     * @param element The name of the element declaring the identity constraint.
+     * @param value The value to check or {@code null}.
+     * @param locator The locator of the element expected to hold {@code value}.
+     * @param report The report to add details to.
+     */
+    private static void validateMissingKey( final ModelContext context, final String constraint,
+                                            final String element, final String value, final String locator,
+                                            final ModelValidationReport report )
+    {
+        if ( value == null )
+        {
+            addDetail( context, new ModelValidationReport.LazyDetail(
+                       "W3C XML 1.0 Recommendation - Section 1.2 - Error", Level.SEVERE, BUNDLE_BASE_NAME,
+                       "missingKeyConstraint", new Object[]
+                       {
+                           constraint, element
+                       }, locator, null, DefaultModletValidator.class.getClassLoader() ), report );
+
+        }
+    }
+
+    /**
+     * Adds a detail to a report.
+     *
+     * @param context The context to log the detail with.
+     * @param detail The detail to add.
+     * @param report The report to add {@code detail} to.
+     */
+    private static void addDetail( final ModelContext context, final ModelValidationReport.Detail detail,
+                                   final ModelValidationReport report )
+    {
+        if ( context.isLoggable( Level.FINE ) )
+        {
+            context.log( Level.FINE, detail.getMessage().orElse( null ), null );
+        }
+
+        report.getDetails().add( detail );
+    }
+
     private static String getMessage( final String key, final Object... arguments )
     {
-        return MessageFormat.format( ResourceBundle.getBundle(
-            DefaultModletValidator.class.getName().replace( '.', '/' ) ).getString( key ), arguments );
+        return MessageFormat.format( ResourceBundle.getBundle( BUNDLE_BASE_NAME ).getString( key ), arguments );
 
     }
 
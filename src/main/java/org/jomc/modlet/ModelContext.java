@@ -33,9 +33,11 @@ package org.jomc.modlet;
 import java.io.IOException;
 import java.net.URL;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -45,6 +47,9 @@ import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.stream.Stream;
 import javax.xml.bind.JAXBContext;
@@ -166,6 +171,16 @@ public abstract class ModelContext
      */
     private volatile Modlets modlets;
 
+    /**
+     * The {@code Modlets} searched by the instance, while searching.
+     */
+    private volatile Modlets searchedModlets;
+
+    /**
+     * The context the current thread is searching the {@code Modlets} of.
+     */
+    private static final ThreadLocal<ModelContext> searchingContext = new ThreadLocal<>();
+
     /**
      * Modlet namespace schema system id of the instance.
      */
@@ -538,90 +553,225 @@ public abstract class ModelContext
      * This accessor method returns a reference to the live list, not a snapshot. Therefore any modification you make
      * to the returned list will be present inside the object.
      * </p>
+     * <p>
+     * The context is not locked while searching, so that services can hand work calling back into the context to
+     * other threads. Such calls get the {@code Modlets} searched so far, when that work is run by a function created
+     * by the context for that purpose. Any other thread calling this method while searching waits for the search to
+     * complete.
+     * </p>
      *
      * @return The {@code Modlets} of the context.
      *
      * @throws ModelException if getting the {@code Modlets} of the context fails.
      *
      * @see #setModlets(org.jomc.modlet.Modlets)
+     * @see #findModletsSnapshot(org.jomc.modlet.Modlets)
      * @see #findModlets(org.jomc.modlet.Modlets)
      * @see #processModlets(org.jomc.modlet.Modlets)
      * @see #validateModlets(org.jomc.modlet.Modlets)
+     * @see #storeModletsSnapshot(org.jomc.modlet.Modlets)
      */
-    public synchronized final Modlets getModlets() throws ModelException
+    public final Modlets getModlets() throws ModelException
     {
-        if ( this.modlets == null )
+        final Modlets current = this.modlets;
+
+        if ( current != null )
         {
-            final Modlet modlet = new Modlet();
-            modlet.setModel( ModletObject.MODEL_PUBLIC_ID );
-            modlet.setName( getMessage( "projectName" ) );
-            modlet.setVendor( getMessage( "projectVendor" ) );
-            modlet.setVersion( getMessage( "projectVersion" ) );
-            modlet.setSchemas( new Schemas() );
+            return current;
+        }
 
-            final Schema schema = new Schema();
-            schema.setPublicId( ModletObject.MODEL_PUBLIC_ID );
-            schema.setSystemId( this.getModletSchemaSystemId() );
-            schema.setContextId( ModletObject.class.getPackage().getName() );
-            schema.setClasspathId( ModletObject.class.getPackage().getName().replace( '.', '/' )
-                                       + "/jomc-modlet-1.9.xsd" );
+        if ( searchingContext.get() == this )
+        {
+            return this.searchedModlets;
+        }
 
-            modlet.getSchemas().getSchema().add( schema );
+        synchronized ( this )
+        {
+            while ( this.modlets == null && this.searchedModlets != null )
+            {
+                try
+                {
+                    this.wait();
+                }
+                catch ( final InterruptedException e )
+                {
+                    Thread.currentThread().interrupt();
+                    throw new ModelException( getMessage( e ), e );
+                }
+            }
 
-            this.modlets = new Modlets();
-            this.modlets.getModlet().add( modlet );
+            if ( this.modlets != null )
+            {
+                return this.modlets;
+            }
 
-            long t0 = System.nanoTime();
-            this.modlets = Objects.requireNonNull( this.findModlets( this.modlets ), this.toString() );
+            this.searchedModlets = new Modlets();
+        }
 
-            if ( this.isLoggable( Level.FINE ) )
-            {
-                this.log( Level.FINE, getMessage( "findModletsReport", this.modlets.getModlet().size(),
-                                                  System.nanoTime() - t0 ), null );
+        final ModelContext previous = searchingContext.get();
+        Modlets searched = null;
+
+        try
+        {
+            searchingContext.set( this );
+            searched = this.searchModlets();
+            return searched;
+        }
+        finally
+        {
+            searchingContext.set( previous );
 
+            synchronized ( this )
+            {
+                this.modlets = searched;
+                this.searchedModlets = null;
+                this.notifyAll();
             }
+        }
+    }
 
-            t0 = System.nanoTime();
-            this.modlets = Objects.requireNonNull( this.processModlets( this.modlets ), this.toString() );
+    /**
+     * Gets a function applying a given function as part of searching the {@code Modlets} of the context.
+     * <p>
+     * Threads applying the returned function get the {@code Modlets} searched so far from the {@code getModlets}
+     * method, when the current thread is searching the {@code Modlets} of the context. Otherwise the given function is
+     * returned.
+     * </p>
+     *
+     * @param <T> The type of the argument of the function.
+     * @param <R> The type of the result of the function.
+     * @param function The function to apply as part of searching the {@code Modlets} of the context.
+     *
+     * @return A function applying {@code function} as part of searching the {@code Modlets} of the context.
+     *
+     * @see #getModlets()
+     * @since 2.0
+     */
+    final <T, R> Function<T, R> withModletsSearch( final Function<T, R> function )
+    {
+        if ( searchingContext.get() != this )
+        {
+            return function;
+        }
 
-            if ( this.isLoggable( Level.FINE ) )
-            {
-                this.log( Level.FINE, getMessage( "processModletsReport", this.modlets.getModlet().size(),
-                                                  System.nanoTime() - t0 ), null );
+        return t  ->
+        {
+            final ModelContext previous = searchingContext.get();
 
+            try
+            {
+                searchingContext.set( this );
+                return function.apply( t );
+            }
+            finally
+            {
+                searchingContext.set( previous );
             }
+        };
+    }
 
-            t0 = System.nanoTime();
-            final ModelValidationReport report =
-                Objects.requireNonNull( this.validateModlets( this.modlets ), this.toString() );
+    /**
+     * Searches the {@code Modlets} of the context.
+     *
+     * @return The {@code Modlets} found.
+     *
+     * @throws ModelException if searching the {@code Modlets} fails.
+     *
+     * @see #getModlets()
+     * @since 2.0
+     */
+    private Modlets searchModlets() throws ModelException
+    {
+        final Modlet modlet = new Modlet();
+        modlet.setModel( ModletObject.MODEL_PUBLIC_ID );
+        modlet.setName( getMessage( "projectName" ) );
+        modlet.setVendor( getMessage( "projectVendor" ) );
+        modlet.setVersion( getMessage( "projectVersion" ) );
+        modlet.setSchemas( new Schemas() );
+
+        final Schema schema = new Schema();
+        schema.setPublicId( ModletObject.MODEL_PUBLIC_ID );
+        schema.setSystemId( this.getModletSchemaSystemId() );
+        schema.setContextId( ModletObject.class.getPackage().getName() );
+        schema.setClasspathId( ModletObject.class.getPackage().getName().replace( '.', '/' )
+                                   + "/jomc-modlet-1.9.xsd" );
+
+        modlet.getSchemas().getSchema().add( schema );
+
+        final Modlets bootstrap = new Modlets();
+        bootstrap.getModlet().add( modlet );
+        this.searchedModlets = bootstrap;
+
+        long t0 = System.nanoTime();
+        final Optional<Modlets> snapshot =
+            Objects.requireNonNull( this.findModletsSnapshot( this.searchedModlets ), this.toString() );
+
+        if ( snapshot.isPresent() )
+        {
+            this.searchedModlets = snapshot.get();
 
             if ( this.isLoggable( Level.FINE ) )
             {
-                this.log( Level.FINE, getMessage( "validateModletsReport",
-                                                  this.modlets.getModlet().size(),
+                this.log( Level.FINE, getMessage( "findModletsSnapshotReport", this.searchedModlets.getModlet().size(),
                                                   System.nanoTime() - t0 ), null );
+
             }
 
-            try ( final Stream<ModelValidationReport.Detail> st0 = report.getDetails().parallelStream().unordered() )
-            {
-                st0.filter( d  -> d.getMessage().isPresent() && d.getLevel().isPresent() ).
-                    forEach( d  ->
+            return this.searchedModlets;
+        }
+
+        t0 = System.nanoTime();
+        this.searchedModlets = Objects.requireNonNull( this.findModlets( this.searchedModlets ), this.toString() );
+
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "findModletsReport", this.searchedModlets.getModlet().size(),
+                                              System.nanoTime() - t0 ), null );
+
+        }
+
+        t0 = System.nanoTime();
+        this.searchedModlets =
+            Objects.requireNonNull( this.processModlets( this.searchedModlets ), this.toString() );
+
+
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "processModletsReport", this.searchedModlets.getModlet().size(),
+                                              System.nanoTime() - t0 ), null );
+
+        }
+
+        t0 = System.nanoTime();
+        final ModelValidationReport report =
+            Objects.requireNonNull( this.validateModlets( this.searchedModlets ), this.toString() );
+
+        if ( this.isLoggable( Level.FINE ) )
+        {
+            this.log( Level.FINE, getMessage( "validateModletsReport",
+                                              this.searchedModlets.getModlet().size(),
+                                              System.nanoTime() - t0 ), null );
+        }
+
+        try ( final Stream<ModelValidationReport.Detail> st0 = report.getDetails().parallelStream().unordered() )
+        {
+            st0.filter( d  -> d.getMessage().isPresent() && d.getLevel().isPresent() ).
+                forEach( d  ->
+                {
+                    if ( isLoggable( d.getLevel().get() ) )
                     {
-                        if ( isLoggable( d.getLevel().get() ) )
-                        {
-                            log( d.getLevel().get(), d.getMessage().get(), null );
-                        }
-                    } );
-            }
+                        log( d.getLevel().get(), d.getMessage().get(), null );
+                    }
+                } );
+        }
 
-            if ( !report.isModelValid() )
-            {
-                this.modlets = null;
-                throw new ModelException( getMessage( "invalidModlets" ) );
-            }
+        if ( !report.isModelValid() )
+        {
+            throw new ModelException( getMessage( "invalidModlets" ) );
         }
 
-        return this.modlets;
+        this.storeModletsSnapshot( this.searchedModlets );
+        return this.searchedModlets;
     }
 
     /**
@@ -728,6 +878,53 @@ public abstract class ModelContext
         }
     }
 
+    /**
+     * Searches the context for a snapshot of its {@code Modlets}.
+     * <p>
+     * This method is called by the {@code getModlets} method before searching, processing and validating
+     * {@code Modlets}. If a snapshot is found, it is used as the {@code Modlets} of the context without searching,
+     * processing or validating. This method returns no value. Overriding methods are expected to only return snapshots
+     * of {@code Modlets} stored by method {@code storeModletsSnapshot} under the same conditions.
+     * </p>
+     *
+     * @param modlets The {@code Modlets} initially searched.
+     *
+     * @return A snapshot of the {@code Modlets} of the context or no value, if no snapshot is found.
+     *
+     * @throws NullPointerException if {@code modlets} is {@code null}.
+     * @throws ModelException if searching a snapshot fails.
+     *
+     * @see #getModlets()
+     * @see #storeModletsSnapshot(org.jomc.modlet.Modlets)
+     * @since 2.0
+     */
+    public Optional<Modlets> findModletsSnapshot( final Modlets modlets ) throws ModelException
+    {
+        Objects.requireNonNull( modlets, "modlets" );
+        return Optional.empty();
+    }
+
+    /**
+     * Stores a snapshot of the {@code Modlets} of the context.
+     * <p>
+     * This method is called by the {@code getModlets} method after having successfully searched, processed and
+     * validated the {@code Modlets} of the context. This method does nothing.
+     * </p>
+     *
+     * @param modlets The {@code Modlets} to store a snapshot of.
+     *
+     * @throws NullPointerException if {@code modlets} is {@code null}.
+     * @throws ModelException if storing a snapshot fails.
+     *
+     * @see #getModlets()
+     * @see #findModletsSnapshot(org.jomc.modlet.Modlets)
+     * @since 2.0
+     */
+    public void storeModletsSnapshot( final Modlets modlets ) throws ModelException
+    {
+        Objects.requireNonNull( modlets, "modlets" );
+    }
+
     /**
      * Searches the context for {@code Modlets}.
      *
@@ -776,6 +973,33 @@ public abstract class ModelContext
      */
     public abstract ModelValidationReport validateModlets( Modlets modlets ) throws ModelException;
 
+    /**
+     * Validates a list of {@code Modlet}s passing report details to a consumer as they are produced.
+     * <p>
+     * The consumer is not invoked concurrently. This method validates {@code modlets} using method
+     * {@link #validateModlets(org.jomc.modlet.Modlets)} and passes the details of the resulting report to
+     * {@code consumer}. Overriding classes should pass details to {@code consumer} without collecting them in a
+     * report.
+     * </p>
+     *
+     * @param modlets The {@code Modlets} to validate.
+     * @param consumer The consumer to pass report details to.
+     *
+     * @throws NullPointerException if {@code modlets} or {@code consumer} is {@code null}.
+     * @throws ModelException if validating {@code modlets} fails.
+     *
+     * @see ModelValidationReport.Summary
+     * @since 2.0
+     */
+    public void validateModletsStreaming( final Modlets modlets,
+                                          final Consumer<? super ModelValidationReport.Detail> consumer )
+        throws ModelException
+    {
+        Objects.requireNonNull( modlets, "modlets" );
+        Objects.requireNonNull( consumer, "consumer" );
+        this.validateModlets( modlets ).getDetails().forEach( consumer );
+    }
+
     /**
      * Creates a new {@code Model} instance.
      *
@@ -791,6 +1015,94 @@ public abstract class ModelContext
      */
     public abstract Model findModel( String model ) throws ModelException;
 
+    /**
+     * Finds multiple models.
+     * <p>
+     * This method finds, and optionally processes and validates, the models identified by the distinct identifiers of
+     * {@code models} one after another. If both {@code processing} and {@code validating} are {@code true}, each model
+     * is handled using method {@link #runModelPipeline(java.lang.String)}. A model failing with a
+     * {@code ModelException} does not stop the remaining models from being handled. Its result holds that exception
+     * instead. Overriding classes should handle the models concurrently.
+     * </p>
+     *
+     * @param models The identifiers of the models to find.
+     * @param processing {@code true}, to process each model found; {@code false}, to not process the models.
+     * @param validating {@code true}, to validate each model; {@code false}, to not validate the models.
+     *
+     * @return An unmodifiable map holding one result per distinct model identifier in the order of {@code models}.
+     *
+     * @throws NullPointerException if {@code models} is {@code null} or contains {@code null} elements.
+     *
+     * @see #findModel(java.lang.String)
+     * @see #processModel(org.jomc.modlet.Model)
+     * @see #validateModel(org.jomc.modlet.Model)
+     * @since 2.0
+     */
+    public Map<String, ModelDiscoveryResult> findModels( final Collection<String> models, final boolean processing,
+                                                         final boolean validating )
+    {
+        final Map<String, ModelDiscoveryResult> results =
+            new LinkedHashMap<>( Objects.requireNonNull( models, "models" ).size() * 2 );
+
+        for ( final String model : models )
+        {
+            if ( !results.containsKey( Objects.requireNonNull( model, "models" ) ) )
+            {
+                results.put( model, this.discoverModel( model, processing, validating ) );
+            }
+        }
+
+        return Collections.unmodifiableMap( results );
+    }
+
+    /**
+     * Finds a model as part of finding multiple models.
+     *
+     * @param model The identifier of the model to find.
+     * @param processing {@code true}, to process the model found; {@code false}, to not process the model.
+     * @param validating {@code true}, to validate the model; {@code false}, to not validate the model.
+     *
+     * @return The result of finding the model.
+     *
+     * @see #findModels(java.util.Collection, boolean, boolean)
+     * @since 2.0
+     */
+    final ModelDiscoveryResult discoverModel( final String model, final boolean processing, final boolean validating )
+    {
+        final long t0 = System.nanoTime();
+
+        try
+        {
+            if ( processing && validating )
+            {
+                final ModelPipelineResult result = this.runModelPipeline( model );
+                return new ModelDiscoveryResult( result.getModel(), result.getReport(), null,
+                                                 System.nanoTime() - t0 );
+
+            }
+
+            Model m = this.findModel( model );
+
+            if ( processing )
+            {
+                m = this.processModel( m );
+            }
+
+            return new ModelDiscoveryResult( m, validating ? this.validateModel( m ) : null, null,
+                                             System.nanoTime() - t0 );
+
+        }
+        catch ( final ModelException e )
+        {
+            if ( this.isLoggable( Level.FINE ) )
+            {
+                this.log( Level.FINE, getMessage( e ), e );
+            }
+
+            return new ModelDiscoveryResult( null, null, e, System.nanoTime() - t0 );
+        }
+    }
+
     /**
      * Populates a given {@code Model} instance.
      *
@@ -836,6 +1148,67 @@ public abstract class ModelContext
      */
     public abstract ModelValidationReport validateModel( Model model ) throws ModelException;
 
+    /**
+     * Validates a given {@code Model} passing report details to a consumer as they are produced.
+     * <p>
+     * The consumer is not invoked concurrently. This method validates {@code model} using method
+     * {@link #validateModel(org.jomc.modlet.Model)} and passes the details of the resulting report to
+     * {@code consumer}. Overriding classes should pass details to {@code consumer} without collecting them in a
+     * report.
+     * </p>
+     *
+     * @param model The {@code Model} to validate.
+     * @param consumer The consumer to pass report details to.
+     *
+     * @throws NullPointerException if {@code model} or {@code consumer} is {@code null}.
+     * @throws ModelException if validating {@code model} fails.
+     *
+     * @see ModelValidationReport.Summary
+     * @since 2.0
+     */
+    public void validateModelStreaming( final Model model,
+                                        final Consumer<? super ModelValidationReport.Detail> consumer )
+        throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+        Objects.requireNonNull( consumer, "consumer" );
+        this.validateModel( model ).getDetails().forEach( consumer );
+    }
+
+    /**
+     * Runs the model pipeline of a given model.
+     * <p>
+     * This method finds the model identified by {@code model} using method {@link #findModel(java.lang.String)},
+     * processes the found model using method {@link #processModel(org.jomc.modlet.Model)} and validates the processed
+     * model using method {@link #validateModel(org.jomc.modlet.Model)}, measuring the time spent in each stage.
+     * Overriding classes should avoid copying the model between stages and overlap independent work of the stages.
+     * </p>
+     *
+     * @param model The identifier of the model to run the pipeline of.
+     *
+     * @return The result of running the pipeline.
+     *
+     * @throws NullPointerException if {@code model} is {@code null}.
+     * @throws ModelException if running the pipeline fails.
+     *
+     * @see ModletObject#MODEL_PUBLIC_ID
+     * @since 2.0
+     */
+    public ModelPipelineResult runModelPipeline( final String model ) throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+
+        final long t0 = System.nanoTime();
+        final Model found = this.findModel( model );
+        final long t1 = System.nanoTime();
+        final Model processed = this.processModel( found );
+        final long t2 = System.nanoTime();
+        final ModelValidationReport report = this.validateModel( processed );
+        final long t3 = System.nanoTime();
+
+        return new ModelPipelineResult( processed, report, t1 - t0, t2 - t1, t3 - t2, t3 - t0 );
+    }
+
     /**
      * Validates a given model.
      *
@@ -853,6 +1226,81 @@ public abstract class ModelContext
      */
     public abstract ModelValidationReport validateModel( String model, Source source ) throws ModelException;
 
+    /**
+     * Validates a given model passing report details to a consumer as they are produced.
+     * <p>
+     * The consumer is not invoked concurrently. This method validates {@code source} using method
+     * {@link #validateModel(java.lang.String, javax.xml.transform.Source)} and passes the details of the resulting
+     * report to {@code consumer}. Overriding classes should pass details to {@code consumer} without collecting them
+     * in a report.
+     * </p>
+     *
+     * @param model The identifier of the {@code Model} to use for validating {@code source}.
+     * @param source A source providing the model to validate.
+     * @param consumer The consumer to pass report details to.
+     *
+     * @throws NullPointerException if {@code model}, {@code source} or {@code consumer} is {@code null}.
+     * @throws ModelException if validating the model fails.
+     *
+     * @see ModelValidationReport.Summary
+     * @since 2.0
+     */
+    public void validateModelStreaming( final String model, final Source source,
+                                        final Consumer<? super ModelValidationReport.Detail> consumer )
+        throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+        Objects.requireNonNull( source, "source" );
+        Objects.requireNonNull( consumer, "consumer" );
+        this.validateModel( model, source ).getDetails().forEach( consumer );
+    }
+
+    /**
+     * Validates a batch of sources against a given model.
+     * <p>
+     * This method validates the sources of {@code sources} one after another using method
+     * {@link #validateModel(java.lang.String, javax.xml.transform.Source)}. If a listener is given, it is passed each
+     * source together with its report as soon as validating that source has finished. The listener is not invoked
+     * concurrently. Overriding classes should validate the sources in parallel.
+     * </p>
+     *
+     * @param model The identifier of the {@code Model} to use for validating {@code sources}.
+     * @param sources The sources providing the models to validate.
+     * @param listener The listener to pass each source and its report to or {@code null}.
+     *
+     * @return An unmodifiable list holding one validation report per source in the order of {@code sources}.
+     *
+     * @throws NullPointerException if {@code model} or {@code sources} is {@code null} or if {@code sources} contains
+     * {@code null} elements.
+     * @throws ModelException if validating the models fails.
+     *
+     * @see #validateModel(java.lang.String, javax.xml.transform.Source)
+     * @since 2.0
+     */
+    public List<ModelValidationReport> validateModelBatch(
+        final String model, final Collection<? extends Source> sources,
+        final BiConsumer<? super Source, ? super ModelValidationReport> listener ) throws ModelException
+    {
+        Objects.requireNonNull( model, "model" );
+        Objects.requireNonNull( sources, "sources" );
+        final List<ModelValidationReport> reports = new ArrayList<>( sources.size() );
+
+        for ( final Source source : sources )
+        {
+            final ModelValidationReport report =
+                this.validateModel( model, Objects.requireNonNull( source, "sources" ) );
+
+            if ( listener != null )
+            {
+                listener.accept( source, report );
+            }
+
+            reports.add( report );
+        }
+
+        return Collections.unmodifiableList( reports );
+    }
+
     /**
      * Creates a new SAX entity resolver instance of a given model.
      *
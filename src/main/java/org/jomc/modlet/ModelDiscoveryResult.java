@@ -0,0 +1,155 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.modlet;
+
+import java.util.Optional;
+
+/**
+ * Result of finding a model as part of finding multiple models.
+ * <p>
+ * A model discovery result either holds the model found, and optionally processed and validated, or the exception
+ * finding, processing or validating that model failed with. In addition, it holds the time spent on the model in
+ * nanoseconds as measured by {@link System#nanoTime()}.
+ * </p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @see ModelContext#findModels(java.util.Collection, boolean, boolean)
+ * @since 2.0
+ */
+public class ModelDiscoveryResult
+{
+
+    /**
+     * The model of the instance.
+     */
+    private final Model model;
+
+    /**
+     * The validation report of the instance.
+     */
+    private final ModelValidationReport report;
+
+    /**
+     * The error of the instance.
+     */
+    private final ModelException error;
+
+    /**
+     * Nanoseconds spent on the model.
+     */
+    private final long nanos;
+
+    /**
+     * Creates a new {@code ModelDiscoveryResult} instance.
+     *
+     * @param model The model found or {@code null}, if finding the model failed.
+     * @param report The validation report of {@code model} or {@code null}, if the model has not been validated.
+     * @param error The exception finding the model failed with or {@code null}, if finding the model succeeded.
+     * @param nanos Nanoseconds spent on the model.
+     */
+    public ModelDiscoveryResult( final Model model, final ModelValidationReport report, final ModelException error,
+                                 final long nanos )
+    {
+        super();
+        this.model = model;
+        this.report = report;
+        this.error = error;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Gets the model found.
+     *
+     * @return The model found or no value, if finding the model failed.
+     */
+    public Optional<Model> getModel()
+    {
+        return Optional.ofNullable( this.model );
+    }
+
+    /**
+     * Gets the validation report of the model.
+     *
+     * @return The validation report of the model or no value, if the model has not been validated.
+     */
+    public Optional<ModelValidationReport> getReport()
+    {
+        return Optional.ofNullable( this.report );
+    }
+
+    /**
+     * Gets the exception finding the model failed with.
+     *
+     * @return The exception finding the model failed with or no value, if finding the model succeeded.
+     */
+    public Optional<ModelException> getError()
+    {
+        return Optional.ofNullable( this.error );
+    }
+
+    /**
+     * Gets the number of nanoseconds spent on the model.
+     *
+     * @return The number of nanoseconds spent on the model.
+     */
+    public long getNanos()
+    {
+        return this.nanos;
+    }
+
+    /**
+     * Creates and returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    private String toStringInternal()
+    {
+        return new StringBuilder( 200 ).append( '{' ).
+            append( "model=" ).append( this.getModel().map( Model::getIdentifier ) ).
+            append( ", modelValid=" ).append( this.getReport().map( ModelValidationReport::isModelValid ) ).
+            append( ", error=" ).append( this.getError() ).
+            append( ", nanos=" ).append( this.getNanos() ).append( '}' ).toString();
+
+    }
+
+    /**
+     * Creates and returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString()
+    {
+        return super.toString() + this.toStringInternal();
+    }
+
+}
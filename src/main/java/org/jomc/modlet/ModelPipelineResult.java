@@ -0,0 +1,196 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.modlet;
+
+import java.util.Objects;
+
+/**
+ * Result of running the model pipeline.
+ * <p>
+ * A model pipeline result holds the model found and processed by the pipeline, the validation report of that model
+ * and the time spent in each stage of the pipeline. Timings are given in nanoseconds as measured by
+ * {@link System#nanoTime()}. Stages of the pipeline may overlap, so that the total time spent running the pipeline
+ * may be lower than the sum of the times spent in each stage.
+ * </p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @see ModelContext#runModelPipeline(java.lang.String)
+ * @since 2.0
+ */
+public class ModelPipelineResult
+{
+
+    /**
+     * The model of the instance.
+     */
+    private final Model model;
+
+    /**
+     * The validation report of the instance.
+     */
+    private final ModelValidationReport report;
+
+    /**
+     * Nanoseconds spent finding the model.
+     */
+    private final long findModelNanos;
+
+    /**
+     * Nanoseconds spent processing the model.
+     */
+    private final long processModelNanos;
+
+    /**
+     * Nanoseconds spent validating the model.
+     */
+    private final long validateModelNanos;
+
+    /**
+     * Nanoseconds spent running the pipeline.
+     */
+    private final long totalNanos;
+
+    /**
+     * Creates a new {@code ModelPipelineResult} instance.
+     *
+     * @param model The model found and processed by the pipeline.
+     * @param report The validation report of {@code model}.
+     * @param findModelNanos Nanoseconds spent finding the model.
+     * @param processModelNanos Nanoseconds spent processing the model.
+     * @param validateModelNanos Nanoseconds spent validating the model.
+     * @param totalNanos Nanoseconds spent running the pipeline.
+     *
+     * @throws NullPointerException if {@code model} or {@code report} is {@code null}.
+     */
+    public ModelPipelineResult( final Model model, final ModelValidationReport report, final long findModelNanos,
+                                final long processModelNanos, final long validateModelNanos, final long totalNanos )
+    {
+        super();
+        this.model = Objects.requireNonNull( model, "model" );
+        this.report = Objects.requireNonNull( report, "report" );
+        this.findModelNanos = findModelNanos;
+        this.processModelNanos = processModelNanos;
+        this.validateModelNanos = validateModelNanos;
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Gets the model found and processed by the pipeline.
+     *
+     * @return The model found and processed by the pipeline.
+     */
+    public Model getModel()
+    {
+        return this.model;
+    }
+
+    /**
+     * Gets the validation report of the model.
+     *
+     * @return The validation report of the model.
+     *
+     * @see #getModel()
+     */
+    public ModelValidationReport getReport()
+    {
+        return this.report;
+    }
+
+    /**
+     * Gets the number of nanoseconds spent finding the model.
+     *
+     * @return The number of nanoseconds spent finding the model.
+     */
+    public long getFindModelNanos()
+    {
+        return this.findModelNanos;
+    }
+
+    /**
+     * Gets the number of nanoseconds spent processing the model.
+     *
+     * @return The number of nanoseconds spent processing the model.
+     */
+    public long getProcessModelNanos()
+    {
+        return this.processModelNanos;
+    }
+
+    /**
+     * Gets the number of nanoseconds spent validating the model.
+     *
+     * @return The number of nanoseconds spent validating the model.
+     */
+    public long getValidateModelNanos()
+    {
+        return this.validateModelNanos;
+    }
+
+    /**
+     * Gets the number of nanoseconds spent running the pipeline.
+     *
+     * @return The number of nanoseconds spent running the pipeline.
+     */
+    public long getTotalNanos()
+    {
+        return this.totalNanos;
+    }
+
+    /**
+     * Creates and returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    private String toStringInternal()
+    {
+        return new StringBuilder( 200 ).append( '{' ).
+            append( "model=" ).append( this.getModel().getIdentifier() ).
+            append( ", modelValid=" ).append( this.getReport().isModelValid() ).
+            append( ", findModelNanos=" ).append( this.getFindModelNanos() ).
+            append( ", processModelNanos=" ).append( this.getProcessModelNanos() ).
+            append( ", validateModelNanos=" ).append( this.getValidateModelNanos() ).
+            append( ", totalNanos=" ).append( this.getTotalNanos() ).append( '}' ).toString();
+
+    }
+
+    /**
+     * Creates and returns a string representation of the object.
+     *
+     * @return A string representation of the object.
+     */
+    @Override
+    public String toString()
+    {
+        return super.toString() + this.toStringInternal();
+    }
+
+}
@@ -30,15 +30,43 @@
  */
 package org.jomc.modlet;
 
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamException;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.text.MessageFormat;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.RandomAccess;
+import java.util.ResourceBundle;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 import java.util.logging.Level;
-import java.util.stream.Collector;
-import java.util.stream.Stream;
 import javax.xml.bind.JAXBElement;
+import javax.xml.namespace.QName;
 
 /**
  * {@code Model} validation report.
@@ -172,17 +200,1477 @@ public class ModelValidationReport implements Serializable
 
     }
 
+    /**
+     * Report detail formatting its message lazily and locating its element.
+     * <p>
+     * Instead of a formatted message and a strong reference to a JAXB element, a lazy detail stores the name of a
+     * resource bundle, a message key and the message arguments together with a locator string identifying the element
+     * the detail is associated with. The message is formatted each time it is requested, using the class loader given
+     * on construction. The value of the element is only weakly referenced and the element is resolved on demand, as
+     * long as that value has not been garbage collected. Details holding a reference to an element wrapping a large
+     * object graph therefore do not prevent that graph from being garbage collected. The locator of a detail
+     * associated with a {@code Modlets} element can be resolved against {@code Modlets} at any time. Neither the
+     * element nor its value are serialized. Message arguments not implementing {@code Serializable} are serialized as
+     * strings.
+     * </p>
+     *
+     * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+     * @version $JOMC$
+     * @since 2.0
+     */
+    public static class LazyDetail extends Detail
+    {
+
+        /**
+         * Serial version UID for backwards compatibility with 2.0.x object streams.
+         */
+        private static final long serialVersionUID = 2795013538153458718L;
+
+        /**
+         * The base name of the resource bundle of the message of the detail.
+         *
+         * @serial
+         */
+        private final String baseName;
+
+        /**
+         * The key of the message of the detail.
+         *
+         * @serial
+         */
+        private final String key;
+
+        /**
+         * The arguments of the message of the detail.
+         *
+         * @serial
+         */
+        private final Object[] arguments;
+
+        /**
+         * The locator of the element of the detail.
+         *
+         * @serial
+         */
+        private final String locator;
+
+        /**
+         * The name of the element of the detail.
+         */
+        private final transient QName elementName;
+
+        /**
+         * The declared type of the element of the detail.
+         */
+        private final transient Class<?> elementDeclaredType;
+
+        /**
+         * The scope of the element of the detail.
+         */
+        private final transient Class<?> elementScope;
+
+        /**
+         * Weak reference to the value of the element of the detail.
+         */
+        private final transient WeakReference<Object> elementValue;
+
+        /**
+         * Weak reference to the class loader to load the resource bundle of the message of the detail with.
+         */
+        private final transient WeakReference<ClassLoader> classLoader;
+
+        /**
+         * Creates a new {@code LazyDetail} taking an identifier, a level, a message key and arguments, a locator and an
+         * element.
+         * <p>
+         * The message of the detail is loaded using the context class loader of the thread requesting it.
+         * </p>
+         *
+         * @param identifier The detail identifier.
+         * @param level The detail level.
+         * @param baseName The base name of the resource bundle holding the message of the detail or {@code null}.
+         * @param key The key of the message of the detail or {@code null}.
+         * @param arguments The arguments to format the message of the detail with or {@code null}.
+         * @param locator The locator of the element of the detail or {@code null}.
+         * @param element The detail element or {@code null}.
+         *
+         * @throws NullPointerException if {@code key} is not {@code null} and {@code baseName} is {@code null}.
+         */
+        public LazyDetail( final String identifier, final Level level, final String baseName, final String key,
+                           final Object[] arguments, final String locator, final JAXBElement<?> element )
+        {
+            this( identifier, level, baseName, key, arguments, locator, element, null );
+        }
+
+        /**
+         * Creates a new {@code LazyDetail} taking an identifier, a level, a message key and arguments, a locator, an
+         * element and the class loader to load the message with.
+         *
+         * @param identifier The detail identifier.
+         * @param level The detail level.
+         * @param baseName The base name of the resource bundle holding the message of the detail or {@code null}.
+         * @param key The key of the message of the detail or {@code null}.
+         * @param arguments The arguments to format the message of the detail with or {@code null}.
+         * @param locator The locator of the element of the detail or {@code null}.
+         * @param element The detail element or {@code null}.
+         * @param classLoader The class loader to load the resource bundle holding the message of the detail with or
+         * {@code null}, to use the context class loader of the thread requesting the message. The class loader is
+         * weakly referenced.
+         *
+         * @throws NullPointerException if {@code key} is not {@code null} and {@code baseName} is {@code null}.
+         */
+        public LazyDetail( final String identifier, final Level level, final String baseName, final String key,
+                           final Object[] arguments, final String locator, final JAXBElement<?> element,
+                           final ClassLoader classLoader )
+        {
+            super( identifier, level, null, null );
+
+            if ( key != null )
+            {
+                Objects.requireNonNull( baseName, "baseName" );
+            }
+
+            this.baseName = baseName;
+            this.key = key;
+            this.arguments = arguments != null ? arguments.clone() : null;
+            this.locator = locator;
+            this.classLoader = classLoader != null ? new WeakReference<>( classLoader ) : null;
+
+            if ( element != null && !element.isNil() )
+            {
+                this.elementName = element.getName();
+                this.elementDeclaredType = element.getDeclaredType();
+                this.elementScope = element.getScope();
+                this.elementValue = new WeakReference<>( element.getValue() );
+            }
+            else
+            {
+                this.elementName = null;
+                this.elementDeclaredType = null;
+                this.elementScope = null;
+                this.elementValue = null;
+            }
+        }
+
+        /**
+         * Gets the key of the message of this detail.
+         *
+         * @return The key of the message of this detail or no value.
+         */
+        public Optional<String> getMessageKey()
+        {
+            return Optional.ofNullable( this.key );
+        }
+
+        /**
+         * Gets the arguments of the message of this detail.
+         *
+         * @return A copy of the arguments of the message of this detail or no value.
+         */
+        public Optional<Object[]> getMessageArguments()
+        {
+            return Optional.ofNullable( this.arguments != null ? this.arguments.clone() : null );
+        }
+
+        /**
+         * Gets the locator of the element of this detail.
+         *
+         * @return The locator of the element of this detail or no value.
+         */
+        public Optional<String> getLocator()
+        {
+            return Optional.ofNullable( this.locator );
+        }
+
+        /**
+         * Gets the message of this detail.
+         * <p>
+         * This method formats the message of the detail using the resource bundle for the default locale on each
+         * invocation. The resource bundle is loaded using the class loader given on construction. If no class loader
+         * has been given, that class loader has been garbage collected or the detail has been deserialized, the
+         * context class loader of the current thread is used.
+         * </p>
+         *
+         * @return The message of this detail or no value.
+         *
+         * @throws java.util.MissingResourceException if the message cannot be found.
+         */
+        @Override
+        public Optional<String> getMessage()
+        {
+            if ( this.key == null )
+            {
+                return Optional.empty();
+            }
+
+            ClassLoader loader = this.classLoader != null ? this.classLoader.get() : null;
+
+            if ( loader == null )
+            {
+                loader = Thread.currentThread().getContextClassLoader();
+            }
+
+            if ( loader == null )
+            {
+                loader = ModelValidationReport.class.getClassLoader();
+            }
+
+            return Optional.of( MessageFormat.format(
+                ResourceBundle.getBundle( this.baseName, Locale.getDefault(), loader ).getString( this.key ),
+                this.arguments != null ? this.arguments : new Object[ 0 ] ) );
+
+        }
+
+        /**
+         * Gets the JAXB element of this detail.
+         * <p>
+         * This method resolves the element of the detail on each invocation. Once the weakly referenced value of the
+         * element has been garbage collected or after deserialization, the element cannot be resolved anymore and no
+         * value is returned. Use the {@link #getLocator() locator} of the detail to locate the element in that case.
+         * </p>
+         *
+         * @return The JAXB element of this detail or no value.
+         *
+         * @see #getElement(org.jomc.modlet.Modlets)
+         */
+        @Override
+        public Optional<JAXBElement<?>> getElement()
+        {
+            final Object value = this.elementValue != null ? this.elementValue.get() : null;
+
+            return Optional.ofNullable( value != null
+                                            ? newElement( this.elementName, this.elementDeclaredType,
+                                                          this.elementScope, value )
+                                            : null );
+
+        }
+
+        /**
+         * Gets the JAXB element of this detail by resolving its locator against given {@code Modlets}.
+         * <p>
+         * Locators are resolved as absolute paths of child element steps starting at a {@code modlets} element, like
+         * {@code /modlets/modlet[1]/services/service[2]/property[1]}. A step may be qualified by a position, by an
+         * attribute value, like {@code [@name='name']}, or by the absence of an attribute, like {@code [not(@name)]}.
+         * Attribute values are given as string literals or as a {@code concat} of string literals. This method does
+         * not depend on the value of the element of the detail still being referenced.
+         * </p>
+         *
+         * @param modlets The {@code Modlets} to resolve the locator of the detail against.
+         *
+         * @return The JAXB element of {@code modlets} located by the locator of this detail or no value, if this detail
+         * has no locator or the locator does not locate an element of {@code modlets}.
+         *
+         * @throws NullPointerException if {@code modlets} is {@code null}.
+         */
+        public Optional<JAXBElement<?>> getElement( final Modlets modlets )
+        {
+            Objects.requireNonNull( modlets, "modlets" );
+            return this.locator != null ? locate( modlets, this.locator ) : Optional.empty();
+        }
+
+        /**
+         * Creates and returns a string representation of the object.
+         *
+         * @return A string representation of the object.
+         */
+        @Override
+        public String toString()
+        {
+            return super.toString() + "{locator=" + this.getLocator() + '}';
+        }
+
+        /**
+         * Locates an element of some {@code Modlets}.
+         *
+         * @param modlets The {@code Modlets} to locate an element of.
+         * @param locator The locator of the element.
+         *
+         * @return The element of {@code modlets} located by {@code locator} or no value.
+         */
+        private static Optional<JAXBElement<?>> locate( final Modlets modlets, final String locator )
+        {
+            final ObjectFactory objectFactory = new ObjectFactory();
+            JAXBElement<?> element = null;
+            int i = 0;
+
+            while ( i < locator.length() && locator.charAt( i ) == '/' )
+            {
+                int end = i + 1;
+
+                while ( end < locator.length() && locator.charAt( end ) != '/' && locator.charAt( end ) != '[' )
+                {
+                    end++;
+                }
+
+                final String step = locator.substring( i + 1, end );
+                String predicate = null;
+
+                if ( end < locator.length() && locator.charAt( end ) == '[' )
+                {
+                    final int start = end + 1;
+                    char quote = 0;
+
+                    for ( end = start; end < locator.length() && ( quote != 0 || locator.charAt( end ) != ']' );
+                          end++ )
+                    {
+                        final char c = locator.charAt( end );
+
+                        if ( quote == 0 && ( c == '\'' || c == '"' ) )
+                        {
+                            quote = c;
+                        }
+                        else if ( quote == c )
+                        {
+                            quote = 0;
+                        }
+                    }
+
+                    if ( end == locator.length() )
+                    {
+                        return Optional.empty();
+                    }
+
+                    predicate = locator.substring( start, end++ );
+                }
+
+                final List<JAXBElement<?>> children = new ArrayList<>();
+                final Object parent = element != null ? element.getValue() : null;
+
+                if ( parent == null && "modlets".equals( step ) )
+                {
+                    children.add( objectFactory.createModlets( modlets ) );
+                }
+                else if ( parent instanceof Modlets && "modlet".equals( step ) )
+                {
+                    ( (Modlets) parent ).getModlet().forEach( m  -> children.add( objectFactory.createModlet( m ) ) );
+                }
+                else if ( parent instanceof Modlet && "schemas".equals( step )
+                              && ( (Modlet) parent ).getSchemas() != null )
+                {
+                    children.add( objectFactory.createSchemas( ( (Modlet) parent ).getSchemas() ) );
+                }
+                else if ( parent instanceof Modlet && "services".equals( step )
+                              && ( (Modlet) parent ).getServices() != null )
+                {
+                    children.add( objectFactory.createServices( ( (Modlet) parent ).getServices() ) );
+                }
+                else if ( parent instanceof Schemas && "schema".equals( step ) )
+                {
+                    ( (Schemas) parent ).getSchema().forEach( e  -> children.add( objectFactory.createSchema( e ) ) );
+                }
+                else if ( parent instanceof Services && "service".equals( step ) )
+                {
+                    ( (Services) parent ).getService().
+                        forEach( e  -> children.add( objectFactory.createService( e ) ) );
+
+                }
+                else if ( parent instanceof Service && "property".equals( step ) )
+                {
+                    ( (Service) parent ).getProperty().forEach( e  -> children.add( new JAXBElement<>(
+                        new QName( ModletObject.MODEL_PUBLIC_ID, "property" ), Property.class, Service.class, e ) ) );
+
+                }
+
+                element = select( children, predicate );
+
+                if ( element == null )
+                {
+                    return Optional.empty();
+                }
+
+                i = end;
+            }
+
+            return i == locator.length() ? Optional.ofNullable( element ) : Optional.empty();
+        }
+
+        /**
+         * Selects an element from a list of elements.
+         *
+         * @param elements The elements to select from.
+         * @param predicate The predicate of the locator step selecting the element or {@code null}.
+         *
+         * @return The first element of {@code elements} matching {@code predicate} or {@code null}.
+         */
+        private static JAXBElement<?> select( final List<JAXBElement<?>> elements, final String predicate )
+        {
+            if ( predicate == null )
+            {
+                return elements.isEmpty() ? null : elements.get( 0 );
+            }
+
+            if ( predicate.matches( "[0-9]+" ) )
+            {
+                final int position = Integer.parseInt( predicate );
+                return position > 0 && position <= elements.size() ? elements.get( position - 1 ) : null;
+            }
+
+            if ( predicate.startsWith( "not(@" ) && predicate.endsWith( ")" ) )
+            {
+                final String attribute = predicate.substring( 5, predicate.length() - 1 );
+
+                for ( final JAXBElement<?> e : elements )
+                {
+                    if ( getAttribute( e.getValue(), attribute ) == null )
+                    {
+                        return e;
+                    }
+                }
+
+                return null;
+            }
+
+            final int equals = predicate.indexOf( '=' );
+
+            if ( predicate.startsWith( "@" ) && equals > 0 )
+            {
+                final String attribute = predicate.substring( 1, equals );
+                final String value = getLiteral( predicate.substring( equals + 1 ) );
+
+                for ( final JAXBElement<?> e : elements )
+                {
+                    if ( value != null && value.equals( getAttribute( e.getValue(), attribute ) ) )
+                    {
+                        return e;
+                    }
+                }
+            }
+
+            return null;
+        }
+
+        /**
+         * Gets the value of a string literal or of a {@code concat} of string literals.
+         *
+         * @param expression The expression to get the value of.
+         *
+         * @return The value of {@code expression} or {@code null}, if {@code expression} is not supported.
+         */
+        private static String getLiteral( final String expression )
+        {
+            final String arguments = expression.startsWith( "concat(" ) && expression.endsWith( ")" )
+                                         ? expression.substring( 7, expression.length() - 1 )
+                                         : null;
+
+            final StringBuilder value = new StringBuilder( expression.length() );
+            int i = 0;
+
+            do
+            {
+                if ( arguments != null )
+                {
+                    while ( i < arguments.length() && ( arguments.charAt( i ) == ' ' || arguments.charAt( i ) == ',' ) )
+                    {
+                        i++;
+                    }
+                }
+
+                final String literals = arguments != null ? arguments : expression;
+
+                if ( i >= literals.length() || ( literals.charAt( i ) != '\'' && literals.charAt( i ) != '"' ) )
+                {
+                    return null;
+                }
+
+                final int end = literals.indexOf( literals.charAt( i ), i + 1 );
+
+                if ( end < 0 )
+                {
+                    return null;
+                }
+
+                value.append( literals, i + 1, end );
+                i = end + 1;
+
+                if ( arguments == null )
+                {
+                    return i == expression.length() ? value.toString() : null;
+                }
+
+                while ( i < arguments.length() && arguments.charAt( i ) == ' ' )
+                {
+                    i++;
+                }
+            }
+            while ( i < arguments.length() );
+
+            return value.toString();
+        }
+
+        /**
+         * Gets the value of an attribute of a modlet object.
+         *
+         * @param object The object to get the value of an attribute of.
+         * @param attribute The name of the attribute.
+         *
+         * @return The value of {@code attribute} of {@code object} or {@code null}.
+         */
+        private static String getAttribute( final Object object, final String attribute )
+        {
+            String value = null;
+
+            if ( object instanceof Modlet )
+            {
+                final Modlet modlet = (Modlet) object;
+                value = "name".equals( attribute )
+                            ? modlet.getName()
+                            : "model".equals( attribute )
+                                  ? modlet.getModel()
+                                  : "vendor".equals( attribute )
+                                        ? modlet.getVendor()
+                                        : "version".equals( attribute ) ? modlet.getVersion() : null;
+
+            }
+            else if ( object instanceof Schema )
+            {
+                final Schema schema = (Schema) object;
+                value = "public-id".equals( attribute )
+                            ? schema.getPublicId()
+                            : "system-id".equals( attribute )
+                                  ? schema.getSystemId()
+                                  : "context-id".equals( attribute )
+                                        ? schema.getContextId()
+                                        : "classpath-id".equals( attribute ) ? schema.getClasspathId() : null;
+
+            }
+            else if ( object instanceof Service )
+            {
+                final Service service = (Service) object;
+                value = "identifier".equals( attribute )
+                            ? service.getIdentifier()
+                            : "class".equals( attribute ) ? service.getClazz() : null;
+
+            }
+            else if ( object instanceof Property )
+            {
+                final Property property = (Property) object;
+                value = "name".equals( attribute )
+                            ? property.getName()
+                            : "value".equals( attribute ) ? property.getValue() : null;
+
+            }
+
+            return value;
+        }
+
+        private static <T> JAXBElement<T> newElement( final QName name, final Class<T> declaredType,
+                                                      final Class<?> scope, final Object value )
+        {
+            return new JAXBElement<>( name, declaredType, scope, declaredType.cast( value ) );
+        }
+
+        private Object[] getSerializableArguments()
+        {
+            final Object[] serializableArguments = this.arguments != null ? this.arguments.clone() : null;
+
+            if ( serializableArguments != null )
+            {
+                for ( int i = 0, s0 = serializableArguments.length; i < s0; i++ )
+                {
+                    if ( serializableArguments[i] != null && !( serializableArguments[i] instanceof Serializable ) )
+                    {
+                        serializableArguments[i] = serializableArguments[i].toString();
+                    }
+                }
+            }
+
+            return serializableArguments;
+        }
+
+        private void writeObject( final ObjectOutputStream out ) throws IOException
+        {
+            final ObjectOutputStream.PutField fields = out.putFields();
+            fields.put( "baseName", this.baseName );
+            fields.put( "key", this.key );
+            fields.put( "arguments", this.getSerializableArguments() );
+            fields.put( "locator", this.locator );
+            out.writeFields();
+        }
+
+    }
+
+    /**
+     * Bounded summary of report details.
+     * <p>
+     * A summary counts the details it is given per identifier and per level without retaining the details themselves.
+     * The number of identifiers counted separately is bounded. Details without an identifier or with an identifier
+     * exceeding that bound are counted as unlisted. A summary can be used as, or combined with, the consumer passed to
+     * the streaming validation methods of a {@code ModelContext}, so that validation runs producing a huge number of
+     * details need a constant amount of memory.
+     * </p>
+     *
+     * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+     * @version $JOMC$
+     * @see ModelContext#validateModelStreaming(org.jomc.modlet.Model, java.util.function.Consumer)
+     * @see ModelContext#validateModletsStreaming(org.jomc.modlet.Modlets, java.util.function.Consumer)
+     * @since 2.0
+     */
+    public static class Summary implements Consumer<Detail>
+    {
+
+        /**
+         * Default maximum number of identifiers counted separately.
+         */
+        private static final int DEFAULT_MAXIMUM_IDENTIFIERS = 256;
+
+        /**
+         * Maximum number of identifiers counted separately.
+         */
+        private final int maximumIdentifiers;
+
+        /**
+         * Number of details per identifier.
+         */
+        private final Map<String, LongAdder> identifierCounts = new ConcurrentHashMap<>( 64 );
+
+        /**
+         * Number of details per level.
+         */
+        private final Map<Level, LongAdder> levelCounts = new ConcurrentHashMap<>( 16 );
+
+        /**
+         * Number of details.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * Number of details not counted per identifier.
+         */
+        private final LongAdder unlistedCount = new LongAdder();
+
+        /**
+         * Number of details with a level above {@code WARNING}.
+         */
+        private final LongAdder errorCount = new LongAdder();
+
+        /**
+         * Creates a new {@code Summary} instance counting up to 256 identifiers separately.
+         */
+        public Summary()
+        {
+            this( DEFAULT_MAXIMUM_IDENTIFIERS );
+        }
+
+        /**
+         * Creates a new {@code Summary} instance taking the maximum number of identifiers to count separately.
+         *
+         * @param maximumIdentifiers The maximum number of identifiers to count separately.
+         *
+         * @throws IllegalArgumentException if {@code maximumIdentifiers} is negative.
+         */
+        public Summary( final int maximumIdentifiers )
+        {
+            super();
+
+            if ( maximumIdentifiers < 0 )
+            {
+                throw new IllegalArgumentException( Integer.toString( maximumIdentifiers ) );
+            }
+
+            this.maximumIdentifiers = maximumIdentifiers;
+        }
+
+        /**
+         * Counts a detail.
+         *
+         * @param detail The detail to count.
+         *
+         * @throws NullPointerException if {@code detail} is {@code null}.
+         */
+        @Override
+        public void accept( final Detail detail )
+        {
+            Objects.requireNonNull( detail, "detail" );
+
+            this.count.increment();
+
+            if ( detail.getLevel().isPresent() )
+            {
+                this.levelCounts.computeIfAbsent( detail.getLevel().get(), k  -> new LongAdder() ).increment();
+
+                if ( detail.getLevel().get().intValue() > Level.WARNING.intValue() )
+                {
+                    this.errorCount.increment();
+                }
+            }
+
+            LongAdder identifierCount = null;
+
+            if ( detail.getIdentifier().isPresent() )
+            {
+                identifierCount = this.identifierCounts.get( detail.getIdentifier().get() );
+
+                if ( identifierCount == null && this.identifierCounts.size() < this.maximumIdentifiers )
+                {
+                    identifierCount =
+                        this.identifierCounts.computeIfAbsent( detail.getIdentifier().get(), k  -> new LongAdder() );
+
+                }
+            }
+
+            if ( identifierCount != null )
+            {
+                identifierCount.increment();
+            }
+            else
+            {
+                this.unlistedCount.increment();
+            }
+        }
+
+        /**
+         * Gets the number of details counted.
+         *
+         * @return The number of details counted.
+         */
+        public long getCount()
+        {
+            return this.count.sum();
+        }
+
+        /**
+         * Gets the number of details counted per identifier.
+         *
+         * @return An unmodifiable map holding the number of details counted per identifier.
+         *
+         * @see #getUnlistedCount()
+         */
+        public Map<String, Long> getIdentifierCounts()
+        {
+            final Map<String, Long> counts = new HashMap<>( this.identifierCounts.size() * 2 );
+            this.identifierCounts.forEach( ( k, v )  -> counts.put( k, v.sum() ) );
+            return Collections.unmodifiableMap( counts );
+        }
+
+        /**
+         * Gets the number of details counted per level.
+         *
+         * @return An unmodifiable map holding the number of details counted per level.
+         */
+        public Map<Level, Long> getLevelCounts()
+        {
+            final Map<Level, Long> counts = new HashMap<>( this.levelCounts.size() * 2 );
+            this.levelCounts.forEach( ( k, v )  -> counts.put( k, v.sum() ) );
+            return Collections.unmodifiableMap( counts );
+        }
+
+        /**
+         * Gets the number of details not counted per identifier.
+         *
+         * @return The number of details without an identifier or with an identifier exceeding the maximum number of
+         * identifiers counted separately.
+         */
+        public long getUnlistedCount()
+        {
+            return this.unlistedCount.sum();
+        }
+
+        /**
+         * Gets a flag indicating model validity.
+         *
+         * @return {@code true}, if no detail with a level above {@code WARNING} has been counted; {@code false}, if a
+         * detail with a level above {@code WARNING} has been counted.
+         *
+         * @see ModelValidationReport#isModelValid()
+         */
+        public boolean isModelValid()
+        {
+            return this.errorCount.sum() == 0L;
+        }
+
+    }
+
+    /**
+     * Indexed list of report details.
+     * <p>
+     * The list keeps per-identifier buckets and a counter of details with a level higher than {@code WARNING} up to
+     * date as details are added, so that identifier lookups and validity checks do not need to scan all details.
+     * Details are stored in append-only chunks. Appending a detail is serialized on the instance and does not copy any
+     * details. Reading the list, iterating it and looking up details by identifier neither lock nor copy. Iterators,
+     * spliterators and the lists of details by identifier reflect the details of the list at the time they got created
+     * and do not support modifications. Modifications other than appending copy the details of the list.
+     * </p>
+     *
+     * @since 2.0
+     */
+    private static final class DetailList extends AbstractList<Detail> implements RandomAccess
+    {
+
+        /**
+         * Key of the bucket of details without identifier.
+         */
+        private static final Object NO_IDENTIFIER = new Object();
+
+        /**
+         * The details of the list and their index.
+         */
+        private volatile Store store = new Store();
+
+        /**
+         * Creates a new {@code DetailList} instance.
+         */
+        DetailList()
+        {
+            super();
+        }
+
+        @Override
+        public Detail get( final int index )
+        {
+            return this.store.details.snapshot().get( index );
+        }
+
+        @Override
+        public int size()
+        {
+            return this.store.details.size;
+        }
+
+        @Override
+        public synchronized boolean add( final Detail element )
+        {
+            this.store.add( element );
+            this.modCount++;
+            return true;
+        }
+
+        @Override
+        public synchronized void add( final int index, final Detail element )
+        {
+            if ( index == this.size() )
+            {
+                this.add( element );
+            }
+            else
+            {
+                final List<Detail> details = new ArrayList<>( this.store.details.snapshot() );
+                details.add( index, element );
+                this.replace( details );
+            }
+        }
+
+        @Override
+        public synchronized boolean addAll( final Collection<? extends Detail> c )
+        {
+            final Object[] a = c.toArray();
+
+            for ( int i = 0, s0 = a.length; i < s0; i++ )
+            {
+                this.store.add( (Detail) a[i] );
+            }
+
+            this.modCount++;
+            return a.length > 0;
+        }
+
+        @Override
+        public synchronized Detail set( final int index, final Detail element )
+        {
+            final List<Detail> details = new ArrayList<>( this.store.details.snapshot() );
+            final Detail previous = details.set( index, element );
+            this.replace( details );
+            return previous;
+        }
+
+        @Override
+        public synchronized Detail remove( final int index )
+        {
+            final List<Detail> details = new ArrayList<>( this.store.details.snapshot() );
+            final Detail removed = details.remove( index );
+            this.replace( details );
+            return removed;
+        }
+
+        @Override
+        public synchronized boolean remove( final Object o )
+        {
+            final int index = this.indexOf( o );
+
+            if ( index >= 0 )
+            {
+                this.remove( index );
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public synchronized boolean removeIf( final Predicate<? super Detail> filter )
+        {
+            Objects.requireNonNull( filter, "filter" );
+            final List<Detail> details = new ArrayList<>( this.store.details.snapshot() );
+            final boolean removed = details.removeIf( filter );
+
+            if ( removed )
+            {
+                this.replace( details );
+            }
+
+            return removed;
+        }
+
+        @Override
+        public boolean removeAll( final Collection<?> c )
+        {
+            Objects.requireNonNull( c, "c" );
+            return this.removeIf( c::contains );
+        }
+
+        @Override
+        public boolean retainAll( final Collection<?> c )
+        {
+            Objects.requireNonNull( c, "c" );
+            return this.removeIf( d  -> !c.contains( d ) );
+        }
+
+        @Override
+        public synchronized void replaceAll( final UnaryOperator<Detail> operator )
+        {
+            Objects.requireNonNull( operator, "operator" );
+            final List<Detail> details = new ArrayList<>( this.store.details.snapshot() );
+            details.replaceAll( operator );
+            this.replace( details );
+        }
+
+        @Override
+        public synchronized void sort( final Comparator<? super Detail> c )
+        {
+            final List<Detail> details = new ArrayList<>( this.store.details.snapshot() );
+            details.sort( c );
+            this.replace( details );
+        }
+
+        @Override
+        protected synchronized void removeRange( final int fromIndex, final int toIndex )
+        {
+            final List<Detail> details = new ArrayList<>( this.store.details.snapshot() );
+            details.subList( fromIndex, toIndex ).clear();
+            this.replace( details );
+        }
+
+        @Override
+        public synchronized void clear()
+        {
+            this.replace( Collections.<Detail>emptyList() );
+        }
+
+        @Override
+        public Iterator<Detail> iterator()
+        {
+            return this.store.details.snapshot().iterator();
+        }
+
+        @Override
+        public ListIterator<Detail> listIterator()
+        {
+            return this.store.details.snapshot().listIterator();
+        }
+
+        @Override
+        public ListIterator<Detail> listIterator( final int index )
+        {
+            return this.store.details.snapshot().listIterator( index );
+        }
+
+        @Override
+        public Spliterator<Detail> spliterator()
+        {
+            return this.store.details.snapshot().spliterator();
+        }
+
+        /**
+         * Gets the details of the list matching a given identifier.
+         *
+         * @param identifier The identifier of the details to return or {@code null}.
+         *
+         * @return An unmodifiable snapshot of the details of the list matching {@code identifier}.
+         */
+        List<Detail> getDetails( final String identifier )
+        {
+            final Chunks bucket = this.store.buckets.get( identifier != null ? identifier : NO_IDENTIFIER );
+            return bucket != null ? bucket.snapshot() : Collections.<Detail>emptyList();
+        }
+
+        /**
+         * Gets a flag indicating the list to hold details with a level higher than {@code WARNING}.
+         *
+         * @return {@code true}, if the list holds at least one detail with a level higher than {@code WARNING};
+         * {@code false}, else.
+         */
+        boolean isErroneous()
+        {
+            return this.store.errorCount > 0;
+        }
+
+        /**
+         * Replaces the details of the list.
+         *
+         * @param details The new details of the list.
+         */
+        private void replace( final List<Detail> details )
+        {
+            final Store replacement = new Store();
+            details.forEach( replacement::add );
+            this.store = replacement;
+            this.modCount++;
+        }
+
+        /**
+         * Details of a list and their index.
+         */
+        private static final class Store
+        {
+
+            /**
+             * The details of the store in insertion order.
+             */
+            private final Chunks details = new Chunks();
+
+            /**
+             * The details of the store by identifier.
+             */
+            private final Map<Object, Chunks> buckets = new ConcurrentHashMap<>( 16 );
+
+            /**
+             * Number of details of the store with a level higher than {@code WARNING}.
+             */
+            private volatile int errorCount;
+
+            /**
+             * Adds a detail to the store.
+             *
+             * @param detail The detail to add or {@code null}.
+             */
+            private void add( final Detail detail )
+            {
+                if ( detail != null )
+                {
+                    this.buckets.computeIfAbsent( detail.getIdentifier().isPresent()
+                                                      ? detail.getIdentifier().get()
+                                                      : NO_IDENTIFIER, k  -> new Chunks() ).add( detail );
+
+                    if ( detail.getLevel().isPresent()
+                             && detail.getLevel().get().intValue() > Level.WARNING.intValue() )
+                    {
+                        this.errorCount++;
+                    }
+                }
+
+                this.details.add( detail );
+            }
+
+        }
+
+        /**
+         * Append-only sequence of details stored in chunks.
+         * <p>
+         * Appending is expected to be serialized by the caller. Details appended are published by writing the size of
+         * the sequence, so that readers see every detail up to the size they read without locking.
+         * </p>
+         */
+        private static final class Chunks
+        {
+
+            /**
+             * The number of details per chunk.
+             */
+            private static final int CHUNK_SIZE = 256;
+
+            /**
+             * The chunks of the sequence.
+             */
+            private volatile Detail[][] chunks = new Detail[ 4 ][];
+
+            /**
+             * The number of details of the sequence.
+             */
+            private volatile int size;
+
+            /**
+             * Appends a detail to the sequence.
+             *
+             * @param detail The detail to append or {@code null}.
+             */
+            private void add( final Detail detail )
+            {
+                final int index = this.size;
+                final int chunk = index / CHUNK_SIZE;
+                Detail[][] c = this.chunks;
+
+                if ( chunk == c.length )
+                {
+                    c = Arrays.copyOf( c, c.length * 2 );
+                    this.chunks = c;
+                }
+
+                if ( c[chunk] == null )
+                {
+                    c[chunk] = new Detail[ CHUNK_SIZE ];
+                }
+
+                c[chunk][index % CHUNK_SIZE] = detail;
+                this.size = index + 1;
+            }
+
+            /**
+             * Gets an unmodifiable view of the details of the sequence appended so far.
+             *
+             * @return An unmodifiable view of the details of the sequence appended so far.
+             */
+            private List<Detail> snapshot()
+            {
+                // Read the size first, so that the chunks read hold every detail published up to that size.
+                final int s = this.size;
+                return new Snapshot( this.chunks, s );
+            }
+
+        }
+
+        /**
+         * Unmodifiable view of a prefix of a sequence of details.
+         */
+        private static final class Snapshot extends AbstractList<Detail> implements RandomAccess
+        {
+
+            /**
+             * The chunks of the sequence.
+             */
+            private final Detail[][] chunks;
+
+            /**
+             * The number of details of the view.
+             */
+            private final int size;
+
+            /**
+             * Creates a new {@code Snapshot} instance.
+             *
+             * @param chunks The chunks of the sequence.
+             * @param size The number of details of the view.
+             */
+            private Snapshot( final Detail[][] chunks, final int size )
+            {
+                super();
+                this.chunks = chunks;
+                this.size = size;
+            }
+
+            @Override
+            public Detail get( final int index )
+            {
+                if ( index < 0 || index >= this.size )
+                {
+                    throw new IndexOutOfBoundsException( Integer.toString( index ) );
+                }
+
+                return this.chunks[index / Chunks.CHUNK_SIZE][index % Chunks.CHUNK_SIZE];
+            }
+
+            @Override
+            public int size()
+            {
+                return this.size;
+            }
+
+        }
+
+    }
+
+    /**
+     * Serialized form of a {@code ModelValidationReport}.
+     * <p>
+     * Reports are serialized using this class as a serialization proxy writing a versioned binary representation of
+     * the details of the report. Identifiers are written once and referenced by index afterwards. Standard levels are
+     * written as a single byte. Details of classes other than {@code Detail} and {@code LazyDetail} are written using
+     * default serialization. Object streams holding reports serialized using the default serialized form of previous
+     * versions are still read by {@code ModelValidationReport} itself.
+     * </p>
+     *
+     * @since 2.0
+     */
+    private static final class SerializedForm implements Externalizable
+    {
+
+        /**
+         * Serial version UID for backwards compatibility with 2.0.x object streams.
+         */
+        private static final long serialVersionUID = -4391866178925371346L;
+
+        /**
+         * Version of the binary representation written by this class.
+         */
+        private static final byte VERSION = 1;
+
+        /**
+         * Tag of details of class {@code Detail}.
+         */
+        private static final byte DETAIL = 0;
+
+        /**
+         * Tag of details of class {@code LazyDetail}.
+         */
+        private static final byte LAZY_DETAIL = 1;
+
+        /**
+         * Tag of details of any other class.
+         */
+        private static final byte OBJECT = 2;
+
+        /**
+         * Levels written as a single byte holding the index of the level in this array.
+         */
+        private static final Level[] LEVELS =
+        {
+            Level.OFF, Level.SEVERE, Level.WARNING, Level.INFO, Level.CONFIG, Level.FINE, Level.FINER, Level.FINEST,
+            Level.ALL
+        };
+
+        /**
+         * Byte written for a {@code null} level.
+         */
+        private static final byte NULL_LEVEL = -1;
+
+        /**
+         * Byte written for a level not found in {@code LEVELS}.
+         */
+        private static final byte OBJECT_LEVEL = -2;
+
+        /**
+         * Index written for a {@code null} identifier.
+         */
+        private static final int NULL_IDENTIFIER = -1;
+
+        /**
+         * The report of the instance.
+         */
+        private ModelValidationReport report;
+
+        /**
+         * Creates a new {@code SerializedForm} instance.
+         * <p>
+         * This constructor is used during deserialization only.
+         * </p>
+         */
+        public SerializedForm()
+        {
+            super();
+        }
+
+        /**
+         * Creates a new {@code SerializedForm} instance taking a report.
+         *
+         * @param report The report to serialize.
+         */
+        SerializedForm( final ModelValidationReport report )
+        {
+            super();
+            this.report = report;
+        }
+
+        @Override
+        public void writeExternal( final ObjectOutput out ) throws IOException
+        {
+            final Detail[] details = this.report.details.toArray( new Detail[ 0 ] );
+            final Map<String, Integer> identifiers = new HashMap<>();
+
+            out.writeByte( VERSION );
+            out.writeInt( details.length );
+
+            for ( final Detail detail : details )
+            {
+                if ( detail == null || ( detail.getClass() != Detail.class && detail.getClass() != LazyDetail.class ) )
+                {
+                    out.writeByte( OBJECT );
+                    out.writeObject( detail );
+                    continue;
+                }
+
+                out.writeByte( detail.getClass() == Detail.class ? DETAIL : LAZY_DETAIL );
+
+                if ( detail.identifier != null )
+                {
+                    final Integer index = identifiers.get( detail.identifier );
+
+                    if ( index != null )
+                    {
+                        out.writeInt( index );
+                    }
+                    else
+                    {
+                        final int newIndex = identifiers.size();
+                        identifiers.put( detail.identifier, newIndex );
+                        out.writeInt( newIndex );
+                        out.writeObject( detail.identifier );
+                    }
+                }
+                else
+                {
+                    out.writeInt( NULL_IDENTIFIER );
+                }
+
+                writeLevel( out, detail.level );
+
+                if ( detail.getClass() == Detail.class )
+                {
+                    out.writeObject( detail.message );
+                    out.writeObject( detail.element );
+                }
+                else
+                {
+                    final LazyDetail lazyDetail = (LazyDetail) detail;
+                    out.writeObject( lazyDetail.baseName );
+                    out.writeObject( lazyDetail.key );
+                    out.writeObject( lazyDetail.getSerializableArguments() );
+                    out.writeObject( lazyDetail.locator );
+                }
+            }
+        }
+
+        @Override
+        public void readExternal( final ObjectInput in ) throws IOException, ClassNotFoundException
+        {
+            final byte version = in.readByte();
+
+            if ( version != VERSION )
+            {
+                throw new InvalidObjectException( "Unsupported version: " + version );
+            }
+
+            final int size = in.readInt();
+
+            if ( size < 0 )
+            {
+                throw new InvalidObjectException( "Illegal size: " + size );
+            }
+
+            final List<Detail> details = new ArrayList<>( Math.min( size, 1024 ) );
+            final List<String> identifiers = new ArrayList<>();
+
+            for ( int i = 0; i < size; i++ )
+            {
+                final byte tag = in.readByte();
+
+                if ( tag == OBJECT )
+                {
+                    details.add( (Detail) in.readObject() );
+                    continue;
+                }
+
+                if ( tag != DETAIL && tag != LAZY_DETAIL )
+                {
+                    throw new InvalidObjectException( "Illegal tag: " + tag );
+                }
+
+                final int index = in.readInt();
+                String identifier = null;
+
+                if ( index == identifiers.size() )
+                {
+                    identifier = (String) in.readObject();
+                    identifiers.add( identifier );
+                }
+                else if ( index >= 0 && index < identifiers.size() )
+                {
+                    identifier = identifiers.get( index );
+                }
+                else if ( index != NULL_IDENTIFIER )
+                {
+                    throw new InvalidObjectException( "Illegal identifier index: " + index );
+                }
+
+                final Level level = readLevel( in );
+
+                if ( tag == DETAIL )
+                {
+                    details.add( new Detail( identifier, level, (String) in.readObject(),
+                                             (JAXBElement<?>) in.readObject() ) );
+
+                }
+                else
+                {
+                    details.add( new LazyDetail( identifier, level, (String) in.readObject(),
+                                                 (String) in.readObject(), (Object[]) in.readObject(),
+                                                 (String) in.readObject(), null ) );
+
+                }
+            }
+
+            this.report = new ModelValidationReport();
+            this.report.details.addAll( details );
+        }
+
+        private Object readResolve() throws ObjectStreamException
+        {
+            return this.report;
+        }
+
+        private static void writeLevel( final ObjectOutput out, final Level level ) throws IOException
+        {
+            if ( level == null )
+            {
+                out.writeByte( NULL_LEVEL );
+                return;
+            }
+
+            for ( int i = 0, s0 = LEVELS.length; i < s0; i++ )
+            {
+                if ( LEVELS[i] == level )
+                {
+                    out.writeByte( i );
+                    return;
+                }
+            }
+
+            out.writeByte( OBJECT_LEVEL );
+            out.writeObject( level );
+        }
+
+        private static Level readLevel( final ObjectInput in ) throws IOException, ClassNotFoundException
+        {
+            final byte index = in.readByte();
+
+            if ( index == NULL_LEVEL )
+            {
+                return null;
+            }
+            if ( index == OBJECT_LEVEL )
+            {
+                return (Level) in.readObject();
+            }
+            if ( index >= 0 && index < LEVELS.length )
+            {
+                return LEVELS[index];
+            }
+
+            throw new InvalidObjectException( "Illegal level: " + index );
+        }
+
+    }
+
     /**
      * Serial version UID for backwards compatibility with 1.0.x object streams.
      */
     private static final long serialVersionUID = 6688024709865043122L;
 
     /**
-     * Details of the instance.
+     * Serializable fields of the instance.
+     * <p>
+     * Instances are serialized using a serialization proxy. These fields describe the serialized form written by
+     * previous versions, which is still supported when reading object streams.
+     * </p>
      *
-     * @serial
+     * @serialField details List Details of the instance.
+     */
+    private static final ObjectStreamField[] serialPersistentFields =
+    {
+        new ObjectStreamField( "details", List.class )
+    };
+
+    /**
+     * Details of the instance.
      */
-    private final List<Detail> details = new CopyOnWriteArrayList<>();
+    private transient DetailList details = new DetailList();
 
     /**
      * Creates a new {@code ModelValidationReport} instance.
@@ -197,7 +1685,7 @@ public class ModelValidationReport implements Serializable
      * <p>
      * This accessor method returns a reference to the live list, not a snapshot. Therefore any modification you make
      * to the returned list will be present inside the object. This is why there is no {@code set} method for the
-     * details property.
+     * details property. Iterators of the list operate on a snapshot of the list and do not support modifications.
      * </p>
      *
      * @return All details of the instance.
@@ -214,26 +1702,10 @@ public class ModelValidationReport implements Serializable
      *
      * @return An unmodifiable list containing all details of the instance matching {@code identifier} or an empty list,
      * if no matching details were found.
-     *
-     * @throws NullPointerException if {@code identifier} is {@code null}.
      */
     public List<Detail> getDetails( final String identifier )
     {
-        try ( final Stream<Detail> st0 = this.getDetails().parallelStream().unordered() )
-        {
-            return Collections.unmodifiableList(
-                st0.filter( d  -> ( identifier != null
-                                     ? d.getIdentifier().isPresent()
-                                       && identifier.equals( d.getIdentifier().get() )
-                                     : !d.getIdentifier().isPresent() ) ).
-                    collect( Collector.of( CopyOnWriteArrayList::new, List::add, ( l1, l2 )  ->
-                                       {
-                                           l1.addAll( l2 );
-                                           return l1;
-                                       }, Collector.Characteristics.CONCURRENT,
-                                           Collector.Characteristics.UNORDERED ) ) );
-
-        }
+        return this.details.getDetails( identifier );
     }
 
     /**
@@ -246,11 +1718,24 @@ public class ModelValidationReport implements Serializable
      */
     public boolean isModelValid()
     {
-        try ( final Stream<Detail> st0 = this.getDetails().parallelStream().unordered() )
-        {
-            return st0.noneMatch( d  -> d.getLevel().isPresent()
-                                             && d.getLevel().get().intValue() > Level.WARNING.intValue() );
+        return !this.details.isErroneous();
+    }
+
+    private Object writeReplace() throws ObjectStreamException
+    {
+        return new SerializedForm( this );
+    }
+
+    @SuppressWarnings( "unchecked" )
+    private void readObject( final ObjectInputStream in ) throws IOException, ClassNotFoundException
+    {
+        final ObjectInputStream.GetField fields = in.readFields();
+        final List<Detail> serialized = (List<Detail>) fields.get( "details", null );
+        this.details = new DetailList();
 
+        if ( serialized != null )
+        {
+            this.details.addAll( serialized );
         }
     }
 
@@ -0,0 +1,275 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.modlet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.zip.CRC32;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.stream.StreamSource;
+
+/**
+ * Generates an index of the {@code Modlet} resources of a class path element.
+ * <p>
+ * The index holds the {@code Modlets} of any {@code Modlet} resource of a class path element keyed by the location of
+ * that resource relative to the class path element, together with the size and CRC-32 checksum of its content. Before
+ * writing the index, the {@code Modlets} of the context are searched, processed and validated and any resource is
+ * unmarshalled with validation. Whenever the {@code DefaultModletProvider} finds an index, it takes the
+ * {@code Modlets} of the resources of the class path element of that index from the index instead of reading and
+ * unmarshalling these resources. Resources not found in an index or changed since the index has been written are
+ * unmarshalled as usual. The {@code Modlets} in the index are not processed, so that processing at runtime is not
+ * affected.
+ * </p>
+ * <p>
+ * The {@code main} method is intended to be called during a build with the class path of the project to index and
+ * the directory holding the class path resources of that project as its first argument. The index is written to
+ * {@code <directory>/<index-location>}. An optional second argument holds the location to search for
+ * {@code Modlet} resources.
+ * </p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @see DefaultModletProvider#getIndexLocation()
+ * @since 2.0
+ */
+public final class ModletIndexGenerator
+{
+
+    /**
+     * Namespace of the elements of an index.
+     */
+    static final String INDEX_NAMESPACE = "http://jomc.org/modlet/index";
+
+    /**
+     * Local name of the root element of an index.
+     */
+    static final String INDEX_ELEMENT = "index";
+
+    /**
+     * Local name of the element of an index holding the {@code Modlets} of a resource.
+     */
+    static final String RESOURCE_ELEMENT = "resource";
+
+    /**
+     * Local name of the attribute of a resource element holding the location of the resource relative to the class
+     * path element of the index.
+     */
+    static final String LOCATION_ATTRIBUTE = "location";
+
+    /**
+     * Local name of the attribute of a resource element holding the size of the content of the resource.
+     */
+    static final String SIZE_ATTRIBUTE = "size";
+
+    /**
+     * Local name of the attribute of a resource element holding the hexadecimal CRC-32 checksum of the content of the
+     * resource.
+     */
+    static final String CRC_ATTRIBUTE = "crc";
+
+    private ModletIndexGenerator()
+    {
+        super();
+    }
+
+    /**
+     * Generates an index of the {@code Modlet} resources of a class path element.
+     *
+     * @param context The context to generate an index of.
+     * @param root The URL of the class path element to index.
+     * @param location The location to search for {@code Modlet} resources.
+     * @param out The stream to write the index to.
+     *
+     * @return The number of resources written to the index.
+     *
+     * @throws NullPointerException if {@code context}, {@code root}, {@code location} or {@code out} is {@code null}.
+     * @throws ModelException if generating the index fails.
+     */
+    public static int generateIndex( final ModelContext context, final URL root, final String location,
+                                     final OutputStream out )
+        throws ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( root, "root" );
+        Objects.requireNonNull( location, "location" );
+        Objects.requireNonNull( out, "out" );
+
+        try
+        {
+            context.getModlets();
+
+            final String base = root.toExternalForm().endsWith( "/" )
+                                    ? root.toExternalForm()
+                                    : root.toExternalForm() + "/";
+
+            final List<URL> resources = new ArrayList<>( 4 );
+
+            for ( final URL resource : Collections.list( context.findResources( location ) ) )
+            {
+                if ( resource.toExternalForm().startsWith( base ) )
+                {
+                    resources.add( resource );
+                }
+            }
+
+            resources.sort( ( r1, r2 )  -> r1.toExternalForm().compareTo( r2.toExternalForm() ) );
+
+            final Unmarshaller unmarshaller = context.createUnmarshaller( ModletObject.MODEL_PUBLIC_ID );
+            unmarshaller.setSchema( context.createSchema( ModletObject.MODEL_PUBLIC_ID ) );
+
+            final Marshaller marshaller = context.createMarshaller( ModletObject.MODEL_PUBLIC_ID );
+            marshaller.setProperty( Marshaller.JAXB_FRAGMENT, Boolean.TRUE );
+
+            final XMLStreamWriter writer = XMLOutputFactory.newFactory().createXMLStreamWriter( out, "UTF-8" );
+            writer.writeStartDocument( "UTF-8", "1.0" );
+            writer.writeStartElement( "", INDEX_ELEMENT, INDEX_NAMESPACE );
+            writer.writeDefaultNamespace( INDEX_NAMESPACE );
+
+            for ( final URL resource : resources )
+            {
+                final byte[] content = DefaultModletProvider.readResource( resource );
+                final Modlets modlets = new Modlets();
+                DefaultModletProvider.addContent( modlets.getModlet(), unmarshaller.unmarshal( new StreamSource(
+                                                  new ByteArrayInputStream( content ), resource.toExternalForm() ) ) );
+
+                final CRC32 crc = new CRC32();
+                crc.update( content );
+
+                writer.writeStartElement( INDEX_NAMESPACE, RESOURCE_ELEMENT );
+                writer.writeAttribute( LOCATION_ATTRIBUTE, resource.toExternalForm().substring( base.length() ) );
+                writer.writeAttribute( SIZE_ATTRIBUTE, Long.toString( content.length ) );
+                writer.writeAttribute( CRC_ATTRIBUTE, Long.toHexString( crc.getValue() ) );
+
+                marshaller.marshal( new ObjectFactory().createModlets( modlets ), writer );
+                writer.writeEndElement();
+            }
+
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.flush();
+            writer.close();
+
+            return resources.size();
+        }
+        catch ( final IOException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+        catch ( final XMLStreamException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+        catch ( final JAXBException e )
+        {
+            String message = getMessage( e );
+            if ( message == null && e.getLinkedException() != null )
+            {
+                message = getMessage( e.getLinkedException() );
+            }
+
+            throw new ModelException( message, e );
+        }
+    }
+
+    /**
+     * Generates an index of the {@code Modlet} resources of the class path.
+     *
+     * @param args The directory to write the index to followed by an optional location to search for {@code Modlet}
+     * resources.
+     */
+    public static void main( final String[] args )
+    {
+        if ( args.length < 1 || args.length > 2 )
+        {
+            System.err.println( getMessage( "usage", ModletIndexGenerator.class.getName() ) );
+            System.exit( 1 );
+        }
+
+        final Path directory = Paths.get( args[0] );
+        final Path file = directory.resolve( DefaultModletProvider.getDefaultIndexLocation() );
+        final String location = args.length > 1 ? args[1] : DefaultModletProvider.getDefaultModletLocation();
+
+        try
+        {
+            final ModelContext context = ModelContextFactory.newInstance().newModelContext();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream( 65536 );
+
+            // The index is part of the class path searched while generating it.
+            final int count = generateIndex( context, directory.toUri().toURL(), location, out );
+
+            Files.createDirectories( file.toAbsolutePath().getParent() );
+            Files.write( file, out.toByteArray() );
+            System.out.println( getMessage( "indexReport", count, location, file.toString() ) );
+        }
+        catch ( final ModelException | IOException e )
+        {
+            System.err.println( getMessage( "indexFailure", file.toString(),
+                                            getMessage( e ) != null ? " " + getMessage( e ) : "" ) );
+
+            System.exit( 1 );
+        }
+    }
+
+    private static String getMessage( final String key, final Object... arguments )
+    {
+        return MessageFormat.format( ResourceBundle.getBundle(
+            ModletIndexGenerator.class.getName().replace( '.', '/' ) ).getString( key ), arguments );
+
+    }
+
+    private static String getMessage( final Throwable t )
+    {
+        return t != null
+                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
+                         ? t.getMessage()
+                         : getMessage( t.getCause() )
+                   : null;
+
+    }
+
+}
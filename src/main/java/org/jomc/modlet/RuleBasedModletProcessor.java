@@ -0,0 +1,842 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.modlet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * {@code ModletProcessor} applying declarative rules to {@code Modlets}.
+ * <p>
+ * This processor searches the context for rule resources and applies the rules found directly to the {@code Modlets}
+ * in a single pass. It is a fast alternative to stylesheets performing simple edits. A rule resource looks like this:
+ * </p>
+ * <pre>
+ * &lt;rules xmlns="http://jomc.org/modlet/rules"&gt;
+ *   &lt;remove-modlet name="Modlet"/&gt;
+ *   &lt;remove-service modlet="Modlet" identifier="org.example.Service" class="org.example.ServiceImpl"/&gt;
+ *   &lt;set-service-ordinal identifier="org.example.Service" class="org.example.ServiceImpl" ordinal="100"/&gt;
+ *   &lt;set-schema-system-id public-id="http://example.org/model" system-id="http://example.org/model.xsd"/&gt;
+ * &lt;/rules&gt;
+ * </pre>
+ * <p>
+ * The {@code modlet} and {@code class} attributes are optional and restrict a rule to services or schemas of the
+ * named {@code Modlet} and to services of the given class. Rule resources are applied in the order of their URLs.
+ * Later rules take precedence over earlier ones.
+ * </p>
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @see ModelContext#processModlets(org.jomc.modlet.Modlets)
+ * @since 2.0
+ */
+public class RuleBasedModletProcessor implements ModletProcessor
+{
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code enabled}.
+     *
+     * @see #processModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @see ModelContext#getAttribute(java.lang.String)
+     */
+    public static final String ENABLED_ATTRIBUTE_NAME = "org.jomc.modlet.RuleBasedModletProcessor.enabledAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultEnabled}.
+     *
+     * @see #isDefaultEnabled()
+     */
+    private static final String DEFAULT_ENABLED_PROPERTY_NAME =
+        "org.jomc.modlet.RuleBasedModletProcessor.defaultEnabled";
+
+    /**
+     * Default value of the flag indicating the processor is enabled by default.
+     *
+     * @see #isDefaultEnabled()
+     */
+    private static final Boolean DEFAULT_ENABLED = Boolean.TRUE;
+
+    /**
+     * Flag indicating the processor is enabled by default.
+     */
+    private static volatile Boolean defaultEnabled;
+
+    /**
+     * Flag indicating the processor is enabled.
+     */
+    private volatile Boolean enabled;
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultOrdinal}.
+     *
+     * @see #getDefaultOrdinal()
+     */
+    private static final String DEFAULT_ORDINAL_PROPERTY_NAME =
+        "org.jomc.modlet.RuleBasedModletProcessor.defaultOrdinal";
+
+    /**
+     * Default value of the ordinal number of the processor.
+     *
+     * @see #getDefaultOrdinal()
+     */
+    private static final Integer DEFAULT_ORDINAL = 0;
+
+    /**
+     * Default ordinal number of the processor.
+     */
+    private static volatile Integer defaultOrdinal;
+
+    /**
+     * Ordinal number of the processor.
+     */
+    private volatile Integer ordinal;
+
+    /**
+     * Constant for the name of the model context attribute backing property {@code rulesLocation}.
+     *
+     * @see #processModlets(org.jomc.modlet.ModelContext, org.jomc.modlet.Modlets)
+     * @see ModelContext#getAttribute(java.lang.String)
+     */
+    public static final String RULES_LOCATION_ATTRIBUTE_NAME =
+        "org.jomc.modlet.RuleBasedModletProcessor.rulesLocationAttribute";
+
+    /**
+     * Constant for the name of the system property controlling property {@code defaultRulesLocation}.
+     *
+     * @see #getDefaultRulesLocation()
+     */
+    private static final String DEFAULT_RULES_LOCATION_PROPERTY_NAME =
+        "org.jomc.modlet.RuleBasedModletProcessor.defaultRulesLocation";
+
+    /**
+     * Class path location searched for rules by default.
+     *
+     * @see #getDefaultRulesLocation()
+     */
+    private static final String DEFAULT_RULES_LOCATION = "META-INF/jomc-modlet-rules.xml";
+
+    /**
+     * Default rules location.
+     */
+    private static volatile String defaultRulesLocation;
+
+    /**
+     * Rules location of the instance.
+     */
+    private volatile String rulesLocation;
+
+    /**
+     * Namespace of the elements of rule resources.
+     */
+    private static final String RULES_NAMESPACE = "http://jomc.org/modlet/rules";
+
+    /**
+     * Rules parsed from rule resources keyed by class loader and resource URL.
+     */
+    private static final Map<ClassLoader, Map<String, RuleResource>> rulesCache =
+        Collections.synchronizedMap( new WeakHashMap<>( 16 ) );
+
+    /**
+     * Creates a new {@code RuleBasedModletProcessor} instance.
+     */
+    public RuleBasedModletProcessor()
+    {
+        super();
+    }
+
+    /**
+     * Gets a flag indicating the processor is enabled by default.
+     * <p>
+     * The default enabled flag is controlled by system property
+     * {@code org.jomc.modlet.RuleBasedModletProcessor.defaultEnabled} holding a value indicating the processor is
+     * enabled by default. If that property is not set, the {@code true} default is returned.
+     * </p>
+     *
+     * @return {@code true}, if the processor is enabled by default; {@code false}, if the processor is disabled by
+     * default.
+     *
+     * @see #isEnabled()
+     * @see #setDefaultEnabled(java.lang.Boolean)
+     */
+    public static boolean isDefaultEnabled()
+    {
+        if ( defaultEnabled == null )
+        {
+            defaultEnabled = Boolean.valueOf( System.getProperty(
+                DEFAULT_ENABLED_PROPERTY_NAME, Boolean.toString( DEFAULT_ENABLED ) ) );
+
+        }
+
+        return defaultEnabled;
+    }
+
+    /**
+     * Sets the flag indicating the processor is enabled by default.
+     *
+     * @param value The new value of the flag indicating the processor is enabled by default or {@code null}.
+     *
+     * @see #isDefaultEnabled()
+     */
+    public static void setDefaultEnabled( final Boolean value )
+    {
+        defaultEnabled = value;
+    }
+
+    /**
+     * Gets a flag indicating the processor is enabled.
+     *
+     * @return {@code true}, if the processor is enabled; {@code false}, if the processor is disabled.
+     *
+     * @see #isDefaultEnabled()
+     * @see #setEnabled(java.lang.Boolean)
+     */
+    public final boolean isEnabled()
+    {
+        if ( this.enabled == null )
+        {
+            this.enabled = isDefaultEnabled();
+        }
+
+        return this.enabled;
+    }
+
+    /**
+     * Sets the flag indicating the processor is enabled.
+     *
+     * @param value The new value of the flag indicating the processor is enabled or {@code null}.
+     *
+     * @see #isEnabled()
+     */
+    public final void setEnabled( final Boolean value )
+    {
+        this.enabled = value;
+    }
+
+    /**
+     * Gets the default ordinal number of the processor.
+     * <p>
+     * The default ordinal number is controlled by system property
+     * {@code org.jomc.modlet.RuleBasedModletProcessor.defaultOrdinal} holding the default ordinal number of the
+     * processor. If that property is not set, the {@code 0} default is returned.
+     * </p>
+     *
+     * @return The default ordinal number of the processor.
+     *
+     * @see #setDefaultOrdinal(java.lang.Integer)
+     */
+    public static int getDefaultOrdinal()
+    {
+        if ( defaultOrdinal == null )
+        {
+            defaultOrdinal = Integer.getInteger( DEFAULT_ORDINAL_PROPERTY_NAME, DEFAULT_ORDINAL );
+        }
+
+        return defaultOrdinal;
+    }
+
+    /**
+     * Sets the default ordinal number of the processor.
+     *
+     * @param value The new default ordinal number of the processor or {@code null}.
+     *
+     * @see #getDefaultOrdinal()
+     */
+    public static void setDefaultOrdinal( final Integer value )
+    {
+        defaultOrdinal = value;
+    }
+
+    /**
+     * Gets the ordinal number of the processor.
+     *
+     * @return The ordinal number of the processor.
+     *
+     * @see #getDefaultOrdinal()
+     * @see #setOrdinal(java.lang.Integer)
+     */
+    @Override
+    public final int getOrdinal()
+    {
+        if ( this.ordinal == null )
+        {
+            this.ordinal = getDefaultOrdinal();
+        }
+
+        return this.ordinal;
+    }
+
+    /**
+     * Sets the ordinal number of the processor.
+     *
+     * @param value The new ordinal number of the processor or {@code null}.
+     *
+     * @see #getOrdinal()
+     */
+    public final void setOrdinal( final Integer value )
+    {
+        this.ordinal = value;
+    }
+
+    /**
+     * Gets the default location searched for rule resources.
+     * <p>
+     * The default rules location is controlled by system property
+     * {@code org.jomc.modlet.RuleBasedModletProcessor.defaultRulesLocation} holding the location to search for rule
+     * resources by default. If that property is not set, the {@code META-INF/jomc-modlet-rules.xml} default is
+     * returned.
+     * </p>
+     *
+     * @return The location searched for rule resources by default.
+     *
+     * @see #setDefaultRulesLocation(java.lang.String)
+     */
+    public static String getDefaultRulesLocation()
+    {
+        if ( defaultRulesLocation == null )
+        {
+            defaultRulesLocation = System.getProperty( DEFAULT_RULES_LOCATION_PROPERTY_NAME, DEFAULT_RULES_LOCATION );
+        }
+
+        return defaultRulesLocation;
+    }
+
+    /**
+     * Sets the default location searched for rule resources.
+     *
+     * @param value The new default location to search for rule resources or {@code null}.
+     *
+     * @see #getDefaultRulesLocation()
+     */
+    public static void setDefaultRulesLocation( final String value )
+    {
+        defaultRulesLocation = value;
+    }
+
+    /**
+     * Gets the location searched for rule resources.
+     *
+     * @return The location searched for rule resources.
+     *
+     * @see #getDefaultRulesLocation()
+     * @see #setRulesLocation(java.lang.String)
+     */
+    public final String getRulesLocation()
+    {
+        if ( this.rulesLocation == null )
+        {
+            this.rulesLocation = getDefaultRulesLocation();
+        }
+
+        return this.rulesLocation;
+    }
+
+    /**
+     * Sets the location searched for rule resources.
+     *
+     * @param value The new location to search for rule resources or {@code null}.
+     *
+     * @see #getRulesLocation()
+     */
+    public final void setRulesLocation( final String value )
+    {
+        this.rulesLocation = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Rules are applied to clones of the modlets of {@code modlets}, so that the resulting list of modlets does not
+     * share any modlet with {@code modlets}. Rules are parsed once per class loader and resource and are parsed again
+     * only if the fingerprint of their resource changed or no fingerprint can be computed for it.
+     * </p>
+     *
+     * @see #isEnabled()
+     * @see #getRulesLocation()
+     * @see #ENABLED_ATTRIBUTE_NAME
+     * @see #RULES_LOCATION_ATTRIBUTE_NAME
+     */
+    @Override
+    public Optional<Modlets> processModlets( final ModelContext context, final Modlets modlets ) throws ModelException
+    {
+        Objects.requireNonNull( context, "context" );
+        Objects.requireNonNull( modlets, "modlets" );
+
+        Modlets processed = null;
+
+        boolean contextEnabled = this.isEnabled();
+        if ( DEFAULT_ENABLED == contextEnabled )
+        {
+            final Optional<Object> enabledAttribute = context.getAttribute( ENABLED_ATTRIBUTE_NAME );
+            if ( enabledAttribute.isPresent() && enabledAttribute.get() instanceof Boolean )
+            {
+                contextEnabled = (Boolean) enabledAttribute.get();
+            }
+        }
+
+        String contextRulesLocation = this.getRulesLocation();
+        if ( DEFAULT_RULES_LOCATION.equals( contextRulesLocation ) )
+        {
+            final Optional<Object> rulesLocationAttribute = context.getAttribute( RULES_LOCATION_ATTRIBUTE_NAME );
+            if ( rulesLocationAttribute.isPresent() && rulesLocationAttribute.get() instanceof String )
+            {
+                contextRulesLocation = (String) rulesLocationAttribute.get();
+            }
+        }
+
+        if ( contextEnabled )
+        {
+            final List<Rule> rules = findRules( context, contextRulesLocation );
+
+            if ( !rules.isEmpty() )
+            {
+                processed = applyRules( modlets, rules );
+            }
+        }
+        else if ( context.isLoggable( Level.FINER ) )
+        {
+            context.log( Level.FINER, getMessage( "disabled", this.getClass().getSimpleName() ), null );
+        }
+
+        return Optional.ofNullable( processed );
+    }
+
+    private static List<Rule> findRules( final ModelContext context, final String location ) throws ModelException
+    {
+        final long t0 = System.nanoTime();
+        final List<URL> resources = Collections.list( context.findResources( location ) );
+        final Map<String, RuleResource> rulesByUrl =
+            rulesCache.computeIfAbsent( context.getClassLoader(), k -> new ConcurrentHashMap<>( 16 ) );
+
+        final List<Rule> rules = new ArrayList<>( 32 );
+        resources.sort( ( r1, r2 ) -> r1.toExternalForm().compareTo( r2.toExternalForm() ) );
+
+        for ( final URL resource : resources )
+        {
+            final String fingerprint;
+
+            try
+            {
+                fingerprint = DefaultModletProvider.getFingerprint( resource );
+            }
+            catch ( final IOException e )
+            {
+                throw new ModelException( getMessage( e ), e );
+            }
+
+            RuleResource cached = rulesByUrl.get( resource.toExternalForm() );
+
+            if ( cached == null || fingerprint == null || !fingerprint.equals( cached.fingerprint ) )
+            {
+                if ( context.isLoggable( Level.FINEST ) )
+                {
+                    context.log( Level.FINEST, getMessage( "processing", resource.toExternalForm() ), null );
+                }
+
+                cached = new RuleResource( fingerprint, readRules( resource ) );
+
+                if ( fingerprint != null )
+                {
+                    rulesByUrl.put( resource.toExternalForm(), cached );
+                }
+                else
+                {
+                    rulesByUrl.remove( resource.toExternalForm() );
+                }
+            }
+
+            rules.addAll( cached.rules );
+        }
+
+        if ( context.isLoggable( Level.FINE ) )
+        {
+            context.log( Level.FINE, getMessage( "contextReport", resources.size(), location,
+                                                 System.nanoTime() - t0 ), null );
+
+        }
+
+        return rules;
+    }
+
+    private static List<Rule> readRules( final URL resource ) throws ModelException
+    {
+        final List<Rule> rules = new LinkedList<>();
+
+        try ( final InputStream in = resource.openStream() )
+        {
+            final XMLInputFactory factory = XMLInputFactory.newFactory();
+            factory.setProperty( XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE );
+            factory.setProperty( XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE );
+            factory.setProperty( XMLInputFactory.SUPPORT_DTD, Boolean.FALSE );
+
+            final XMLStreamReader reader = factory.createXMLStreamReader( resource.toExternalForm(), in );
+
+            try
+            {
+                int depth = 0;
+
+                while ( reader.hasNext() )
+                {
+                    final int event = reader.next();
+
+                    if ( event == XMLStreamConstants.START_ELEMENT )
+                    {
+                        depth++;
+
+                        if ( depth == 1 )
+                        {
+                            if ( !( RULES_NAMESPACE.equals( reader.getNamespaceURI() )
+                                    && "rules".equals( reader.getLocalName() ) ) )
+                            {
+                                throw new ModelException( getMessage( "illegalRule", resource.toExternalForm(),
+                                                                      reader.getLocation().getLineNumber(),
+                                                                      reader.getLocalName() ) );
+
+                            }
+                        }
+                        else if ( depth == 2 && RULES_NAMESPACE.equals( reader.getNamespaceURI() ) )
+                        {
+                            rules.add( readRule( resource, reader ) );
+                        }
+                    }
+                    else if ( event == XMLStreamConstants.END_ELEMENT )
+                    {
+                        depth--;
+                    }
+                }
+            }
+            finally
+            {
+                reader.close();
+            }
+
+            return Collections.unmodifiableList( new ArrayList<>( rules ) );
+        }
+        catch ( final IOException e )
+        {
+            throw new ModelException( getMessage( e ), e );
+        }
+        catch ( final XMLStreamException e )
+        {
+            throw new ModelException( getMessage( "rulesException", resource.toExternalForm(),
+                                                  getMessage( e ) != null ? " " + getMessage( e ) : "" ), e );
+
+        }
+    }
+
+    private static Rule readRule( final URL resource, final XMLStreamReader reader ) throws ModelException
+    {
+        final String modlet = reader.getAttributeValue( null, "modlet" );
+        final String identifier = reader.getAttributeValue( null, "identifier" );
+        final String clazz = reader.getAttributeValue( null, "class" );
+        final String name = reader.getAttributeValue( null, "name" );
+        final String ordinal = reader.getAttributeValue( null, "ordinal" );
+        final String publicId = reader.getAttributeValue( null, "public-id" );
+        final String systemId = reader.getAttributeValue( null, "system-id" );
+        Rule rule = null;
+
+        try
+        {
+            switch ( reader.getLocalName() )
+            {
+                case "remove-modlet":
+                    rule = name != null ? new Rule( RuleType.REMOVE_MODLET, name, null, null, null, null ) : null;
+                    break;
+
+                case "remove-service":
+                    rule = identifier != null
+                               ? new Rule( RuleType.REMOVE_SERVICE, modlet, identifier, clazz, null, null )
+                               : null;
+
+                    break;
+
+                case "set-service-ordinal":
+                    rule = identifier != null && ordinal != null
+                               ? new Rule( RuleType.SET_SERVICE_ORDINAL, modlet, identifier, clazz,
+                                           Integer.valueOf( ordinal.trim() ), null )
+                               : null;
+
+                    break;
+
+                case "set-schema-system-id":
+                    rule = publicId != null && systemId != null
+                               ? new Rule( RuleType.SET_SCHEMA_SYSTEM_ID, modlet, publicId, null, null, systemId )
+                               : null;
+
+                    break;
+
+                default:
+                    rule = null;
+            }
+        }
+        catch ( final NumberFormatException e )
+        {
+            rule = null;
+        }
+
+        if ( rule == null )
+        {
+            throw new ModelException( getMessage( "illegalRule", resource.toExternalForm(),
+                                                  reader.getLocation().getLineNumber(), reader.getLocalName() ) );
+
+        }
+
+        return rule;
+    }
+
+    private static Modlets applyRules( final Modlets modlets, final List<Rule> rules )
+    {
+        final Set<String> removedModlets = new HashSet<>( 16 );
+        final Map<String, List<Rule>> serviceRules = new HashMap<>( 32 );
+        final Map<String, List<Rule>> schemaRules = new HashMap<>( 16 );
+
+        for ( final Rule rule : rules )
+        {
+            switch ( rule.type )
+            {
+                case REMOVE_MODLET:
+                    removedModlets.add( rule.modlet );
+                    break;
+
+                case REMOVE_SERVICE:
+                case SET_SERVICE_ORDINAL:
+                    serviceRules.computeIfAbsent( rule.key, k -> new ArrayList<>( 2 ) ).add( rule );
+                    break;
+
+                case SET_SCHEMA_SYSTEM_ID:
+                    schemaRules.computeIfAbsent( rule.key, k -> new ArrayList<>( 2 ) ).add( rule );
+                    break;
+
+                default:
+                    throw new AssertionError( rule.type );
+            }
+        }
+
+        final Modlets processed = new Modlets();
+
+        for ( final Modlet modlet : modlets.getModlet() )
+        {
+            if ( removedModlets.contains( modlet.getName() ) )
+            {
+                continue;
+            }
+
+            final Modlet copy = modlet.clone();
+            applyRules( copy, serviceRules, schemaRules );
+            processed.getModlet().add( copy );
+        }
+
+        return processed;
+    }
+
+    private static void applyRules( final Modlet modlet, final Map<String, List<Rule>> serviceRules,
+                                    final Map<String, List<Rule>> schemaRules )
+    {
+        if ( modlet.getServices() != null && !serviceRules.isEmpty() )
+        {
+            for ( final Iterator<Service> s = modlet.getServices().getService().iterator(); s.hasNext(); )
+            {
+                final Service service = s.next();
+                final List<Rule> candidates = serviceRules.get( service.getIdentifier() );
+
+                if ( candidates != null )
+                {
+                    for ( final Rule rule : candidates )
+                    {
+                        if ( rule.matches( modlet.getName(), service.getClazz() ) )
+                        {
+                            if ( rule.type == RuleType.REMOVE_SERVICE )
+                            {
+                                s.remove();
+                                break;
+                            }
+
+                            service.setOrdinal( rule.ordinal );
+                        }
+                    }
+                }
+            }
+        }
+
+        if ( modlet.getSchemas() != null && !schemaRules.isEmpty() )
+        {
+            for ( final Schema schema : modlet.getSchemas().getSchema() )
+            {
+                final List<Rule> candidates = schemaRules.get( schema.getPublicId() );
+
+                if ( candidates != null )
+                {
+                    for ( final Rule rule : candidates )
+                    {
+                        if ( rule.matches( modlet.getName(), null ) )
+                        {
+                            schema.setSystemId( rule.systemId );
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static String getMessage( final String key, final Object... args )
+    {
+        return MessageFormat.format( ResourceBundle.getBundle(
+            RuleBasedModletProcessor.class.getName().replace( '.', '/' ) ).getString( key ), args );
+
+    }
+
+    private static String getMessage( final Throwable t )
+    {
+        return t != null
+                   ? t.getMessage() != null && t.getMessage().trim().length() > 0
+                         ? t.getMessage()
+                         : getMessage( t.getCause() )
+                   : null;
+
+    }
+
+    /**
+     * Types of rules.
+     */
+    private enum RuleType
+    {
+
+        REMOVE_MODLET,
+        REMOVE_SERVICE,
+        SET_SERVICE_ORDINAL,
+        SET_SCHEMA_SYSTEM_ID
+
+    }
+
+    /**
+     * Rules parsed from a resource.
+     */
+    private static final class RuleResource
+    {
+
+        /**
+         * The fingerprint of the resource or {@code null}.
+         */
+        private final String fingerprint;
+
+        /**
+         * The rules of the resource.
+         */
+        private final List<Rule> rules;
+
+        RuleResource( final String fingerprint, final List<Rule> rules )
+        {
+            super();
+            this.fingerprint = fingerprint;
+            this.rules = rules;
+        }
+
+    }
+
+    /**
+     * A rule.
+     */
+    private static final class Rule
+    {
+
+        /**
+         * The type of the rule.
+         */
+        private final RuleType type;
+
+        /**
+         * The name of the {@code Modlet} the rule applies to or {@code null}, if the rule applies to any
+         * {@code Modlet}.
+         */
+        private final String modlet;
+
+        /**
+         * The identifier of the services or the public identifier of the schemas the rule applies to.
+         */
+        private final String key;
+
+        /**
+         * The class of the services the rule applies to or {@code null}, if the rule applies to services of any class.
+         */
+        private final String clazz;
+
+        /**
+         * The ordinal to set.
+         */
+        private final Integer ordinal;
+
+        /**
+         * The system identifier to set.
+         */
+        private final String systemId;
+
+        Rule( final RuleType type, final String modlet, final String key, final String clazz, final Integer ordinal,
+              final String systemId )
+        {
+            super();
+            this.type = type;
+            this.modlet = modlet;
+            this.key = key;
+            this.clazz = clazz;
+            this.ordinal = ordinal;
+            this.systemId = systemId;
+        }
+
+        boolean matches( final String modletName, final String serviceClass )
+        {
+            return ( this.modlet == null || this.modlet.equals( modletName ) )
+                       && ( this.clazz == null || this.clazz.equals( serviceClass ) );
+
+        }
+
+    }
+
+}
@@ -34,34 +34,74 @@ import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.StringReader;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.zip.GZIPOutputStream;
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
 import org.jomc.modlet.DefaultModelContext;
+import org.jomc.modlet.DefaultModletProcessor;
 import org.jomc.modlet.DefaultModletProvider;
+import org.jomc.modlet.DefaultModletValidator;
 import org.jomc.modlet.Model;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelDiscoveryResult;
 import org.jomc.modlet.ModelException;
+import org.jomc.modlet.ModelPipelineResult;
+import org.jomc.modlet.ModelValidationReport;
+import org.jomc.modlet.Modlet;
+import org.jomc.modlet.ModletObject;
+import org.jomc.modlet.ModletValidator;
 import org.jomc.modlet.Modlets;
+import org.jomc.modlet.ObjectFactory;
+import org.jomc.modlet.Property;
+import org.jomc.modlet.RuleBasedModletProcessor;
+import org.jomc.modlet.Schemas;
+import org.jomc.modlet.Service;
+import org.jomc.modlet.Services;
 import org.jomc.modlet.test.support.IllegalServicesModletProvider;
 import org.jomc.modlet.test.support.NullModletProvider;
 import org.jomc.modlet.test.support.ServicesNotFoundModletProvider;
 import org.jomc.modlet.test.support.TestModelProcessor;
 import org.jomc.modlet.test.support.TestModelProvider;
 import org.jomc.modlet.test.support.TestModelValidator;
+import org.jomc.modlet.test.support.TestModletValidator;
 import org.jomc.modlet.test.support.TestModletProvider;
 import org.junit.Test;
+import org.w3c.dom.Element;
 import org.w3c.dom.ls.LSResourceResolver;
 import org.xml.sax.EntityResolver;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -482,6 +522,801 @@ public class DefaultModelContextTest extends ModelContextTest
         this.getModelContext().setPlatformProviderLocation( null );
     }
 
+    @Test
+    public final void testGetDefaultModletsSnapshotDirectory() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultModletsSnapshotDirectory" );
+        DefaultModelContext.setDefaultModletsSnapshotDirectory( null );
+        assertFalse( DefaultModelContext.getDefaultModletsSnapshotDirectory().isPresent() );
+        DefaultModelContext.setDefaultModletsSnapshotDirectory( null );
+        System.setProperty( "org.jomc.modlet.DefaultModelContext.defaultModletsSnapshotDirectory", "TEST" );
+        assertEquals( "TEST", DefaultModelContext.getDefaultModletsSnapshotDirectory().get() );
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultModletsSnapshotDirectory" );
+        DefaultModelContext.setDefaultModletsSnapshotDirectory( null );
+        assertFalse( DefaultModelContext.getDefaultModletsSnapshotDirectory().isPresent() );
+    }
+
+    @Test
+    public final void testGetModletsSnapshotDirectory() throws Exception
+    {
+        DefaultModelContext.setDefaultModletsSnapshotDirectory( null );
+        this.getModelContext().setModletsSnapshotDirectory( null );
+        assertFalse( this.getModelContext().getModletsSnapshotDirectory().isPresent() );
+
+        DefaultModelContext.setDefaultModletsSnapshotDirectory( "TEST" );
+        this.getModelContext().setModletsSnapshotDirectory( null );
+        assertEquals( "TEST", this.getModelContext().getModletsSnapshotDirectory().get() );
+
+        this.getModelContext().setAttribute( DefaultModelContext.MODLETS_SNAPSHOT_DIRECTORY_ATTRIBUTE_NAME,
+                                             "ATTRIBUTE" );
+
+        assertEquals( "ATTRIBUTE", this.getModelContext().getModletsSnapshotDirectory().get() );
+
+        this.getModelContext().clearAttribute( DefaultModelContext.MODLETS_SNAPSHOT_DIRECTORY_ATTRIBUTE_NAME );
+        DefaultModelContext.setDefaultModletsSnapshotDirectory( null );
+        this.getModelContext().setModletsSnapshotDirectory( null );
+    }
+
+    @Test
+    public final void testGetExecutor() throws Exception
+    {
+        final Executor executor = Runnable::run;
+        final Executor attribute = Runnable::run;
+
+        this.getModelContext().setExecutor( null );
+        assertFalse( this.getModelContext().getExecutor().isPresent() );
+
+        this.getModelContext().setExecutor( executor );
+        assertEquals( executor, this.getModelContext().getExecutor().get() );
+
+        this.getModelContext().setAttribute( DefaultModelContext.EXECUTOR_ATTRIBUTE_NAME, attribute );
+        assertEquals( attribute, this.getModelContext().getExecutor().get() );
+
+        this.getModelContext().clearAttribute( DefaultModelContext.EXECUTOR_ATTRIBUTE_NAME );
+        this.getModelContext().setExecutor( null );
+    }
+
+    @Test
+    public final void testGetDiscoveryExecutor() throws Exception
+    {
+        final Executor executor = Runnable::run;
+        final Executor attribute = Runnable::run;
+
+        this.getModelContext().setDiscoveryExecutor( null );
+        assertFalse( this.getModelContext().getDiscoveryExecutor().isPresent() );
+
+        this.getModelContext().setDiscoveryExecutor( executor );
+        assertEquals( executor, this.getModelContext().getDiscoveryExecutor().get() );
+
+        this.getModelContext().setAttribute( DefaultModelContext.DISCOVERY_EXECUTOR_ATTRIBUTE_NAME, attribute );
+        assertEquals( attribute, this.getModelContext().getDiscoveryExecutor().get() );
+
+        this.getModelContext().clearAttribute( DefaultModelContext.DISCOVERY_EXECUTOR_ATTRIBUTE_NAME );
+        this.getModelContext().setDiscoveryExecutor( null );
+    }
+
+    @Test
+    public final void testValidateModletsConcurrently() throws Exception
+    {
+        final DefaultModelContext context = new DefaultModelContext( this.getClass().getClassLoader() );
+        context.setProviderLocation( "META-INF/validator-services" );
+
+        final Modlets modlets = new Modlets();
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            final Modlet modlet = new Modlet();
+            modlet.setName( "TEST" );
+            modlet.setModel( "TEST" );
+            modlets.getModlet().add( modlet );
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+        try
+        {
+            for ( final Executor e : Arrays.asList( null, executor ) )
+            {
+                context.setExecutor( e );
+
+                final ModelValidationReport report = context.validateModlets( modlets );
+                assertEquals( 2, report.getDetails().size() );
+                assertEquals( 1, report.getDetails( TestModletValidator.class.getName() ).size() );
+
+                context.setAttribute( TestModletValidator.class.getName(), Boolean.TRUE );
+
+                try
+                {
+                    context.validateModlets( modlets );
+                    fail( "Expected 'ModelException' not thrown." );
+                }
+                catch ( final ModelException ex )
+                {
+                    assertEquals( TestModletValidator.class.getName(), ex.getMessage() );
+                }
+                finally
+                {
+                    context.clearAttribute( TestModletValidator.class.getName() );
+                }
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testValidateModletsCallingBack() throws Exception
+    {
+        final DefaultModelContext context = new DefaultModelContext( this.getClass().getClassLoader() );
+        context.setProviderLocation( "META-INF/validator-services" );
+        context.setAttribute( TestModletValidator.class.getName() + ".createSchema", Boolean.TRUE );
+
+        final Collection<Thread> validatorThreads = new ConcurrentLinkedQueue<>();
+        context.setAttribute( TestModletValidator.class.getName() + ".threads", validatorThreads );
+
+        final ThreadGroup executorThreads = new ThreadGroup( "testValidateModletsCallingBack" );
+        final ExecutorService executor = Executors.newFixedThreadPool( 2, r -> new Thread( executorThreads, r ) );
+
+        try
+        {
+            DefaultModletValidator.setDefaultSchemaValidating( true );
+
+            for ( final Executor e : Arrays.asList( null, executor ) )
+            {
+                context.setExecutor( e );
+                context.setModlets( null );
+                validatorThreads.clear();
+
+                final Modlets modlets =
+                    CompletableFuture.supplyAsync( ()  ->
+                    {
+                        try
+                        {
+                            return context.getModlets();
+                        }
+                        catch ( final ModelException ex )
+                        {
+                            throw new AssertionError( ex );
+                        }
+                    } ).get( 60L, TimeUnit.SECONDS );
+
+                assertNotNull( modlets );
+                assertFalse( validatorThreads.isEmpty() );
+                assertEquals( e != null, validatorThreads.stream().
+                              allMatch( t -> t.getThreadGroup() == executorThreads ) );
+
+                assertTrue( context.validateModlets( modlets ).isModelValid() );
+                assertNotNull( context.createSchema( ModletObject.MODEL_PUBLIC_ID ) );
+            }
+        }
+        finally
+        {
+            DefaultModletValidator.setDefaultSchemaValidating( null );
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testGetDefaultFailFastLevel() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultFailFastLevel" );
+        DefaultModelContext.setDefaultFailFastLevel( null );
+        assertFalse( DefaultModelContext.getDefaultFailFastLevel().isPresent() );
+        System.setProperty( "org.jomc.modlet.DefaultModelContext.defaultFailFastLevel", "WARNING" );
+        assertEquals( Level.WARNING, DefaultModelContext.getDefaultFailFastLevel().get() );
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultFailFastLevel" );
+        DefaultModelContext.setDefaultFailFastLevel( null );
+        assertFalse( DefaultModelContext.getDefaultFailFastLevel().isPresent() );
+    }
+
+    @Test
+    public final void testGetFailFastLevel() throws Exception
+    {
+        DefaultModelContext.setDefaultFailFastLevel( null );
+        this.getModelContext().setFailFastLevel( null );
+        assertFalse( this.getModelContext().getFailFastLevel().isPresent() );
+
+        DefaultModelContext.setDefaultFailFastLevel( Level.WARNING );
+        this.getModelContext().setFailFastLevel( null );
+        assertEquals( Level.WARNING, this.getModelContext().getFailFastLevel().get() );
+
+        this.getModelContext().setAttribute( DefaultModelContext.FAIL_FAST_LEVEL_ATTRIBUTE_NAME, Level.SEVERE );
+        assertEquals( Level.SEVERE, this.getModelContext().getFailFastLevel().get() );
+
+        this.getModelContext().clearAttribute( DefaultModelContext.FAIL_FAST_LEVEL_ATTRIBUTE_NAME );
+        DefaultModelContext.setDefaultFailFastLevel( null );
+        this.getModelContext().setFailFastLevel( null );
+    }
+
+    @Test
+    public final void testGetDefaultMaxErrors() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultMaxErrors" );
+        DefaultModelContext.setDefaultMaxErrors( null );
+        assertEquals( 0, DefaultModelContext.getDefaultMaxErrors() );
+        DefaultModelContext.setDefaultMaxErrors( null );
+        System.setProperty( "org.jomc.modlet.DefaultModelContext.defaultMaxErrors", Integer.toString( 10 ) );
+        assertEquals( 10, DefaultModelContext.getDefaultMaxErrors() );
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultMaxErrors" );
+        DefaultModelContext.setDefaultMaxErrors( null );
+        assertEquals( 0, DefaultModelContext.getDefaultMaxErrors() );
+    }
+
+    @Test
+    public final void testGetMaxErrors() throws Exception
+    {
+        DefaultModelContext.setDefaultMaxErrors( null );
+        this.getModelContext().setMaxErrors( null );
+        assertEquals( 0, this.getModelContext().getMaxErrors() );
+
+        DefaultModelContext.setDefaultMaxErrors( 10 );
+        this.getModelContext().setMaxErrors( null );
+        assertEquals( 10, this.getModelContext().getMaxErrors() );
+
+        this.getModelContext().setAttribute( DefaultModelContext.MAX_ERRORS_ATTRIBUTE_NAME, 20 );
+        assertEquals( 20, this.getModelContext().getMaxErrors() );
+
+        this.getModelContext().clearAttribute( DefaultModelContext.MAX_ERRORS_ATTRIBUTE_NAME );
+        DefaultModelContext.setDefaultMaxErrors( null );
+        this.getModelContext().setMaxErrors( null );
+    }
+
+    @Test
+    public final void testCopiesModels() throws Exception
+    {
+        final DefaultModelContext context = new DefaultModelContext( this.getClass().getClassLoader() );
+        final Model model = new Model();
+        model.setIdentifier( "http://jomc.org/modlet/test/copiesModels" );
+        model.getAny().add( new org.jomc.modlet.ObjectFactory().createModlets( new Modlets() ) );
+
+        final Model found = context.findModel( model );
+        assertNotSame( model, found );
+        assertFalse( found.getAny().isEmpty() );
+        assertNotSame( model.getAny().get( 0 ), found.getAny().get( 0 ) );
+
+        final Model processed = context.processModel( model );
+        assertNotSame( model, processed );
+        assertNotSame( model.getAny().get( 0 ), processed.getAny().get( 0 ) );
+
+        processed.getAny().clear();
+        assertEquals( 1, model.getAny().size() );
+        assertTrue( context.validateModel( model ).isModelValid() );
+
+        final Modlets modlets = new Modlets();
+        final Modlet modlet = new Modlet();
+        modlet.setName( "TEST" );
+        modlet.setModel( "TEST" );
+        modlets.getModlet().add( modlet );
+
+        context.setProviderLocation( "DOES_NOT_EXIST" );
+        context.setPlatformProviderLocation( "DOES_NOT_EXIST" );
+        assertNotSame( modlet, context.findModlets( modlets ).getModlet().get( 0 ) );
+    }
+
+    @Test
+    public final void testIsDefaultShareModlets() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultShareModlets" );
+        DefaultModelContext.setDefaultShareModlets( null );
+        assertFalse( DefaultModelContext.isDefaultShareModlets() );
+        DefaultModelContext.setDefaultShareModlets( null );
+        System.setProperty( "org.jomc.modlet.DefaultModelContext.defaultShareModlets", Boolean.toString( true ) );
+        assertTrue( DefaultModelContext.isDefaultShareModlets() );
+        System.clearProperty( "org.jomc.modlet.DefaultModelContext.defaultShareModlets" );
+        DefaultModelContext.setDefaultShareModlets( null );
+        assertFalse( DefaultModelContext.isDefaultShareModlets() );
+    }
+
+    @Test
+    public final void testIsShareModlets() throws Exception
+    {
+        DefaultModelContext.setDefaultShareModlets( null );
+        this.getModelContext().setShareModlets( null );
+        assertFalse( this.getModelContext().isShareModlets() );
+
+        DefaultModelContext.setDefaultShareModlets( true );
+        this.getModelContext().setShareModlets( null );
+        assertTrue( this.getModelContext().isShareModlets() );
+
+        this.getModelContext().setAttribute( DefaultModelContext.SHARE_MODLETS_ATTRIBUTE_NAME, false );
+        assertFalse( this.getModelContext().isShareModlets() );
+
+        this.getModelContext().clearAttribute( DefaultModelContext.SHARE_MODLETS_ATTRIBUTE_NAME );
+        DefaultModelContext.setDefaultShareModlets( null );
+        this.getModelContext().setShareModlets( null );
+    }
+
+    @Test
+    public final void testShareModlets() throws Exception
+    {
+        final DefaultModelContext context = new DefaultModelContext( this.getClass().getClassLoader() );
+        final Modlets modlets = new Modlets();
+        final Modlet modlet = new Modlet();
+        modlet.setName( "TEST" );
+        modlet.setModel( "TEST" );
+        modlets.getModlet().add( modlet );
+
+        context.setProviderLocation( "DOES_NOT_EXIST" );
+        context.setPlatformProviderLocation( "DOES_NOT_EXIST" );
+        context.setShareModlets( true );
+        assertSame( modlet, context.findModlets( modlets ).getModlet().get( 0 ) );
+        assertSame( modlet, context.processModlets( modlets ).getModlet().get( 0 ) );
+
+        final Modlets shallowCopy = modlets.shallowCopy();
+        assertNotSame( modlets.getModlet(), shallowCopy.getModlet() );
+        assertSame( modlet, shallowCopy.getModlet().get( 0 ) );
+
+        context.setShareModlets( false );
+        assertNotSame( modlet, context.findModlets( modlets ).getModlet().get( 0 ) );
+
+        context.setShareModlets( null );
+    }
+
+    @Test
+    public final void testValidateModelFailFast() throws Exception
+    {
+        final DefaultModelContext context = new DefaultModelContext( this.getClass().getClassLoader() );
+        final String invalid = "<modlets xmlns=\"" + ModletObject.MODEL_PUBLIC_ID + "\">"
+                                   + "<modlet/><modlet/><modlet/><modlet/></modlets>";
+
+        final ModelValidationReport all =
+            context.validateModel( ModletObject.MODEL_PUBLIC_ID, new StreamSource( new StringReader( invalid ) ) );
+
+        assertFalse( all.isModelValid() );
+        assertTrue( all.getDetails().size() > 2 );
+
+        context.setMaxErrors( 2 );
+        final ModelValidationReport maxErrors =
+            context.validateModel( ModletObject.MODEL_PUBLIC_ID, new StreamSource( new StringReader( invalid ) ) );
+
+        assertFalse( maxErrors.isModelValid() );
+        assertEquals( 2, maxErrors.getDetails().size() );
+        context.setMaxErrors( null );
+
+        context.setAttribute( DefaultModelContext.FAIL_FAST_LEVEL_ATTRIBUTE_NAME, Level.SEVERE );
+        final ModelValidationReport failFastLevel =
+            context.validateModel( ModletObject.MODEL_PUBLIC_ID, new StreamSource( new StringReader( invalid ) ) );
+
+        assertFalse( failFastLevel.isModelValid() );
+        assertEquals( 1, failFastLevel.getDetails().size() );
+        context.clearAttribute( DefaultModelContext.FAIL_FAST_LEVEL_ATTRIBUTE_NAME );
+    }
+
+    @Test
+    public final void testValidateStreaming() throws Exception
+    {
+        final DefaultModelContext context = new DefaultModelContext( this.getClass().getClassLoader() );
+        final String invalid = "<modlets xmlns=\"" + ModletObject.MODEL_PUBLIC_ID + "\">"
+                                   + "<modlet/><modlet/><modlet/><modlet/></modlets>";
+
+        final ModelValidationReport report =
+            context.validateModel( ModletObject.MODEL_PUBLIC_ID, new StreamSource( new StringReader( invalid ) ) );
+
+        final List<ModelValidationReport.Detail> details = new ArrayList<>();
+        final ModelValidationReport.Summary summary = new ModelValidationReport.Summary();
+        context.validateModelStreaming( ModletObject.MODEL_PUBLIC_ID, new StreamSource( new StringReader( invalid ) ),
+                                        summary.andThen( details::add ) );
+
+        assertEquals( report.getDetails().size(), details.size() );
+        assertEquals( report.getDetails().size(), summary.getCount() );
+        assertFalse( summary.isModelValid() );
+
+        final Modlets modlets = new Modlets();
+        final Modlet modlet = new Modlet();
+        modlet.setName( "TEST" );
+        modlet.setModel( "TEST" );
+        modlets.getModlet().add( modlet );
+        modlets.getModlet().add( modlet.clone() );
+
+        context.setProviderLocation( "META-INF/validator-services" );
+        details.clear();
+        context.validateModletsStreaming( modlets, details::add );
+        assertEquals( context.validateModlets( modlets ).getDetails().size(), details.size() );
+        assertEquals( 2, details.size() );
+
+        this.getModelContext().setModlets( null );
+        final Model model = this.getModelContext().findModel( MODLET_TEST_NS );
+        details.clear();
+        this.getModelContext().validateModelStreaming( model, details::add );
+        assertEquals( this.getModelContext().validateModel( model ).getDetails().size(), details.size() );
+    }
+
+    @Test
+    public final void testRunModelPipeline() throws Exception
+    {
+        this.getModelContext().setModlets( null );
+
+        try
+        {
+            this.getModelContext().runModelPipeline( null );
+            fail( "Expected 'NullPointerException' not thrown." );
+        }
+        catch ( final NullPointerException e )
+        {
+            assertNotNull( e.getMessage() );
+        }
+
+        final Model processed =
+            this.getModelContext().processModel( this.getModelContext().findModel( MODLET_TEST_NS ) );
+
+        final ModelValidationReport report = this.getModelContext().validateModel( processed );
+        final ExecutorService executorService = Executors.newFixedThreadPool( 2 );
+
+        try
+        {
+            for ( final Executor executor : Arrays.<Executor>asList( null, executorService ) )
+            {
+                this.getModelContext().setExecutor( executor );
+
+                final ModelPipelineResult result = this.getModelContext().runModelPipeline( MODLET_TEST_NS );
+                assertEquals( MODLET_TEST_NS, result.getModel().getIdentifier() );
+                assertEquals( processed.getAny().size(), result.getModel().getAny().size() );
+                assertEquals( report.isModelValid(), result.getReport().isModelValid() );
+                assertEquals( report.getDetails().size(), result.getReport().getDetails().size() );
+                assertTrue( result.getFindModelNanos() >= 0L );
+                assertTrue( result.getProcessModelNanos() >= 0L );
+                assertTrue( result.getValidateModelNanos() >= 0L );
+                assertTrue( result.getTotalNanos() >= result.getFindModelNanos() + result.getProcessModelNanos()
+                                                       + result.getValidateModelNanos() );
+
+            }
+        }
+        finally
+        {
+            this.getModelContext().setExecutor( null );
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public final void testFindModels() throws Exception
+    {
+        this.getModelContext().setModlets( null );
+
+        try
+        {
+            this.getModelContext().findModels( null, true, true );
+            fail( "Expected 'NullPointerException' not thrown." );
+        }
+        catch ( final NullPointerException e )
+        {
+            assertNotNull( e.getMessage() );
+        }
+
+        try
+        {
+            this.getModelContext().findModels( Arrays.asList( MODLET_TEST_NS, null ), true, true );
+            fail( "Expected 'NullPointerException' not thrown." );
+        }
+        catch ( final NullPointerException e )
+        {
+            assertNotNull( e.getMessage() );
+        }
+
+        final String unknown = "http://jomc.org/modlet/test/unknown";
+        final Model processed =
+            this.getModelContext().processModel( this.getModelContext().findModel( MODLET_TEST_NS ) );
+
+        final ExecutorService executorService = Executors.newFixedThreadPool( 2 );
+        final ExecutorService discoveryExecutorService = Executors.newFixedThreadPool( 2 );
+
+        try
+        {
+            for ( int i = 0; i < 4; i++ )
+            {
+                this.getModelContext().setExecutor( i % 2 == 0 ? null : executorService );
+                this.getModelContext().setDiscoveryExecutor( i < 2 ? null : discoveryExecutorService );
+
+                for ( final boolean processing : new boolean[]
+                {
+                    false, true
+                } )
+                {
+                    for ( final boolean validating : new boolean[]
+                    {
+                        false, true
+                    } )
+                    {
+                        final Map<String, ModelDiscoveryResult> results = this.getModelContext().findModels(
+                            Arrays.asList( MODLET_TEST_NS, unknown, MODLET_TEST_NS ), processing, validating );
+
+                        assertEquals( Arrays.asList( MODLET_TEST_NS, unknown ),
+                                      new ArrayList<>( results.keySet() ) );
+
+                        for ( final Map.Entry<String, ModelDiscoveryResult> e : results.entrySet() )
+                        {
+                            final ModelDiscoveryResult result = e.getValue();
+                            assertFalse( result.getError().isPresent() );
+                            assertTrue( result.getModel().isPresent() );
+                            assertEquals( e.getKey(), result.getModel().get().getIdentifier() );
+                            assertEquals( validating, result.getReport().isPresent() );
+                            assertTrue( result.getNanos() >= 0L );
+                        }
+
+                        if ( processing )
+                        {
+                            assertEquals( processed.getAny().size(),
+                                          results.get( MODLET_TEST_NS ).getModel().get().getAny().size() );
+                        }
+
+                        try
+                        {
+                            results.clear();
+                            fail( "Expected 'UnsupportedOperationException' not thrown." );
+                        }
+                        catch ( final UnsupportedOperationException e )
+                        {
+                            assertNull( e.getMessage() );
+                        }
+                    }
+                }
+            }
+
+            this.getModelContext().setProviderLocation( "META-INF/non-existent-services-modlet" );
+            this.getModelContext().setModlets( null );
+
+            final Map<String, ModelDiscoveryResult> results = this.getModelContext().findModels(
+                Arrays.asList( ServicesNotFoundModletProvider.class.getName(), unknown ), true, true );
+
+            final ModelDiscoveryResult failed = results.get( ServicesNotFoundModletProvider.class.getName() );
+            assertTrue( failed.getError().isPresent() );
+            assertFalse( failed.getModel().isPresent() );
+            assertFalse( failed.getReport().isPresent() );
+            assertNotNull( failed.getError().get().getMessage() );
+        }
+        finally
+        {
+            this.getModelContext().setExecutor( null );
+            this.getModelContext().setDiscoveryExecutor( null );
+            this.getModelContext().setProviderLocation( null );
+            this.getModelContext().setModlets( null );
+            executorService.shutdown();
+            discoveryExecutorService.shutdown();
+        }
+    }
+
+    @Test
+    public final void testValidateModelBatch() throws Exception
+    {
+        final DefaultModelContext context = new DefaultModelContext( this.getClass().getClassLoader() );
+        final String valid = "<modlets xmlns=\"" + ModletObject.MODEL_PUBLIC_ID + "\"/>";
+        final String invalid = "<modlets xmlns=\"" + ModletObject.MODEL_PUBLIC_ID + "\">"
+                                   + "<modlet/><modlet/><modlet/><modlet/></modlets>";
+
+        final int invalidDetails =
+            context.validateModel( ModletObject.MODEL_PUBLIC_ID, new StreamSource( new StringReader( invalid ) ) ).
+                getDetails().size();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool( 4 );
+
+        try
+        {
+            for ( final Executor executor : Arrays.<Executor>asList( null, executorService ) )
+            {
+                context.setExecutor( executor );
+
+                final List<StreamSource> sources = new ArrayList<>();
+                for ( int i = 0; i < 20; i++ )
+                {
+                    sources.add( new StreamSource( new StringReader( i % 2 == 0 ? valid : invalid ) ) );
+                }
+
+                final List<Object> processed = new ArrayList<>();
+                final List<ModelValidationReport> reports = context.validateModelBatch(
+                    ModletObject.MODEL_PUBLIC_ID, sources, ( source, report )  -> processed.add( source ) );
+
+                assertEquals( sources.size(), reports.size() );
+                assertEquals( sources.size(), processed.size() );
+                assertTrue( processed.containsAll( sources ) );
+
+                for ( int i = 0; i < 20; i++ )
+                {
+                    assertEquals( i % 2 == 0, reports.get( i ).isModelValid() );
+                    assertEquals( i % 2 == 0 ? 0 : invalidDetails, reports.get( i ).getDetails().size() );
+                }
+            }
+
+            assertTrue( context.validateModelBatch( ModletObject.MODEL_PUBLIC_ID, new ArrayList<StreamSource>(),
+                                                    null ).isEmpty() );
+
+            try
+            {
+                context.validateModelBatch( ModletObject.MODEL_PUBLIC_ID, Arrays.asList(
+                                            new StreamSource( new StringReader( valid ) ), null ), null );
+
+                fail( "Expected 'NullPointerException' not thrown." );
+            }
+            catch ( final NullPointerException e )
+            {
+                assertNotNull( e.getMessage() );
+            }
+        }
+        finally
+        {
+            context.setExecutor( null );
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public final void testModletsSnapshot() throws Exception
+    {
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final ModelContext.Listener listener = new ModelContext.Listener()
+        {
+
+            @Override
+            public void onLog( final Level level, final String message, final Throwable t )
+            {
+                messages.add( message );
+            }
+
+        };
+
+        try
+        {
+            this.getModelContext().setModlets( null );
+            final Modlets modlets = this.getModelContext().getModlets();
+
+            this.getModelContext().setModletsSnapshotDirectory( directory.toString() );
+            this.getModelContext().setModlets( null );
+            final Modlets stored = this.getModelContext().getModlets();
+            assertEquals( modlets.getModlet().size(), stored.getModlet().size() );
+
+            final List<Path> snapshots = new ArrayList<>();
+
+            try ( final DirectoryStream<Path> files = Files.newDirectoryStream( directory ) )
+            {
+                files.forEach( snapshots::add );
+            }
+
+            assertEquals( 1, snapshots.size() );
+
+            this.getModelContext().getListeners().add( listener );
+            this.getModelContext().setLogLevel( Level.ALL );
+            this.getModelContext().setModlets( null );
+            final Modlets loaded = this.getModelContext().getModlets();
+
+            assertEquals( modlets.getModlet().size(), loaded.getModlet().size() );
+            assertTrue( messages.stream().anyMatch( m  -> m.contains( snapshots.get( 0 ).toString() ) ) );
+
+            for ( final Modlet modlet : modlets.getModlet() )
+            {
+                assertTrue( loaded.getModlet( modlet.getName() ).isPresent() );
+            }
+
+            try ( final OutputStream out = new GZIPOutputStream( Files.newOutputStream( snapshots.get( 0 ) ) ) )
+            {
+                out.write( "INVALID".getBytes( StandardCharsets.UTF_8 ) );
+            }
+
+            final long invalidSize = Files.size( snapshots.get( 0 ) );
+            this.getModelContext().setModlets( null );
+            final Modlets recovered = this.getModelContext().getModlets();
+
+            assertEquals( modlets.getModlet().size(), recovered.getModlet().size() );
+            assertTrue( Files.size( snapshots.get( 0 ) ) > invalidSize );
+
+            this.getModelContext().getListeners().remove( listener );
+            this.getModelContext().setLogLevel( null );
+            this.getModelContext().setModlets( null );
+            this.getModelContext().setAttribute( DefaultModletProvider.VALIDATING_ATTRIBUTE_NAME, Boolean.FALSE );
+            this.getModelContext().getModlets();
+            this.getModelContext().clearAttribute( DefaultModletProvider.VALIDATING_ATTRIBUTE_NAME );
+
+            try ( final DirectoryStream<Path> files = Files.newDirectoryStream( directory ) )
+            {
+                snapshots.clear();
+                files.forEach( snapshots::add );
+            }
+
+            assertEquals( 2, snapshots.size() );
+
+            DefaultModletProcessor.setDefaultEnabled( false );
+            this.getModelContext().setModlets( null );
+            this.getModelContext().getModlets();
+            DefaultModletProcessor.setDefaultEnabled( null );
+
+            try ( final DirectoryStream<Path> files = Files.newDirectoryStream( directory ) )
+            {
+                snapshots.clear();
+                files.forEach( snapshots::add );
+            }
+
+            assertEquals( 3, snapshots.size() );
+
+            for ( final Path snapshot : snapshots )
+            {
+                Files.delete( snapshot );
+            }
+        }
+        finally
+        {
+            DefaultModletProcessor.setDefaultEnabled( null );
+            this.getModelContext().getListeners().remove( listener );
+            this.getModelContext().setLogLevel( null );
+            this.getModelContext().setModletsSnapshotDirectory( null );
+            this.getModelContext().setModlets( null );
+            Files.delete( directory );
+        }
+    }
+
+    @Test
+    public final void testModletsSnapshotContent() throws Exception
+    {
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+
+        try
+        {
+            this.getModelContext().setModletsSnapshotDirectory( directory.toString() );
+            assertFalse( this.getModelContext().findModletsSnapshot( new Modlets() ).isPresent() );
+
+            final Element element = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument().
+                createElementNS( "urn:jomc:modlets-snapshot-test", "test" );
+
+            element.setAttribute( "attribute", "value" );
+
+            final Property property = new Property();
+            property.setName( "property" );
+            property.setValue( "value" );
+
+            final Service service = new Service();
+            service.setIdentifier( ModletValidator.class.getName() );
+            service.setClazz( TestModletValidator.class.getName() );
+            service.setOrdinal( 1 );
+            service.getProperty().add( property );
+
+            final Modlet modlet = new Modlet();
+            modlet.setName( "Snapshot" );
+            modlet.setModel( MODLET_TEST_NS );
+            modlet.setServices( new Services() );
+            modlet.getServices().getService().add( service );
+            modlet.getAny().add( element );
+            modlet.getAny().add( new ObjectFactory().createSchemas( new Schemas() ) );
+
+            final Modlets modlets = new Modlets();
+            modlets.getModlet().add( modlet );
+            this.getModelContext().storeModletsSnapshot( modlets );
+
+            final Optional<Modlets> snapshot = this.getModelContext().findModletsSnapshot( new Modlets() );
+            assertTrue( snapshot.isPresent() );
+            assertEquals( 1, snapshot.get().getModlet().size() );
+
+            final Modlet loaded = snapshot.get().getModlet().get( 0 );
+            assertEquals( "Snapshot", loaded.getName() );
+            assertEquals( MODLET_TEST_NS, loaded.getModel() );
+            assertNull( loaded.getVendor() );
+            assertNull( loaded.getSchemas() );
+            assertEquals( 1, loaded.getServices().getService().size() );
+            assertEquals( 1, loaded.getServices().getService().get( 0 ).getOrdinal() );
+            assertEquals( "value", loaded.getServices().getService().get( 0 ).getProperty().get( 0 ).getValue() );
+            assertEquals( 2, loaded.getAny().size() );
+            assertEquals( "value", ( (Element) loaded.getAny().get( 0 ) ).getAttribute( "attribute" ) );
+            assertTrue( ( (JAXBElement<?>) loaded.getAny().get( 1 ) ).getValue() instanceof Schemas );
+
+            RuleBasedModletProcessor.setDefaultRulesLocation( "META-INF/modlets-snapshot-test-rules.xml" );
+            assertFalse( this.getModelContext().findModletsSnapshot( new Modlets() ).isPresent() );
+        }
+        finally
+        {
+            RuleBasedModletProcessor.setDefaultRulesLocation( null );
+            this.getModelContext().setModletsSnapshotDirectory( null );
+
+            try ( final DirectoryStream<Path> files = Files.newDirectoryStream( directory ) )
+            {
+                for ( final Path file : files )
+                {
+                    Files.delete( file );
+                }
+            }
+
+            Files.delete( directory );
+        }
+    }
+
     @Test
     public final void testFindTestModel() throws Exception
     {
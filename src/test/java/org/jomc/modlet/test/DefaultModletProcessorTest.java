@@ -30,14 +30,34 @@
  */
 package org.jomc.modlet.test;
 
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.stream.Stream;
 import org.jomc.modlet.DefaultModletProcessor;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelContextFactory;
+import org.jomc.modlet.ModelException;
+import org.jomc.modlet.Modlet;
 import org.jomc.modlet.Modlets;
+import javax.xml.transform.Transformer;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -101,6 +121,117 @@ public class DefaultModletProcessorTest extends ModletProcessorTest
         this.getModletProcessor().setTransformerLocation( null );
     }
 
+    @Test
+    public final void testFindTransformersCached() throws Exception
+    {
+        final String location =
+            this.getClass().getPackage().getName().replace( '.', '/' ) + "/system-property-test.xsl";
+
+        final List<Transformer> transformers =
+            this.getModletProcessor().findTransformers( this.getModelContext(), location );
+
+        final List<Transformer> cached =
+            this.getModletProcessor().findTransformers( this.getModelContext(), location );
+
+        assertEquals( 1, transformers.size() );
+        assertEquals( 1, cached.size() );
+        assertNotSame( transformers.get( 0 ), cached.get( 0 ) );
+
+        this.getModletProcessor().setTransformerLocation( location );
+
+        for ( int i = 0; i < 2; i++ )
+        {
+            final Optional<Modlets> processed =
+                this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+            assertTrue( processed.isPresent() );
+            assertTrue( processed.get().getModlet( System.getProperty( "user.home" ) ).isPresent() );
+        }
+
+        this.getModletProcessor().setTransformerLocation( null );
+    }
+
+    @Test
+    public final void testFindTransformersCacheInvalidation() throws Exception
+    {
+        final String location = "cache-invalidation-test/relative-uri-test.xsl";
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+        final Path stylesheet = directory.resolve( location );
+        final Path included = stylesheet.resolveSibling( "relative-uri-test-included.xsl" );
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final ModelContext.Listener listener = new ModelContext.Listener()
+        {
+
+            @Override
+            public void onLog( final Level level, final String message, final Throwable t )
+            {
+                messages.add( message );
+            }
+
+        };
+
+        try
+        {
+            Files.createDirectories( stylesheet.getParent() );
+
+            try ( final InputStream in = this.getClass().getResourceAsStream( "relative-uri-test.xsl" ) )
+            {
+                Files.copy( in, stylesheet );
+            }
+
+            try ( final InputStream in = this.getClass().getResourceAsStream( "relative-uri-test-included.xsl" ) )
+            {
+                Files.copy( in, included );
+            }
+
+            final ModelContext context = ModelContextFactory.newInstance().newModelContext(
+                new URLClassLoader( new URL[]
+                {
+                    directory.toUri().toURL()
+                }, this.getClass().getClassLoader() ) );
+
+            final String compiling = "'" + stylesheet.toUri().toURL().toExternalForm() + "'";
+            final DefaultModletProcessor processor = this.newModletProcessor();
+            processor.setTransformerLocation( location );
+            context.getListeners().add( listener );
+            context.setLogLevel( Level.ALL );
+
+            assertEquals( 1, processor.findTransformers( context, location ).size() );
+            assertEquals( 2L, messages.stream().filter( m  -> m.contains( compiling ) ).count() );
+
+            messages.clear();
+            assertEquals( 1, processor.findTransformers( context, location ).size() );
+            assertEquals( 1L, messages.stream().filter( m  -> m.contains( compiling ) ).count() );
+
+            final Optional<Modlets> processed = processor.processModlets( context, new Modlets() );
+            assertTrue( processed.isPresent() );
+            assertTrue( processed.get().getModlet( System.getProperty( "os.name" ) ).isPresent() );
+
+            Files.write( included, new String( Files.readAllBytes( included ), StandardCharsets.UTF_8 ).
+                         replace( "{$os.name}", "changed" ).getBytes( StandardCharsets.UTF_8 ) );
+
+            Files.setLastModifiedTime( included, FileTime.fromMillis( System.currentTimeMillis() + 60000L ) );
+
+            messages.clear();
+            assertEquals( 1, processor.findTransformers( context, location ).size() );
+            assertEquals( 2L, messages.stream().filter( m  -> m.contains( compiling ) ).count() );
+
+            final Optional<Modlets> changed = processor.processModlets( context, new Modlets() );
+            assertTrue( changed.isPresent() );
+            assertTrue( changed.get().getModlet( "changed" ).isPresent() );
+        }
+        finally
+        {
+            Files.deleteIfExists( stylesheet );
+            Files.deleteIfExists( included );
+
+            for ( Path p = stylesheet.getParent(); p != null && p.startsWith( directory ); p = p.getParent() )
+            {
+                Files.deleteIfExists( p );
+            }
+        }
+    }
+
     @Test
     public final void testDefaultEnabled() throws Exception
     {
@@ -240,6 +371,348 @@ public class DefaultModletProcessorTest extends ModletProcessorTest
         this.getModletProcessor().setOrdinal( null );
     }
 
+    @Test
+    public final void testDefaultChaining() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultChaining" );
+        DefaultModletProcessor.setDefaultChaining( null );
+        assertFalse( DefaultModletProcessor.isDefaultChaining() );
+        DefaultModletProcessor.setDefaultChaining( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProcessor.defaultChaining", Boolean.toString( true ) );
+        assertTrue( DefaultModletProcessor.isDefaultChaining() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultChaining" );
+        DefaultModletProcessor.setDefaultChaining( null );
+        assertFalse( DefaultModletProcessor.isDefaultChaining() );
+    }
+
+    @Test
+    public final void testChaining() throws Exception
+    {
+        DefaultModletProcessor.setDefaultChaining( null );
+        this.getModletProcessor().setChaining( null );
+        assertFalse( this.getModletProcessor().isChaining() );
+
+        DefaultModletProcessor.setDefaultChaining( true );
+        this.getModletProcessor().setChaining( null );
+        assertTrue( this.getModletProcessor().isChaining() );
+
+        DefaultModletProcessor.setDefaultChaining( null );
+        this.getModletProcessor().setChaining( null );
+    }
+
+    @Test
+    public final void testProcessModletsChaining() throws Exception
+    {
+        final String location = this.getClass().getPackage().getName().replace( '.', '/' ) + "/chaining-test.xsl";
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+        final Path stylesheet = directory.resolve( location );
+
+        try
+        {
+            Files.createDirectories( stylesheet.getParent() );
+
+            try ( final InputStream in = this.getClass().getResourceAsStream( "chaining-test.xsl" ) )
+            {
+                Files.copy( in, stylesheet );
+            }
+
+            final ModelContext context = ModelContextFactory.newInstance().newModelContext(
+                new URLClassLoader( new URL[]
+                {
+                    directory.toUri().toURL()
+                }, this.getClass().getClassLoader() ) );
+
+            final DefaultModletProcessor processor = this.newModletProcessor();
+            processor.setTransformerLocation( location );
+            assertEquals( 2, processor.findTransformers( context, location ).size() );
+
+            final Optional<Modlets> sequential = processor.processModlets( context, new Modlets() );
+
+            context.setAttribute( DefaultModletProcessor.CHAINING_ATTRIBUTE_NAME, Boolean.TRUE );
+            final Optional<Modlets> chained = processor.processModlets( context, new Modlets() );
+            context.clearAttribute( DefaultModletProcessor.CHAINING_ATTRIBUTE_NAME );
+
+            processor.setChaining( true );
+            final Optional<Modlets> chainedInstance = processor.processModlets( context, new Modlets() );
+
+            for ( final Optional<Modlets> processed : Arrays.asList( sequential, chained, chainedInstance ) )
+            {
+                assertTrue( processed.isPresent() );
+                assertEquals( 2, processed.get().getModlet().size() );
+
+                for ( final Modlet modlet : processed.get().getModlet() )
+                {
+                    assertEquals( System.getProperty( "os.name" ), modlet.getName() );
+                }
+            }
+
+            processor.setTransformerLocation( "DOES_NOT_EXIST" );
+            assertFalse( processor.processModlets( context, new Modlets() ).isPresent() );
+
+            final List<String> locations = new CopyOnWriteArrayList<>();
+            final DefaultModletProcessor overriding = new DefaultModletProcessor()
+            {
+
+                @Override
+                public List<Transformer> findTransformers( final ModelContext context, final String location )
+                    throws ModelException
+                {
+                    locations.add( location );
+                    return super.findTransformers( context, location );
+                }
+
+            };
+
+            overriding.setTransformerLocation( location );
+            overriding.setChaining( true );
+            overriding.setResultCaching( true );
+
+            for ( int i = 0; i < 2; i++ )
+            {
+                final Optional<Modlets> processed = overriding.processModlets( context, new Modlets() );
+                assertTrue( processed.isPresent() );
+                assertEquals( 2, processed.get().getModlet().size() );
+            }
+
+            assertEquals( Arrays.asList( location, location ), locations );
+        }
+        finally
+        {
+            Files.deleteIfExists( stylesheet );
+
+            for ( Path p = stylesheet.getParent(); p != null && p.startsWith( directory ); p = p.getParent() )
+            {
+                Files.deleteIfExists( p );
+            }
+        }
+    }
+
+    @Test
+    public final void testDefaultParameterFiltering() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultParameterFiltering" );
+        DefaultModletProcessor.setDefaultParameterFiltering( null );
+        assertFalse( DefaultModletProcessor.isDefaultParameterFiltering() );
+        DefaultModletProcessor.setDefaultParameterFiltering( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProcessor.defaultParameterFiltering",
+                            Boolean.toString( true ) );
+
+        assertTrue( DefaultModletProcessor.isDefaultParameterFiltering() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultParameterFiltering" );
+        DefaultModletProcessor.setDefaultParameterFiltering( null );
+        assertFalse( DefaultModletProcessor.isDefaultParameterFiltering() );
+    }
+
+    @Test
+    public final void testParameterFiltering() throws Exception
+    {
+        DefaultModletProcessor.setDefaultParameterFiltering( null );
+        this.getModletProcessor().setParameterFiltering( null );
+        assertFalse( this.getModletProcessor().isParameterFiltering() );
+
+        DefaultModletProcessor.setDefaultParameterFiltering( true );
+        this.getModletProcessor().setParameterFiltering( null );
+        assertTrue( this.getModletProcessor().isParameterFiltering() );
+
+        DefaultModletProcessor.setDefaultParameterFiltering( null );
+        this.getModletProcessor().setParameterFiltering( null );
+    }
+
+    @Test
+    public final void testProcessModletsParameterFiltering() throws Exception
+    {
+        final String location =
+            this.getClass().getPackage().getName().replace( '.', '/' ) + "/relative-uri-test.xsl";
+
+        final DefaultModletProcessor processor = this.newModletProcessor();
+        final List<Transformer> unfiltered = processor.findTransformers( this.getModelContext(), location );
+        assertEquals( 1, unfiltered.size() );
+        assertEquals( System.getProperty( "java.version" ), unfiltered.get( 0 ).getParameter( "java.version" ) );
+        assertEquals( System.getProperty( "os.name" ), unfiltered.get( 0 ).getParameter( "os.name" ) );
+
+        System.setProperty( "org.jomc.modlet.test.DefaultModletProcessorTest", "TEST" );
+
+        try
+        {
+            assertEquals( "TEST", processor.findTransformers( this.getModelContext(), location ).get( 0 ).
+                          getParameter( "org.jomc.modlet.test.DefaultModletProcessorTest" ) );
+
+        }
+        finally
+        {
+            System.clearProperty( "org.jomc.modlet.test.DefaultModletProcessorTest" );
+        }
+
+        assertNull( processor.findTransformers( this.getModelContext(), location ).get( 0 ).
+            getParameter( "org.jomc.modlet.test.DefaultModletProcessorTest" ) );
+
+        processor.setParameterFiltering( true );
+        final List<Transformer> filtered = processor.findTransformers( this.getModelContext(), location );
+        assertEquals( 1, filtered.size() );
+        assertNull( filtered.get( 0 ).getParameter( "java.version" ) );
+        assertEquals( System.getProperty( "os.name" ), filtered.get( 0 ).getParameter( "os.name" ) );
+
+        processor.setTransformerLocation( location );
+        final Optional<Modlets> processed = processor.processModlets( this.getModelContext(), new Modlets() );
+        assertTrue( processed.isPresent() );
+        assertTrue( processed.get().getModlet( System.getProperty( "os.name" ) ).isPresent() );
+
+        processor.setChaining( true );
+        final Optional<Modlets> chained = processor.processModlets( this.getModelContext(), new Modlets() );
+        assertTrue( chained.isPresent() );
+        assertTrue( chained.get().getModlet( System.getProperty( "os.name" ) ).isPresent() );
+    }
+
+    @Test
+    public final void testDefaultResultCaching() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultResultCaching" );
+        DefaultModletProcessor.setDefaultResultCaching( null );
+        assertFalse( DefaultModletProcessor.isDefaultResultCaching() );
+        DefaultModletProcessor.setDefaultResultCaching( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProcessor.defaultResultCaching", Boolean.toString( true ) );
+        assertTrue( DefaultModletProcessor.isDefaultResultCaching() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultResultCaching" );
+        DefaultModletProcessor.setDefaultResultCaching( null );
+        assertFalse( DefaultModletProcessor.isDefaultResultCaching() );
+    }
+
+    @Test
+    public final void testResultCaching() throws Exception
+    {
+        DefaultModletProcessor.setDefaultResultCaching( null );
+        this.getModletProcessor().setResultCaching( null );
+        assertFalse( this.getModletProcessor().isResultCaching() );
+
+        DefaultModletProcessor.setDefaultResultCaching( true );
+        this.getModletProcessor().setResultCaching( null );
+        assertTrue( this.getModletProcessor().isResultCaching() );
+
+        DefaultModletProcessor.setDefaultResultCaching( null );
+        this.getModletProcessor().setResultCaching( null );
+    }
+
+    @Test
+    public final void testDefaultResultCacheDirectory() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultResultCacheDirectory" );
+        DefaultModletProcessor.setDefaultResultCacheDirectory( null );
+        assertFalse( DefaultModletProcessor.getDefaultResultCacheDirectory().isPresent() );
+        DefaultModletProcessor.setDefaultResultCacheDirectory( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProcessor.defaultResultCacheDirectory", "TEST" );
+        assertEquals( "TEST", DefaultModletProcessor.getDefaultResultCacheDirectory().get() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProcessor.defaultResultCacheDirectory" );
+        DefaultModletProcessor.setDefaultResultCacheDirectory( null );
+        assertFalse( DefaultModletProcessor.getDefaultResultCacheDirectory().isPresent() );
+    }
+
+    @Test
+    public final void testResultCacheDirectory() throws Exception
+    {
+        DefaultModletProcessor.setDefaultResultCacheDirectory( null );
+        this.getModletProcessor().setResultCacheDirectory( null );
+        assertFalse( this.getModletProcessor().getResultCacheDirectory().isPresent() );
+
+        DefaultModletProcessor.setDefaultResultCacheDirectory( "TEST" );
+        this.getModletProcessor().setResultCacheDirectory( null );
+        assertEquals( "TEST", this.getModletProcessor().getResultCacheDirectory().get() );
+
+        DefaultModletProcessor.setDefaultResultCacheDirectory( null );
+        this.getModletProcessor().setResultCacheDirectory( null );
+    }
+
+    @Test
+    public final void testProcessModletsResultCaching() throws Exception
+    {
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final ModelContext.Listener listener = new ModelContext.Listener()
+        {
+
+            @Override
+            public void onLog( final Level level, final String message, final Throwable t )
+            {
+                messages.add( message );
+            }
+
+        };
+
+        final Modlets modlets = new Modlets();
+        final Modlet modlet = new Modlet();
+        modlet.setName( UUID.randomUUID().toString() );
+        modlets.getModlet().add( modlet );
+
+        final DefaultModletProcessor processor = this.newModletProcessor();
+        processor.setTransformerLocation(
+            this.getClass().getPackage().getName().replace( '.', '/' ) + "/chaining-test.xsl" );
+
+        final ModelContext context = this.getModelContext();
+
+        try
+        {
+            context.getListeners().add( listener );
+            context.setLogLevel( Level.ALL );
+
+            final Optional<Modlets> uncached = processor.processModlets( context, modlets );
+            assertTrue( uncached.isPresent() );
+            assertEquals( 2, uncached.get().getModlet().size() );
+            assertFalse( messages.stream().anyMatch( m  -> m.matches( ".*'[0-9a-f]{64}'.*" ) ) );
+
+            context.setAttribute( DefaultModletProcessor.RESULT_CACHE_DIRECTORY_ATTRIBUTE_NAME, directory.toString() );
+            messages.clear();
+
+            final Optional<Modlets> stored = processor.processModlets( context, modlets );
+            assertTrue( stored.isPresent() );
+            assertEquals( 2, stored.get().getModlet().size() );
+            assertFalse( messages.stream().anyMatch( m  -> m.matches( ".*'[0-9a-f]{64}'.*" ) ) );
+
+            try ( final Stream<Path> files = Files.list( directory ) )
+            {
+                assertEquals( 1L, files.count() );
+            }
+
+            messages.clear();
+
+            final Optional<Modlets> cached = processor.processModlets( context, modlets );
+            assertTrue( cached.isPresent() );
+            assertNotSame( stored.get(), cached.get() );
+            assertEquals( 2, cached.get().getModlet().size() );
+            assertTrue( cached.get().getModlet( modlet.getName() ).isPresent() );
+            assertTrue( messages.stream().anyMatch( m  -> m.matches( ".*'[0-9a-f]{64}'.*" ) ) );
+
+            context.clearAttribute( DefaultModletProcessor.RESULT_CACHE_DIRECTORY_ATTRIBUTE_NAME );
+            processor.setResultCaching( true );
+            messages.clear();
+
+            assertTrue( processor.processModlets( context, modlets ).isPresent() );
+            assertTrue( messages.stream().anyMatch( m  -> m.matches( ".*'[0-9a-f]{64}'.*" ) ) );
+
+            modlet.setName( UUID.randomUUID().toString() );
+            messages.clear();
+
+            final Optional<Modlets> changed = processor.processModlets( context, modlets );
+            assertTrue( changed.isPresent() );
+            assertTrue( changed.get().getModlet( modlet.getName() ).isPresent() );
+            assertFalse( messages.stream().anyMatch( m  -> m.matches( ".*'[0-9a-f]{64}'.*" ) ) );
+        }
+        finally
+        {
+            context.clearAttribute( DefaultModletProcessor.RESULT_CACHE_DIRECTORY_ATTRIBUTE_NAME );
+            context.setLogLevel( null );
+            context.getListeners().remove( listener );
+
+            try ( final Stream<Path> files = Files.list( directory ) )
+            {
+                for ( final Path file : (Iterable<Path>) files::iterator )
+                {
+                    Files.deleteIfExists( file );
+                }
+            }
+
+            Files.deleteIfExists( directory );
+        }
+    }
+
     private static void assertNullPointerException( final Callable<?> callable ) throws Exception
     {
         try
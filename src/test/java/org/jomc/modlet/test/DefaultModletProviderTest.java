@@ -30,12 +30,39 @@
  */
 package org.jomc.modlet.test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
 import org.jomc.modlet.DefaultModletProvider;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelContextFactory;
+import org.jomc.modlet.ModelException;
+import org.jomc.modlet.Modlet;
+import org.jomc.modlet.ModletIndexGenerator;
+import org.jomc.modlet.ModletObject;
+import org.jomc.modlet.Modlets;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -199,6 +226,576 @@ public class DefaultModletProviderTest extends ModletProviderTest
         this.getModletProvider().setOrdinal( null );
     }
 
+    @Test
+    public final void testDefaultIncremental() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultIncremental" );
+        DefaultModletProvider.setDefaultIncremental( null );
+        assertFalse( DefaultModletProvider.isDefaultIncremental() );
+        DefaultModletProvider.setDefaultIncremental( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProvider.defaultIncremental", "true" );
+        assertTrue( DefaultModletProvider.isDefaultIncremental() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultIncremental" );
+        DefaultModletProvider.setDefaultIncremental( null );
+        assertFalse( DefaultModletProvider.isDefaultIncremental() );
+    }
+
+    @Test
+    public final void testIncremental() throws Exception
+    {
+        DefaultModletProvider.setDefaultIncremental( null );
+        this.getModletProvider().setIncremental( null );
+        assertFalse( this.getModletProvider().isIncremental() );
+
+        DefaultModletProvider.setDefaultIncremental( true );
+        this.getModletProvider().setIncremental( null );
+        assertTrue( this.getModletProvider().isIncremental() );
+
+        DefaultModletProvider.setDefaultIncremental( null );
+        this.getModletProvider().setIncremental( null );
+    }
+
+    @Test
+    public final void testFindModletsIncrementally() throws Exception
+    {
+        final Modlets modlets = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        this.getModelContext().setAttribute( DefaultModletProvider.INCREMENTAL_ATTRIBUTE_NAME, Boolean.TRUE );
+
+        final Modlets found = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        final Modlets unchanged = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        this.getModelContext().clearAttribute( DefaultModletProvider.INCREMENTAL_ATTRIBUTE_NAME );
+
+        assertEquals( modlets.getModlet().size(), found.getModlet().size() );
+        assertEquals( modlets.getModlet().size(), unchanged.getModlet().size() );
+
+        for ( final Modlet modlet : modlets.getModlet() )
+        {
+            assertTrue( found.getModlet( modlet.getName() ).isPresent() );
+            assertTrue( unchanged.getModlet( modlet.getName() ).isPresent() );
+            assertNotSame( found.getModlet( modlet.getName() ).get(), unchanged.getModlet( modlet.getName() ).get() );
+        }
+    }
+
+    @Test
+    public final void testDefaultStreaming() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultStreaming" );
+        DefaultModletProvider.setDefaultStreaming( null );
+        assertFalse( DefaultModletProvider.isDefaultStreaming() );
+        DefaultModletProvider.setDefaultStreaming( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProvider.defaultStreaming", "true" );
+        assertTrue( DefaultModletProvider.isDefaultStreaming() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultStreaming" );
+        DefaultModletProvider.setDefaultStreaming( null );
+        assertFalse( DefaultModletProvider.isDefaultStreaming() );
+    }
+
+    @Test
+    public final void testStreaming() throws Exception
+    {
+        DefaultModletProvider.setDefaultStreaming( null );
+        this.getModletProvider().setStreaming( null );
+        assertFalse( this.getModletProvider().isStreaming() );
+
+        DefaultModletProvider.setDefaultStreaming( true );
+        this.getModletProvider().setStreaming( null );
+        assertTrue( this.getModletProvider().isStreaming() );
+
+        DefaultModletProvider.setDefaultStreaming( null );
+        this.getModletProvider().setStreaming( null );
+    }
+
+    @Test
+    public final void testFindModletsStreaming() throws Exception
+    {
+        final Modlets modlets = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        this.getModelContext().setAttribute( DefaultModletProvider.STREAMING_ATTRIBUTE_NAME, Boolean.TRUE );
+
+        try
+        {
+            final Modlets streamed = this.getModletProvider().findModlets(
+                this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+            assertEquals( modlets.getModlet().size(), streamed.getModlet().size() );
+
+            for ( final Modlet modlet : modlets.getModlet() )
+            {
+                assertTrue( streamed.getModlet( modlet.getName() ).isPresent() );
+            }
+        }
+        finally
+        {
+            this.getModelContext().clearAttribute( DefaultModletProvider.STREAMING_ATTRIBUTE_NAME );
+        }
+    }
+
+    @Test
+    public final void testDefaultFragmenting() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultFragmenting" );
+        DefaultModletProvider.setDefaultFragmenting( null );
+        assertFalse( DefaultModletProvider.isDefaultFragmenting() );
+        DefaultModletProvider.setDefaultFragmenting( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProvider.defaultFragmenting", "true" );
+        assertTrue( DefaultModletProvider.isDefaultFragmenting() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultFragmenting" );
+        DefaultModletProvider.setDefaultFragmenting( null );
+        assertFalse( DefaultModletProvider.isDefaultFragmenting() );
+    }
+
+    @Test
+    public final void testFragmenting() throws Exception
+    {
+        DefaultModletProvider.setDefaultFragmenting( null );
+        this.getModletProvider().setFragmenting( null );
+        assertFalse( this.getModletProvider().isFragmenting() );
+
+        DefaultModletProvider.setDefaultFragmenting( true );
+        this.getModletProvider().setFragmenting( null );
+        assertTrue( this.getModletProvider().isFragmenting() );
+
+        DefaultModletProvider.setDefaultFragmenting( null );
+        this.getModletProvider().setFragmenting( null );
+    }
+
+    @Test
+    public final void testFindModletsFragmenting() throws Exception
+    {
+        final Modlets modlets = this.getModletProvider().findModlets(
+            this.getModelContext(), "META-INF/fragments-test/jomc-modlet.xml" );
+
+        final Modlets defaultModlets = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        this.getModelContext().setAttribute( DefaultModletProvider.FRAGMENTING_ATTRIBUTE_NAME, Boolean.TRUE );
+        this.getModelContext().setAttribute( DefaultModletProvider.FRAGMENTING_THRESHOLD_ATTRIBUTE_NAME, 0 );
+
+        try
+        {
+            final Modlets fragmented = this.getModletProvider().findModlets(
+                this.getModelContext(), "META-INF/fragments-test/jomc-modlet.xml" );
+
+            assertEquals( 4, modlets.getModlet().size() );
+            assertEquals( modlets.getModlet().size(), fragmented.getModlet().size() );
+
+            for ( final Modlet modlet : modlets.getModlet() )
+            {
+                final Modlet fragment = fragmented.getModlet( modlet.getName() ).get();
+                assertEquals( modlet.getModel(), fragment.getModel() );
+                assertEquals( modlet.getSchemas() != null, fragment.getSchemas() != null );
+                assertEquals( modlet.getServices() != null, fragment.getServices() != null );
+            }
+
+            final Modlets defaultFragmented = this.getModletProvider().findModlets(
+                this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+            assertEquals( defaultModlets.getModlet().size(), defaultFragmented.getModlet().size() );
+
+            try
+            {
+                this.getModletProvider().findModlets( this.getModelContext(),
+                                                      "META-INF/duplicate-fragments-test/jomc-modlet.xml" );
+
+                fail( "Expected 'ModelException' not thrown." );
+            }
+            catch ( final ModelException e )
+            {
+                assertNotNull( e.getMessage() );
+                System.out.println( e.toString() );
+            }
+
+            try
+            {
+                this.getModletProvider().findModlets( this.getModelContext(),
+                                                      "META-INF/mixed-fragments-test/jomc-modlet.xml" );
+
+                fail( "Expected 'ModelException' not thrown." );
+            }
+            catch ( final ModelException e )
+            {
+                assertNotNull( e.getMessage() );
+                System.out.println( e.toString() );
+            }
+
+            this.getModelContext().clearAttribute( DefaultModletProvider.FRAGMENTING_THRESHOLD_ATTRIBUTE_NAME );
+
+            final Modlets unfragmented = this.getModletProvider().findModlets(
+                this.getModelContext(), "META-INF/fragments-test/jomc-modlet.xml" );
+
+            assertEquals( modlets.getModlet().size(), unfragmented.getModlet().size() );
+        }
+        finally
+        {
+            this.getModelContext().clearAttribute( DefaultModletProvider.FRAGMENTING_ATTRIBUTE_NAME );
+            this.getModelContext().clearAttribute( DefaultModletProvider.FRAGMENTING_THRESHOLD_ATTRIBUTE_NAME );
+        }
+    }
+
+    @Test
+    public final void testDefaultFragmentingThreshold() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultFragmentingThreshold" );
+        DefaultModletProvider.setDefaultFragmentingThreshold( null );
+        assertEquals( 1048576, DefaultModletProvider.getDefaultFragmentingThreshold() );
+        DefaultModletProvider.setDefaultFragmentingThreshold( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProvider.defaultFragmentingThreshold", "1024" );
+        assertEquals( 1024, DefaultModletProvider.getDefaultFragmentingThreshold() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultFragmentingThreshold" );
+        DefaultModletProvider.setDefaultFragmentingThreshold( null );
+        assertEquals( 1048576, DefaultModletProvider.getDefaultFragmentingThreshold() );
+    }
+
+    @Test
+    public final void testFragmentingThreshold() throws Exception
+    {
+        DefaultModletProvider.setDefaultFragmentingThreshold( null );
+        this.getModletProvider().setFragmentingThreshold( null );
+        assertEquals( 1048576, this.getModletProvider().getFragmentingThreshold() );
+
+        DefaultModletProvider.setDefaultFragmentingThreshold( 1024 );
+        this.getModletProvider().setFragmentingThreshold( null );
+        assertEquals( 1024, this.getModletProvider().getFragmentingThreshold() );
+
+        DefaultModletProvider.setDefaultFragmentingThreshold( null );
+        this.getModletProvider().setFragmentingThreshold( null );
+    }
+
+    @Test
+    public final void testExecutor() throws Exception
+    {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            this.getModletProvider().setExecutor( null );
+            assertFalse( this.getModletProvider().getExecutor().isPresent() );
+
+            this.getModletProvider().setExecutor( executor );
+            assertSame( executor, this.getModletProvider().getExecutor().get() );
+
+            this.getModletProvider().setExecutor( null );
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testDefaultMaxConcurrency() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultMaxConcurrency" );
+        DefaultModletProvider.setDefaultMaxConcurrency( null );
+        assertEquals( 0, DefaultModletProvider.getDefaultMaxConcurrency() );
+        DefaultModletProvider.setDefaultMaxConcurrency( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProvider.defaultMaxConcurrency", "4" );
+        assertEquals( 4, DefaultModletProvider.getDefaultMaxConcurrency() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultMaxConcurrency" );
+        DefaultModletProvider.setDefaultMaxConcurrency( null );
+        assertEquals( 0, DefaultModletProvider.getDefaultMaxConcurrency() );
+    }
+
+    @Test
+    public final void testMaxConcurrency() throws Exception
+    {
+        DefaultModletProvider.setDefaultMaxConcurrency( null );
+        this.getModletProvider().setMaxConcurrency( null );
+        assertEquals( 0, this.getModletProvider().getMaxConcurrency() );
+
+        DefaultModletProvider.setDefaultMaxConcurrency( 4 );
+        this.getModletProvider().setMaxConcurrency( null );
+        assertEquals( 4, this.getModletProvider().getMaxConcurrency() );
+
+        DefaultModletProvider.setDefaultMaxConcurrency( null );
+        this.getModletProvider().setMaxConcurrency( null );
+    }
+
+    @Test
+    public final void testFindModletsExecuting() throws Exception
+    {
+        final Modlets modlets = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        final AtomicInteger tasks = new AtomicInteger();
+
+        try
+        {
+            this.getModelContext().setAttribute( DefaultModletProvider.MAX_CONCURRENCY_ATTRIBUTE_NAME, 2 );
+
+            final Modlets bounded = this.getModletProvider().findModlets(
+                this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+            assertEquals( modlets.getModlet().size(), bounded.getModlet().size() );
+
+            this.getModelContext().setAttribute( DefaultModletProvider.EXECUTOR_ATTRIBUTE_NAME, (Executor) r  ->
+                                             {
+                                                 tasks.incrementAndGet();
+                                                 executor.execute( r );
+                                             } );
+
+            final Modlets executed = this.getModletProvider().findModlets(
+                this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+            assertEquals( modlets.getModlet().size(), executed.getModlet().size() );
+            assertTrue( tasks.get() > 0 );
+            assertTrue( tasks.get() <= 2 );
+
+            for ( final Modlet modlet : modlets.getModlet() )
+            {
+                assertTrue( bounded.getModlet( modlet.getName() ).isPresent() );
+                assertTrue( executed.getModlet( modlet.getName() ).isPresent() );
+            }
+        }
+        finally
+        {
+            this.getModelContext().clearAttribute( DefaultModletProvider.MAX_CONCURRENCY_ATTRIBUTE_NAME );
+            this.getModelContext().clearAttribute( DefaultModletProvider.EXECUTOR_ATTRIBUTE_NAME );
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public final void testDefaultValidationLedgerDirectory() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultValidationLedgerDirectory" );
+        DefaultModletProvider.setDefaultValidationLedgerDirectory( null );
+        assertFalse( DefaultModletProvider.getDefaultValidationLedgerDirectory().isPresent() );
+        DefaultModletProvider.setDefaultValidationLedgerDirectory( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProvider.defaultValidationLedgerDirectory", "TEST" );
+        assertEquals( "TEST", DefaultModletProvider.getDefaultValidationLedgerDirectory().get() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultValidationLedgerDirectory" );
+        DefaultModletProvider.setDefaultValidationLedgerDirectory( null );
+        assertFalse( DefaultModletProvider.getDefaultValidationLedgerDirectory().isPresent() );
+    }
+
+    @Test
+    public final void testValidationLedgerDirectory() throws Exception
+    {
+        DefaultModletProvider.setDefaultValidationLedgerDirectory( null );
+        this.getModletProvider().setValidationLedgerDirectory( null );
+        assertFalse( this.getModletProvider().getValidationLedgerDirectory().isPresent() );
+
+        DefaultModletProvider.setDefaultValidationLedgerDirectory( "TEST" );
+        this.getModletProvider().setValidationLedgerDirectory( null );
+        assertEquals( "TEST", this.getModletProvider().getValidationLedgerDirectory().get() );
+
+        DefaultModletProvider.setDefaultValidationLedgerDirectory( null );
+        this.getModletProvider().setValidationLedgerDirectory( null );
+    }
+
+    @Test
+    public final void testFindModletsValidationLedger() throws Exception
+    {
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+        final Path ledger = directory.resolve( "jomc-modlet-validation-ledger.properties" );
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final ModelContext.Listener listener = new ModelContext.Listener()
+        {
+
+            @Override
+            public void onLog( final Level level, final String message, final Throwable t )
+            {
+                messages.add( message );
+            }
+
+        };
+
+        final Modlets modlets = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        try
+        {
+            this.getModelContext().getListeners().add( listener );
+            this.getModelContext().setLogLevel( Level.ALL );
+            this.getModelContext().setAttribute( DefaultModletProvider.VALIDATION_LEDGER_DIRECTORY_ATTRIBUTE_NAME,
+                                                 directory.toString() );
+
+            final Modlets validated = this.getModletProvider().findModlets(
+                this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+            assertEquals( modlets.getModlet().size(), validated.getModlet().size() );
+            assertTrue( Files.isRegularFile( ledger ) );
+
+            final Properties entries = new Properties();
+
+            try ( final InputStream in = Files.newInputStream( ledger ) )
+            {
+                entries.load( in );
+            }
+
+            assertFalse( entries.isEmpty() );
+
+            messages.clear();
+
+            final Modlets unvalidated = this.getModletProvider().findModlets(
+                this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+            assertEquals( modlets.getModlet().size(), unvalidated.getModlet().size() );
+            final List<String> resources = new ArrayList<>();
+            Collections.list( this.getModelContext().findResources(
+                DefaultModletProvider.getDefaultModletLocation() ) ).forEach( r  -> resources.add( r.toExternalForm() ) );
+
+            assertEquals( resources.size(), messages.stream().
+                          filter( m  -> resources.stream().anyMatch( r  -> m.contains( r ) ) ).count() );
+
+            for ( final Modlet modlet : modlets.getModlet() )
+            {
+                assertTrue( unvalidated.getModlet( modlet.getName() ).isPresent() );
+            }
+        }
+        finally
+        {
+            this.getModelContext().clearAttribute( DefaultModletProvider.VALIDATION_LEDGER_DIRECTORY_ATTRIBUTE_NAME );
+            this.getModelContext().setLogLevel( null );
+            this.getModelContext().getListeners().remove( listener );
+            Files.deleteIfExists( ledger );
+            Files.deleteIfExists( directory );
+        }
+    }
+
+    @Test
+    public final void testDefaultIndexLocation() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultIndexLocation" );
+        DefaultModletProvider.setDefaultIndexLocation( null );
+        assertEquals( "META-INF/jomc-modlet-index.xml", DefaultModletProvider.getDefaultIndexLocation() );
+        DefaultModletProvider.setDefaultIndexLocation( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletProvider.defaultIndexLocation", "TEST" );
+        assertEquals( "TEST", DefaultModletProvider.getDefaultIndexLocation() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletProvider.defaultIndexLocation" );
+        DefaultModletProvider.setDefaultIndexLocation( null );
+        assertEquals( "META-INF/jomc-modlet-index.xml", DefaultModletProvider.getDefaultIndexLocation() );
+    }
+
+    @Test
+    public final void testIndexLocation() throws Exception
+    {
+        DefaultModletProvider.setDefaultIndexLocation( null );
+        this.getModletProvider().setIndexLocation( null );
+        assertNotNull( this.getModletProvider().getIndexLocation() );
+
+        DefaultModletProvider.setDefaultIndexLocation( "TEST" );
+        this.getModletProvider().setIndexLocation( null );
+        assertEquals( "TEST", this.getModletProvider().getIndexLocation() );
+
+        DefaultModletProvider.setDefaultIndexLocation( null );
+        this.getModletProvider().setIndexLocation( null );
+    }
+
+    @Test
+    public final void testFindModletsIndexed() throws Exception
+    {
+        final URL root = new URL( "file:/" );
+
+        assertNullPointerException( ()  -> ModletIndexGenerator.generateIndex(
+            null, root, DefaultModletProvider.getDefaultModletLocation(), new ByteArrayOutputStream() ) );
+
+        assertNullPointerException( ()  -> ModletIndexGenerator.generateIndex(
+            this.getModelContext(), null, DefaultModletProvider.getDefaultModletLocation(),
+            new ByteArrayOutputStream() ) );
+
+        assertNullPointerException( ()  -> ModletIndexGenerator.generateIndex(
+            this.getModelContext(), root, null, new ByteArrayOutputStream() ) );
+
+        assertNullPointerException( ()  -> ModletIndexGenerator.generateIndex(
+            this.getModelContext(), root, DefaultModletProvider.getDefaultModletLocation(), null ) );
+
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+        final Path index = directory.resolve( DefaultModletProvider.getDefaultIndexLocation() );
+        final Path descriptor = directory.resolve( DefaultModletProvider.getDefaultModletLocation() );
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final ModelContext.Listener listener = new ModelContext.Listener()
+        {
+
+            @Override
+            public void onLog( final Level level, final String message, final Throwable t )
+            {
+                messages.add( message );
+            }
+
+        };
+
+        final Modlets modlets = this.getModletProvider().findModlets(
+            this.getModelContext(), DefaultModletProvider.getDefaultModletLocation() );
+
+        try
+        {
+            Files.createDirectories( index.getParent() );
+            Files.createDirectories( descriptor.getParent() );
+            Files.write( descriptor, ( "<modlets xmlns=\"" + ModletObject.MODEL_PUBLIC_ID + "\">"
+                                       + "<modlet name=\"Indexed\" model=\"http://jomc.org/modlet/test/indexed\"/>"
+                                       + "</modlets>" ).getBytes( StandardCharsets.UTF_8 ) );
+
+            Files.setLastModifiedTime( descriptor, FileTime.fromMillis( System.currentTimeMillis() - 60000L ) );
+
+            final ModelContext indexed = ModelContextFactory.newInstance().newModelContext(
+                new URLClassLoader( new URL[]
+                {
+                    directory.toUri().toURL()
+                }, this.getClass().getClassLoader() ) );
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals( 1, ModletIndexGenerator.generateIndex(
+                          indexed, directory.toUri().toURL(), DefaultModletProvider.getDefaultModletLocation(), out ) );
+
+            Files.write( index, out.toByteArray() );
+
+            indexed.getListeners().add( listener );
+            indexed.setLogLevel( Level.ALL );
+
+            final Modlets found = this.getModletProvider().findModlets(
+                indexed, DefaultModletProvider.getDefaultModletLocation() );
+
+            assertEquals( modlets.getModlet().size() + 1, found.getModlet().size() );
+            assertTrue( found.getModlet( "Indexed" ).isPresent() );
+
+            for ( final Modlet modlet : modlets.getModlet() )
+            {
+                assertTrue( found.getModlet( modlet.getName() ).isPresent() );
+            }
+
+            final String indexedResource = descriptor.toUri().toURL().toExternalForm();
+            assertTrue( messages.stream().anyMatch( m  -> m.contains( indexedResource ) ) );
+
+            for ( final URL resource : Collections.list( this.getModelContext().findResources(
+                DefaultModletProvider.getDefaultModletLocation() ) ) )
+            {
+                assertFalse( messages.stream().anyMatch( m  -> m.contains( resource.toExternalForm() ) ) );
+            }
+
+            Files.write( descriptor, ( "<modlets xmlns=\"" + ModletObject.MODEL_PUBLIC_ID + "\">"
+                                       + "<modlet name=\"Changed\" model=\"http://jomc.org/modlet/test/indexed\"/>"
+                                       + "</modlets>" ).getBytes( StandardCharsets.UTF_8 ) );
+
+            Files.setLastModifiedTime( descriptor, FileTime.fromMillis( System.currentTimeMillis() + 60000L ) );
+            messages.clear();
+
+            final Modlets changed = this.getModletProvider().findModlets(
+                indexed, DefaultModletProvider.getDefaultModletLocation() );
+
+            assertTrue( changed.getModlet( "Changed" ).isPresent() );
+            assertFalse( changed.getModlet( "Indexed" ).isPresent() );
+            assertFalse( messages.stream().anyMatch( m  -> m.contains( indexedResource ) ) );
+        }
+        finally
+        {
+            Files.deleteIfExists( index );
+            Files.deleteIfExists( descriptor );
+            Files.deleteIfExists( index.getParent() );
+            Files.deleteIfExists( descriptor.getParent() );
+            Files.deleteIfExists( directory );
+        }
+    }
+
     private static void assertNullPointerException( final Callable<?> callable ) throws Exception
     {
         try
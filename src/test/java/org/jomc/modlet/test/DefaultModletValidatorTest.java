@@ -30,14 +30,29 @@
  */
 package org.jomc.modlet.test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import javax.xml.bind.JAXBElement;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPathFactory;
 import org.jomc.modlet.DefaultModletValidator;
 import org.jomc.modlet.ModelValidationReport;
 import org.jomc.modlet.Modlet;
 import org.jomc.modlet.Modlets;
+import org.jomc.modlet.Property;
 import org.jomc.modlet.Schema;
 import org.jomc.modlet.Schemas;
+import org.jomc.modlet.Service;
+import org.jomc.modlet.Services;
 import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -179,4 +194,251 @@ public class DefaultModletValidatorTest extends ModletValidatorTest
 
     }
 
+    @Test
+    public final void testDefaultSchemaValidating() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.DefaultModletValidator.defaultSchemaValidating" );
+        DefaultModletValidator.setDefaultSchemaValidating( null );
+        assertFalse( DefaultModletValidator.isDefaultSchemaValidating() );
+        DefaultModletValidator.setDefaultSchemaValidating( null );
+        System.setProperty( "org.jomc.modlet.DefaultModletValidator.defaultSchemaValidating", "true" );
+        assertTrue( DefaultModletValidator.isDefaultSchemaValidating() );
+        System.clearProperty( "org.jomc.modlet.DefaultModletValidator.defaultSchemaValidating" );
+        DefaultModletValidator.setDefaultSchemaValidating( null );
+        assertFalse( DefaultModletValidator.isDefaultSchemaValidating() );
+    }
+
+    @Test
+    public final void testSchemaValidating() throws Exception
+    {
+        DefaultModletValidator.setDefaultSchemaValidating( null );
+        this.getModletValidator().setSchemaValidating( null );
+        assertFalse( this.getModletValidator().isSchemaValidating() );
+
+        DefaultModletValidator.setDefaultSchemaValidating( true );
+        this.getModletValidator().setSchemaValidating( null );
+        assertTrue( this.getModletValidator().isSchemaValidating() );
+
+        DefaultModletValidator.setDefaultSchemaValidating( null );
+        this.getModletValidator().setSchemaValidating( null );
+    }
+
+    @Test
+    public final void testValidateModletsKeyConstraints() throws Exception
+    {
+        final Modlets modlets = new Modlets();
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            final Modlet modlet = new Modlet();
+            modlets.getModlet().add( modlet );
+
+            modlet.setModel( "TEST" );
+            modlet.setName( i % 2 == 0 ? "NAME" : Integer.toString( i ) );
+            modlet.setSchemas( new Schemas() );
+            modlet.setServices( new Services() );
+
+            for ( int j = 0; j < 3; j++ )
+            {
+                final Schema schema = new Schema();
+                modlet.getSchemas().getSchema().add( schema );
+                schema.setPublicId( "PUBLIC_ID_" + i );
+                schema.setSystemId( "SYSTEM_ID_" + i + "_" + j );
+
+                final Service service = new Service();
+                modlet.getServices().getService().add( service );
+                service.setIdentifier( "IDENTIFIER" );
+                service.setClazz( "CLASS" );
+
+                final Property property = new Property();
+                service.getProperty().add( property );
+                property.setName( "NAME" );
+
+                final Property duplicate = new Property();
+                service.getProperty().add( duplicate );
+                duplicate.setName( "NAME" );
+            }
+        }
+
+        final DefaultModletValidator validator = this.newModletValidator();
+        final ModelValidationReport objectGraph =
+            validator.validateModlets( this.getModelContext(), modlets ).get();
+
+        assertEquals( 4 + 10 * 2 + 10 * 3,
+                      objectGraph.getDetails( "W3C XML 1.0 Recommendation - Section 1.2 - Error" ).size() );
+
+
+        this.getModelContext().setAttribute( DefaultModletValidator.SCHEMA_VALIDATING_ATTRIBUTE_NAME, Boolean.TRUE );
+        final ModelValidationReport schemaAttribute =
+            validator.validateModlets( this.getModelContext(), modlets ).get();
+
+        this.getModelContext().clearAttribute( DefaultModletValidator.SCHEMA_VALIDATING_ATTRIBUTE_NAME );
+
+        validator.setSchemaValidating( true );
+        final ModelValidationReport schema = validator.validateModlets( this.getModelContext(), modlets ).get();
+
+        for ( final ModelValidationReport report : Arrays.asList( schemaAttribute, schema ) )
+        {
+            assertEquals( objectGraph.getDetails().size(), report.getDetails().size() );
+
+            for ( final ModelValidationReport.Detail detail : report.getDetails() )
+            {
+                assertEquals( Level.SEVERE, detail.getLevel().get() );
+                assertEquals( objectGraph.getDetails( detail.getIdentifier().get() ).size(),
+                              report.getDetails( detail.getIdentifier().get() ).size() );
+
+            }
+        }
+    }
+
+    @Test
+    public final void testValidateModletsSchemaConstraintDetails() throws Exception
+    {
+        final Modlets modlets = new Modlets();
+
+        for ( final String name : new String[]
+        {
+            "NAME", "NAME", null
+        } )
+        {
+            final Modlet modlet = new Modlet();
+            modlets.getModlet().add( modlet );
+            modlet.setName( name );
+            modlet.setModel( "TEST" );
+        }
+
+        final Modlet modlet = modlets.getModlet().get( 0 );
+        modlet.setSchemas( new Schemas() );
+        modlet.setServices( new Services() );
+
+        for ( final String systemId : new String[]
+        {
+            "SYSTEM_ID", "SYSTEM_ID", null
+        } )
+        {
+            final Schema schema = new Schema();
+            modlet.getSchemas().getSchema().add( schema );
+            schema.setPublicId( systemId != null ? "PUBLIC_ID" : "OTHER_PUBLIC_ID" );
+            schema.setSystemId( systemId );
+        }
+
+        final Service service = new Service();
+        modlet.getServices().getService().add( service );
+        service.setIdentifier( "IDENTIFIER" );
+        service.setClazz( "CLASS" );
+
+        for ( final String name : new String[]
+        {
+            "NAME", "NAME", null
+        } )
+        {
+            final Property property = new Property();
+            service.getProperty().add( property );
+            property.setName( name );
+        }
+
+        modlet.getServices().getService().add( new Service() );
+
+        final Locale locale = Locale.getDefault();
+
+        try
+        {
+            Locale.setDefault( Locale.ENGLISH );
+
+            final DefaultModletValidator validator = this.newModletValidator();
+            final List<String> objectGraph = new ArrayList<>();
+            final Set<String> schema = new LinkedHashSet<>();
+
+            for ( final ModelValidationReport.Detail detail :
+                  validator.validateModlets( this.getModelContext(), modlets ).get().getDetails() )
+            {
+                assertEquals( Level.SEVERE, detail.getLevel().get() );
+                objectGraph.add( detail.getIdentifier().get() + ": " + detail.getMessage().get() );
+
+                if ( "W3C XML 1.0 Recommendation - Section 1.2 - Error".equals( detail.getIdentifier().get() ) )
+                {
+                    assertTrue( ( (ModelValidationReport.LazyDetail) detail ).getLocator().isPresent() );
+                }
+            }
+
+            validator.setSchemaValidating( true );
+
+            for ( final ModelValidationReport.Detail detail :
+                  validator.validateModlets( this.getModelContext(), modlets ).get().getDetails() )
+            {
+                schema.add( detail.getIdentifier().get() + ": " + detail.getMessage().get() );
+            }
+
+            // Validating against the schema reports missing required attributes twice.
+            assertEquals( new ArrayList<>( schema ), objectGraph );
+            assertEquals( 14, objectGraph.size() );
+        }
+        finally
+        {
+            Locale.setDefault( locale );
+        }
+    }
+
+    @Test
+    public final void testValidateModletsModelSchemaConstraints() throws Exception
+    {
+        final Modlets modlets = new Modlets();
+
+        final String[] names =
+        {
+            "it's", "say \"it's\"", "OTHER"
+        };
+
+        for ( final String model : new String[]
+        {
+            "TEST", "TEST", "OTHER"
+        } )
+        {
+            final Modlet modlet = new Modlet();
+            modlets.getModlet().add( modlet );
+
+            modlet.setModel( model );
+            modlet.setName( names[modlets.getModlet().size() - 1] );
+            modlet.setSchemas( new Schemas() );
+
+            final Schema schema = new Schema();
+            modlet.getSchemas().getSchema().add( schema );
+            schema.setPublicId( "PUBLIC_ID" );
+            schema.setSystemId( "SYSTEM_ID" );
+        }
+
+        final ModelValidationReport report =
+            this.getModletValidator().validateModlets( this.getModelContext(), modlets.clone() ).get();
+
+        assertEquals( 1, report.getDetails( "MODEL_SCHEMA_PUBLIC_ID_CONSTRAINT" ).size() );
+        assertEquals( 1, report.getDetails( "MODEL_SCHEMA_SYSTEM_ID_CONSTRAINT" ).size() );
+        assertEquals( 2, report.getDetails().size() );
+
+        final Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        final Element root = document.createElement( "modlets" );
+        document.appendChild( root );
+
+        for ( final String name : names )
+        {
+            final Element modlet = document.createElement( "modlet" );
+            modlet.setAttribute( "name", name );
+            root.appendChild( modlet );
+        }
+
+        System.gc();
+
+        for ( final ModelValidationReport.Detail detail : report.getDetails() )
+        {
+            final Optional<JAXBElement<?>> element =
+                ( (ModelValidationReport.LazyDetail) detail ).getElement( modlets );
+
+            assertTrue( element.isPresent() );
+
+            final String name = ( (Modlet) element.get().getValue() ).getName();
+            final String locator = ( (ModelValidationReport.LazyDetail) detail ).getLocator().get();
+
+            assertEquals( name, XPathFactory.newInstance().newXPath().evaluate( locator + "/@name", document ) );
+        }
+    }
+
 }
@@ -30,14 +30,36 @@
  */
 package org.jomc.modlet.test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.MissingResourceException;
 import java.util.logging.Level;
 import org.jomc.modlet.ModelValidationReport;
+import org.jomc.modlet.Modlet;
+import org.jomc.modlet.Modlets;
+import org.jomc.modlet.ObjectFactory;
+import org.jomc.modlet.Property;
+import org.jomc.modlet.Service;
+import org.jomc.modlet.Services;
 import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Test cases for class {@code org.jomc.modlet.ModelValidationReport}.
@@ -91,6 +113,334 @@ public class ModelValidationReportTest
         assertFalse( detail.getElement().isPresent() );
     }
 
+    @Test
+    public final void testSummary() throws Exception
+    {
+        final ModelValidationReport.Summary summary = new ModelValidationReport.Summary( 2 );
+        assertTrue( summary.isModelValid() );
+
+        for ( int i = 0; i < 10; i++ )
+        {
+            summary.accept( new ModelValidationReport.Detail( "Identifier " + ( i % 4 ), Level.WARNING, null, null ) );
+        }
+
+        assertTrue( summary.isModelValid() );
+
+        summary.accept( new ModelValidationReport.Detail( null, Level.SEVERE, null, null ) );
+        summary.accept( new ModelValidationReport.Detail( "Identifier 0", null, null, null ) );
+
+        assertFalse( summary.isModelValid() );
+        assertEquals( 12L, summary.getCount() );
+        assertEquals( 2, summary.getIdentifierCounts().size() );
+        assertEquals( Long.valueOf( 4L ), summary.getIdentifierCounts().get( "Identifier 0" ) );
+        assertEquals( Long.valueOf( 3L ), summary.getIdentifierCounts().get( "Identifier 1" ) );
+        assertEquals( 5L, summary.getUnlistedCount() );
+        assertEquals( Long.valueOf( 10L ), summary.getLevelCounts().get( Level.WARNING ) );
+        assertEquals( Long.valueOf( 1L ), summary.getLevelCounts().get( Level.SEVERE ) );
+
+        try
+        {
+            new ModelValidationReport.Summary( -1 );
+            fail( "Expected 'IllegalArgumentException' not thrown." );
+        }
+        catch ( final IllegalArgumentException e )
+        {
+            assertNotNull( e.getMessage() );
+        }
+    }
+
+    @Test
+    public final void testDetailIndexes() throws Exception
+    {
+        final ModelValidationReport report = new ModelValidationReport();
+        final ModelValidationReport.Detail error =
+            new ModelValidationReport.Detail( "Identifier 1", Level.SEVERE, null, null );
+
+        final ModelValidationReport.Detail warning =
+            new ModelValidationReport.Detail( "Identifier 1", Level.WARNING, null, null );
+
+        final ModelValidationReport.Detail anonymous = new ModelValidationReport.Detail( null, Level.INFO, null, null );
+
+        assertTrue( report.isModelValid() );
+        assertTrue( report.getDetails( "Identifier 1" ).isEmpty() );
+
+        report.getDetails().addAll( Arrays.asList( warning, anonymous ) );
+        assertTrue( report.isModelValid() );
+        assertEquals( 1, report.getDetails( "Identifier 1" ).size() );
+        assertEquals( 1, report.getDetails( (String) null ).size() );
+
+        report.getDetails().add( error );
+        assertFalse( report.isModelValid() );
+        assertEquals( 2, report.getDetails( "Identifier 1" ).size() );
+
+        for ( final ModelValidationReport.Detail d : report.getDetails() )
+        {
+            report.getDetails().add( d );
+        }
+
+        assertEquals( 6, report.getDetails().size() );
+        assertEquals( 4, report.getDetails( "Identifier 1" ).size() );
+
+        final Iterator<ModelValidationReport.Detail> snapshot = report.getDetails().iterator();
+        final List<ModelValidationReport.Detail> identified = report.getDetails( "Identifier 1" );
+
+        for ( int i = 0; i < 1000; i++ )
+        {
+            report.getDetails().add( warning );
+        }
+
+        int snapshotSize = 0;
+        while ( snapshot.hasNext() )
+        {
+            snapshot.next();
+            snapshotSize++;
+        }
+
+        assertEquals( 6, snapshotSize );
+        assertEquals( 4, identified.size() );
+        assertEquals( 1006, report.getDetails().size() );
+        assertEquals( 1004, report.getDetails( "Identifier 1" ).size() );
+        assertSame( warning, report.getDetails().get( 1005 ) );
+
+        report.getDetails().subList( 6, 1006 ).clear();
+        assertEquals( 6, report.getDetails().size() );
+        assertEquals( 4, report.getDetails( "Identifier 1" ).size() );
+
+        report.getDetails().removeIf( d  -> d == error );
+        assertTrue( report.isModelValid() );
+        assertEquals( 2, report.getDetails( "Identifier 1" ).size() );
+
+        report.getDetails().set( 0, error );
+        assertFalse( report.isModelValid() );
+        assertEquals( 2, report.getDetails( "Identifier 1" ).size() );
+
+        report.getDetails().remove( error );
+        assertTrue( report.isModelValid() );
+        assertEquals( 1, report.getDetails( "Identifier 1" ).size() );
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        report.getDetails().add( error );
+
+        try ( final ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+        {
+            out.writeObject( report );
+        }
+
+        try ( final ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+        {
+            final ModelValidationReport copy = (ModelValidationReport) in.readObject();
+            assertEquals( report.getDetails().size(), copy.getDetails().size() );
+            assertFalse( copy.isModelValid() );
+            assertEquals( 2, copy.getDetails( "Identifier 1" ).size() );
+            assertEquals( 2, copy.getDetails( (String) null ).size() );
+        }
+
+        report.getDetails().clear();
+        assertTrue( report.isModelValid() );
+        assertTrue( report.getDetails( "Identifier 1" ).isEmpty() );
+        assertTrue( report.getDetails( (String) null ).isEmpty() );
+    }
+
+    @Test
+    public final void testLazyDetail() throws Exception
+    {
+        final Modlet modlet = new Modlet();
+        modlet.setName( "Modlet" );
+
+        final ModelValidationReport.LazyDetail detail = new ModelValidationReport.LazyDetail(
+            "Identifier", Level.SEVERE, "org/jomc/modlet/DefaultModletValidator", "duplicateKeyConstraint",
+            new Object[]
+            {
+                "modlet-name-key", "modlets", new Object()
+                {
+
+                    @Override
+                    public String toString()
+                    {
+                        return "Modlet";
+                    }
+
+                }
+            }, "/modlets/modlet[1]", new ObjectFactory().createModlet( modlet ) );
+
+        assertEquals( "duplicateKeyConstraint", detail.getMessageKey().get() );
+        assertEquals( 3, detail.getMessageArguments().get().length );
+        assertEquals( "/modlets/modlet[1]", detail.getLocator().get() );
+        assertTrue( detail.getMessage().isPresent() );
+        assertTrue( detail.getMessage().get().contains( "Modlet" ) );
+        assertTrue( detail.getElement().isPresent() );
+        assertSame( modlet, detail.getElement().get().getValue() );
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try ( final ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+        {
+            out.writeObject( detail );
+        }
+
+        try ( final ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) ) )
+        {
+            final ModelValidationReport.LazyDetail copy = (ModelValidationReport.LazyDetail) in.readObject();
+            assertEquals( detail.getIdentifier(), copy.getIdentifier() );
+            assertEquals( detail.getLevel(), copy.getLevel() );
+            assertEquals( detail.getMessage(), copy.getMessage() );
+            assertEquals( detail.getLocator(), copy.getLocator() );
+            assertFalse( copy.getElement().isPresent() );
+        }
+
+        final Modlets modlets = new Modlets();
+        modlets.getModlet().add( modlet );
+        modlet.setServices( new Services() );
+
+        final Service service = new Service();
+        modlet.getServices().getService().add( service );
+
+        for ( final String name : new String[]
+        {
+            "it's", "say \"it's\""
+        } )
+        {
+            final Property property = new Property();
+            property.setName( name );
+            service.getProperty().add( property );
+        }
+
+        assertSame( modlet, detail.getElement( modlets ).get().getValue() );
+        assertSame( service.getProperty().get( 1 ), new ModelValidationReport.LazyDetail(
+                    null, null, null, null, null, "/modlets/modlet[@name='Modlet']/services/service[1]/property[2]",
+                    null ).getElement( modlets ).get().getValue() );
+
+        assertSame( service.getProperty().get( 0 ), new ModelValidationReport.LazyDetail(
+                    null, null, null, null, null, "/modlets/modlet[1]/services/service/property[@name=\"it's\"]",
+                    null ).getElement( modlets ).get().getValue() );
+
+        assertSame( service.getProperty().get( 1 ), new ModelValidationReport.LazyDetail(
+                    null, null, null, null, null,
+                    "/modlets/modlet[1]/services/service[1]/property[@name=concat('say \"it', \"'\", 's\"')]",
+                    null ).getElement( modlets ).get().getValue() );
+
+        assertFalse( new ModelValidationReport.LazyDetail(
+            null, null, null, null, null, "/modlets/modlet[2]", null ).getElement( modlets ).isPresent() );
+
+        assertFalse( new ModelValidationReport.LazyDetail(
+            null, null, null, null, null, "/modlets/modlet[not(@name)]", null ).getElement( modlets ).isPresent() );
+
+        final Path directory = Files.createTempDirectory( this.getClass().getSimpleName() );
+        final Path bundle = directory.resolve( "LazyDetailTest.properties" );
+
+        try
+        {
+            Files.write( bundle, "message=Message {0}".getBytes( StandardCharsets.ISO_8859_1 ) );
+
+            try ( final URLClassLoader classLoader = new URLClassLoader( new URL[]
+            {
+                directory.toUri().toURL()
+            }, null ) )
+            {
+                assertEquals( "Message 1", new ModelValidationReport.LazyDetail(
+                              null, null, "LazyDetailTest", "message", new Object[]
+                              {
+                                  1
+                              }, null, null, classLoader ).getMessage().get() );
+
+                try
+                {
+                    new ModelValidationReport.LazyDetail(
+                        null, null, "LazyDetailTest", "message", null, null, null ).getMessage();
+
+                    fail( "Expected 'MissingResourceException' not thrown." );
+                }
+                catch ( final MissingResourceException e )
+                {
+                    assertNotNull( e.getMessage() );
+                }
+            }
+        }
+        finally
+        {
+            Files.delete( bundle );
+            Files.delete( directory );
+        }
+
+        final ModelValidationReport.LazyDetail empty =
+            new ModelValidationReport.LazyDetail( null, null, null, null, null, null, null );
+
+        assertFalse( empty.getMessage().isPresent() );
+        assertFalse( empty.getElement().isPresent() );
+        assertFalse( empty.getLocator().isPresent() );
+
+        try
+        {
+            new ModelValidationReport.LazyDetail( null, null, null, "key", null, null, null );
+            fail( "Expected 'NullPointerException' not thrown." );
+        }
+        catch ( final NullPointerException e )
+        {
+            assertNotNull( e.getMessage() );
+        }
+    }
+
+    @Test
+    public final void testSerializedForm() throws Exception
+    {
+        final ModelValidationReport report = new ModelValidationReport();
+        final Level customLevel = Level.parse( "850" );
+
+        for ( int i = 0; i < 1000; i++ )
+        {
+            report.getDetails().add( new ModelValidationReport.Detail(
+                "Identifier " + ( i % 10 ), i % 2 == 0 ? Level.WARNING : Level.INFO, "Message " + i, null ) );
+
+        }
+
+        report.getDetails().add( new ModelValidationReport.Detail( null, customLevel, null, null ) );
+        report.getDetails().add( new ModelValidationReport.LazyDetail(
+            "Identifier 0", Level.SEVERE, "org/jomc/modlet/DefaultModletValidator", "missingKeyConstraint",
+            new Object[]
+            {
+                "modlet-name-key", "modlets"
+            }, "/modlets/modlet[1]", null ) );
+
+        final byte[] compact = serialize( report );
+        final byte[] list = serialize( new ArrayList<>( report.getDetails() ) );
+        assertTrue( compact.length < list.length );
+
+        try ( final ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( compact ) ) )
+        {
+            final ModelValidationReport copy = (ModelValidationReport) in.readObject();
+            assertEquals( report.getDetails().size(), copy.getDetails().size() );
+            assertFalse( copy.isModelValid() );
+            assertEquals( 101, copy.getDetails( "Identifier 0" ).size() );
+            assertEquals( 100, copy.getDetails( "Identifier 9" ).size() );
+
+            for ( int i = 0; i < 1000; i++ )
+            {
+                assertEquals( report.getDetails().get( i ).getIdentifier(), copy.getDetails().get( i ).getIdentifier() );
+                assertSame( report.getDetails().get( i ).getLevel().get(), copy.getDetails().get( i ).getLevel().get() );
+                assertEquals( report.getDetails().get( i ).getMessage(), copy.getDetails().get( i ).getMessage() );
+            }
+
+            assertFalse( copy.getDetails().get( 1000 ).getIdentifier().isPresent() );
+            assertEquals( customLevel.intValue(), copy.getDetails().get( 1000 ).getLevel().get().intValue() );
+            assertEquals( report.getDetails().get( 1001 ).getMessage(), copy.getDetails().get( 1001 ).getMessage() );
+            assertEquals( "/modlets/modlet[1]",
+                          ( (ModelValidationReport.LazyDetail) copy.getDetails().get( 1001 ) ).getLocator().get() );
+
+        }
+    }
+
+    private static byte[] serialize( final Object object ) throws IOException
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try ( final ObjectOutputStream out = new ObjectOutputStream( bytes ) )
+        {
+            out.writeObject( object );
+        }
+
+        return bytes.toByteArray();
+    }
+
     private <T> T readObject( final String location, final Class<T> type ) throws IOException, ClassNotFoundException
     {
         try ( final ObjectInputStream in = new ObjectInputStream( this.getClass().getResourceAsStream( location ) ) )
@@ -0,0 +1,334 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.modlet.test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelContextFactory;
+import org.jomc.modlet.ModelException;
+import org.jomc.modlet.Modlet;
+import org.jomc.modlet.Modlets;
+import org.jomc.modlet.RuleBasedModletProcessor;
+import org.jomc.modlet.Schema;
+import org.jomc.modlet.Schemas;
+import org.jomc.modlet.Service;
+import org.jomc.modlet.Services;
+import org.junit.Test;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test cases for class {@code org.jomc.modlet.RuleBasedModletProcessor}.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public class RuleBasedModletProcessorTest extends ModletProcessorTest
+{
+
+    /**
+     * Creates a new {@code RuleBasedModletProcessorTest} instance.
+     */
+    public RuleBasedModletProcessorTest()
+    {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RuleBasedModletProcessor getModletProcessor()
+    {
+        return (RuleBasedModletProcessor) super.getModletProcessor();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RuleBasedModletProcessor newModletProcessor()
+    {
+        return new RuleBasedModletProcessor();
+    }
+
+    @Test
+    public final void testDefaultEnabled() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultEnabled" );
+        RuleBasedModletProcessor.setDefaultEnabled( null );
+        assertTrue( RuleBasedModletProcessor.isDefaultEnabled() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        System.setProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultEnabled", Boolean.toString( false ) );
+        RuleBasedModletProcessor.setDefaultEnabled( null );
+        assertFalse( RuleBasedModletProcessor.isDefaultEnabled() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        System.clearProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultEnabled" );
+        RuleBasedModletProcessor.setDefaultEnabled( null );
+        assertTrue( RuleBasedModletProcessor.isDefaultEnabled() );
+    }
+
+    @Test
+    public final void testEnabled() throws Exception
+    {
+        RuleBasedModletProcessor.setDefaultEnabled( null );
+        this.getModletProcessor().setEnabled( null );
+        assertTrue( this.getModletProcessor().isEnabled() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        RuleBasedModletProcessor.setDefaultEnabled( false );
+        this.getModletProcessor().setEnabled( null );
+        assertFalse( this.getModletProcessor().isEnabled() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        RuleBasedModletProcessor.setDefaultEnabled( null );
+        this.getModletProcessor().setEnabled( null );
+    }
+
+    @Test
+    public final void testDefaultOrdinal() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultOrdinal" );
+        RuleBasedModletProcessor.setDefaultOrdinal( null );
+        assertEquals( 0, RuleBasedModletProcessor.getDefaultOrdinal() );
+
+        System.setProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultOrdinal", Integer.toString( 10 ) );
+        RuleBasedModletProcessor.setDefaultOrdinal( null );
+        assertEquals( 10, RuleBasedModletProcessor.getDefaultOrdinal() );
+
+        System.clearProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultOrdinal" );
+        RuleBasedModletProcessor.setDefaultOrdinal( null );
+        assertEquals( 0, RuleBasedModletProcessor.getDefaultOrdinal() );
+    }
+
+    @Test
+    public final void testOrdinal() throws Exception
+    {
+        RuleBasedModletProcessor.setDefaultOrdinal( null );
+        this.getModletProcessor().setOrdinal( null );
+        assertEquals( 0, this.getModletProcessor().getOrdinal() );
+
+        RuleBasedModletProcessor.setDefaultOrdinal( 10 );
+        this.getModletProcessor().setOrdinal( null );
+        assertEquals( 10, this.getModletProcessor().getOrdinal() );
+
+        RuleBasedModletProcessor.setDefaultOrdinal( null );
+        this.getModletProcessor().setOrdinal( null );
+    }
+
+    @Test
+    public final void testDefaultRulesLocation() throws Exception
+    {
+        System.clearProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultRulesLocation" );
+        RuleBasedModletProcessor.setDefaultRulesLocation( null );
+        assertEquals( "META-INF/jomc-modlet-rules.xml", RuleBasedModletProcessor.getDefaultRulesLocation() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        System.setProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultRulesLocation", "TEST" );
+        RuleBasedModletProcessor.setDefaultRulesLocation( null );
+        assertEquals( "TEST", RuleBasedModletProcessor.getDefaultRulesLocation() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        System.clearProperty( "org.jomc.modlet.RuleBasedModletProcessor.defaultRulesLocation" );
+        RuleBasedModletProcessor.setDefaultRulesLocation( null );
+        assertEquals( "META-INF/jomc-modlet-rules.xml", RuleBasedModletProcessor.getDefaultRulesLocation() );
+    }
+
+    @Test
+    public final void testRulesLocation() throws Exception
+    {
+        RuleBasedModletProcessor.setDefaultRulesLocation( null );
+        this.getModletProcessor().setRulesLocation( null );
+        assertNotNull( this.getModletProcessor().getRulesLocation() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        RuleBasedModletProcessor.setDefaultRulesLocation( "TEST" );
+        this.getModletProcessor().setRulesLocation( null );
+        assertEquals( "TEST", this.getModletProcessor().getRulesLocation() );
+
+        this.getModletProcessor().processModlets( this.getModelContext(), new Modlets() );
+
+        RuleBasedModletProcessor.setDefaultRulesLocation( null );
+        this.getModletProcessor().setRulesLocation( null );
+    }
+
+    @Test
+    public final void testProcessModletsRules() throws Exception
+    {
+        final Modlets modlets = new Modlets();
+        modlets.getModlet().add( newModlet( "Modlet" ) );
+        modlets.getModlet().add( newModlet( "Other" ) );
+        modlets.getModlet().add( newModlet( "Removed" ) );
+
+        final Modlet untouched = new Modlet();
+        untouched.setName( "Untouched" );
+        untouched.setModel( "Model" );
+        modlets.getModlet().add( untouched );
+
+        final RuleBasedModletProcessor processor = this.newModletProcessor();
+        processor.setRulesLocation( "DOES_NOT_EXIST" );
+        assertFalse( processor.processModlets( this.getModelContext(), modlets ).isPresent() );
+
+        processor.setRulesLocation( this.getClass().getPackage().getName().replace( '.', '/' ) + "/rules-test.xml" );
+        final Optional<Modlets> processed = processor.processModlets( this.getModelContext(), modlets );
+
+        assertTrue( processed.isPresent() );
+        assertEquals( 4, modlets.getModlet().size() );
+        assertEquals( 3, processed.get().getModlet().size() );
+        assertFalse( processed.get().getModlet( "Removed" ).isPresent() );
+        assertNotSame( untouched, processed.get().getModlet( "Untouched" ).get() );
+        assertEquals( untouched.getModel(), processed.get().getModlet( "Untouched" ).get().getModel() );
+        assertNotSame( modlets.getModlet( "Modlet" ).get(), processed.get().getModlet( "Modlet" ).get() );
+        assertEquals( 3, modlets.getModlet( "Modlet" ).get().getServices().getService().size() );
+        assertEquals( "test.xsd", modlets.getModlet( "Modlet" ).get().getSchemas().getSchema().get( 0 ).getSystemId() );
+
+        final Modlet modlet = processed.get().getModlet( "Modlet" ).get();
+        assertEquals( 2, modlet.getServices().getService().size() );
+        assertEquals( "OrdinalService", modlet.getServices().getService().get( 0 ).getClazz() );
+        assertEquals( 100, modlet.getServices().getService().get( 0 ).getOrdinal() );
+        assertEquals( "OtherService", modlet.getServices().getService().get( 1 ).getClazz() );
+        assertEquals( new Service().getOrdinal(), modlet.getServices().getService().get( 1 ).getOrdinal() );
+        assertEquals( "http://jomc.org/modlet/test.xsd", modlet.getSchemas().getSchema().get( 0 ).getSystemId() );
+
+        final Modlet other = processed.get().getModlet( "Other" ).get();
+        assertEquals( 3, other.getServices().getService().size() );
+        assertEquals( 100, other.getServices().getService().get( 0 ).getOrdinal() );
+        assertEquals( "test.xsd", other.getSchemas().getSchema().get( 0 ).getSystemId() );
+
+        this.getModelContext().setAttribute( RuleBasedModletProcessor.ENABLED_ATTRIBUTE_NAME, Boolean.FALSE );
+        assertFalse( processor.processModlets( this.getModelContext(), modlets ).isPresent() );
+        this.getModelContext().clearAttribute( RuleBasedModletProcessor.ENABLED_ATTRIBUTE_NAME );
+
+        processor.setRulesLocation(
+            this.getClass().getPackage().getName().replace( '.', '/' ) + "/illegal-rules-test.xml" );
+
+        try
+        {
+            processor.processModlets( this.getModelContext(), modlets );
+            fail( "Expected 'ModelException' not thrown." );
+        }
+        catch ( final ModelException e )
+        {
+            assertNotNull( e.getMessage() );
+            System.out.println( e.toString() );
+        }
+    }
+
+    @Test
+    public final void testProcessModletsChangedRules() throws Exception
+    {
+        final Path directory = Files.createTempDirectory( "jomc-modlet-rules" );
+        final Path rules = directory.resolve( "rules.xml" );
+
+        final Modlets modlets = new Modlets();
+        modlets.getModlet().add( newModlet( "Modlet" ) );
+        modlets.getModlet().add( newModlet( "Removed" ) );
+
+        try
+        {
+            Files.write( rules, "<rules xmlns=\"http://jomc.org/modlet/rules\"/>".getBytes( StandardCharsets.UTF_8 ) );
+            Files.setLastModifiedTime( rules, FileTime.fromMillis( System.currentTimeMillis() - 60000L ) );
+
+            final ModelContext context = ModelContextFactory.newInstance().newModelContext(
+                new URLClassLoader( new URL[]
+                {
+                    directory.toUri().toURL()
+                }, this.getClass().getClassLoader() ) );
+
+            final RuleBasedModletProcessor processor = this.newModletProcessor();
+            processor.setRulesLocation( "rules.xml" );
+            assertFalse( processor.processModlets( context, modlets ).isPresent() );
+
+            Files.write( rules, ( "<rules xmlns=\"http://jomc.org/modlet/rules\">"
+                                  + "<remove-modlet name=\"Removed\"/>"
+                                  + "</rules>" ).getBytes( StandardCharsets.UTF_8 ) );
+
+            Files.setLastModifiedTime( rules, FileTime.fromMillis( System.currentTimeMillis() + 60000L ) );
+
+            final Optional<Modlets> processed = processor.processModlets( context, modlets );
+            assertTrue( processed.isPresent() );
+            assertTrue( processed.get().getModlet( "Modlet" ).isPresent() );
+            assertFalse( processed.get().getModlet( "Removed" ).isPresent() );
+        }
+        finally
+        {
+            Files.deleteIfExists( rules );
+            Files.deleteIfExists( directory );
+        }
+    }
+
+    private static Modlet newModlet( final String name )
+    {
+        final Modlet modlet = new Modlet();
+        modlet.setName( name );
+        modlet.setModel( "Model" );
+        modlet.setServices( new Services() );
+        modlet.setSchemas( new Schemas() );
+
+        for ( final String clazz : new String[]
+        {
+            "OrdinalService", "RemovedService", "OtherService"
+        } )
+        {
+            final Service service = new Service();
+            service.setIdentifier( "Service" );
+            service.setClazz( clazz );
+            modlet.getServices().getService().add( service );
+        }
+
+        final Schema schema = new Schema();
+        schema.setPublicId( "http://jomc.org/modlet/test" );
+        schema.setSystemId( "test.xsd" );
+        modlet.getSchemas().getSchema().add( schema );
+        return modlet;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ *   Copyright (C) 2026 Christian Schulte <cs@schulte.it>
+ *   All rights reserved.
+ *
+ *   Redistribution and use in source and binary forms, with or without
+ *   modification, are permitted provided that the following conditions
+ *   are met:
+ *
+ *     o Redistributions of source code must retain the above copyright
+ *       notice, this list of conditions and the following disclaimer.
+ *
+ *     o Redistributions in binary form must reproduce the above copyright
+ *       notice, this list of conditions and the following disclaimer in
+ *       the documentation and/or other materials provided with the
+ *       distribution.
+ *
+ *   THIS SOFTWARE IS PROVIDED "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES,
+ *   INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY
+ *   AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ *   THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY DIRECT, INDIRECT,
+ *   INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT
+ *   NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ *   DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ *   THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ *   (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF
+ *   THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ *   $JOMC$
+ *
+ */
+package org.jomc.modlet.test.support;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.logging.Level;
+import org.jomc.modlet.ModelContext;
+import org.jomc.modlet.ModelException;
+import org.jomc.modlet.ModelValidationReport;
+import org.jomc.modlet.ModletObject;
+import org.jomc.modlet.ModletValidator;
+import org.jomc.modlet.Modlets;
+
+/**
+ * {@code ModletValidator} test implementation.
+ *
+ * @author <a href="mailto:cs@schulte.it">Christian Schulte</a>
+ * @version $JOMC$
+ * @since 2.0
+ */
+public final class TestModletValidator implements ModletValidator
+{
+
+    public TestModletValidator()
+    {
+        super();
+    }
+
+    @Override
+    public int getOrdinal()
+    {
+        return 0;
+    }
+
+    @Override
+    public Optional<ModelValidationReport> validateModlets( final ModelContext context, final Modlets modlets )
+        throws ModelException
+    {
+        if ( context == null )
+        {
+            throw new NullPointerException( "context" );
+        }
+        if ( modlets == null )
+        {
+            throw new NullPointerException( "modlets" );
+        }
+
+        if ( context.getAttribute( TestModletValidator.class.getName() ).isPresent() )
+        {
+            throw new ModelException( TestModletValidator.class.getName() );
+        }
+
+        if ( context.getAttribute( TestModletValidator.class.getName() + ".createSchema" ).isPresent() )
+        {
+            context.createSchema( ModletObject.MODEL_PUBLIC_ID );
+        }
+
+        context.getAttribute( TestModletValidator.class.getName() + ".threads" ).
+            ifPresent( t -> ( (Collection<Thread>) t ).add( Thread.currentThread() ) );
+
+        final ModelValidationReport report = new ModelValidationReport();
+        report.getDetails().add( new ModelValidationReport.Detail(
+            TestModletValidator.class.getName(), Level.INFO, TestModletValidator.class.getName(), null ) );
+
+        return Optional.of( report );
+    }
+
+}